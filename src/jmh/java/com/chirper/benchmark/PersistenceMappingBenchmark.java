@@ -0,0 +1,62 @@
+package com.chirper.benchmark;
+
+import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.entity.User;
+import com.chirper.domain.valueobject.*;
+import com.chirper.infrastructure.persistence.entity.TweetJpaEntity;
+import com.chirper.infrastructure.persistence.entity.UserJpaEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PersistenceMappingBenchmark
+ * JPA EntityとDomain Entityの相互変換のベンチマーク
+ *
+ * 読み出し（toDomainEntity）はValue Objectの再バリデーションを含むため、タイムライン1ページあたりの件数分だけ繰り返される。
+ * パスワードハッシュはbcryptを避けるため固定値から再構築する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersistenceMappingBenchmark {
+
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOa1Hh8sP1jv2JmYv4b5G4nC0dHzXb1bK";
+
+    private Tweet tweet;
+    private TweetJpaEntity tweetJpaEntity;
+    private User user;
+    private UserJpaEntity userJpaEntity;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        tweet = Tweet.reconstruct(TweetId.generate(), UserId.generate(),
+            new TweetContent("今日のランチはカレーでした #chirper"), false, now, now);
+        tweetJpaEntity = TweetJpaEntity.fromDomainEntity(tweet, true);
+        user = User.reconstruct(UserId.generate(), new Username("chirper_user"), new Email("chirper.user@example.com"),
+            new Password(PASSWORD_HASH), "Chirper User", "ベンチマーク用ユーザー", "https://example.com/avatar.png", now, now);
+        userJpaEntity = UserJpaEntity.fromDomainEntity(user);
+    }
+
+    @Benchmark
+    public TweetJpaEntity tweet_fromDomainEntity() {
+        return TweetJpaEntity.fromDomainEntity(tweet, true);
+    }
+
+    @Benchmark
+    public Tweet tweet_toDomainEntity() {
+        return tweetJpaEntity.toDomainEntity();
+    }
+
+    @Benchmark
+    public UserJpaEntity user_fromDomainEntity() {
+        return UserJpaEntity.fromDomainEntity(user);
+    }
+
+    @Benchmark
+    public User user_toDomainEntity() {
+        return userJpaEntity.toDomainEntity();
+    }
+}
@@ -0,0 +1,55 @@
+package com.chirper.benchmark;
+
+import com.chirper.application.usecase.GetTimelineUseCase.TimelineResult;
+import com.chirper.application.usecase.GetTimelineUseCase.TweetWithDetails;
+import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
+import com.chirper.domain.valueobject.TweetContent;
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.presentation.dto.tweet.TimelineResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimelineResponseMappingBenchmark
+ * タイムライン取得結果からレスポンスDTOへの変換（TimelineController）のベンチマーク
+ *
+ * ページサイズはデフォルト（20）と最大（100）を計測する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimelineResponseMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private TimelineResult result;
+
+    @Setup
+    public void setUp() {
+        List<UserSummary> authors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            authors.add(new UserSummary(UserId.generate(), "user" + i, "User " + i, "https://example.com/avatar/" + i + ".png"));
+        }
+        List<TweetWithDetails> tweets = new ArrayList<>(size);
+        Instant now = Instant.now();
+        for (int i = 0; i < size; i++) {
+            UserSummary author = authors.get(i % authors.size());
+            Tweet tweet = Tweet.reconstruct(TweetId.generate(), author.id(),
+                new TweetContent("ベンチマーク用のツイート本文 " + i), false, now.minusSeconds(i), now.minusSeconds(i));
+            tweets.add(new TweetWithDetails(tweet, author, i * 3L, i, i % 2 == 0, i % 5 == 0));
+        }
+        result = new TimelineResult(tweets);
+    }
+
+    @Benchmark
+    public TimelineResponse timelineResponse_from() {
+        return TimelineResponse.from(result, size);
+    }
+}
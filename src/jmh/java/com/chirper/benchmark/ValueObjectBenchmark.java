@@ -0,0 +1,95 @@
+package com.chirper.benchmark;
+
+import com.chirper.domain.valueobject.Email;
+import com.chirper.domain.valueobject.TweetContent;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import com.chirper.domain.valueobject.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValueObjectBenchmark
+ * リクエストごとに生成されるValue Objectの生成・バリデーションのベンチマーク
+ *
+ * 計測対象:
+ * - TweetContent / Username / Email の生成（正常値）
+ * - 不正値の拒否（例外生成を含む）
+ * - UserId.of のUUID文字列パース（認証済みリクエストごとに実行される）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueObjectBenchmark {
+
+    private String shortContent;
+    private String maxLengthContent;
+    private String paddedContent;
+    private String tooLongContent;
+    private String username;
+    private String email;
+    private String invalidEmail;
+    private String userIdString;
+
+    @Setup
+    public void setUp() {
+        shortContent = "今日のランチはカレーでした #chirper";
+        maxLengthContent = "あ".repeat(280);
+        paddedContent = "  " + "a".repeat(140) + "  ";
+        tooLongContent = "a".repeat(281);
+        username = "chirper_user";
+        email = "chirper.user+bench@example.com";
+        invalidEmail = "chirper.user@example";
+        userIdString = UuidV7.generate().toString();
+    }
+
+    @Benchmark
+    public TweetContent tweetContent_short() {
+        return new TweetContent(shortContent);
+    }
+
+    @Benchmark
+    public TweetContent tweetContent_maxLength() {
+        return new TweetContent(maxLengthContent);
+    }
+
+    @Benchmark
+    public TweetContent tweetContent_trimmed() {
+        return new TweetContent(paddedContent);
+    }
+
+    @Benchmark
+    public void tweetContent_tooLong(Blackhole blackhole) {
+        try {
+            blackhole.consume(new TweetContent(tooLongContent));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public Username username() {
+        return new Username(username);
+    }
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public void email_invalid(Blackhole blackhole) {
+        try {
+            blackhole.consume(new Email(invalidEmail));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public UserId userIdOf() {
+        return UserId.of(userIdString);
+    }
+}
@@ -0,0 +1,148 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.entity.Follow;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.UserFollowed;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.valueobject.UserId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * BulkFollowUsersUseCase
+ * 複数ユーザーの一括フォローユースケース（オンボーディングでのおすすめユーザーのまとめてフォローなど）
+ *
+ * 責務:
+ * - 既存のフォロー関係を1回の問い合わせでまとめて確認
+ * - 未フォローのユーザーを1文の INSERT ... ON CONFLICT DO NOTHING でまとめて保存
+ * - フォロー数・フォロワー数のカウンターを1文でまとめて更新
+ * - 新たにフォローしたユーザーごとのUserFollowedイベントをまとめて発行
+ * - 対象ユーザーごとの結果を返す（1件の失敗で全体を失敗させない）
+ *
+ * 対象件数にかかわらずDBラウンドトリップは一定回数で済む
+ */
+@Service
+@Transactional
+public class BulkFollowUsersUseCase {
+
+    /**
+     * 1リクエストで指定できる最大件数
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final IFollowRepository followRepository;
+    private final IDomainEventPublisher eventPublisher;
+
+    public BulkFollowUsersUseCase(IFollowRepository followRepository, IDomainEventPublisher eventPublisher) {
+        this.followRepository = followRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 複数ユーザーを一括フォロー
+     *
+     * @param followerUserId フォローするユーザーのID
+     * @param followedUserIds フォロー対象ユーザーIDのリスト（重複は1件として扱う）
+     * @return 対象ユーザーごとのフォロー結果（指定順）
+     * @throws NullPointerException 引数がnullの場合
+     * @throws IllegalArgumentException 対象が0件または最大件数を超える場合
+     */
+    public BulkFollowResult execute(UserId followerUserId, List<UserId> followedUserIds) {
+        if (followerUserId == null) {
+            throw new NullPointerException("FollowerUserId cannot be null");
+        }
+        if (followedUserIds == null) {
+            throw new NullPointerException("FollowedUserIds cannot be null");
+        }
+        if (followedUserIds.isEmpty()) {
+            throw new IllegalArgumentException("フォロー対象を1件以上指定してください");
+        }
+        if (followedUserIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("一度にフォローできるのは" + MAX_BATCH_SIZE + "件までです");
+        }
+
+        List<UserId> targets = followedUserIds.stream().distinct().collect(Collectors.toList());
+        List<UserId> candidates = targets.stream()
+            .filter(userId -> !userId.equals(followerUserId))
+            .collect(Collectors.toList());
+
+        // 既存のフォロー関係を1回の問い合わせで確認
+        Set<UserId> alreadyFollowing = new HashSet<>(followRepository.findFollowedUserIdsIn(followerUserId, candidates));
+
+        // 未フォローのユーザーを1文で保存（存在しないユーザー・並行して作成されたフォロー関係はスキップされる）
+        List<Follow> newFollows = candidates.stream()
+            .filter(userId -> !alreadyFollowing.contains(userId))
+            .map(userId -> Follow.create(followerUserId, userId))
+            .collect(Collectors.toList());
+        List<Follow> savedFollows = followRepository.saveAllIfAbsent(newFollows);
+        List<UserId> followed = savedFollows.stream()
+            .map(Follow::getFollowedUserId)
+            .collect(Collectors.toList());
+
+        // フォロー関係の保存と同一トランザクションでカウンターを更新
+        if (!followed.isEmpty()) {
+            followRepository.adjustFollowCountsForFollower(followerUserId, followed, 1);
+        }
+        eventPublisher.publishAll(savedFollows.stream()
+            .map(follow -> new UserFollowed(followerUserId, follow.getFollowedUserId(), follow.getCreatedAt()))
+            .collect(Collectors.toList()));
+
+        Set<UserId> followedSet = new HashSet<>(followed);
+        List<FollowItemResult> results = targets.stream()
+            .map(userId -> new FollowItemResult(userId, statusOf(userId, followerUserId, alreadyFollowing, followedSet)))
+            .collect(Collectors.toList());
+        return new BulkFollowResult(results);
+    }
+
+    private static FollowStatus statusOf(
+        UserId userId,
+        UserId followerUserId,
+        Set<UserId> alreadyFollowing,
+        Set<UserId> followed
+    ) {
+        if (userId.equals(followerUserId)) {
+            return FollowStatus.SELF;
+        }
+        if (alreadyFollowing.contains(userId)) {
+            return FollowStatus.ALREADY_FOLLOWING;
+        }
+        if (followed.contains(userId)) {
+            return FollowStatus.FOLLOWED;
+        }
+        return FollowStatus.NOT_FOUND;
+    }
+
+    /**
+     * 対象ユーザーごとのフォロー結果
+     */
+    public enum FollowStatus {
+        /** 新たにフォローした */
+        FOLLOWED,
+        /** 既にフォロー済み */
+        ALREADY_FOLLOWING,
+        /** 自分自身のためフォローできない */
+        SELF,
+        /** 対象ユーザーが存在しない（確認後に並行してフォローされた場合を含む） */
+        NOT_FOUND
+    }
+
+    /**
+     * 対象ユーザーごとのフォロー結果
+     *
+     * @param userId フォロー対象ユーザーID
+     * @param status フォロー結果
+     */
+    public record FollowItemResult(UserId userId, FollowStatus status) {}
+
+    /**
+     * 一括フォロー結果
+     *
+     * @param results 対象ユーザーごとのフォロー結果（指定順）
+     */
+    public record BulkFollowResult(List<FollowItemResult> results) {}
+}
@@ -0,0 +1,129 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.entity.Like;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetLiked;
+import com.chirper.domain.repository.ILikeRepository;
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * BulkLikeTweetsUseCase
+ * 複数ツイートへの一括いいねユースケース
+ *
+ * 責務:
+ * - いいね済みのツイートを1回の問い合わせでまとめて確認
+ * - 未いいねのツイートを1文の INSERT ... ON CONFLICT DO NOTHING でまとめて保存
+ * - 新たにいいねしたツイートごとのTweetLikedイベントをまとめて発行
+ * - 対象ツイートごとの結果を返す（1件の失敗で全体を失敗させない）
+ *
+ * 対象件数にかかわらずDBラウンドトリップは一定回数で済む
+ */
+@Service
+@Transactional
+public class BulkLikeTweetsUseCase {
+
+    /**
+     * 1リクエストで指定できる最大件数
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final ILikeRepository likeRepository;
+    private final IDomainEventPublisher eventPublisher;
+
+    public BulkLikeTweetsUseCase(ILikeRepository likeRepository, IDomainEventPublisher eventPublisher) {
+        this.likeRepository = likeRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 複数ツイートに一括いいね
+     *
+     * @param userId いいねするユーザーのID
+     * @param tweetIds 対象ツイートIDのリスト（重複は1件として扱う）
+     * @return 対象ツイートごとのいいね結果（指定順）
+     * @throws NullPointerException 引数がnullの場合
+     * @throws IllegalArgumentException 対象が0件または最大件数を超える場合
+     */
+    public BulkLikeResult execute(UserId userId, List<TweetId> tweetIds) {
+        if (userId == null) {
+            throw new NullPointerException("UserId cannot be null");
+        }
+        if (tweetIds == null) {
+            throw new NullPointerException("TweetIds cannot be null");
+        }
+        if (tweetIds.isEmpty()) {
+            throw new IllegalArgumentException("いいね対象を1件以上指定してください");
+        }
+        if (tweetIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("一度にいいねできるのは" + MAX_BATCH_SIZE + "件までです");
+        }
+
+        List<TweetId> targets = tweetIds.stream().distinct().collect(Collectors.toList());
+
+        // いいね済みのツイートを1回の問い合わせで確認
+        Set<TweetId> alreadyLiked = new HashSet<>(likeRepository.findLikedTweetIdsIn(userId, targets));
+
+        // 未いいねのツイートを1文で保存（存在しない・削除済みのツイート、並行して作成されたいいねはスキップされる）
+        List<Like> newLikes = targets.stream()
+            .filter(tweetId -> !alreadyLiked.contains(tweetId))
+            .map(tweetId -> Like.create(userId, tweetId))
+            .collect(Collectors.toList());
+        List<Like> savedLikes = likeRepository.saveAllIfAbsent(newLikes);
+        Set<TweetId> liked = savedLikes.stream()
+            .map(Like::getTweetId)
+            .collect(Collectors.toSet());
+        eventPublisher.publishAll(savedLikes.stream()
+            .map(like -> new TweetLiked(userId, like.getTweetId(), like.getCreatedAt()))
+            .collect(Collectors.toList()));
+
+        List<LikeItemResult> results = targets.stream()
+            .map(tweetId -> new LikeItemResult(tweetId, statusOf(tweetId, alreadyLiked, liked)))
+            .collect(Collectors.toList());
+        return new BulkLikeResult(results);
+    }
+
+    private static LikeStatus statusOf(TweetId tweetId, Set<TweetId> alreadyLiked, Set<TweetId> liked) {
+        if (alreadyLiked.contains(tweetId)) {
+            return LikeStatus.ALREADY_LIKED;
+        }
+        if (liked.contains(tweetId)) {
+            return LikeStatus.LIKED;
+        }
+        return LikeStatus.NOT_FOUND;
+    }
+
+    /**
+     * 対象ツイートごとのいいね結果
+     */
+    public enum LikeStatus {
+        /** 新たにいいねした */
+        LIKED,
+        /** 既にいいね済み */
+        ALREADY_LIKED,
+        /** 対象ツイートが存在しない・削除済み（確認後に並行していいねされた場合を含む） */
+        NOT_FOUND
+    }
+
+    /**
+     * 対象ツイートごとのいいね結果
+     *
+     * @param tweetId 対象ツイートID
+     * @param status いいね結果
+     */
+    public record LikeItemResult(TweetId tweetId, LikeStatus status) {}
+
+    /**
+     * 一括いいね結果
+     *
+     * @param results 対象ツイートごとのいいね結果（指定順）
+     */
+    public record BulkLikeResult(List<LikeItemResult> results) {}
+}
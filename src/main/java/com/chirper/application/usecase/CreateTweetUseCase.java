@@ -1,6 +1,8 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetCreated;
 import com.chirper.domain.repository.ITweetRepository;
 import com.chirper.domain.valueobject.TweetContent;
 import com.chirper.domain.valueobject.UserId;
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
  * 責務:
  * - Tweet Entity生成(TweetContentのバリデーションを含む)
  * - ITweetRepository.save()でデータベースに永続化
+ * - TweetCreatedイベントを同一トランザクションで発行
  * - トランザクション境界を管理
  */
 @Service
@@ -21,9 +24,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateTweetUseCase {
 
     private final ITweetRepository tweetRepository;
+    private final IDomainEventPublisher eventPublisher;
 
-    public CreateTweetUseCase(ITweetRepository tweetRepository) {
+    public CreateTweetUseCase(ITweetRepository tweetRepository, IDomainEventPublisher eventPublisher) {
         this.tweetRepository = tweetRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -47,6 +52,10 @@ public class CreateTweetUseCase {
         Tweet tweet = Tweet.create(userId, content);
 
         // 4. データベースに永続化
-        return tweetRepository.save(tweet);
+        Tweet savedTweet = tweetRepository.save(tweet);
+
+        // 5. 派生処理（タイムライン配信など）は非同期で行う
+        eventPublisher.publish(new TweetCreated(savedTweet.getId(), savedTweet.getUserId(), savedTweet.getCreatedAt()));
+        return savedTweet;
     }
 }
@@ -59,6 +59,6 @@ public class DeleteTweetUseCase {
         tweet.delete(userId);
 
         // 4. データベースに永続化
-        tweetRepository.save(tweet);
+        tweetRepository.update(tweet);
     }
 }
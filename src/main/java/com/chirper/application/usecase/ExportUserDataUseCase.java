@@ -0,0 +1,91 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.repository.IUserDataExportRepository;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportRecord;
+import com.chirper.domain.valueobject.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * ExportUserDataUseCase
+ * ユーザーデータエクスポートユースケース
+ *
+ * 責務:
+ * - ユーザーのツイート・いいね・フォロー中・フォロワーを順に読み出し、1件ずつ呼び出し元へ渡す
+ * - 件数に関わらずメモリ使用量を一定に保つ（結果を溜めない）
+ * - エクスポート全体を時間予算内に制限する
+ *
+ * 時間予算はトランザクションのタイムアウト（各SQLの実行時間）と、1件ごとの期限チェック（結果の書き出しを含む経過時間）の両方で適用する
+ */
+@Service
+public class ExportUserDataUseCase {
+
+    private final IUserDataExportRepository exportRepository;
+    private final Duration timeBudget;
+
+    public ExportUserDataUseCase(
+        IUserDataExportRepository exportRepository,
+        @Value("${chirper.export.time-budget-seconds:120}") int timeBudgetSeconds
+    ) {
+        this.exportRepository = exportRepository;
+        this.timeBudget = Duration.ofSeconds(timeBudgetSeconds);
+    }
+
+    /**
+     * エクスポートを実行
+     *
+     * @param userId エクスポート対象のユーザーID
+     * @param consumer 1件ごとに呼び出される処理（ツイート→いいね→フォロー中→フォロワーの順）
+     * @return 種類ごとの件数
+     * @throws NullPointerException userIdまたはconsumerがnullの場合
+     * @throws QueryTimeoutException 時間予算を超過した場合
+     */
+    @Transactional(readOnly = true, timeoutString = "${chirper.export.time-budget-seconds:120}")
+    public ExportSummary execute(UserId userId, Consumer<ExportRecord> consumer) {
+        if (userId == null) {
+            throw new NullPointerException("UserId cannot be null");
+        }
+        if (consumer == null) {
+            throw new NullPointerException("Consumer cannot be null");
+        }
+
+        Instant deadline = Instant.now().plus(timeBudget);
+        long[] counts = new long[4];
+
+        exportRepository.streamTweets(userId, tweet -> emit(consumer, tweet, deadline, counts, 0));
+        exportRepository.streamLikes(userId, like -> emit(consumer, like, deadline, counts, 1));
+        exportRepository.streamFollowing(userId, follow -> emit(consumer, follow, deadline, counts, 2));
+        exportRepository.streamFollowers(userId, follow -> emit(consumer, follow, deadline, counts, 3));
+
+        return new ExportSummary(counts[0], counts[1], counts[2], counts[3]);
+    }
+
+    private void emit(Consumer<ExportRecord> consumer, ExportRecord exportRecord, Instant deadline, long[] counts, int kind) {
+        if (!Instant.now().isBefore(deadline)) {
+            throw new QueryTimeoutException("Export exceeded its time budget of " + timeBudget.toSeconds() + "s");
+        }
+        consumer.accept(exportRecord);
+        counts[kind]++;
+    }
+
+    /**
+     * エクスポート結果の件数
+     *
+     * @param tweets ツイート件数
+     * @param likes いいね件数
+     * @param following フォロー中件数
+     * @param followers フォロワー件数
+     */
+    public record ExportSummary(
+        long tweets,
+        long likes,
+        long following,
+        long followers
+    ) {}
+}
@@ -1,8 +1,9 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Follow;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.UserFollowed;
 import com.chirper.domain.repository.IFollowRepository;
-import com.chirper.domain.service.FollowService;
 import com.chirper.domain.valueobject.UserId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,11 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class FollowUserUseCase {
 
     private final IFollowRepository followRepository;
-    private final FollowService followService;
+    private final IDomainEventPublisher eventPublisher;
 
-    public FollowUserUseCase(IFollowRepository followRepository, FollowService followService) {
+    public FollowUserUseCase(IFollowRepository followRepository, IDomainEventPublisher eventPublisher) {
         this.followRepository = followRepository;
-        this.followService = followService;
+        this.eventPublisher = eventPublisher;
     }
 
     public void execute(UserId followerUserId, UserId followedUserId) {
@@ -27,9 +28,14 @@ public class FollowUserUseCase {
             throw new NullPointerException("FollowedUserId cannot be null");
         }
 
-        followService.validateFollow(followerUserId, followedUserId);
-
+        // 自分自身のフォローはFollow.createで拒否される
         Follow follow = Follow.create(followerUserId, followedUserId);
-        followRepository.save(follow);
+        // フォロー済みかの判定は保存と同じ1文で行う
+        if (!followRepository.saveIfAbsent(follow)) {
+            throw new IllegalStateException("Already following this user");
+        }
+        // フォロー関係の保存と同一トランザクションでカウンターを更新
+        followRepository.adjustFollowCounts(followerUserId, followedUserId, 1);
+        eventPublisher.publish(new UserFollowed(followerUserId, followedUserId, follow.getCreatedAt()));
     }
 }
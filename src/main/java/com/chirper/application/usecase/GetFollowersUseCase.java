@@ -4,6 +4,8 @@ import com.chirper.domain.entity.User;
 import com.chirper.domain.exception.EntityNotFoundException;
 import com.chirper.domain.repository.IFollowRepository;
 import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
 import org.springframework.stereotype.Service;
@@ -30,13 +32,16 @@ public class GetFollowersUseCase {
 
     private final IUserRepository userRepository;
     private final IFollowRepository followRepository;
+    private final IUserSummaryReadRepository userSummaryReadRepository;
 
     public GetFollowersUseCase(
         IUserRepository userRepository,
-        IFollowRepository followRepository
+        IFollowRepository followRepository,
+        IUserSummaryReadRepository userSummaryReadRepository
     ) {
         this.userRepository = userRepository;
         this.followRepository = followRepository;
+        this.userSummaryReadRepository = userSummaryReadRepository;
     }
 
     /**
@@ -81,8 +86,8 @@ public class GetFollowersUseCase {
             return new FollowersResult(List.of(), page, totalPages);
         }
 
-        // ユーザー情報をバッチ取得（N+1クエリ回避）
-        Map<UserId, User> followerUsersMap = userRepository.findByIds(followerUserIds);
+        // ユーザー概要をバッチ取得（N+1クエリ回避、エンティティを経由しない読み取りモデル）
+        Map<UserId, UserSummary> followerUsersMap = userSummaryReadRepository.findSummariesByIds(followerUserIds);
 
         // 現在のユーザーがフォローしているユーザーIDのセットを取得（認証時のみ）
         Set<UserId> followedByCurrentUserIds = Set.of();
@@ -100,7 +105,7 @@ public class GetFollowersUseCase {
             .filter(user -> user != null)  // 念のため存在チェック
             .map(user -> new FollowerUserInfo(
                 user,
-                finalFollowedByCurrentUserIds.contains(user.getId())
+                finalFollowedByCurrentUserIds.contains(user.id())
             ))
             .collect(Collectors.toList());
 
@@ -110,11 +115,11 @@ public class GetFollowersUseCase {
     /**
      * フォロワーユーザー情報
      *
-     * @param user ユーザーエンティティ
+     * @param user ユーザー概要
      * @param followedByCurrentUser 現在のユーザーがフォローしているか
      */
     public record FollowerUserInfo(
-        User user,
+        UserSummary user,
         boolean followedByCurrentUser
     ) {}
 
@@ -0,0 +1,115 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.EntityNotFoundException;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * GetFollowersYouKnowUseCase
+ * 知り合いのフォロワー一覧取得ユースケース
+ *
+ * 責務:
+ * - 指定されたユーザー名のフォロワーのうち、現在のユーザーがフォローしているユーザー一覧を取得
+ * - ページネーション対応
+ * - N+1クエリを回避（バッチ取得）
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetFollowersYouKnowUseCase {
+
+    private final IUserRepository userRepository;
+    private final IFollowRepository followRepository;
+    private final IUserSummaryReadRepository userSummaryReadRepository;
+
+    public GetFollowersYouKnowUseCase(
+        IUserRepository userRepository,
+        IFollowRepository followRepository,
+        IUserSummaryReadRepository userSummaryReadRepository
+    ) {
+        this.userRepository = userRepository;
+        this.followRepository = followRepository;
+        this.userSummaryReadRepository = userSummaryReadRepository;
+    }
+
+    /**
+     * 知り合いのフォロワー一覧取得を実行
+     *
+     * @param username 対象ユーザーのユーザー名
+     * @param currentUserId 現在のユーザーID
+     * @param page ページ番号（0始まり）
+     * @param size ページサイズ
+     * @return 知り合いのフォロワー一覧結果
+     * @throws NullPointerException username、currentUserIdがnullの場合
+     * @throws EntityNotFoundException ユーザーが見つからない場合
+     */
+    public FollowersYouKnowResult execute(Username username, UserId currentUserId, int page, int size) {
+        if (username == null) {
+            throw new NullPointerException("Username cannot be null");
+        }
+        if (currentUserId == null) {
+            throw new NullPointerException("Current user ID cannot be null");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be non-negative");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        if (size > 100) {
+            throw new IllegalArgumentException("Size must not exceed 100");
+        }
+
+        // 対象ユーザーを取得
+        User targetUser = userRepository.findByUsername(username)
+            .orElseThrow(() -> new EntityNotFoundException("ユーザーが見つかりません: " + username.value()));
+
+        // 該当フォロワーの総数を取得（ページネーション用）
+        long total = followRepository.countFollowersFollowedBy(targetUser.getId(), currentUserId);
+        int totalPages = total == 0 ? 0 : (int) Math.ceil((double) total / size);
+
+        // ページネーションで該当フォロワーのUserIdリストを取得
+        int offset = page * size;
+        List<UserId> followerUserIds = followRepository.findFollowersFollowedBy(
+            targetUser.getId(), currentUserId, offset, size);
+
+        if (followerUserIds.isEmpty()) {
+            return new FollowersYouKnowResult(List.of(), page, totalPages);
+        }
+
+        // ユーザー概要をバッチ取得（N+1クエリ回避、エンティティを経由しない読み取りモデル）
+        Map<UserId, UserSummary> followerUsersMap = userSummaryReadRepository.findSummariesByIds(followerUserIds);
+
+        // 結果をマッピング（元の順序を保持）
+        // 定義上すべて現在のユーザーがフォローしているユーザーのため、フォロー状態の追加問い合わせは不要
+        List<UserSummary> followers = followerUserIds.stream()
+            .map(followerUsersMap::get)
+            .filter(user -> user != null)  // 念のため存在チェック
+            .collect(Collectors.toList());
+
+        return new FollowersYouKnowResult(followers, page, totalPages);
+    }
+
+    /**
+     * 知り合いのフォロワー一覧結果
+     *
+     * @param followers 現在のユーザーがフォローしているフォロワーのリスト
+     * @param currentPage 現在のページ番号
+     * @param totalPages 総ページ数
+     */
+    public record FollowersYouKnowResult(
+        List<UserSummary> followers,
+        int currentPage,
+        int totalPages
+    ) {}
+}
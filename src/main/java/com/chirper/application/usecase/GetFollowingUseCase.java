@@ -4,6 +4,8 @@ import com.chirper.domain.entity.User;
 import com.chirper.domain.exception.EntityNotFoundException;
 import com.chirper.domain.repository.IFollowRepository;
 import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
 import org.springframework.stereotype.Service;
@@ -30,13 +32,16 @@ public class GetFollowingUseCase {
 
     private final IUserRepository userRepository;
     private final IFollowRepository followRepository;
+    private final IUserSummaryReadRepository userSummaryReadRepository;
 
     public GetFollowingUseCase(
         IUserRepository userRepository,
-        IFollowRepository followRepository
+        IFollowRepository followRepository,
+        IUserSummaryReadRepository userSummaryReadRepository
     ) {
         this.userRepository = userRepository;
         this.followRepository = followRepository;
+        this.userSummaryReadRepository = userSummaryReadRepository;
     }
 
     /**
@@ -81,8 +86,8 @@ public class GetFollowingUseCase {
             return new FollowingResult(List.of(), page, totalPages);
         }
 
-        // ユーザー情報をバッチ取得（N+1クエリ回避）
-        Map<UserId, User> followingUsersMap = userRepository.findByIds(followingUserIds);
+        // ユーザー概要をバッチ取得（N+1クエリ回避、エンティティを経由しない読み取りモデル）
+        Map<UserId, UserSummary> followingUsersMap = userSummaryReadRepository.findSummariesByIds(followingUserIds);
 
         // 現在のユーザーがフォローしているユーザーIDのセットを取得（認証時のみ）
         Set<UserId> followedByCurrentUserIds = Set.of();
@@ -100,7 +105,7 @@ public class GetFollowingUseCase {
             .filter(user -> user != null)  // 念のため存在チェック
             .map(user -> new FollowingUserInfo(
                 user,
-                finalFollowedByCurrentUserIds.contains(user.getId())
+                finalFollowedByCurrentUserIds.contains(user.id())
             ))
             .collect(Collectors.toList());
 
@@ -110,11 +115,11 @@ public class GetFollowingUseCase {
     /**
      * フォロー中ユーザー情報
      *
-     * @param user ユーザーエンティティ
+     * @param user ユーザー概要
      * @param followedByCurrentUser 現在のユーザーがフォローしているか
      */
     public record FollowingUserInfo(
-        User user,
+        UserSummary user,
         boolean followedByCurrentUser
     ) {}
 
@@ -0,0 +1,137 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.EntityNotFoundException;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * GetMutualFollowsUseCase
+ * 相互フォロー一覧取得ユースケース
+ *
+ * 責務:
+ * - 指定されたユーザー名のユーザーと相互フォローしているユーザー一覧を取得
+ * - ページネーション対応
+ * - 現在のユーザーがフォローしているかの状態を含める
+ * - N+1クエリを回避（バッチ取得）
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetMutualFollowsUseCase {
+
+    private final IUserRepository userRepository;
+    private final IFollowRepository followRepository;
+    private final IUserSummaryReadRepository userSummaryReadRepository;
+
+    public GetMutualFollowsUseCase(
+        IUserRepository userRepository,
+        IFollowRepository followRepository,
+        IUserSummaryReadRepository userSummaryReadRepository
+    ) {
+        this.userRepository = userRepository;
+        this.followRepository = followRepository;
+        this.userSummaryReadRepository = userSummaryReadRepository;
+    }
+
+    /**
+     * 相互フォロー一覧取得を実行
+     *
+     * @param username 対象ユーザーのユーザー名
+     * @param currentUserId 現在のユーザーID（フォロー状態確認用、nullの場合は未ログイン）
+     * @param page ページ番号（0始まり）
+     * @param size ページサイズ
+     * @return 相互フォロー一覧結果
+     * @throws NullPointerException usernameがnullの場合
+     * @throws EntityNotFoundException ユーザーが見つからない場合
+     */
+    public MutualFollowsResult execute(Username username, UserId currentUserId, int page, int size) {
+        if (username == null) {
+            throw new NullPointerException("Username cannot be null");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be non-negative");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        if (size > 100) {
+            throw new IllegalArgumentException("Size must not exceed 100");
+        }
+
+        // 対象ユーザーを取得
+        User targetUser = userRepository.findByUsername(username)
+            .orElseThrow(() -> new EntityNotFoundException("ユーザーが見つかりません: " + username.value()));
+
+        // 相互フォローの総数を取得（ページネーション用）
+        long totalMutuals = followRepository.countMutualFollows(targetUser.getId());
+        int totalPages = totalMutuals == 0 ? 0 : (int) Math.ceil((double) totalMutuals / size);
+
+        // ページネーションで相互フォローのUserIdリストを取得
+        int offset = page * size;
+        List<UserId> mutualUserIds = followRepository.findMutualFollowUserIds(targetUser.getId(), offset, size);
+
+        if (mutualUserIds.isEmpty()) {
+            return new MutualFollowsResult(List.of(), page, totalPages);
+        }
+
+        // ユーザー概要をバッチ取得（N+1クエリ回避、エンティティを経由しない読み取りモデル）
+        Map<UserId, UserSummary> mutualUsersMap = userSummaryReadRepository.findSummariesByIds(mutualUserIds);
+
+        // 現在のユーザーがフォローしているユーザーIDのセットを取得（認証時のみ）
+        Set<UserId> followedByCurrentUserIds = Set.of();
+        if (currentUserId != null) {
+            followedByCurrentUserIds = followRepository
+                .findFollowedUserIdsIn(currentUserId, mutualUserIds)
+                .stream()
+                .collect(Collectors.toSet());
+        }
+
+        // 結果をマッピング（元の順序を保持）
+        Set<UserId> finalFollowedByCurrentUserIds = followedByCurrentUserIds;
+        List<MutualUserInfo> mutualUsers = mutualUserIds.stream()
+            .map(mutualUsersMap::get)
+            .filter(user -> user != null)  // 念のため存在チェック
+            .map(user -> new MutualUserInfo(
+                user,
+                finalFollowedByCurrentUserIds.contains(user.id())
+            ))
+            .collect(Collectors.toList());
+
+        return new MutualFollowsResult(mutualUsers, page, totalPages);
+    }
+
+    /**
+     * 相互フォローユーザー情報
+     *
+     * @param user ユーザー概要
+     * @param followedByCurrentUser 現在のユーザーがフォローしているか
+     */
+    public record MutualUserInfo(
+        UserSummary user,
+        boolean followedByCurrentUser
+    ) {}
+
+    /**
+     * 相互フォロー一覧結果
+     *
+     * @param mutuals 相互フォローユーザーのリスト
+     * @param currentPage 現在のページ番号
+     * @param totalPages 総ページ数
+     */
+    public record MutualFollowsResult(
+        List<MutualUserInfo> mutuals,
+        int currentPage,
+        int totalPages
+    ) {}
+}
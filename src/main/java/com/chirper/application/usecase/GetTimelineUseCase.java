@@ -1,43 +1,89 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Tweet;
-import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.ServiceUnavailableException;
 import com.chirper.domain.repository.IFollowRepository;
 import com.chirper.domain.repository.ILikeRepository;
 import com.chirper.domain.repository.IRetweetRepository;
-import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
 import com.chirper.domain.service.TimelineService;
 import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * GetTimelineUseCase
+ * タイムライン取得ユースケース
+ *
+ * 責務:
+ * - フォロー中ユーザーのツイートを取得
+ * - 投稿者・いいね数・リツイート数・いいね/リツイート状態を並行して取得（ハイドレーション）
+ *
+ * ハイドレーションの各クエリは互いに独立しているため、別々のプールコネクション上で並行実行し、
+ * レイテンシを合計ではなく最も遅いクエリに近づける。全体に期限を設け、超過または失敗した場合は残りのクエリをキャンセルする。
+ *
+ * トランザクション:
+ * - ツイートの取得と、並行実行する各クエリを、それぞれTransactionTemplateで張った読み取り専用トランザクションで実行する
+ *   （リードレプリカ有効時はレプリカへ振り分けられる）
+ * - 待機中に呼び出し元スレッドがコネクションを保持しないよう、ユースケース全体のトランザクションは張らない
+ * - 1リクエストが同時に使うコネクション数は chirper.timeline.hydration-parallelism で制限する（プールの枯渇を防ぐ）
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetTimelineUseCase {
 
     private final IFollowRepository followRepository;
     private final TimelineService timelineService;
     private final ILikeRepository likeRepository;
     private final IRetweetRepository retweetRepository;
-    private final IUserRepository userRepository;
+    private final IUserSummaryReadRepository userSummaryReadRepository;
+    private final ExecutorService hydrationExecutor;
+    private final Duration hydrationTimeout;
+    private final int hydrationParallelism;
+    private final TransactionTemplate readOnlyTransaction;
 
     public GetTimelineUseCase(
         IFollowRepository followRepository,
         TimelineService timelineService,
         ILikeRepository likeRepository,
         IRetweetRepository retweetRepository,
-        IUserRepository userRepository
+        IUserSummaryReadRepository userSummaryReadRepository,
+        @Qualifier("hydrationExecutor") ExecutorService hydrationExecutor,
+        @Value("${chirper.timeline.hydration-timeout:2s}") Duration hydrationTimeout,
+        @Value("${chirper.timeline.hydration-parallelism:3}") int hydrationParallelism,
+        PlatformTransactionManager transactionManager
     ) {
+        if (hydrationParallelism < 1) {
+            throw new IllegalArgumentException("hydrationParallelism must be positive: " + hydrationParallelism);
+        }
         this.followRepository = followRepository;
         this.timelineService = timelineService;
         this.likeRepository = likeRepository;
         this.retweetRepository = retweetRepository;
-        this.userRepository = userRepository;
+        this.userSummaryReadRepository = userSummaryReadRepository;
+        this.hydrationExecutor = hydrationExecutor;
+        this.hydrationTimeout = hydrationTimeout;
+        this.hydrationParallelism = hydrationParallelism;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     public TimelineResult execute(UserId currentUserId, int page, int size) {
@@ -45,14 +91,38 @@ public class GetTimelineUseCase {
             throw new NullPointerException("UserId cannot be null");
         }
 
-        List<UserId> followedUserIds = followRepository.findFollowedUserIds(currentUserId);
+        List<Tweet> tweets = readOnlyTransaction.execute(status -> {
+            List<UserId> followedUserIds = followRepository.findFollowedUserIds(currentUserId);
+            return followedUserIds.isEmpty() ? List.of() : timelineService.getTimeline(followedUserIds, page, size);
+        });
 
-        if (followedUserIds.isEmpty()) {
-            return new TimelineResult(List.of());
+        return hydrate(currentUserId, tweets);
+    }
+
+    /**
+     * カーソル位置からタイムラインを取得
+     * OFFSETによるページ指定と異なり、ページが深くなっても読み飛ばす行が増えず、
+     * 閲覧中に新しいツイートが投稿されてもページ間で重複・欠落しない
+     *
+     * @param currentUserId 閲覧ユーザーID
+     * @param cursor 前ページ最後のツイートID（nullの場合は最新から取得）
+     * @param size ページサイズ
+     * @return タイムライン
+     */
+    public TimelineResult executeBefore(UserId currentUserId, TweetId cursor, int size) {
+        if (currentUserId == null) {
+            throw new NullPointerException("UserId cannot be null");
         }
 
-        List<Tweet> tweets = timelineService.getTimeline(followedUserIds, page, size);
+        List<Tweet> tweets = readOnlyTransaction.execute(status -> {
+            List<UserId> followedUserIds = followRepository.findFollowedUserIds(currentUserId);
+            return followedUserIds.isEmpty() ? List.of() : timelineService.getTimelineBefore(followedUserIds, cursor, size);
+        });
+
+        return hydrate(currentUserId, tweets);
+    }
 
+    private TimelineResult hydrate(UserId currentUserId, List<Tweet> tweets) {
         if (tweets.isEmpty()) {
             return new TimelineResult(List.of());
         }
@@ -68,21 +138,32 @@ public class GetTimelineUseCase {
             .distinct()
             .collect(Collectors.toList());
 
-        // バッチ取得（N+1クエリ回避）
-        Map<UserId, User> authorMap = userRepository.findByIds(authorIds);
-        Map<TweetId, Long> likesCountMap = likeRepository.countByTweetIds(tweetIds);
-        Map<TweetId, Long> retweetsCountMap = retweetRepository.countByTweetIds(tweetIds);
-
-        // 現在のユーザーがいいね/リツイートしたツイートをバッチ取得
-        List<TweetId> likedTweetIds = likeRepository.findTweetIdsByUserId(currentUserId);
-        List<TweetId> retweetedTweetIds = retweetRepository.findTweetIdsByUserId(currentUserId);
+        // バッチ取得（N+1クエリ回避）を並行実行
+        // 現在のユーザーがいいね/リツイートしたツイートも同時に取得（全件ではなく表示するツイートに絞って確認）
+        Semaphore permits = new Semaphore(hydrationParallelism);
+        Future<Map<UserId, UserSummary>> authorsFuture = submitReadOnly(permits,
+            () -> userSummaryReadRepository.findSummariesByIds(authorIds));
+        Future<Map<TweetId, Long>> likesCountFuture = submitReadOnly(permits, () -> likeRepository.countByTweetIds(tweetIds));
+        Future<Map<TweetId, Long>> retweetsCountFuture = submitReadOnly(permits, () -> retweetRepository.countByTweetIds(tweetIds));
+        Future<List<TweetId>> likedFuture = submitReadOnly(permits,
+            () -> likeRepository.findLikedTweetIdsIn(currentUserId, tweetIds));
+        Future<List<TweetId>> retweetedFuture = submitReadOnly(permits,
+            () -> retweetRepository.findRetweetedTweetIdsIn(currentUserId, tweetIds));
+        List<Future<?>> hydrationFutures = List.of(authorsFuture, likesCountFuture, retweetsCountFuture, likedFuture, retweetedFuture);
+
+        long deadlineNanos = System.nanoTime() + hydrationTimeout.toNanos();
+        Map<UserId, UserSummary> authorMap = await(authorsFuture, deadlineNanos, hydrationFutures);
+        Map<TweetId, Long> likesCountMap = await(likesCountFuture, deadlineNanos, hydrationFutures);
+        Map<TweetId, Long> retweetsCountMap = await(retweetsCountFuture, deadlineNanos, hydrationFutures);
+        Set<TweetId> likedTweetIds = new HashSet<>(await(likedFuture, deadlineNanos, hydrationFutures));
+        Set<TweetId> retweetedTweetIds = new HashSet<>(await(retweetedFuture, deadlineNanos, hydrationFutures));
 
         // 各ツイートの詳細情報を構築
         List<TweetWithDetails> tweetsWithDetails = tweets.stream()
             .map(tweet -> {
                 boolean liked = likedTweetIds.contains(tweet.getId());
                 boolean retweeted = retweetedTweetIds.contains(tweet.getId());
-                User author = authorMap.get(tweet.getUserId());
+                UserSummary author = authorMap.get(tweet.getUserId());
                 long likesCount = likesCountMap.getOrDefault(tweet.getId(), 0L);
                 long retweetsCount = retweetsCountMap.getOrDefault(tweet.getId(), 0L);
                 return new TweetWithDetails(tweet, author, likesCount, retweetsCount, liked, retweeted);
@@ -92,11 +173,63 @@ public class GetTimelineUseCase {
         return new TimelineResult(tweetsWithDetails);
     }
 
+    /**
+     * クエリを読み取り専用トランザクションで並行実行
+     * 同じリクエストのクエリと許可を共有し、許可を得るまでトランザクション（コネクション）を開始しない
+     *
+     * @param permits リクエスト単位の同時実行数の許可
+     * @param query 実行するクエリ
+     * @return クエリ結果
+     */
+    private <T> Future<T> submitReadOnly(Semaphore permits, Supplier<T> query) {
+        return hydrationExecutor.submit(() -> {
+            permits.acquire();
+            try {
+                return readOnlyTransaction.execute(status -> query.get());
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * 期限までに並行クエリの結果を待機
+     * 期限超過・失敗・割り込みのいずれの場合も、残りのクエリをキャンセル（割り込み）してから例外をスローする
+     * （期限超過は再試行できるためServiceUnavailableException）
+     *
+     * @param future 待機するクエリ
+     * @param deadlineNanos 期限（System.nanoTime()基準）
+     * @param siblings 同時に実行中のすべてのクエリ
+     * @return クエリ結果
+     */
+    private static <T> T await(Future<T> future, long deadlineNanos, List<Future<?>> siblings) {
+        try {
+            return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancelAll(siblings);
+            throw new ServiceUnavailableException("タイムラインの付加情報の取得がタイムアウトしました", e);
+        } catch (ExecutionException e) {
+            cancelAll(siblings);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("タイムラインの付加情報の取得に失敗しました", e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll(siblings);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("タイムラインの付加情報の取得が中断されました", e);
+        }
+    }
+
+    private static void cancelAll(List<Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
     public record TimelineResult(List<TweetWithDetails> tweets) {}
 
     public record TweetWithDetails(
         Tweet tweet,
-        User author,
+        UserSummary author,
         long likesCount,
         long retweetsCount,
         boolean likedByCurrentUser,
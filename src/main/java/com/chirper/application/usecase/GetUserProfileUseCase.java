@@ -1,11 +1,8 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Tweet;
-import com.chirper.domain.entity.User;
 import com.chirper.domain.exception.EntityNotFoundException;
-import com.chirper.domain.repository.IFollowRepository;
-import com.chirper.domain.repository.ITweetRepository;
-import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserProfileReadRepository;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
 import org.springframework.stereotype.Service;
@@ -21,23 +18,16 @@ import java.util.List;
  * - 指定されたユーザー名のユーザープロフィールを取得
  * - フォロワー数、フォロー数、フォロー状態を取得
  * - ユーザーのツイート一覧を取得
+ * - 上記をプロフィール読み取りリポジトリ経由で1回の問い合わせで取得
  */
 @Service
 @Transactional(readOnly = true)
 public class GetUserProfileUseCase {
 
-    private final IUserRepository userRepository;
-    private final IFollowRepository followRepository;
-    private final ITweetRepository tweetRepository;
+    private final IUserProfileReadRepository userProfileReadRepository;
 
-    public GetUserProfileUseCase(
-        IUserRepository userRepository,
-        IFollowRepository followRepository,
-        ITweetRepository tweetRepository
-    ) {
-        this.userRepository = userRepository;
-        this.followRepository = followRepository;
-        this.tweetRepository = tweetRepository;
+    public GetUserProfileUseCase(IUserProfileReadRepository userProfileReadRepository) {
+        this.userProfileReadRepository = userProfileReadRepository;
     }
 
     /**
@@ -56,37 +46,37 @@ public class GetUserProfileUseCase {
             throw new NullPointerException("Username cannot be null");
         }
 
-        // ユーザー情報を取得
-        User user = userRepository.findByUsername(username)
+        // ユーザー情報・フォロー数・フォロー状態・ツイート一覧をまとめて取得
+        IUserProfileReadRepository.UserProfile profile = userProfileReadRepository
+            .findByUsername(username, currentUserId, page, size)
             .orElseThrow(() -> new EntityNotFoundException("ユーザーが見つかりません: " + username.value()));
 
-        // フォロワー数とフォロー数を取得
-        long followersCount = followRepository.countFollowers(user.getId());
-        long followingCount = followRepository.countFollowing(user.getId());
+        // 本人のプロフィールではフォロー状態をfalseとする
+        IUserProfileReadRepository.ProfileUser user = profile.user();
+        boolean followedByCurrentUser = currentUserId != null
+            && !currentUserId.equals(user.id())
+            && profile.followedByViewer();
 
-        // 現在のユーザーがフォローしているかチェック
-        boolean followedByCurrentUser = false;
-        if (currentUserId != null && !currentUserId.equals(user.getId())) {
-            followedByCurrentUser = followRepository.existsByFollowerAndFollowed(currentUserId, user.getId());
-        }
-
-        // ユーザーのツイート一覧を取得
-        List<Tweet> userTweets = tweetRepository.findByUserId(user.getId(), page, size);
-
-        return new UserProfileResult(user, followersCount, followingCount, followedByCurrentUser, userTweets);
+        return new UserProfileResult(
+            user,
+            profile.followersCount(),
+            profile.followingCount(),
+            followedByCurrentUser,
+            profile.tweets()
+        );
     }
 
     /**
      * ユーザープロフィール結果
      *
-     * @param user ユーザー情報
+     * @param user 公開プロフィールのユーザー情報
      * @param followersCount フォロワー数
      * @param followingCount フォロー数
      * @param followedByCurrentUser 現在のユーザーがフォローしているか
      * @param userTweets ユーザーのツイート一覧
      */
     public record UserProfileResult(
-        User user,
+        IUserProfileReadRepository.ProfileUser user,
         long followersCount,
         long followingCount,
         boolean followedByCurrentUser,
@@ -1,6 +1,8 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Like;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetLiked;
 import com.chirper.domain.exception.DuplicateEntityException;
 import com.chirper.domain.repository.ILikeRepository;
 import com.chirper.domain.valueobject.TweetId;
@@ -8,16 +10,16 @@ import com.chirper.domain.valueobject.UserId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Service
 @Transactional
 public class LikeTweetUseCase {
 
     private final ILikeRepository likeRepository;
+    private final IDomainEventPublisher eventPublisher;
 
-    public LikeTweetUseCase(ILikeRepository likeRepository) {
+    public LikeTweetUseCase(ILikeRepository likeRepository, IDomainEventPublisher eventPublisher) {
         this.likeRepository = likeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void execute(UserId userId, TweetId tweetId) {
@@ -28,12 +30,11 @@ public class LikeTweetUseCase {
             throw new NullPointerException("TweetId cannot be null");
         }
 
-        Optional<Like> existingLike = likeRepository.findByUserIdAndTweetId(userId, tweetId);
-        if (existingLike.isPresent()) {
+        // 重複チェックと保存を1文で行う（事前の存在確認をしないため並行実行時も競合しない）
+        Like like = Like.create(userId, tweetId);
+        if (!likeRepository.saveIfAbsent(like)) {
             throw new DuplicateEntityException("既にこのツイートにいいねしています");
         }
-
-        Like like = Like.create(userId, tweetId);
-        likeRepository.save(like);
+        eventPublisher.publish(new TweetLiked(userId, tweetId, like.getCreatedAt()));
     }
 }
@@ -8,8 +8,6 @@ import com.chirper.domain.valueobject.UserId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Service
 @Transactional
 public class RetweetUseCase {
@@ -28,12 +26,10 @@ public class RetweetUseCase {
             throw new NullPointerException("TweetId cannot be null");
         }
 
-        Optional<Retweet> existingRetweet = retweetRepository.findByUserIdAndTweetId(userId, tweetId);
-        if (existingRetweet.isPresent()) {
+        // リツイート済みの場合は保存されずfalseが返る
+        Retweet retweet = Retweet.create(userId, tweetId);
+        if (!retweetRepository.saveIfAbsent(retweet)) {
             throw new DuplicateEntityException("既にこのツイートをリツイートしています");
         }
-
-        Retweet retweet = Retweet.create(userId, tweetId);
-        retweetRepository.save(retweet);
     }
 }
@@ -1,25 +1,33 @@
 package com.chirper.application.usecase;
 
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.UserUnfollowed;
 import com.chirper.domain.repository.IFollowRepository;
 import com.chirper.domain.valueobject.UserId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 /**
  * UnfollowUserUseCase
  * ユーザーフォロー解除ユースケース
  *
  * 責務:
  * - フォロー関係を削除
+ * - フォロー数・フォロワー数のカウンターを更新
+ * - 実際に削除された場合のみUserUnfollowedイベントを発行
  */
 @Service
 @Transactional
 public class UnfollowUserUseCase {
 
     private final IFollowRepository followRepository;
+    private final IDomainEventPublisher eventPublisher;
 
-    public UnfollowUserUseCase(IFollowRepository followRepository) {
+    public UnfollowUserUseCase(IFollowRepository followRepository, IDomainEventPublisher eventPublisher) {
         this.followRepository = followRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -37,6 +45,10 @@ public class UnfollowUserUseCase {
             throw new NullPointerException("FollowedUserId cannot be null");
         }
 
-        followRepository.delete(followerUserId, followedUserId);
+        // 実際に削除された場合のみカウンターを減算（存在しないフォローの解除でずれないように）
+        if (followRepository.delete(followerUserId, followedUserId)) {
+            followRepository.adjustFollowCounts(followerUserId, followedUserId, -1);
+            eventPublisher.publish(new UserUnfollowed(followerUserId, followedUserId, Instant.now()));
+        }
     }
 }
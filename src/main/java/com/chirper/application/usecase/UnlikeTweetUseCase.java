@@ -1,26 +1,33 @@
 package com.chirper.application.usecase;
 
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetUnliked;
 import com.chirper.domain.repository.ILikeRepository;
 import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 /**
  * UnlikeTweetUseCase
  * ツイートいいね解除ユースケース
  *
  * 責務:
  * - いいね記録を削除
+ * - 実際に削除された場合のみTweetUnlikedイベントを発行
  */
 @Service
 @Transactional
 public class UnlikeTweetUseCase {
 
     private final ILikeRepository likeRepository;
+    private final IDomainEventPublisher eventPublisher;
 
-    public UnlikeTweetUseCase(ILikeRepository likeRepository) {
+    public UnlikeTweetUseCase(ILikeRepository likeRepository, IDomainEventPublisher eventPublisher) {
         this.likeRepository = likeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -38,6 +45,8 @@ public class UnlikeTweetUseCase {
             throw new NullPointerException("TweetId cannot be null");
         }
 
-        likeRepository.delete(userId, tweetId);
+        if (likeRepository.delete(userId, tweetId)) {
+            eventPublisher.publish(new TweetUnliked(userId, tweetId, Instant.now()));
+        }
     }
 }
@@ -0,0 +1,34 @@
+package com.chirper.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DomainEvent
+ * ドメインの変更を表すイベント
+ *
+ * 同じ集約（aggregateType + aggregateId）のイベントは発行順に配信される。
+ * 集約をまたぐ配信順序は保証しない
+ */
+public interface DomainEvent {
+
+    /**
+     * ユーザー集約（操作したユーザー単位で順序を保証する）
+     */
+    String USER_AGGREGATE = "User";
+
+    /**
+     * @return 配信順序を保証する単位となる集約の種類
+     */
+    String aggregateType();
+
+    /**
+     * @return 配信順序を保証する単位となる集約のID
+     */
+    UUID aggregateId();
+
+    /**
+     * @return イベントの発生日時
+     */
+    Instant occurredAt();
+}
@@ -0,0 +1,27 @@
+package com.chirper.domain.event;
+
+import java.util.List;
+
+/**
+ * DomainEventHandler
+ * ドメインイベントのハンドラー（Beanとして登録すると配信対象になる）
+ *
+ * - 取り出した範囲の同じ種類のイベントをまとめて受け取る（リスト内は発行順）
+ * - 例外をスローするとリスト内のイベントはすべて後で再配信される
+ * - 同じイベントを複数回受け取る可能性があるため、処理は冪等にする
+ *
+ * @param <E> 処理するイベントの型
+ */
+public interface DomainEventHandler<E extends DomainEvent> {
+
+    /**
+     * @return 処理するイベントの型
+     */
+    Class<E> eventType();
+
+    /**
+     * イベントを処理
+     * @param events 処理するイベント（1件以上）
+     */
+    void handle(List<E> events);
+}
@@ -0,0 +1,27 @@
+package com.chirper.domain.event;
+
+import java.util.List;
+
+/**
+ * IDomainEventPublisher
+ * ドメインイベントの発行
+ *
+ * 呼び出し元のトランザクション内で記録し、コミットされた場合のみ配信する（ロールバック時は発行されない）。
+ * 配信は非同期・少なくとも1回（at-least-once）のため、ハンドラーは同じイベントを複数回受け取っても結果が変わらないように実装する
+ */
+public interface IDomainEventPublisher {
+
+    /**
+     * イベントを発行
+     * @param event 発行するイベント
+     * @throws org.springframework.transaction.IllegalTransactionStateException トランザクション外で呼び出された場合
+     */
+    void publish(DomainEvent event);
+
+    /**
+     * 複数のイベントをまとめて発行（リストの順に配信される）
+     * @param events 発行するイベント（空の場合は何もしない）
+     * @throws org.springframework.transaction.IllegalTransactionStateException トランザクション外で呼び出された場合
+     */
+    void publishAll(List<? extends DomainEvent> events);
+}
@@ -0,0 +1,28 @@
+package com.chirper.domain.event;
+
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * TweetCreated
+ * ツイートが投稿された
+ *
+ * @param tweetId 投稿されたツイートID
+ * @param authorId 投稿者のユーザーID（集約）
+ * @param occurredAt 投稿日時
+ */
+public record TweetCreated(TweetId tweetId, UserId authorId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return USER_AGGREGATE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return authorId.value();
+    }
+}
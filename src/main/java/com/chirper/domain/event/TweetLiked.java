@@ -0,0 +1,28 @@
+package com.chirper.domain.event;
+
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * TweetLiked
+ * ツイートがいいねされた
+ *
+ * @param userId いいねしたユーザーID（集約）
+ * @param tweetId いいね対象ツイートID
+ * @param occurredAt いいね日時
+ */
+public record TweetLiked(UserId userId, TweetId tweetId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return USER_AGGREGATE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return userId.value();
+    }
+}
@@ -0,0 +1,28 @@
+package com.chirper.domain.event;
+
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * TweetUnliked
+ * ツイートのいいねが解除された
+ *
+ * @param userId いいねを解除したユーザーID（集約）
+ * @param tweetId いいね解除対象ツイートID
+ * @param occurredAt いいね解除日時
+ */
+public record TweetUnliked(UserId userId, TweetId tweetId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return USER_AGGREGATE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return userId.value();
+    }
+}
@@ -0,0 +1,27 @@
+package com.chirper.domain.event;
+
+import com.chirper.domain.valueobject.UserId;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * UserFollowed
+ * ユーザーがフォローされた
+ *
+ * @param followerUserId フォローしたユーザーID（集約）
+ * @param followedUserId フォロー対象ユーザーID
+ * @param occurredAt フォロー日時
+ */
+public record UserFollowed(UserId followerUserId, UserId followedUserId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return USER_AGGREGATE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return followerUserId.value();
+    }
+}
@@ -0,0 +1,27 @@
+package com.chirper.domain.event;
+
+import com.chirper.domain.valueobject.UserId;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * UserUnfollowed
+ * ユーザーのフォローが解除された
+ *
+ * @param followerUserId フォローを解除したユーザーID（集約）
+ * @param followedUserId フォロー解除対象ユーザーID
+ * @param occurredAt フォロー解除日時
+ */
+public record UserUnfollowed(UserId followerUserId, UserId followedUserId, Instant occurredAt) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return USER_AGGREGATE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return followerUserId.value();
+    }
+}
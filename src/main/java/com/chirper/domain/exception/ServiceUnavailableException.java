@@ -0,0 +1,32 @@
+package com.chirper.domain.exception;
+
+/**
+ * ServiceUnavailableException
+ * 処理の期限超過・過負荷などにより、一時的に応答できない場合にスローされる例外
+ *
+ * 用途: タイムラインの付加情報の取得が期限内に完了しない場合など（時間をおいて再試行できる）
+ * HTTPステータス: 503 SERVICE_UNAVAILABLE
+ */
+public class ServiceUnavailableException extends DomainException {
+
+    private static final String ERROR_CODE = "SERVICE_UNAVAILABLE";
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ（例: "タイムラインの付加情報の取得がタイムアウトしました"）
+     */
+    public ServiceUnavailableException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    /**
+     * コンストラクタ（原因となる例外を含む）
+     *
+     * @param message エラーメッセージ
+     * @param cause 原因となる例外
+     */
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
@@ -20,6 +20,23 @@ public interface IFollowRepository {
      */
     Follow save(Follow follow);
 
+    /**
+     * フォロー関係が存在しない場合のみ1文で保存（INSERT ... ON CONFLICT DO NOTHING）
+     * 事前の存在確認を行わないため、並行実行時も重複チェックと保存の間で競合しない
+     * @param follow 保存するFollowエンティティ
+     * @return 新たに保存された場合true、既にフォロー関係が存在した場合false
+     * @throws IllegalArgumentException フォロー対象ユーザーが存在しない場合
+     */
+    boolean saveIfAbsent(Follow follow);
+
+    /**
+     * 複数のフォロー関係を1文で一括保存し、実際に保存されたものだけを返す
+     * 既に存在するフォロー関係と、フォロー対象ユーザーが存在しないものは例外にせずスキップする
+     * @param follows 保存するFollowエンティティのリスト
+     * @return 新たに保存されたFollowエンティティのリスト
+     */
+    List<Follow> saveAllIfAbsent(List<Follow> follows);
+
     /**
      * 指定ユーザーがフォローしているユーザーIDのリストを取得
      * @param followerUserId フォローしているユーザーのID
@@ -39,11 +56,13 @@ public interface IFollowRepository {
      * フォロー関係を削除
      * @param followerUserId フォローするユーザーのID
      * @param followedUserId フォローされるユーザーのID
+     * @return 削除された場合true、フォロー関係が存在しなかった場合false
      */
-    void delete(UserId followerUserId, UserId followedUserId);
+    boolean delete(UserId followerUserId, UserId followedUserId);
 
     /**
      * 指定ユーザーのフォロワー数を取得
+     * 非正規化されたカウンターから取得するため、followsテーブルの件数とは一時的にずれる可能性がある
      * @param userId フォローされているユーザーのID
      * @return フォロワー数
      */
@@ -51,11 +70,30 @@ public interface IFollowRepository {
 
     /**
      * 指定ユーザーのフォロー数を取得
+     * 非正規化されたカウンターから取得するため、followsテーブルの件数とは一時的にずれる可能性がある
      * @param userId フォローしているユーザーのID
      * @return フォロー数
      */
     long countFollowing(UserId userId);
 
+    /**
+     * フォロー数・フォロワー数のカウンターを増減
+     * フォロー関係の保存・削除と同一トランザクション内で呼び出すこと
+     * @param followerUserId フォローするユーザーのID（フォロー数を増減）
+     * @param followedUserId フォローされるユーザーのID（フォロワー数を増減）
+     * @param delta 増減量（フォロー時は1、フォロー解除時は-1）
+     */
+    void adjustFollowCounts(UserId followerUserId, UserId followedUserId, long delta);
+
+    /**
+     * 1人のユーザーによる複数のフォロー・フォロー解除についてカウンターを1文で増減
+     * フォロー関係の保存・削除と同一トランザクション内で呼び出すこと
+     * @param followerUserId フォローするユーザーのID（フォロー数を件数×deltaだけ増減）
+     * @param followedUserIds フォローされるユーザーIDのリスト（各フォロワー数を増減）
+     * @param delta 1件あたりの増減量（フォロー時は1、フォロー解除時は-1）
+     */
+    void adjustFollowCountsForFollower(UserId followerUserId, List<UserId> followedUserIds, long delta);
+
     /**
      * フォロー関係が存在するかチェック
      * @param followerUserId フォローするユーザーのID
@@ -89,4 +127,40 @@ public interface IFollowRepository {
      * @return followerUserIdがフォローしているUserIdのリスト
      */
     List<UserId> findFollowedUserIdsIn(UserId followerUserId, List<UserId> targetUserIds);
+
+    /**
+     * 相互フォロー（userIdがフォローしており、かつuserIdをフォローしている）ユーザーのUserIdリストを取得（ページネーション対応）
+     * 並び順は実装依存（DB実装はフォロー日時の降順）
+     * @param userId 対象ユーザーのID
+     * @param offset 取得開始位置（0から始まる）
+     * @param limit 取得件数
+     * @return 相互フォローのUserIdリスト
+     */
+    List<UserId> findMutualFollowUserIds(UserId userId, int offset, int limit);
+
+    /**
+     * 相互フォロー数を取得
+     * @param userId 対象ユーザーのID
+     * @return 相互フォロー数
+     */
+    long countMutualFollows(UserId userId);
+
+    /**
+     * 対象ユーザーのフォロワーのうち、閲覧ユーザーがフォローしているユーザーのUserIdリストを取得（ページネーション対応）
+     * 並び順は実装依存（DB実装はフォロー日時の降順）
+     * @param followedUserId 対象ユーザーのID
+     * @param viewerUserId 閲覧ユーザーのID
+     * @param offset 取得開始位置（0から始まる）
+     * @param limit 取得件数
+     * @return 閲覧ユーザーがフォローしているフォロワーのUserIdリスト
+     */
+    List<UserId> findFollowersFollowedBy(UserId followedUserId, UserId viewerUserId, int offset, int limit);
+
+    /**
+     * 対象ユーザーのフォロワーのうち、閲覧ユーザーがフォローしている人数を取得
+     * @param followedUserId 対象ユーザーのID
+     * @param viewerUserId 閲覧ユーザーのID
+     * @return 該当人数
+     */
+    long countFollowersFollowedBy(UserId followedUserId, UserId viewerUserId);
 }
@@ -22,6 +22,22 @@ public interface ILikeRepository {
      */
     Like save(Like like);
 
+    /**
+     * いいねが存在しない場合のみ1文で保存（INSERT ... ON CONFLICT DO NOTHING）
+     * 事前の存在確認を行わないため、並行実行時も重複チェックと保存の間で競合しない
+     * @param like 保存するLikeエンティティ
+     * @return 新たに保存された場合true、既にいいね済みの場合false
+     */
+    boolean saveIfAbsent(Like like);
+
+    /**
+     * 複数のいいねを1文で一括保存し、実際に保存されたものだけを返す
+     * 既にいいね済みのものと、対象ツイートが存在しない（論理削除済みを含む）ものは例外にせずスキップする
+     * @param likes 保存するLikeエンティティのリスト
+     * @return 新たに保存されたLikeエンティティのリスト
+     */
+    List<Like> saveAllIfAbsent(List<Like> likes);
+
     /**
      * ツイートIDでいいねを検索
      * @param tweetId ツイートID
@@ -48,8 +64,9 @@ public interface ILikeRepository {
      * いいねを削除
      * @param userId ユーザーID
      * @param tweetId ツイートID
+     * @return 削除された場合true、いいねが存在しなかった場合false
      */
-    void delete(UserId userId, TweetId tweetId);
+    boolean delete(UserId userId, TweetId tweetId);
 
     /**
      * 指定ツイートのいいね数を取得
@@ -71,4 +88,12 @@ public interface ILikeRepository {
      * @return いいねしたツイートIDのリスト
      */
     List<TweetId> findTweetIdsByUserId(UserId userId);
+
+    /**
+     * 指定ツイートIDのうち、指定ユーザーがいいね済みのものを取得（N+1クエリ回避）
+     * @param userId ユーザーID
+     * @param tweetIds 確認対象のツイートIDリスト
+     * @return いいね済みのツイートIDリスト
+     */
+    List<TweetId> findLikedTweetIdsIn(UserId userId, List<TweetId> tweetIds);
 }
@@ -22,6 +22,14 @@ public interface IRetweetRepository {
      */
     Retweet save(Retweet retweet);
 
+    /**
+     * リツイートが存在しない場合のみ1文で保存（INSERT ... ON CONFLICT DO NOTHING）
+     * 事前の存在確認を行わないため、並行実行時も重複チェックと保存の間で競合しない
+     * @param retweet 保存するRetweetエンティティ
+     * @return 新たに保存された場合true、既にリツイート済みの場合false
+     */
+    boolean saveIfAbsent(Retweet retweet);
+
     /**
      * ツイートIDでリツイートを検索
      * @param tweetId ツイートID
@@ -48,8 +56,9 @@ public interface IRetweetRepository {
      * リツイートを削除
      * @param userId ユーザーID
      * @param tweetId ツイートID
+     * @return 削除された場合true、リツイートが存在しなかった場合false
      */
-    void delete(UserId userId, TweetId tweetId);
+    boolean delete(UserId userId, TweetId tweetId);
 
     /**
      * 指定ツイートのリツイート数を取得
@@ -71,4 +80,12 @@ public interface IRetweetRepository {
      * @return リツイートしたツイートIDのリスト
      */
     List<TweetId> findTweetIdsByUserId(UserId userId);
+
+    /**
+     * 指定ツイートIDのうち、指定ユーザーがリツイート済みのものを取得（N+1クエリ回避）
+     * @param userId ユーザーID
+     * @param tweetIds 確認対象のツイートIDリスト
+     * @return リツイート済みのツイートIDリスト
+     */
+    List<TweetId> findRetweetedTweetIdsIn(UserId userId, List<TweetId> tweetIds);
 }
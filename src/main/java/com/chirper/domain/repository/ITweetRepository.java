@@ -15,12 +15,19 @@ import java.util.Optional;
 public interface ITweetRepository {
 
     /**
-     * ツイートを保存または更新
-     * @param tweet 保存するTweetエンティティ
+     * 新規ツイートを保存
+     * @param tweet 保存するTweetエンティティ（Tweet.create()で作成したもの）
      * @return 保存されたTweetエンティティ
      */
     Tweet save(Tweet tweet);
 
+    /**
+     * 保存済みツイートを更新
+     * @param tweet 更新するTweetエンティティ（リポジトリから取得・保存したもの）
+     * @return 更新されたTweetエンティティ
+     */
+    Tweet update(Tweet tweet);
+
     /**
      * IDでツイートを検索
      * 論理削除されたツイート(isDeleted=true)は除外
@@ -40,6 +47,17 @@ public interface ITweetRepository {
      */
     List<Tweet> findByUserIdsWithDetails(List<UserId> userIds, int page, int size);
 
+    /**
+     * 複数のユーザーIDに基づいてツイートをカーソル位置から取得（タイムライン用キーセットページネーション）
+     * 論理削除されたツイート(isDeleted=true)は除外
+     * @param userIds ユーザーIDのリスト
+     * @param cursor 前ページ最後のツイートID（nullの場合は最新から取得）
+     * @param size 取得件数
+     * @return カーソルより古いツイートのリスト（作成日時・ID降順）
+     * @throws com.chirper.domain.exception.InvalidOperationException カーソルのツイートが存在しない場合
+     */
+    List<Tweet> findByUserIdsBefore(List<UserId> userIds, TweetId cursor, int size);
+
     /**
      * ツイートを削除
      * @param tweetId 削除するツイートのID
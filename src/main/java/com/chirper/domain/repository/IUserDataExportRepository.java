@@ -0,0 +1,92 @@
+package com.chirper.domain.repository;
+
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * IUserDataExportRepository Interface
+ * ユーザーデータのエクスポート用に、ユーザーのツイート・いいね・フォロー関係を順に読み出す読み取り専用リポジトリインターフェース
+ *
+ * 結果をリストに溜めず1行ずつconsumerへ渡すため、件数に関わらずメモリ使用量は一定。
+ * 実装はカーソル（フェッチサイズ指定）で読み出すため、トランザクション内で呼び出すこと
+ */
+public interface IUserDataExportRepository {
+
+    /**
+     * ユーザーのツイート（論理削除を除く）を作成日時の新しい順に読み出す
+     * @param userId ユーザーID
+     * @param consumer 1件ごとに呼び出される処理
+     */
+    void streamTweets(UserId userId, Consumer<ExportedTweet> consumer);
+
+    /**
+     * ユーザーのいいねを作成日時の新しい順に読み出す
+     * @param userId ユーザーID
+     * @param consumer 1件ごとに呼び出される処理
+     */
+    void streamLikes(UserId userId, Consumer<ExportedLike> consumer);
+
+    /**
+     * ユーザーのフォロー中をフォロー日時の新しい順に読み出す
+     * @param userId ユーザーID
+     * @param consumer 1件ごとに呼び出される処理
+     */
+    void streamFollowing(UserId userId, Consumer<ExportedFollow> consumer);
+
+    /**
+     * ユーザーのフォロワーをフォロー日時の新しい順に読み出す
+     * @param userId ユーザーID
+     * @param consumer 1件ごとに呼び出される処理
+     */
+    void streamFollowers(UserId userId, Consumer<ExportedFollow> consumer);
+
+    /**
+     * エクスポートされる1件の読み取りモデル
+     */
+    sealed interface ExportRecord permits ExportedTweet, ExportedLike, ExportedFollow {
+    }
+
+    /**
+     * ツイートの読み取りモデル
+     *
+     * @param id ツイートID
+     * @param content 本文
+     * @param createdAt 作成日時
+     * @param updatedAt 更新日時
+     */
+    record ExportedTweet(TweetId id, String content, Instant createdAt, Instant updatedAt) implements ExportRecord {
+    }
+
+    /**
+     * いいねの読み取りモデル
+     *
+     * @param tweetId いいねしたツイートID
+     * @param createdAt いいねした日時
+     */
+    record ExportedLike(TweetId tweetId, Instant createdAt) implements ExportRecord {
+    }
+
+    /**
+     * フォロー関係の読み取りモデル
+     *
+     * @param direction フォロー中かフォロワーか
+     * @param userId 相手のユーザーID
+     * @param username 相手のユーザー名
+     * @param createdAt フォローした日時
+     */
+    record ExportedFollow(Direction direction, UserId userId, String username, Instant createdAt) implements ExportRecord {
+
+        /**
+         * フォロー関係の向き
+         */
+        public enum Direction {
+            /** エクスポート対象ユーザーがフォローしている */
+            FOLLOWING,
+            /** エクスポート対象ユーザーをフォローしている */
+            FOLLOWER
+        }
+    }
+}
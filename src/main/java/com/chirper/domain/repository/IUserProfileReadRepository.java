@@ -0,0 +1,76 @@
+package com.chirper.domain.repository;
+
+import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.entity.User;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IUserProfileReadRepository Interface
+ * プロフィール画面の表示に必要な情報をまとめて取得する読み取り専用リポジトリインターフェース
+ * ユーザー情報・フォロー数・フォロー状態・ツイート一覧を1回の問い合わせで取得することを想定
+ * 公開プロフィールの表示に使うため、メールアドレス・パスワードハッシュなどの非公開情報は取得しない
+ */
+public interface IUserProfileReadRepository {
+
+    /**
+     * ユーザー名でプロフィールを取得
+     * @param username ユーザー名
+     * @param viewerUserId 閲覧ユーザーのID（フォロー状態確認用、nullの場合は未ログイン）
+     * @param page ツイート一覧のページ番号（0始まり）
+     * @param size ツイート一覧のページサイズ
+     * @return 見つかった場合はプロフィール、見つからない場合はOptional.empty()
+     */
+    Optional<UserProfile> findByUsername(Username username, UserId viewerUserId, int page, int size);
+
+    /**
+     * プロフィールの読み取りモデル
+     *
+     * @param user 公開プロフィールのユーザー情報
+     * @param followersCount フォロワー数
+     * @param followingCount フォロー数
+     * @param followedByViewer 閲覧ユーザーがフォローしているか（本人・未ログインの場合はfalse）
+     * @param tweets ユーザーのツイート一覧（作成日時の降順）
+     */
+    record UserProfile(
+        ProfileUser user,
+        long followersCount,
+        long followingCount,
+        boolean followedByViewer,
+        List<Tweet> tweets
+    ) {}
+
+    /**
+     * 公開プロフィールに表示するユーザー情報の読み取りモデル
+     *
+     * @param id ユーザーID
+     * @param username ユーザー名
+     * @param displayName 表示名
+     * @param bio 自己紹介
+     * @param avatarUrl アバター画像URL
+     * @param createdAt 登録日時
+     */
+    record ProfileUser(
+        UserId id,
+        String username,
+        String displayName,
+        String bio,
+        String avatarUrl,
+        Instant createdAt
+    ) {
+
+        /**
+         * Userエンティティから公開プロフィールのユーザー情報を生成
+         * @param user Userエンティティ
+         * @return 公開プロフィールのユーザー情報
+         */
+        public static ProfileUser from(User user) {
+            return new ProfileUser(user.getId(), user.getUsername().value(), user.getDisplayName(), user.getBio(),
+                user.getAvatarUrl(), user.getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.chirper.domain.repository;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.valueobject.UserId;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IUserSummaryReadRepository Interface
+ * 一覧表示用のユーザー概要（表示名・アバターなど）を取得する読み取り専用リポジトリインターフェース
+ * エンティティを経由せず、表示に必要な列のみを取得することを想定
+ */
+public interface IUserSummaryReadRepository {
+
+    /**
+     * 複数のユーザーIDからユーザー概要を一括取得（N+1問題回避用）
+     * @param userIds ユーザーIDのリスト
+     * @return UserIdをキーとしたユーザー概要のマップ（存在しないIDは含まれない）
+     */
+    Map<UserId, UserSummary> findSummariesByIds(List<UserId> userIds);
+
+    /**
+     * ユーザー概要の読み取りモデル
+     *
+     * @param id ユーザーID
+     * @param username ユーザー名
+     * @param displayName 表示名
+     * @param avatarUrl アバター画像URL
+     */
+    record UserSummary(
+        UserId id,
+        String username,
+        String displayName,
+        String avatarUrl
+    ) {
+
+        /**
+         * Userエンティティからユーザー概要を生成
+         * @param user Userエンティティ
+         * @return ユーザー概要
+         */
+        public static UserSummary from(User user) {
+            return new UserSummary(user.getId(), user.getUsername().value(), user.getDisplayName(), user.getAvatarUrl());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.chirper.domain.service;
 
 import com.chirper.domain.entity.Tweet;
 import com.chirper.domain.repository.ITweetRepository;
+import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
 
 import java.util.List;
@@ -49,6 +50,26 @@ public class TimelineService {
         return tweetRepository.findByUserIdsWithDetails(followedUserIds, page, size);
     }
 
+    /**
+     * カーソル位置からタイムライン取得
+     * フォローユーザーのツイートを時系列で取得し、前ページ最後のツイートより古いものを返す
+     * @param followedUserIds フォローしているユーザーIDのリスト
+     * @param cursor 前ページ最後のツイートID（nullの場合は最新から取得）
+     * @param size ページサイズ
+     * @return ツイートのリスト（作成日時・ID降順）
+     */
+    public List<Tweet> getTimelineBefore(List<UserId> followedUserIds, TweetId cursor, int size) {
+        if (followedUserIds == null || followedUserIds.isEmpty()) {
+            return List.of();
+        }
+
+        if (size <= 0 || size > 100) {
+            throw new IllegalArgumentException("Size must be between 1 and 100");
+        }
+
+        return tweetRepository.findByUserIdsBefore(followedUserIds, cursor, size);
+    }
+
     /**
      * タイムラインの総ページ数を計算
      * @param followedUserIds フォローしているユーザーIDのリスト
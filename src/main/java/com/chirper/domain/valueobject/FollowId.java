@@ -15,7 +15,7 @@ public record FollowId(UUID value) {
     }
 
     public static FollowId generate() {
-        return new FollowId(UUID.randomUUID());
+        return new FollowId(UuidV7.generate());
     }
 
     public static FollowId of(String value) {
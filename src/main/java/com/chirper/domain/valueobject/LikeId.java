@@ -15,7 +15,7 @@ public record LikeId(UUID value) {
     }
 
     public static LikeId generate() {
-        return new LikeId(UUID.randomUUID());
+        return new LikeId(UuidV7.generate());
     }
 
     public static LikeId of(String value) {
@@ -15,7 +15,7 @@ public record RetweetId(UUID value) {
     }
 
     public static RetweetId generate() {
-        return new RetweetId(UUID.randomUUID());
+        return new RetweetId(UuidV7.generate());
     }
 
     public static RetweetId of(String value) {
@@ -15,7 +15,7 @@ public record TweetId(UUID value) {
     }
 
     public static TweetId generate() {
-        return new TweetId(UUID.randomUUID());
+        return new TweetId(UuidV7.generate());
     }
 
     public static TweetId of(String value) {
@@ -15,7 +15,7 @@ public record UserId(UUID value) {
     }
 
     public static UserId generate() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(UuidV7.generate());
     }
 
     public static UserId of(String value) {
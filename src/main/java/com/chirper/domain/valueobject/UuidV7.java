@@ -0,0 +1,62 @@
+package com.chirper.domain.valueobject;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UuidV7
+ * 時刻順のUUIDv7（RFC 9562）を生成するユーティリティ
+ *
+ * 上位48ビットにUnixエポックミリ秒、続く12ビット（rand_a）に同一ミリ秒内のカウンターを格納し、
+ * 同一JVM内で生成順に単調増加するIDを返す。ランダムなv4と異なり新しいIDは常にB-treeインデックスの右端に追加されるため、
+ * ページ分割とキャッシュミスを抑えられる。
+ *
+ * 1ミリ秒に4096件を超えて生成した場合やシステム時刻が巻き戻った場合は、
+ * 直前のIDのタイムスタンプを引き継いでカウンターを進める（単調性を優先し、埋め込み時刻は実時刻より進むことがある）。
+ * 下位62ビット（rand_b）は推測困難性のためのランダム値
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * 直前に払い出した (Unixエポックミリ秒 << 12) | カウンター
+     */
+    private static final AtomicLong lastState = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * UUIDv7を生成
+     * @return 直前に生成したUUIDより大きいUUIDv7
+     */
+    public static UUID generate() {
+        long candidate = System.currentTimeMillis() << COUNTER_BITS;
+        long state = lastState.updateAndGet(previous -> Math.max(candidate, previous + 1));
+
+        long unixMillis = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (unixMillis << 16) | VERSION_BITS | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & RAND_B_MASK) | VARIANT_BITS;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * UUIDv7に埋め込まれた生成時刻を取得
+     * @param uuid UUIDv7
+     * @return 生成時刻（ミリ秒精度）
+     * @throws IllegalArgumentException UUIDv7でない場合
+     */
+    public static Instant timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a UUIDv7: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+}
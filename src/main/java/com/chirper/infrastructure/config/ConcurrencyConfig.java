@@ -0,0 +1,31 @@
+package com.chirper.infrastructure.config;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ConcurrencyConfig
+ * ユースケース内で独立したクエリを並行実行するためのExecutorを定義する設定クラス
+ *
+ * 仮想スレッドを1タスク1スレッドで使用するため、同時実行数の上限はHikariCPのコネクションプールで決まる
+ * タスクには投入元スレッドのコンテキスト（トレースのスパンなど）を引き継ぎ、並行実行したクエリも同じトレースに記録する
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    /**
+     * 取得済みツイートへの付加情報（投稿者・いいね数など）の並行取得用Executor
+     */
+    @Bean(name = "hydrationExecutor", destroyMethod = "close")
+    public ExecutorService hydrationExecutor() {
+        return ContextExecutorService.wrap(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hydration-", 0).factory()),
+            ContextSnapshotFactory.builder().build()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.persistence.pool.AdaptivePoolSizer;
+import com.chirper.infrastructure.persistence.pool.ConnectionPoolHealthIndicator;
+import com.chirper.infrastructure.persistence.pool.ConnectionPoolMetricsBinder;
+import com.chirper.infrastructure.persistence.pool.ConnectionPools;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * ConnectionPoolConfig
+ * HikariCPのコネクションプールの監視（メトリクス・ヘルスチェック）と最大サイズの自動調整の設定クラス
+ *
+ * 構成:
+ * - ConnectionPoolMetricsBinder: すべてのプール（リードレプリカのプールを含む）の hikaricp.connections.* を登録
+ * - ConnectionPoolHealthIndicator: /actuator/health の connectionPool コンポーネント（コネクション待ちの増加で DEGRADED）
+ * - AdaptivePoolSizer: chirper.datasource.pool.adaptive-sizing.enabled=true の場合のみ有効
+ *
+ * chirper.datasource.pool.enabled=false で無効化できる
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.datasource.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPools connectionPools(DataSource dataSource) {
+        return ConnectionPools.of(dataSource);
+    }
+
+    @Bean
+    public ConnectionPoolMetricsBinder connectionPoolMetricsBinder(ConnectionPools connectionPools) {
+        return new ConnectionPoolMetricsBinder(connectionPools);
+    }
+
+    @Bean
+    public ConnectionPoolHealthIndicator connectionPoolHealthIndicator(
+        ConnectionPools connectionPools,
+        @Value("${chirper.datasource.pool.health.pending-threshold:5}") int pendingThreshold
+    ) {
+        return new ConnectionPoolHealthIndicator(connectionPools, pendingThreshold);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "chirper.datasource.pool.adaptive-sizing", name = "enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(
+        ConnectionPools connectionPools,
+        MeterRegistry meterRegistry,
+        @Value("${chirper.datasource.pool.adaptive-sizing.min-size:10}") int minSize,
+        @Value("${chirper.datasource.pool.adaptive-sizing.max-size:100}") int maxSize,
+        @Value("${chirper.datasource.pool.adaptive-sizing.step:5}") int step,
+        @Value("${chirper.datasource.pool.adaptive-sizing.target-acquire-time:50ms}") Duration targetAcquireTime,
+        @Value("${chirper.datasource.pool.adaptive-sizing.max-db-time:100ms}") Duration maxDbTime
+    ) {
+        if (connectionPools.primary() == null) {
+            throw new IllegalStateException("Adaptive pool sizing requires a HikariCP primary DataSource");
+        }
+        return new AdaptivePoolSizer(connectionPools.primary(), meterRegistry,
+            new AdaptivePoolSizer.Settings(minSize, maxSize, step, targetAcquireTime, maxDbTime));
+    }
+}
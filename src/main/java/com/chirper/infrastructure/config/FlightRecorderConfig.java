@@ -0,0 +1,44 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.observability.FlightRecorderEndpoint;
+import com.chirper.infrastructure.observability.FlightRecorderService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * FlightRecorderConfig
+ * JDK Flight Recorder（常時記録と /actuator/flightrecorder）の設定クラス
+ *
+ * エンドポイントは management.endpoints.web.exposure.include に flightrecorder を含めた場合に公開される
+ *
+ * 記録ファイルにはSQL文やスタックトレースが含まれるため既定では無効。chirper.flight-recorder.enabled=true で有効化する
+ * （エンドポイントは管理ユーザーのみ利用できる）
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.flight-recorder", name = "enabled", havingValue = "true")
+public class FlightRecorderConfig {
+
+    @Bean
+    public FlightRecorderService flightRecorderService(
+        @Value("${chirper.flight-recorder.continuous.enabled:true}") boolean continuousEnabled,
+        @Value("${chirper.flight-recorder.continuous.max-age:10m}") Duration continuousMaxAge,
+        @Value("${chirper.flight-recorder.continuous.max-size:100MB}") DataSize continuousMaxSize,
+        @Value("${chirper.flight-recorder.max-duration:5m}") Duration maxDuration,
+        @Value("${chirper.flight-recorder.max-concurrent-recordings:1}") int maxConcurrentRecordings,
+        @Value("${chirper.flight-recorder.max-retained-recordings:3}") int maxRetainedRecordings
+    ) {
+        return new FlightRecorderService(new FlightRecorderService.Settings(
+            continuousEnabled, continuousMaxAge, continuousMaxSize.toBytes(),
+            maxDuration, maxConcurrentRecordings, maxRetainedRecordings));
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(FlightRecorderService flightRecorderService) {
+        return new FlightRecorderEndpoint(flightRecorderService);
+    }
+}
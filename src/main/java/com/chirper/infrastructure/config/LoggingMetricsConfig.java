@@ -0,0 +1,24 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.logging.AsyncAppenderMetricsBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * LoggingMetricsConfig
+ * 非同期ログ出力のメトリクス（chirper.logging.events）の設定クラス
+ *
+ * 件数は logback-spring.xml の非同期アペンダーに設定した AsyncAppenderMetricsListener が数える
+ *
+ * chirper.logging.metrics.enabled=false で無効化できる
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.logging.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LoggingMetricsConfig {
+
+    @Bean
+    public AsyncAppenderMetricsBinder asyncAppenderMetricsBinder() {
+        return new AsyncAppenderMetricsBinder();
+    }
+}
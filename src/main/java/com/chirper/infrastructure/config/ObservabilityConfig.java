@@ -0,0 +1,36 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.observability.LayerObservationPostProcessor;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ObservabilityConfig
+ * ユースケース・リポジトリ単位のObservation（タイマー・トレースのスパン）の設定クラス
+ *
+ * タイマーは chirper.usecase / chirper.repository として記録され、SLOバケットは
+ * management.metrics.distribution.slo で設定する（Prometheusのヒストグラムとして公開）
+ *
+ * chirper.observation.layers.enabled=false で無効化できる
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.observation.layers", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ObservabilityConfig {
+
+    @Bean
+    public static LayerObservationPostProcessor useCaseObservationPostProcessor(
+        ObjectProvider<ObservationRegistry> observationRegistry
+    ) {
+        return LayerObservationPostProcessor.useCases(observationRegistry);
+    }
+
+    @Bean
+    public static LayerObservationPostProcessor repositoryObservationPostProcessor(
+        ObjectProvider<ObservationRegistry> observationRegistry
+    ) {
+        return LayerObservationPostProcessor.repositories(observationRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.persistence.metrics.QueryCountingDataSource;
+import com.chirper.infrastructure.persistence.metrics.QueryMetrics;
+import com.chirper.infrastructure.persistence.metrics.QueryMetricsFilter;
+import com.chirper.infrastructure.persistence.metrics.UseCaseQueryMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * QueryMetricsConfig
+ * HTTPリクエスト・ユースケース単位のSQL計測（実行数・取得行数・実行時間）の設定クラス
+ *
+ * 構成:
+ * - アプリケーションが使用するDataSource（Bean名 dataSource）をQueryCountingDataSourceで包む
+ *   （リードレプリカ有効時は振り分け後のプロキシを包むため、プライマリ・レプリカの両方が計上される）
+ * - QueryMetricsFilterでHTTPリクエスト単位、UseCaseQueryMetricsPostProcessorでユースケース単位に集計する
+ * - トレース中はコネクション取得・SQL実行もスパンとして記録する
+ *
+ * chirper.query-metrics.enabled=false で無効化できる（JDBCのスパンも記録されなくなる）
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.query-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(
+        ObjectProvider<ObservationRegistry> observationRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName)
+                    && bean instanceof DataSource dataSource
+                    && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource,
+                        SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static UseCaseQueryMetricsPostProcessor useCaseQueryMetricsPostProcessor(
+        ObjectProvider<QueryMetrics> queryMetrics
+    ) {
+        return new UseCaseQueryMetricsPostProcessor(queryMetrics);
+    }
+
+    @Bean
+    public QueryMetrics queryMetrics(MeterRegistry meterRegistry) {
+        return new QueryMetrics(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(QueryMetrics queryMetrics) {
+        FilterRegistrationBean<QueryMetricsFilter> registration =
+            new FilterRegistrationBean<>(new QueryMetricsFilter(queryMetrics));
+        // ReadYourWritesFilterの内側、Spring Securityのフィルターチェーンより外側
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
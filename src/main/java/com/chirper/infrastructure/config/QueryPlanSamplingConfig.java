@@ -0,0 +1,71 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.persistence.plan.QueryPlanSampleBuffer;
+import com.chirper.infrastructure.persistence.plan.QueryPlanSampler;
+import com.chirper.infrastructure.persistence.plan.QueryPlansEndpoint;
+import com.chirper.infrastructure.persistence.plan.SlowRequestSamplingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * QueryPlanSamplingConfig
+ * 遅いリクエストのSQL文の実行計画を自動取得する設定クラス
+ *
+ * 構成:
+ * - SlowRequestSamplingFilter: 対象パスのリクエストのSQL文を記録し、しきい値を超えたらQueryPlanSamplerへ渡す
+ * - QueryPlanSampler: 別スレッドで EXPLAIN (ANALYZE, BUFFERS) を実行し、結果をリングバッファに保存
+ * - QueryPlansEndpoint: /actuator/queryplans で公開（実行計画にはSQLの条件値が現れるため、管理ポートは外部に公開しないこと）
+ *
+ * chirper.query-plan-sampling.enabled=false で無効化できる
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.query-plan-sampling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryPlanSamplingConfig {
+
+    @Bean
+    public QueryPlanSampleBuffer queryPlanSampleBuffer(
+        @Value("${chirper.query-plan-sampling.capacity:50}") int capacity
+    ) {
+        return new QueryPlanSampleBuffer(capacity);
+    }
+
+    @Bean(destroyMethod = "close")
+    public QueryPlanSampler queryPlanSampler(
+        DataSource dataSource,
+        QueryPlanSampleBuffer queryPlanSampleBuffer,
+        @Value("${chirper.query-plan-sampling.max-plans-per-request:3}") int maxPlansPerRequest,
+        @Value("${chirper.query-plan-sampling.cooldown:5m}") Duration cooldown,
+        @Value("${chirper.query-plan-sampling.explain-timeout:5s}") Duration explainTimeout,
+        @Value("${chirper.query-plan-sampling.queue-capacity:10}") int queueCapacity
+    ) {
+        return new QueryPlanSampler(dataSource, queryPlanSampleBuffer,
+            new QueryPlanSampler.Settings(maxPlansPerRequest, cooldown, explainTimeout, queueCapacity));
+    }
+
+    @Bean
+    public QueryPlansEndpoint queryPlansEndpoint(QueryPlanSampleBuffer queryPlanSampleBuffer) {
+        return new QueryPlansEndpoint(queryPlanSampleBuffer);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SlowRequestSamplingFilter> slowRequestSamplingFilter(
+        QueryPlanSampler queryPlanSampler,
+        @Value("${chirper.query-plan-sampling.paths:/api/v1/timeline,/api/v1/search}") List<String> paths,
+        @Value("${chirper.query-plan-sampling.threshold:500ms}") Duration threshold,
+        @Value("${chirper.query-plan-sampling.max-statements:100}") int maxStatements
+    ) {
+        FilterRegistrationBean<SlowRequestSamplingFilter> registration = new FilterRegistrationBean<>(
+            new SlowRequestSamplingFilter(queryPlanSampler, paths, threshold, maxStatements));
+        // QueryMetricsFilterの内側、Spring Securityのフィルターチェーンより外側
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,82 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReadReplicaDataSourceConfig
+ * 読み取り専用トランザクションをリードレプリカへ振り分けるDataSourceの設定クラス
+ *
+ * 構成:
+ * - プライマリ・レプリカごとに独立したHikariCPプール（spring.datasource.hikari の設定を共通で適用）
+ * - ReplicaRoutingDataSourceで振り分け、LazyConnectionDataSourceProxyで最初のSQL実行までコネクション取得を遅延
+ * - レプリカは起動時に接続できなくても起動を継続し、ReplicaHealthMonitorで振り分け対象を管理
+ *
+ * chirper.datasource.replicas.enabled=true の場合のみ有効（無効時はSpring Boot標準の単一DataSource）
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        DataSourceProperties properties,
+        Environment environment,
+        @Value("${chirper.datasource.replicas.urls}") List<String> replicaUrls,
+        @Value("${chirper.datasource.replicas.maximum-pool-size:20}") int replicaPoolSize,
+        @Value("${chirper.datasource.replicas.connection-timeout:1s}") Duration replicaConnectionTimeout
+    ) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + i;
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replicaUrls.get(i).trim())
+                .build();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName(primary.getPoolName() + "-" + name);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setMinimumIdle(Math.min(replica.getMinimumIdle(), replicaPoolSize));
+            // 読み取りはプライマリにフォールバックできるため、プライマリより短い待ち時間で見切る
+            replica.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(name, replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        // 既定値を明示し、既定値の確認のためにトランザクション外でコネクションを取得しないようにする
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+}
@@ -0,0 +1,13 @@
+package com.chirper.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig
+ * バックグラウンドジョブ（@Scheduled）を有効化する設定クラス
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
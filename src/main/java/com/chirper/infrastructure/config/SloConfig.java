@@ -0,0 +1,133 @@
+package com.chirper.infrastructure.config;
+
+import com.chirper.infrastructure.observability.slo.LatencyObjective;
+import com.chirper.infrastructure.observability.slo.SloAdmissionFilter;
+import com.chirper.infrastructure.observability.slo.SloEndpoint;
+import com.chirper.infrastructure.observability.slo.SloObservationHandler;
+import com.chirper.infrastructure.observability.slo.SloTracker;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+
+/**
+ * SloConfig
+ * エンドポイント単位のレイテンシのSLOとエラーバジェットの設定クラス
+ *
+ * 構成:
+ * - SloTracker: chirper.slo.objectives.<名前> に設定したSLOごとにバーンレートを計算（chirper.slo.* のメトリクスを登録）
+ * - SloObservationHandler: http.server.requests のObservationからSloTrackerへ記録
+ * - SloEndpoint: /actuator/slo で公開
+ * - SloAdmissionFilter: 予算を急速に消費している間、優先度の低いパスを503で拒否（SecurityConfigがフィルターチェーンに追加）
+ * - http.server.requests のヒストグラムにSLOのしきい値のバケットを追加（Prometheus側でも同じしきい値で集計できる）
+ *
+ * chirper.slo.enabled=false で無効化できる
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chirper.slo", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SloConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    @Bean
+    public SloTracker sloTracker(
+        Environment environment,
+        @Value("${chirper.slo.short-window:5m}") Duration shortWindow,
+        @Value("${chirper.slo.long-window:1h}") Duration longWindow,
+        @Value("${chirper.slo.burn-rate-threshold:14.4}") double burnRateThreshold,
+        @Value("${chirper.slo.min-requests:100}") long minRequests
+    ) {
+        Map<String, ObjectiveProperties> properties = Binder.get(environment)
+            .bind("chirper.slo.objectives", Bindable.mapOf(String.class, ObjectiveProperties.class))
+            .orElse(Map.of());
+        List<LatencyObjective> objectives = properties.entrySet().stream()
+            .map(entry -> entry.getValue().toObjective(entry.getKey()))
+            .toList();
+        return new SloTracker(objectives, new SloTracker.Settings(shortWindow, longWindow, burnRateThreshold, minRequests));
+    }
+
+    @Bean
+    public SloObservationHandler sloObservationHandler(SloTracker sloTracker) {
+        return new SloObservationHandler(sloTracker);
+    }
+
+    @Bean
+    public SloEndpoint sloEndpoint(SloTracker sloTracker) {
+        return new SloEndpoint(sloTracker);
+    }
+
+    @Bean
+    public MeterFilter sloHistogramBuckets(SloTracker sloTracker) {
+        double[] thresholds = sloTracker.statuses().stream()
+            .mapToDouble(status -> status.threshold().toNanos())
+            .toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (thresholds.length == 0 || !HTTP_SERVER_REQUESTS.equals(id.getName())) {
+                    return config;
+                }
+                double[] configured = config.getServiceLevelObjectiveBoundaries();
+                double[] merged = DoubleStream.concat(
+                        configured != null ? DoubleStream.of(configured) : DoubleStream.empty(),
+                        DoubleStream.of(thresholds))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+                return DistributionStatisticConfig.builder()
+                    .serviceLevelObjectives(merged)
+                    .build()
+                    .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "chirper.slo.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SloAdmissionFilter sloAdmissionFilter(
+        SloTracker sloTracker,
+        MeterRegistry meterRegistry,
+        @Value("${chirper.slo.admission.paths:/api/v1/search,/api/v1/export}") List<String> paths,
+        @Value("${chirper.slo.admission.retry-after:30s}") Duration retryAfter
+    ) {
+        return new SloAdmissionFilter(sloTracker, paths, retryAfter, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "chirper.slo.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<SloAdmissionFilter> sloAdmissionFilterRegistration(SloAdmissionFilter sloAdmissionFilter) {
+        // Spring Securityのフィルターチェーンでのみ実行する（サーブレットコンテナへの二重登録を防ぐ）
+        FilterRegistrationBean<SloAdmissionFilter> registration = new FilterRegistrationBean<>(sloAdmissionFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * chirper.slo.objectives.<名前> の設定値
+     *
+     * @param method HTTPメソッド（省略時GET）
+     * @param uri http.server.requests の uri タグと同じURIパターン
+     * @param threshold レイテンシのしきい値
+     * @param target good の割合の目標（省略時0.99）
+     */
+    record ObjectiveProperties(String method, String uri, Duration threshold, Double target) {
+
+        LatencyObjective toObjective(String name) {
+            return new LatencyObjective(name, method != null ? method : "GET", uri, threshold,
+                target != null ? target : 0.99);
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.chirper.infrastructure.graph;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * FollowGraph
+ * フォロー関係をメモリ上に保持するコンパクトなグラフ
+ *
+ * 設計:
+ * - ユーザーUUIDを密なint序数(0, 1, 2, ...)にマッピング
+ * - 順方向（フォロー中）と逆方向（フォロワー）の隣接集合をRoaringBitmapで保持
+ * - 隣接集合同士のAND/ANDカーディナリティで相互フォロー・共通フォローを高速に算出
+ * - 空の隣接集合はnullで表現し、フォロー/フォロワーのないユーザーのメモリを節約
+ * - ReadWriteLockにより読み取りは並行、書き込みは排他
+ */
+public final class FollowGraph {
+
+    /**
+     * ユーザー1人あたりの固定オーバーヘッド概算（バイト）
+     * HashMapエントリ(32) + テーブルスロット(8) + UUID(32) + Integer(16) + 序数→UUID参照(8)
+     */
+    private static final long PER_USER_OVERHEAD_BYTES = 96L;
+
+    /**
+     * RoaringBitmap 1個あたりのオブジェクトオーバーヘッド概算（バイト）
+     * getLongSizeInBytes()に含まれないRoaringBitmap/RoaringArrayのヘッダー分
+     */
+    private static final long PER_BITMAP_OVERHEAD_BYTES = 48L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> users = new ArrayList<>();
+    private final List<RoaringBitmap> following = new ArrayList<>();
+    private final List<RoaringBitmap> followers = new ArrayList<>();
+    private long edgeCount;
+
+    /**
+     * 一括ロード用のビルダーを生成
+     * @return ビルダー
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * フォロー関係を追加
+     * @param followerUserId フォローするユーザーのID
+     * @param followedUserId フォローされるユーザーのID
+     * @return 新たに追加された場合true、既に存在した場合false
+     */
+    public boolean addEdge(UUID followerUserId, UUID followedUserId) {
+        lock.writeLock().lock();
+        try {
+            int follower = ordinalOrCreate(followerUserId);
+            int followed = ordinalOrCreate(followedUserId);
+            if (!bitmapOrCreate(following, follower).checkedAdd(followed)) {
+                return false;
+            }
+            bitmapOrCreate(followers, followed).add(follower);
+            edgeCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * フォロー関係を削除
+     * @param followerUserId フォローするユーザーのID
+     * @param followedUserId フォローされるユーザーのID
+     * @return 削除された場合true、存在しなかった場合false
+     */
+    public boolean removeEdge(UUID followerUserId, UUID followedUserId) {
+        lock.writeLock().lock();
+        try {
+            int follower = ordinalOf(followerUserId);
+            int followed = ordinalOf(followedUserId);
+            if (follower < 0 || followed < 0) {
+                return false;
+            }
+            RoaringBitmap followingOfFollower = following.get(follower);
+            if (followingOfFollower == null || !followingOfFollower.checkedRemove(followed)) {
+                return false;
+            }
+            followers.get(followed).remove(follower);
+            edgeCount--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * フォロー関係が存在するかチェック
+     * @param followerUserId フォローするユーザーのID
+     * @param followedUserId フォローされるユーザーのID
+     * @return フォロー関係が存在する場合true
+     */
+    public boolean containsEdge(UUID followerUserId, UUID followedUserId) {
+        lock.readLock().lock();
+        try {
+            int follower = ordinalOf(followerUserId);
+            int followed = ordinalOf(followedUserId);
+            if (follower < 0 || followed < 0) {
+                return false;
+            }
+            RoaringBitmap followingOfFollower = following.get(follower);
+            return followingOfFollower != null && followingOfFollower.contains(followed);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 指定ユーザーがフォローしているユーザーIDのリストを取得
+     * @param followerUserId フォローしているユーザーのID
+     * @return フォローされているユーザーIDのリスト（順序は不定）
+     */
+    public List<UUID> following(UUID followerUserId) {
+        lock.readLock().lock();
+        try {
+            return toUserIds(adjacencyOf(following, followerUserId), 0, Integer.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 候補ユーザーの中で、指定ユーザーがフォローしているユーザーIDを取得
+     * @param followerUserId フォローしているユーザーのID
+     * @param candidateUserIds 候補ユーザーIDのコレクション
+     * @return フォローしている候補ユーザーIDのリスト（候補の順序を保持）
+     */
+    public List<UUID> followingAmong(UUID followerUserId, Collection<UUID> candidateUserIds) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap adjacency = adjacencyOf(following, followerUserId);
+            if (adjacency == null) {
+                return List.of();
+            }
+            List<UUID> result = new ArrayList<>();
+            for (UUID candidate : candidateUserIds) {
+                int ordinal = ordinalOf(candidate);
+                if (ordinal >= 0 && adjacency.contains(ordinal)) {
+                    result.add(candidate);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 指定ユーザーのフォロー数を取得
+     * @param userId ユーザーID
+     * @return フォロー数
+     */
+    public int followingCount(UUID userId) {
+        lock.readLock().lock();
+        try {
+            return cardinality(adjacencyOf(following, userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 指定ユーザーのフォロワー数を取得
+     * @param userId ユーザーID
+     * @return フォロワー数
+     */
+    public int followerCount(UUID userId) {
+        lock.readLock().lock();
+        try {
+            return cardinality(adjacencyOf(followers, userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 相互フォロー（指定ユーザーがフォローしており、かつ指定ユーザーをフォローしている）ユーザーIDを取得
+     * フォロー中集合とフォロワー集合のANDで算出する
+     * @param userId ユーザーID
+     * @param offset 取得開始位置（0から始まる）
+     * @param limit 取得件数
+     * @return 相互フォローのユーザーIDリスト（序数順）
+     */
+    public List<UUID> mutualFollows(UUID userId, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return toUserIds(intersect(adjacencyOf(following, userId), adjacencyOf(followers, userId)), offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 相互フォロー数を取得
+     * @param userId ユーザーID
+     * @return 相互フォロー数
+     */
+    public int mutualFollowCount(UUID userId) {
+        lock.readLock().lock();
+        try {
+            return intersectionCardinality(adjacencyOf(following, userId), adjacencyOf(followers, userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 対象ユーザーのフォロワーのうち、閲覧ユーザーがフォローしているユーザーIDを取得（知り合いのフォロワー）
+     * 対象ユーザーのフォロワー集合と閲覧ユーザーのフォロー中集合のANDで算出する
+     * @param followedUserId 対象ユーザーのID
+     * @param viewerUserId 閲覧ユーザーのID
+     * @param offset 取得開始位置（0から始まる）
+     * @param limit 取得件数
+     * @return 該当ユーザーIDリスト（序数順）
+     */
+    public List<UUID> followersFollowedBy(UUID followedUserId, UUID viewerUserId, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return toUserIds(
+                intersect(adjacencyOf(followers, followedUserId), adjacencyOf(following, viewerUserId)),
+                offset,
+                limit
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 対象ユーザーのフォロワーのうち、閲覧ユーザーがフォローしている人数を取得
+     * @param followedUserId 対象ユーザーのID
+     * @param viewerUserId 閲覧ユーザーのID
+     * @return 該当人数
+     */
+    public int followersFollowedByCount(UUID followedUserId, UUID viewerUserId) {
+        lock.readLock().lock();
+        try {
+            return intersectionCardinality(adjacencyOf(followers, followedUserId), adjacencyOf(following, viewerUserId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int userCount() {
+        lock.readLock().lock();
+        try {
+            return users.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long edgeCount() {
+        lock.readLock().lock();
+        try {
+            return edgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * グラフ全体の概算メモリ使用量（バイト）
+     * @return 概算バイト数
+     */
+    public long estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = PER_USER_OVERHEAD_BYTES * users.size();
+            for (int i = 0; i < users.size(); i++) {
+                bytes += estimatedMemoryBytes(following.get(i));
+                bytes += estimatedMemoryBytes(followers.get(i));
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int ordinalOf(UUID userId) {
+        Integer ordinal = ordinals.get(userId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    private int ordinalOrCreate(UUID userId) {
+        Integer existing = ordinals.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = users.size();
+        ordinals.put(userId, ordinal);
+        users.add(userId);
+        following.add(null);
+        followers.add(null);
+        return ordinal;
+    }
+
+    private RoaringBitmap adjacencyOf(List<RoaringBitmap> adjacency, UUID userId) {
+        int ordinal = ordinalOf(userId);
+        return ordinal < 0 ? null : adjacency.get(ordinal);
+    }
+
+    private static RoaringBitmap bitmapOrCreate(List<RoaringBitmap> adjacency, int ordinal) {
+        RoaringBitmap bitmap = adjacency.get(ordinal);
+        if (bitmap == null) {
+            bitmap = new RoaringBitmap();
+            adjacency.set(ordinal, bitmap);
+        }
+        return bitmap;
+    }
+
+    private static int cardinality(RoaringBitmap bitmap) {
+        return bitmap == null ? 0 : bitmap.getCardinality();
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap left, RoaringBitmap right) {
+        if (left == null || right == null) {
+            return null;
+        }
+        return RoaringBitmap.and(left, right);
+    }
+
+    private static int intersectionCardinality(RoaringBitmap left, RoaringBitmap right) {
+        if (left == null || right == null) {
+            return 0;
+        }
+        return RoaringBitmap.andCardinality(left, right);
+    }
+
+    private static long estimatedMemoryBytes(RoaringBitmap bitmap) {
+        return bitmap == null ? 0L : PER_BITMAP_OVERHEAD_BYTES + bitmap.getLongSizeInBytes();
+    }
+
+    /**
+     * 序数のビットマップをUUIDリストに変換（offset件スキップしてlimit件まで）
+     */
+    private List<UUID> toUserIds(RoaringBitmap ordinalsBitmap, int offset, int limit) {
+        if (ordinalsBitmap == null || offset >= ordinalsBitmap.getCardinality()) {
+            return List.of();
+        }
+        List<UUID> result = new ArrayList<>(Math.min(limit, ordinalsBitmap.getCardinality() - offset));
+        IntIterator iterator = ordinalsBitmap.getIntIterator();
+        int skipped = 0;
+        while (iterator.hasNext() && result.size() < limit) {
+            int ordinal = iterator.next();
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            result.add(users.get(ordinal));
+        }
+        return result;
+    }
+
+    /**
+     * Builder
+     * 大量のエッジを一括ロードするためのビルダー
+     * build()時に各ビットマップをランレングス圧縮で最適化する
+     */
+    public static final class Builder {
+
+        private final FollowGraph graph = new FollowGraph();
+        private boolean built;
+
+        private Builder() {
+        }
+
+        /**
+         * エッジを追記
+         * @param followerUserId フォローするユーザーのID
+         * @param followedUserId フォローされるユーザーのID
+         * @return このビルダー
+         */
+        public Builder addEdge(UUID followerUserId, UUID followedUserId) {
+            if (built) {
+                throw new IllegalStateException("FollowGraph has already been built");
+            }
+            int follower = graph.ordinalOrCreate(followerUserId);
+            int followed = graph.ordinalOrCreate(followedUserId);
+            bitmapOrCreate(graph.following, follower).add(followed);
+            bitmapOrCreate(graph.followers, followed).add(follower);
+            return this;
+        }
+
+        /**
+         * グラフを確定
+         * @return 構築されたFollowGraph
+         */
+        public FollowGraph build() {
+            if (built) {
+                throw new IllegalStateException("FollowGraph has already been built");
+            }
+            built = true;
+            long edges = 0;
+            for (int i = 0; i < graph.users.size(); i++) {
+                optimize(graph.following.get(i));
+                optimize(graph.followers.get(i));
+                edges += cardinality(graph.following.get(i));
+            }
+            graph.edgeCount = edges;
+            return graph;
+        }
+
+        private static void optimize(RoaringBitmap bitmap) {
+            if (bitmap != null) {
+                bitmap.runOptimize();
+                bitmap.trim();
+            }
+        }
+    }
+}
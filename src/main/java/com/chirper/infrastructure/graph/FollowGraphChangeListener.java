@@ -0,0 +1,120 @@
+package com.chirper.infrastructure.graph;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * FollowGraphChangeListener
+ * followsテーブルの変更通知（LISTEN/NOTIFY、V12のトリガーがコミット時に送信）を受けてFollowGraphRepositoryのグラフを更新するリスナー
+ *
+ * - 通知の受信を開始してからグラフをロードするため、ロード中にコミットされた変更も取りこぼさない
+ *   （通知はロード完了後にコミット順で適用される。ロードに含まれていた変更を再適用しても結果は変わらない）
+ * - 切断中は通知を取りこぼすため、グラフを破棄してDBに委譲し、再接続後にロードし直す
+ *
+ * 通知を待ち続けるため、コネクションプールとは別の専用コネクションを使用する
+ */
+@Component
+@ConditionalOnProperty(prefix = "chirper.follow-graph", name = "enabled", havingValue = "true")
+public class FollowGraphChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowGraphChangeListener.class);
+
+    static final String CHANNEL = "follows_changed";
+
+    /**
+     * 通知待ちの最大時間（停止要求の確認間隔）
+     */
+    private static final int NOTIFICATION_TIMEOUT_MS = 10_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final FollowGraphRepository repository;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public FollowGraphChangeListener(
+        DataSourceProperties dataSourceProperties,
+        FollowGraphRepository repository,
+        @Value("${chirper.follow-graph.reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.repository = repository;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofVirtual().name("follow-graph-listener").start(this::listenLoop);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                repository.reload();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    boolean reloadRequested = false;
+                    for (PGNotification notification : notifications) {
+                        reloadRequested |= repository.applyChange(notification.getParameter());
+                    }
+                    if (reloadRequested) {
+                        repository.reload();
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // 切断中・ロード失敗中の変更はグラフに反映できないため、再ロードまでDBに委譲する
+                repository.invalidate();
+                if (!running) {
+                    return;
+                }
+                log.warn("Follow graph listener failed; falling back to the database and reconnecting in {}",
+                    reconnectDelay, e);
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.chirper.infrastructure.graph;
+
+import com.chirper.domain.entity.Follow;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.infrastructure.persistence.repository.FollowRepositoryImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * FollowGraphRepository
+ * インメモリのFollowGraphを前段に置くIFollowRepositoryの実装
+ *
+ * 責務:
+ * - フォロー判定・フォロー中ID取得をDBラウンドトリップなしで応答（件数は非正規化カウンターから取得するため委譲）
+ * - 相互フォロー・知り合いのフォロワーをビットマップのAND演算で算出
+ * - 書き込みはFollowRepositoryImplに委譲する。グラフへの反映はfollowsテーブルのトリガーが送るコミット通知
+ *   （follows_changed）をFollowGraphChangeListenerが受けて行うため、他インスタンスの書き込み・ユーザー削除による
+ *   ON DELETE CASCADE・一括投入のSQLも反映される
+ * - グラフのロード完了前、および通知を受けられない間はすべての読み取りをFollowRepositoryImplに委譲
+ * - フォロー操作の事前検証（findByFollowerAndFollowed）は常にDBに問い合わせる
+ *
+ * chirper.follow-graph.enabled=true の場合のみ有効（@PrimaryとしてFollowRepositoryImplを置き換える）
+ * 注: グラフへの反映はコミット通知の受信後のため、書き込み直後の読み取りには反映されていない場合がある
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "chirper.follow-graph", name = "enabled", havingValue = "true")
+public class FollowGraphRepository implements IFollowRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowGraphRepository.class);
+
+    private static final String LOAD_SQL = "SELECT follower_user_id, followed_user_id FROM follows";
+
+    /**
+     * グラフ全体の再ロードを要求する通知のペイロード
+     */
+    static final String RELOAD_PAYLOAD = "*";
+
+    private final FollowRepositoryImpl delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int loadFetchSize;
+
+    private volatile FollowGraph graph;
+
+    public FollowGraphRepository(
+        FollowRepositoryImpl delegate,
+        JdbcTemplate jdbcTemplate,
+        @Value("${chirper.follow-graph.load-fetch-size:10000}") int loadFetchSize
+    ) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.loadFetchSize = loadFetchSize;
+    }
+
+    /**
+     * followsテーブル全体からグラフを再構築
+     * FollowGraphChangeListenerが通知の受信（LISTEN）を開始した後に呼び出す。
+     * ロード中にコミットされた変更の通知はロード完了後に順に適用されるため取りこぼさない
+     * レプリカの遅延で変更を取りこぼさないよう、読み取り専用にせずプライマリから読み込む
+     */
+    @Transactional
+    public void reload() {
+        long startNanos = System.nanoTime();
+        FollowGraph.Builder builder = FollowGraph.builder();
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(LOAD_SQL);
+                statement.setFetchSize(loadFetchSize);
+                return statement;
+            },
+            resultSet -> {
+                builder.addEdge(
+                    resultSet.getObject(1, UUID.class),
+                    resultSet.getObject(2, UUID.class)
+                );
+            }
+        );
+        FollowGraph loaded = builder.build();
+        graph = loaded;
+
+        log.info("Follow graph loaded: users={}, edges={}, estimatedBytes={}, elapsedMs={}",
+            loaded.userCount(), loaded.edgeCount(), loaded.estimatedMemoryBytes(),
+            (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * グラフを破棄し、次のロードまですべての読み取りをDBに委譲する
+     * 変更通知を受けられなくなった（取りこぼす可能性がある）場合に呼び出す
+     */
+    public void invalidate() {
+        graph = null;
+    }
+
+    /**
+     * followsテーブルの変更通知をグラフに反映
+     * @param payload 通知のペイロード（"+連番|フォロワー:フォロー対象,..." または "-連番|..."）
+     * @return 全体の再ロードが必要な場合（ペイロードが "*"）true
+     */
+    public boolean applyChange(String payload) {
+        if (RELOAD_PAYLOAD.equals(payload)) {
+            return true;
+        }
+        FollowGraph current = graph;
+        if (current == null) {
+            // ロード前の変更は次のロードのスナップショットに含まれる
+            return false;
+        }
+        boolean add = payload.charAt(0) == '+';
+        String edges = payload.substring(payload.indexOf('|') + 1);
+        for (String edge : edges.split(",")) {
+            int separator = edge.indexOf(':');
+            UUID followerUserId = UUID.fromString(edge.substring(0, separator));
+            UUID followedUserId = UUID.fromString(edge.substring(separator + 1));
+            if (add) {
+                current.addEdge(followerUserId, followedUserId);
+            } else {
+                current.removeEdge(followerUserId, followedUserId);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * グラフがロード済みかチェック
+     * @return ロード済みの場合true
+     */
+    public boolean isLoaded() {
+        return graph != null;
+    }
+
+    @Override
+    public Follow save(Follow follow) {
+        return delegate.save(follow);
+    }
+
+    @Override
+    public boolean saveIfAbsent(Follow follow) {
+        return delegate.saveIfAbsent(follow);
+    }
+
+    @Override
+    public List<Follow> saveAllIfAbsent(List<Follow> follows) {
+        return delegate.saveAllIfAbsent(follows);
+    }
+
+    @Override
+    public List<UserId> findFollowedUserIds(UserId followerUserId) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return delegate.findFollowedUserIds(followerUserId);
+        }
+        return current.following(followerUserId.value()).stream()
+            .map(UserId::new)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Follow> findByFollowerAndFollowed(UserId followerUserId, UserId followedUserId) {
+        // フォロー操作の事前検証に使われるため、通知の反映待ちのグラフでは判定せず常にDBに問い合わせる
+        return delegate.findByFollowerAndFollowed(followerUserId, followedUserId);
+    }
+
+    @Override
+    public boolean delete(UserId followerUserId, UserId followedUserId) {
+        return delegate.delete(followerUserId, followedUserId);
+    }
+
+    @Override
+    public long countFollowers(UserId userId) {
+        // 件数は非正規化カウンター（users.followers_count）を正とする。グラフのエッジ数を返すとプロフィールと食い違うため委譲
+        return delegate.countFollowers(userId);
+    }
+
+    @Override
+    public long countFollowing(UserId userId) {
+        // 件数は非正規化カウンター（users.following_count）を正とする
+        return delegate.countFollowing(userId);
+    }
+
+    @Override
+    public void adjustFollowCounts(UserId followerUserId, UserId followedUserId, long delta) {
+        delegate.adjustFollowCounts(followerUserId, followedUserId, delta);
+    }
+
+    @Override
+    public void adjustFollowCountsForFollower(UserId followerUserId, List<UserId> followedUserIds, long delta) {
+        delegate.adjustFollowCountsForFollower(followerUserId, followedUserIds, delta);
+    }
+
+    @Override
+    public boolean existsByFollowerAndFollowed(UserId followerUserId, UserId followedUserId) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return delegate.existsByFollowerAndFollowed(followerUserId, followedUserId);
+        }
+        return current.containsEdge(followerUserId.value(), followedUserId.value());
+    }
+
+    @Override
+    public List<UserId> findFollowerUserIds(UserId followedUserId, int offset, int limit) {
+        // 作成日時順のページネーションはグラフに順序情報がないためDBに委譲
+        return delegate.findFollowerUserIds(followedUserId, offset, limit);
+    }
+
+    @Override
+    public List<UserId> findFollowingUserIds(UserId followerUserId, int offset, int limit) {
+        // 作成日時順のページネーションはグラフに順序情報がないためDBに委譲
+        return delegate.findFollowingUserIds(followerUserId, offset, limit);
+    }
+
+    @Override
+    public List<UserId> findFollowedUserIdsIn(UserId followerUserId, List<UserId> targetUserIds) {
+        if (targetUserIds == null || targetUserIds.isEmpty()) {
+            return List.of();
+        }
+        FollowGraph current = graph;
+        if (current == null) {
+            return delegate.findFollowedUserIdsIn(followerUserId, targetUserIds);
+        }
+        List<UUID> candidates = targetUserIds.stream()
+            .map(UserId::value)
+            .collect(Collectors.toList());
+        return current.followingAmong(followerUserId.value(), candidates).stream()
+            .map(UserId::new)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UserId> findMutualFollowUserIds(UserId userId, int offset, int limit) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return delegate.findMutualFollowUserIds(userId, offset, limit);
+        }
+        return current.mutualFollows(userId.value(), offset, limit).stream()
+            .map(UserId::new)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countMutualFollows(UserId userId) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return delegate.countMutualFollows(userId);
+        }
+        return current.mutualFollowCount(userId.value());
+    }
+
+    @Override
+    public List<UserId> findFollowersFollowedBy(UserId followedUserId, UserId viewerUserId, int offset, int limit) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return delegate.findFollowersFollowedBy(followedUserId, viewerUserId, offset, limit);
+        }
+        return current.followersFollowedBy(followedUserId.value(), viewerUserId.value(), offset, limit).stream()
+            .map(UserId::new)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countFollowersFollowedBy(UserId followedUserId, UserId viewerUserId) {
+        FollowGraph current = graph;
+        if (current == null) {
+            return delegate.countFollowersFollowedBy(followedUserId, viewerUserId);
+        }
+        return current.followersFollowedByCount(followedUserId.value(), viewerUserId.value());
+    }
+}
@@ -0,0 +1,32 @@
+package com.chirper.infrastructure.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * AsyncAppenderMetricsBinder
+ * 非同期アペンダーのログイベント数を登録するMeterBinder
+ *
+ * 登録されるメトリクス（タグ appender=アペンダー名）:
+ * - chirper.logging.events{result=appended}: リングバッファに受け付けたイベント数
+ * - chirper.logging.events{result=dropped}: リングバッファが満杯で破棄したイベント数（増加していればログ量が書き込み能力を超えている）
+ *
+ * Logbackの初期化はアプリケーションコンテキストより前に行われるため、登録時点で起動済みのアペンダーを対象とする
+ */
+public class AsyncAppenderMetricsBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        AsyncAppenderMetricsListener.counts().forEach((appender, counts) -> {
+            FunctionCounter.builder("chirper.logging.events", counts, AsyncAppenderMetricsListener.Counts::appended)
+                .description("Log events accepted by the async appender")
+                .tags("appender", appender, "result", "appended")
+                .register(registry);
+            FunctionCounter.builder("chirper.logging.events", counts, AsyncAppenderMetricsListener.Counts::dropped)
+                .description("Log events dropped because the async appender's ring buffer was full")
+                .tags("appender", appender, "result", "dropped")
+                .register(registry);
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.chirper.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppenderMetricsListener
+ * 非同期アペンダー（LoggingEventAsyncDisruptorAppender）が受け付けた・破棄したログイベントを数えるリスナー
+ *
+ * リングバッファが満杯の場合、アペンダーはリクエストスレッドを待たせずにイベントを破棄して eventAppendFailed を通知する。
+ * リスナーはLogbackが生成するためSpringのBeanにはできず、件数はアペンダー名ごとに静的に保持して
+ * AsyncAppenderMetricsBinder からメトリクスとして公開する
+ */
+public class AsyncAppenderMetricsListener implements AppenderListener<ILoggingEvent> {
+
+    private static final ConcurrentMap<String, Counts> COUNTS = new ConcurrentHashMap<>();
+
+    @Override
+    public void appenderStarted(Appender<ILoggingEvent> appender) {
+        countsOf(appender);
+    }
+
+    @Override
+    public void eventAppended(Appender<ILoggingEvent> appender, ILoggingEvent event, long durationInNanos) {
+        countsOf(appender).appended.increment();
+    }
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        countsOf(appender).dropped.increment();
+    }
+
+    /**
+     * アペンダー名ごとの件数（起動済みのアペンダーのみ）
+     */
+    public static Map<String, Counts> counts() {
+        return Map.copyOf(COUNTS);
+    }
+
+    private static Counts countsOf(Appender<ILoggingEvent> appender) {
+        return COUNTS.computeIfAbsent(appender.getName(), name -> new Counts());
+    }
+
+    /**
+     * アペンダーが受け付けた・破棄したログイベントの件数
+     */
+    public static final class Counts {
+
+        private final LongAdder appended = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        public long appended() {
+            return appended.sum();
+        }
+
+        public long dropped() {
+            return dropped.sum();
+        }
+    }
+}
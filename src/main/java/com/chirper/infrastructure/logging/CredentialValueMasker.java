@@ -0,0 +1,118 @@
+package com.chirper.infrastructure.logging;
+
+import com.fasterxml.jackson.core.JsonStreamContext;
+import net.logstash.logback.mask.ValueMasker;
+
+import java.util.Set;
+
+/**
+ * CredentialValueMasker
+ * JSONログのメッセージに含まれるパスワード・トークンをマスキングするValueMasker
+ *
+ * 正規表現を使わずに1回の走査で置換する:
+ * - password=xxx / token: xxx → password=**** / token=****（区切り文字 " 空白 : = の後ろから , 空白 } ] の手前まで）
+ * - Bearer xxx → Bearer ****
+ *
+ * 対象はメッセージとスタックトレースのフィールドのみ（その他のフィールドはフィールド名でマスキングする）。
+ * 対象の語を含まないメッセージは何も割り当てずにそのまま出力する
+ */
+public class CredentialValueMasker implements ValueMasker {
+
+    static final String MASK = "****";
+
+    private static final Set<String> TARGET_FIELDS = Set.of("message", "stack_trace");
+
+    private static final String[] KEYWORDS = {"password", "token"};
+    private static final String BEARER = "Bearer";
+
+    @Override
+    public Object mask(JsonStreamContext context, Object value) {
+        String field = context.getCurrentName();
+        if (!(value instanceof String text) || field == null || !TARGET_FIELDS.contains(field)) {
+            return null;
+        }
+        return maskCredentials(text);
+    }
+
+    /**
+     * @param text マスキング対象の文字列
+     * @return マスキングした文字列。マスキングする箇所がない場合はnull
+     */
+    static String maskCredentials(String text) {
+        if (text.indexOf(KEYWORDS[0]) < 0 && text.indexOf(KEYWORDS[1]) < 0 && text.indexOf(BEARER) < 0) {
+            return null;
+        }
+        StringBuilder masked = null;
+        int copied = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int end = -1;
+            String replacement = null;
+            if (text.startsWith(BEARER, i)) {
+                int start = skip(text, i + BEARER.length(), true);
+                int tokenEnd = start;
+                while (tokenEnd < text.length() && isTokenChar(text.charAt(tokenEnd))) {
+                    tokenEnd++;
+                }
+                if (start > i + BEARER.length() && tokenEnd > start) {
+                    end = tokenEnd;
+                    replacement = BEARER + " " + MASK;
+                }
+            } else {
+                for (String keyword : KEYWORDS) {
+                    if (!text.startsWith(keyword, i)) {
+                        continue;
+                    }
+                    int start = skip(text, i + keyword.length(), false);
+                    int valueEnd = start;
+                    while (valueEnd < text.length() && !isValueTerminator(text.charAt(valueEnd))) {
+                        valueEnd++;
+                    }
+                    if (start > i + keyword.length() && valueEnd > start) {
+                        end = valueEnd;
+                        replacement = keyword + "=" + MASK;
+                    }
+                    break;
+                }
+            }
+            if (end < 0) {
+                i++;
+                continue;
+            }
+            if (masked == null) {
+                masked = new StringBuilder(text.length());
+            }
+            masked.append(text, copied, i).append(replacement);
+            copied = end;
+            i = end;
+        }
+        return masked == null ? null : masked.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * キーワードと値の間の区切り文字を読み飛ばす
+     *
+     * @param whitespaceOnly trueの場合は空白のみ（Bearer の後ろ）
+     */
+    private static int skip(String text, int from, boolean whitespaceOnly) {
+        int i = from;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            boolean separator = Character.isWhitespace(c) || (!whitespaceOnly && (c == '"' || c == ':' || c == '='));
+            if (!separator) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isValueTerminator(char c) {
+        return c == ',' || c == '}' || c == ']' || Character.isWhitespace(c);
+    }
+
+    private static boolean isTokenChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+            || c == '-' || c == '.' || c == '_' || c == '~' || c == '+' || c == '/' || c == '=';
+    }
+}
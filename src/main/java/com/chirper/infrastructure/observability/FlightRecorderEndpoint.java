@@ -0,0 +1,106 @@
+package com.chirper.infrastructure.observability;
+
+import com.chirper.infrastructure.observability.FlightRecorderService.RecordingInfo;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * FlightRecorderEndpoint
+ * JDK Flight Recorderの記録を操作するActuatorエンドポイント（/actuator/flightrecorder）
+ *
+ * - GET /actuator/flightrecorder: 記録の一覧（常時記録 continuous を含む）
+ * - POST /actuator/flightrecorder {"duration": "60s"}: 詳細な記録を開始（実行中の記録が上限に達している場合は429）
+ * - GET /actuator/flightrecorder/{id}: 記録を .jfr ファイルとして取得（実行中の記録はその時点までの内容）
+ * - DELETE /actuator/flightrecorder/{id}: 記録を停止して破棄（常時記録は破棄できない）
+ */
+@WebEndpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorderService flightRecorderService;
+
+    public FlightRecorderEndpoint(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @ReadOperation
+    public RecordingsReport recordings() {
+        return new RecordingsReport(flightRecorderService.recordings());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingInfo> start(@Nullable Duration duration) {
+        try {
+            return new WebEndpointResponse<>(flightRecorderService.startRecording(duration));
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String id) {
+        return flightRecorderService.dump(id)
+            .map(file -> new WebEndpointResponse<Resource>(new TemporaryFileResource(file)))
+            .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> discard(@Selector String id) {
+        return new WebEndpointResponse<>(flightRecorderService.discard(id)
+            ? WebEndpointResponse.STATUS_NO_CONTENT
+            : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    /**
+     * @param recordings 記録の一覧
+     */
+    public record RecordingsReport(List<RecordingInfo> recordings) {
+    }
+
+    /**
+     * 読み終えたら削除する一時ファイル
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private final Path file;
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            // ファイルとして直接転送されると削除の契機がなくなるため、常にストリームで読ませる
+            return false;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.chirper.infrastructure.observability;
+
+import com.chirper.infrastructure.persistence.metrics.JdbcStatementEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * FlightRecorderService
+ * JDK Flight Recorder（JFR）の記録を管理するサービス
+ *
+ * 記録の種類:
+ * - 常時記録（continuous）: 起動時に開始する低負荷の記録（JDK標準の default 設定 + 仮想スレッドのピン留め・遅いSQL）。
+ *   直近 maxAge・maxSize 分だけを保持し、レイテンシのSLO違反時などに任意の時点でダンプする
+ * - 任意の記録: 指定時間だけ行う詳細な記録（JDK標準の profile 設定をもとに、アロケーションのサンプリング・ロック競合・
+ *   ソケットI/O・SQL・仮想スレッドのピン留めを短いしきい値で記録）。同時に実行できる数と保持数に上限を設ける
+ */
+public class FlightRecorderService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    public static final String CONTINUOUS = "continuous";
+
+    private static final String RECORDING_NAME_PREFIX = "chirper-";
+
+    /**
+     * 秘密情報を含み得るため記録しないイベント
+     */
+    static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.InitialSecurityProperty");
+
+    private final Settings settings;
+    private final List<Recording> recordings = new ArrayList<>();
+    private Recording continuous;
+
+    public FlightRecorderService(Settings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("JDK Flight Recorder is not available; continuous recording disabled");
+            return;
+        }
+        FlightRecorder.register(JdbcStatementEvent.class);
+        if (settings.continuousEnabled()) {
+            continuous = new Recording(continuousSettings());
+            continuous.setName(RECORDING_NAME_PREFIX + CONTINUOUS);
+            continuous.setToDisk(true);
+            continuous.setMaxAge(settings.continuousMaxAge());
+            continuous.setMaxSize(settings.continuousMaxSizeBytes());
+            continuous.start();
+            log.info("Started continuous flight recording (maxAge={}, maxSize={} bytes)",
+                settings.continuousMaxAge(), settings.continuousMaxSizeBytes());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        recordings.forEach(Recording::close);
+        recordings.clear();
+        if (continuous != null) {
+            continuous.close();
+            continuous = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return continuous != null;
+    }
+
+    /**
+     * 詳細な記録を開始（指定時間の経過後に自動で停止する）
+     *
+     * @param duration 記録する時間（上限を超える場合は上限に切り詰める）
+     * @return 開始した記録
+     * @throws IllegalStateException 実行中の記録が上限に達している場合
+     */
+    public synchronized RecordingInfo startRecording(Duration duration) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("JDK Flight Recorder is not available");
+        }
+        long running = recordings.stream().filter(r -> r.getState() == RecordingState.RUNNING).count();
+        if (running >= settings.maxConcurrentRecordings()) {
+            throw new IllegalStateException("Too many recordings in progress: " + running);
+        }
+        // 保持数の上限を超える場合は、停止済みの記録を古いものから破棄する
+        while (recordings.size() >= settings.maxRetainedRecordings()) {
+            Optional<Recording> oldestStopped = recordings.stream()
+                .filter(r -> r.getState() != RecordingState.RUNNING)
+                .findFirst();
+            if (oldestStopped.isEmpty()) {
+                break;
+            }
+            oldestStopped.get().close();
+            recordings.remove(oldestStopped.get());
+        }
+
+        Duration effective = duration == null || duration.compareTo(settings.maxDuration()) > 0
+            ? settings.maxDuration()
+            : duration;
+        Recording recording = new Recording(profileSettings());
+        recording.setName(RECORDING_NAME_PREFIX + "profile-" + Instant.now().toEpochMilli());
+        recording.setToDisk(true);
+        recording.setDuration(effective);
+        recording.start();
+        recordings.add(recording);
+        log.info("Started flight recording {} for {}", recording.getId(), effective);
+        return RecordingInfo.of(String.valueOf(recording.getId()), recording);
+    }
+
+    /**
+     * 常時記録と任意の記録の一覧
+     */
+    public synchronized List<RecordingInfo> recordings() {
+        List<RecordingInfo> infos = new ArrayList<>();
+        if (continuous != null) {
+            infos.add(RecordingInfo.of(CONTINUOUS, continuous));
+        }
+        recordings.forEach(recording -> infos.add(RecordingInfo.of(String.valueOf(recording.getId()), recording)));
+        return infos;
+    }
+
+    /**
+     * 記録をファイルに書き出す（実行中の記録はその時点までの内容）
+     *
+     * @param id 記録のID（常時記録は continuous）
+     * @return 書き出した一時ファイル（呼び出し元で削除する）。記録が存在しない場合は空
+     */
+    public synchronized Optional<Path> dump(String id) {
+        Recording recording = find(id);
+        if (recording == null) {
+            return Optional.empty();
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME_PREFIX + id + "-", ".jfr");
+            recording.dump(file);
+            return Optional.of(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump flight recording " + id, e);
+        }
+    }
+
+    /**
+     * 任意の記録を停止して破棄
+     * @return 記録が存在した場合true（常時記録は停止できない）
+     */
+    public synchronized boolean discard(String id) {
+        Recording recording = CONTINUOUS.equals(id) ? null : find(id);
+        if (recording == null) {
+            return false;
+        }
+        recording.close();
+        recordings.remove(recording);
+        return true;
+    }
+
+    private Recording find(String id) {
+        if (CONTINUOUS.equals(id)) {
+            return continuous;
+        }
+        return recordings.stream()
+            .filter(recording -> String.valueOf(recording.getId()).equals(id))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * 常時記録の設定（JDK標準の default 設定に、仮想スレッドのピン留めと遅いSQLを追加する）
+     */
+    static Map<String, String> continuousSettings() {
+        Map<String, String> jfcSettings = baseSettings("default");
+        jfcSettings.put("jdk.VirtualThreadPinned#enabled", "true");
+        jfcSettings.put("jdk.VirtualThreadPinned#threshold", "20 ms");
+        jfcSettings.put(JdbcStatementEvent.NAME + "#enabled", "true");
+        jfcSettings.put(JdbcStatementEvent.NAME + "#threshold", "100 ms");
+        return jfcSettings;
+    }
+
+    /**
+     * 任意の記録の設定（JDK標準の profile 設定をもとに、調査対象のイベントのしきい値を下げる）
+     */
+    static Map<String, String> profileSettings() {
+        Map<String, String> jfcSettings = baseSettings("profile");
+        // アロケーションのサンプリング
+        jfcSettings.put("jdk.ObjectAllocationSample#enabled", "true");
+        jfcSettings.put("jdk.ObjectAllocationSample#throttle", "300/s");
+        // ロック競合・待機
+        for (String event : List.of("jdk.JavaMonitorEnter", "jdk.JavaMonitorWait", "jdk.ThreadPark")) {
+            jfcSettings.put(event + "#enabled", "true");
+            jfcSettings.put(event + "#threshold", "10 ms");
+        }
+        // ソケットI/O（PostgreSQLとの通信を含む）とSQLの実行
+        for (String event : List.of("jdk.SocketRead", "jdk.SocketWrite", JdbcStatementEvent.NAME)) {
+            jfcSettings.put(event + "#enabled", "true");
+            jfcSettings.put(event + "#threshold", "5 ms");
+        }
+        // 仮想スレッドのピン留め（synchronized内でのブロッキングなど）
+        jfcSettings.put("jdk.VirtualThreadPinned#enabled", "true");
+        jfcSettings.put("jdk.VirtualThreadPinned#threshold", "5 ms");
+        jfcSettings.put("jdk.VirtualThreadSubmitFailed#enabled", "true");
+        return jfcSettings;
+    }
+
+    /**
+     * JDK標準の設定を読み込み、起動時の環境変数・システムプロパティ・セキュリティプロパティのイベントを無効にする
+     * （JWT_SECRETやDBのパスワードなどの秘密情報が記録ファイルに含まれないようにする）
+     */
+    private static Map<String, String> baseSettings(String name) {
+        try {
+            Map<String, String> jfcSettings = new HashMap<>(Configuration.getConfiguration(name).getSettings());
+            for (String event : SENSITIVE_EVENTS) {
+                jfcSettings.put(event + "#enabled", "false");
+            }
+            return jfcSettings;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to load JFR configuration: " + name, e);
+        }
+    }
+
+    /**
+     * 記録の状態
+     *
+     * @param id 記録のID（常時記録は continuous）
+     * @param name 記録名
+     * @param state 状態（NEW・DELAYED・RUNNING・STOPPED・CLOSED）
+     * @param startTime 開始日時（未開始の場合null）
+     * @param duration 記録する時間（常時記録はnull）
+     * @param sizeBytes 記録済みのサイズ
+     */
+    public record RecordingInfo(String id, String name, String state, Instant startTime, Duration duration, long sizeBytes) {
+
+        static RecordingInfo of(String id, Recording recording) {
+            return new RecordingInfo(id, recording.getName(), recording.getState().name(),
+                recording.getStartTime(), recording.getDuration(), recording.getSize());
+        }
+    }
+
+    /**
+     * JFRの記録の設定
+     *
+     * @param continuousEnabled 常時記録を行うか
+     * @param continuousMaxAge 常時記録で保持する期間
+     * @param continuousMaxSizeBytes 常時記録で保持するサイズ
+     * @param maxDuration 任意の記録の上限時間
+     * @param maxConcurrentRecordings 同時に実行できる任意の記録の数
+     * @param maxRetainedRecordings 保持する任意の記録の数（停止済みを含む）
+     */
+    public record Settings(
+        boolean continuousEnabled,
+        Duration continuousMaxAge,
+        long continuousMaxSizeBytes,
+        Duration maxDuration,
+        int maxConcurrentRecordings,
+        int maxRetainedRecordings
+    ) {
+    }
+}
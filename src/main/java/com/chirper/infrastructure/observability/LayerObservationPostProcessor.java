@@ -0,0 +1,166 @@
+package com.chirper.infrastructure.observability;
+
+import com.chirper.application.usecase.GetTimelineUseCase;
+import com.chirper.domain.repository.IUserRepository;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LayerObservationPostProcessor
+ * ユースケース・リポジトリの呼び出しをMicrometer Observationで計測するBeanPostProcessor
+ *
+ * 対象:
+ * - ユースケース: application.usecaseパッケージのBeanのpublicなexecute系メソッド
+ *   （observation名 chirper.usecase、タグ usecase・method）
+ * - リポジトリ: domain.repositoryパッケージのI*Repositoryインターフェースの実装Beanの、インターフェースで宣言されたメソッド
+ *   （observation名 chirper.repository、タグ repository・method・implementation）
+ *
+ * タグはクラス名・メソッド名のみで、引数の値は含めない（カーディナリティはメソッド数で頭打ちになる）。
+ * ObservationRegistryはMeterRegistryの初期化を早めないよう、初回の呼び出し時に取得する
+ */
+public class LayerObservationPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public static final String USE_CASE_OBSERVATION = "chirper.usecase";
+    public static final String REPOSITORY_OBSERVATION = "chirper.repository";
+
+    private static final String USE_CASE_PACKAGE = GetTimelineUseCase.class.getPackageName();
+    private static final String REPOSITORY_PACKAGE = IUserRepository.class.getPackageName();
+
+    private LayerObservationPostProcessor(StaticMethodMatcherPointcut pointcut, MethodInterceptor interceptor) {
+        this.advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    /**
+     * ユースケースを計測するBeanPostProcessor
+     */
+    public static LayerObservationPostProcessor useCases(ObjectProvider<ObservationRegistry> observationRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getName().startsWith("execute");
+            }
+        };
+        pointcut.setClassFilter(type -> type.getPackageName().equals(USE_CASE_PACKAGE));
+
+        return new LayerObservationPostProcessor(pointcut, new ObservingInterceptor(observationRegistry, USE_CASE_OBSERVATION,
+            invocation -> {
+                String useCase = invocation.getMethod().getDeclaringClass().getSimpleName();
+                String method = invocation.getMethod().getName();
+                return new ObservationTags(useCase + "#" + method, KeyValues.of("usecase", useCase, "method", method));
+            }));
+    }
+
+    /**
+     * リポジトリを計測するBeanPostProcessor
+     */
+    public static LayerObservationPostProcessor repositories(ObjectProvider<ObservationRegistry> observationRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return repositoryInterfaceOf(method) != null;
+            }
+        };
+        pointcut.setClassFilter(type -> ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+            .anyMatch(LayerObservationPostProcessor::isRepositoryInterface));
+
+        return new LayerObservationPostProcessor(pointcut, new ObservingInterceptor(observationRegistry, REPOSITORY_OBSERVATION,
+            invocation -> {
+                Class<?> repository = repositoryInterfaceOf(invocation.getMethod());
+                String repositoryName = repository != null ? repository.getSimpleName() : "unknown";
+                String method = invocation.getMethod().getName();
+                String implementation = ClassUtils.getUserClass(invocation.getMethod().getDeclaringClass()).getSimpleName();
+                return new ObservationTags(repositoryName + "#" + method, KeyValues.of(
+                    "repository", repositoryName,
+                    "method", method,
+                    "implementation", implementation));
+            }));
+    }
+
+    private static boolean isRepositoryInterface(Class<?> type) {
+        return type.isInterface()
+            && type.getPackageName().equals(REPOSITORY_PACKAGE)
+            && type.getSimpleName().startsWith("I")
+            && type.getSimpleName().endsWith("Repository");
+    }
+
+    /**
+     * 実装メソッドを宣言しているリポジトリインターフェース
+     * @return 該当するインターフェースがない場合（実装クラス独自のメソッド）null
+     */
+    private static Class<?> repositoryInterfaceOf(Method method) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(method.getDeclaringClass())) {
+            if (isRepositoryInterface(type)
+                && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private record ObservationTags(String contextualName, KeyValues keyValues) {}
+
+    @FunctionalInterface
+    private interface TagsResolver {
+        ObservationTags resolve(MethodInvocation invocation);
+    }
+
+    private static final class ObservingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+        private final String name;
+        private final TagsResolver tagsResolver;
+        private final Map<Method, ObservationTags> tagsCache = new ConcurrentHashMap<>();
+        private volatile ObservationRegistry observationRegistry;
+
+        ObservingInterceptor(
+            ObjectProvider<ObservationRegistry> observationRegistryProvider,
+            String name,
+            TagsResolver tagsResolver
+        ) {
+            this.observationRegistryProvider = observationRegistryProvider;
+            this.name = name;
+            this.tagsResolver = tagsResolver;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            ObservationTags tags = tagsCache.computeIfAbsent(invocation.getMethod(), method -> tagsResolver.resolve(invocation));
+            Observation observation = Observation.createNotStarted(name, registry())
+                .contextualName(tags.contextualName())
+                .lowCardinalityKeyValues(tags.keyValues())
+                .start();
+            try (Observation.Scope ignored = observation.openScope()) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                observation.error(e);
+                throw e;
+            } finally {
+                observation.stop();
+            }
+        }
+
+        private ObservationRegistry registry() {
+            ObservationRegistry registry = observationRegistry;
+            if (registry == null) {
+                registry = observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP);
+                observationRegistry = registry;
+            }
+            return registry;
+        }
+    }
+}
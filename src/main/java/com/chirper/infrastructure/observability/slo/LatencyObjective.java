@@ -0,0 +1,39 @@
+package com.chirper.infrastructure.observability.slo;
+
+import java.time.Duration;
+
+/**
+ * LatencyObjective
+ * エンドポイント単位のレイテンシのSLO（例: GET /api/v1/timeline の99%を200ms以内に応答する）
+ *
+ * しきい値以内に応答したリクエストを good、しきい値を超えた・5xxを返したリクエストを bad として数える
+ *
+ * @param name SLOの名前（メトリクスのタグ slo）
+ * @param method HTTPメソッド
+ * @param uri http.server.requests の uri タグと同じURIパターン（例: /api/v1/tweets/{tweetId}）
+ * @param threshold レイテンシのしきい値
+ * @param target good の割合の目標（例: 0.99）
+ */
+public record LatencyObjective(String name, String method, String uri, Duration threshold, double target) {
+
+    public LatencyObjective {
+        if (name == null || name.isBlank() || method == null || uri == null || threshold == null) {
+            throw new IllegalArgumentException("Incomplete latency objective: " + name);
+        }
+        if (threshold.isNegative() || threshold.isZero() || !(target > 0 && target < 1)) {
+            throw new IllegalArgumentException(
+                "Invalid latency objective " + name + ": threshold=" + threshold + ", target=" + target);
+        }
+    }
+
+    /**
+     * 許容する bad の割合（エラーバジェット）
+     */
+    public double errorBudget() {
+        return 1 - target;
+    }
+
+    boolean matches(String requestMethod, String uriPattern) {
+        return uri.equals(uriPattern) && method.equalsIgnoreCase(requestMethod);
+    }
+}
@@ -0,0 +1,73 @@
+package com.chirper.infrastructure.observability.slo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SloAdmissionFilter
+ * いずれかのSLOがエラーバジェットを急速に消費している間、優先度の低いパスのリクエストを503で拒否するフィルター
+ *
+ * 検索・エクスポートなどの重いリクエストを止めて、タイムラインなどSLOを設定したリクエストにDBとスレッドを回す。
+ * 判断はSloTrackerの直近の計算結果を参照するだけで、リクエストごとの計算は行わない。
+ * Spring SecurityのフィルターチェーンでJWTの検証より前に実行し、拒否するリクエストの検証コストも省く
+ *
+ * 拒否したリクエスト数は chirper.slo.admission.rejected として公開する
+ */
+public class SloAdmissionFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_BODY =
+        "{\"code\":\"SERVICE_UNAVAILABLE\",\"message\":\"混雑しているため処理できません。しばらくしてから再度お試しください\"}";
+
+    private final SloTracker tracker;
+    private final List<String> pathPrefixes;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    /**
+     * @param tracker SLOの状態
+     * @param pathPrefixes 拒否の対象とするパスの前方一致（例: /api/v1/search）
+     * @param retryAfter 拒否したリクエストに返す Retry-After
+     * @param meterRegistry 拒否したリクエスト数の登録先
+     */
+    public SloAdmissionFilter(SloTracker tracker, List<String> pathPrefixes, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.tracker = tracker;
+        this.pathPrefixes = List.copyOf(pathPrefixes);
+        this.retryAfter = retryAfter;
+        this.rejected = Counter.builder("chirper.slo.admission.rejected")
+            .description("Requests rejected while an SLO was burning its error budget")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPrefixes.stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        if (!tracker.isBurning()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.increment();
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(REJECTED_BODY);
+    }
+}
@@ -0,0 +1,49 @@
+package com.chirper.infrastructure.observability.slo;
+
+import com.chirper.infrastructure.observability.slo.SloTracker.ObjectiveStatus;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SloEndpoint
+ * レイテンシのSLOの状態を公開するActuatorエンドポイント（/actuator/slo）
+ *
+ * - GET /actuator/slo: SLOごとの件数・バーンレート・エラーバジェットの残りと、流入制限の状態
+ *
+ * 対象パスと流入制限の状態は攻撃のタイミングの手がかりになるため、管理ユーザーのみ参照できる（SecurityConfig）
+ */
+@Endpoint(id = "slo")
+public class SloEndpoint {
+
+    private final SloTracker tracker;
+
+    public SloEndpoint(SloTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public SloReport slo() {
+        SloTracker.Settings settings = tracker.settings();
+        return new SloReport(settings.shortWindow(), settings.longWindow(), settings.burnRateThreshold(),
+            tracker.isBurning(), tracker.statuses());
+    }
+
+    /**
+     * @param shortWindow 短い期間
+     * @param longWindow 長い期間
+     * @param burnRateThreshold 予算を急速に消費していると判断するバーンレート
+     * @param burning いずれかのSLOが予算を急速に消費している場合true（流入制限が有効な場合は対象パスを拒否中）
+     * @param objectives SLOごとの状態
+     */
+    public record SloReport(
+        Duration shortWindow,
+        Duration longWindow,
+        double burnRateThreshold,
+        boolean burning,
+        List<ObjectiveStatus> objectives
+    ) {
+    }
+}
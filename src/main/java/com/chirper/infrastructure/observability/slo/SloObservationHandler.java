@@ -0,0 +1,44 @@
+package com.chirper.infrastructure.observability.slo;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * SloObservationHandler
+ * http.server.requests のObservation（Spring MVCのリクエスト計測）の完了時に、処理時間をSloTrackerへ記録するハンドラー
+ *
+ * http.server.requests のタイマーと同じ区間・同じURIパターン（uri タグ）で計測する
+ */
+public class SloObservationHandler implements ObservationHandler<ServerRequestObservationContext> {
+
+    private static final String START_NANOS = SloObservationHandler.class.getName() + ".startNanos";
+
+    private final SloTracker tracker;
+
+    public SloObservationHandler(SloTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void onStart(ServerRequestObservationContext context) {
+        context.put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(ServerRequestObservationContext context) {
+        Long startNanos = context.get(START_NANOS);
+        String pathPattern = context.getPathPattern();
+        if (startNanos == null || pathPattern == null) {
+            return;
+        }
+        boolean serverError = context.getError() != null
+            || (context.getResponse() != null && context.getResponse().getStatus() >= 500);
+        tracker.record(context.getCarrier().getMethod(), pathPattern, System.nanoTime() - startNanos, serverError);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext;
+    }
+}
@@ -0,0 +1,251 @@
+package com.chirper.infrastructure.observability.slo;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SloTracker
+ * レイテンシのSLOごとに good / bad のリクエスト数を数え、短い期間・長い期間のバーンレートを定期的に計算する
+ *
+ * バーンレート = 期間内の bad の割合 / エラーバジェット（1.0 でちょうど予算を使い切るペース）。
+ * 短い期間と長い期間の両方でしきい値（既定 14.4: 30日分の予算の2%を1時間で消費するペース）を超え、
+ * 長い期間のリクエスト数が下限以上の場合に「予算を急速に消費している」と判断し、SloAdmissionFilterの流入制限に使う。
+ * 長い期間の条件があるため、一時的な遅延では発動せず、回復後もしばらく継続する
+ *
+ * 件数は前回計算時からの増分で判定する（インスタンスごと・起動時からの値）。
+ * 登録されるメトリクス（タグ slo=SLOの名前）:
+ * - chirper.slo.requests{result=good|bad}: リクエスト数
+ * - chirper.slo.burn.rate{window=short|long}: バーンレート
+ */
+public class SloTracker implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(SloTracker.class);
+
+    private final List<ObjectiveState> states;
+    private final Settings settings;
+    private volatile boolean burning;
+
+    public SloTracker(List<LatencyObjective> objectives, Settings settings) {
+        this.states = objectives.stream().map(ObjectiveState::new).toList();
+        this.settings = settings;
+    }
+
+    /**
+     * 完了したリクエストを該当するSLOに記録
+     *
+     * @param method HTTPメソッド
+     * @param uriPattern リクエストにマッチしたURIパターン
+     * @param durationNanos 処理時間（ナノ秒）
+     * @param serverError 5xxを返した・例外で終了した場合true
+     */
+    public void record(String method, String uriPattern, long durationNanos, boolean serverError) {
+        for (ObjectiveState state : states) {
+            if (state.objective.matches(method, uriPattern)) {
+                boolean good = !serverError && durationNanos <= state.objective.threshold().toNanos();
+                (good ? state.good : state.bad).increment();
+            }
+        }
+    }
+
+    /**
+     * 定期実行のエントリーポイント
+     */
+    @Scheduled(fixedDelayString = "${chirper.slo.evaluation-interval-ms:10000}")
+    public void evaluate() {
+        evaluate(System.nanoTime());
+    }
+
+    synchronized void evaluate(long nowNanos) {
+        boolean anyBurning = false;
+        for (ObjectiveState state : states) {
+            ObjectiveStatus status = state.evaluate(nowNanos, settings);
+            if (status.burning() && !state.status.burning()) {
+                log.warn("SLO {} is burning its error budget (short={}, long={}, threshold={})",
+                    status.name(), status.shortBurnRate(), status.longBurnRate(), settings.burnRateThreshold());
+            }
+            state.status = status;
+            anyBurning |= status.burning();
+        }
+        burning = anyBurning;
+    }
+
+    /**
+     * いずれかのSLOが予算を急速に消費しているか（直近の計算結果）
+     */
+    public boolean isBurning() {
+        return burning;
+    }
+
+    /**
+     * SLOごとの直近の計算結果
+     */
+    public List<ObjectiveStatus> statuses() {
+        return states.stream().map(state -> state.status).toList();
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ObjectiveState state : states) {
+            String name = state.objective.name();
+            FunctionCounter.builder("chirper.slo.requests", state.good, LongAdder::sum)
+                .description("Requests within the latency objective")
+                .tags("slo", name, "result", "good")
+                .register(registry);
+            FunctionCounter.builder("chirper.slo.requests", state.bad, LongAdder::sum)
+                .description("Requests that missed the latency objective or failed")
+                .tags("slo", name, "result", "bad")
+                .register(registry);
+            Gauge.builder("chirper.slo.burn.rate", state, s -> s.status.shortBurnRate())
+                .description("Error budget burn rate over the short window")
+                .tags("slo", name, "window", "short")
+                .register(registry);
+            Gauge.builder("chirper.slo.burn.rate", state, s -> s.status.longBurnRate())
+                .description("Error budget burn rate over the long window")
+                .tags("slo", name, "window", "long")
+                .register(registry);
+        }
+    }
+
+    /**
+     * SLOごとの件数と、長い期間分の件数の履歴
+     */
+    private static final class ObjectiveState {
+
+        private final LatencyObjective objective;
+        private final LongAdder good = new LongAdder();
+        private final LongAdder bad = new LongAdder();
+        private final ArrayDeque<Sample> samples = new ArrayDeque<>();
+        private volatile ObjectiveStatus status;
+
+        private ObjectiveState(LatencyObjective objective) {
+            this.objective = objective;
+            this.status = ObjectiveStatus.of(objective, 0, 0, 0, 0, 0, false);
+        }
+
+        private ObjectiveStatus evaluate(long nowNanos, Settings settings) {
+            Sample current = new Sample(nowNanos, good.sum(), bad.sum());
+            samples.addLast(current);
+            // 長い期間の起点となる1件を残して、それより古い履歴を捨てる
+            long longWindowStart = nowNanos - settings.longWindow().toNanos();
+            while (samples.size() > 1) {
+                Iterator<Sample> iterator = samples.iterator();
+                iterator.next();
+                if (iterator.next().nanos() > longWindowStart) {
+                    break;
+                }
+                samples.removeFirst();
+            }
+
+            Sample shortBase = baseline(nowNanos - settings.shortWindow().toNanos());
+            Sample longBase = samples.peekFirst();
+            double shortBurnRate = burnRate(shortBase, current);
+            double longBurnRate = burnRate(longBase, current);
+            long longWindowRequests = current.total() - longBase.total();
+            boolean burning = longWindowRequests >= settings.minRequests()
+                && shortBurnRate >= settings.burnRateThreshold()
+                && longBurnRate >= settings.burnRateThreshold();
+            return ObjectiveStatus.of(objective, current.good(), current.bad(),
+                shortBurnRate, longBurnRate, longWindowRequests, burning);
+        }
+
+        /**
+         * 指定時刻以前で最も新しい履歴（なければ最も古い履歴）
+         */
+        private Sample baseline(long windowStart) {
+            Sample base = samples.peekFirst();
+            for (Sample sample : samples) {
+                if (sample.nanos() > windowStart) {
+                    break;
+                }
+                base = sample;
+            }
+            return base;
+        }
+
+        private double burnRate(Sample base, Sample current) {
+            long total = current.total() - base.total();
+            if (total <= 0) {
+                return 0;
+            }
+            double badRatio = (double) (current.bad() - base.bad()) / total;
+            return badRatio / objective.errorBudget();
+        }
+    }
+
+    private record Sample(long nanos, long good, long bad) {
+
+        long total() {
+            return good + bad;
+        }
+    }
+
+    /**
+     * SLOの状態
+     *
+     * @param name SLOの名前
+     * @param method HTTPメソッド
+     * @param uri URIパターン
+     * @param threshold レイテンシのしきい値
+     * @param target good の割合の目標
+     * @param goodRequests 起動時からの good の件数
+     * @param badRequests 起動時からの bad の件数
+     * @param shortBurnRate 短い期間のバーンレート
+     * @param longBurnRate 長い期間のバーンレート
+     * @param errorBudgetRemaining 長い期間のエラーバジェットの残り（1.0 - 長い期間のバーンレート。負の値は予算超過）
+     * @param burning 予算を急速に消費している場合true
+     */
+    public record ObjectiveStatus(
+        String name,
+        String method,
+        String uri,
+        Duration threshold,
+        double target,
+        long goodRequests,
+        long badRequests,
+        double shortBurnRate,
+        double longBurnRate,
+        double errorBudgetRemaining,
+        boolean burning
+    ) {
+
+        static ObjectiveStatus of(LatencyObjective objective, long good, long bad,
+                                  double shortBurnRate, double longBurnRate, long longWindowRequests, boolean burning) {
+            return new ObjectiveStatus(objective.name(), objective.method(), objective.uri(),
+                objective.threshold(), objective.target(), good, bad, shortBurnRate, longBurnRate,
+                longWindowRequests > 0 ? 1 - longBurnRate : 1, burning);
+        }
+    }
+
+    /**
+     * バーンレートの計算の設定
+     *
+     * @param shortWindow 短い期間（急激な悪化の検知）
+     * @param longWindow 長い期間（一時的な遅延の除外）
+     * @param burnRateThreshold 予算を急速に消費していると判断するバーンレート
+     * @param minRequests 判断に必要な長い期間のリクエスト数
+     */
+    public record Settings(Duration shortWindow, Duration longWindow, double burnRateThreshold, long minRequests) {
+
+        public Settings {
+            if (shortWindow.compareTo(longWindow) > 0 || burnRateThreshold <= 0) {
+                throw new IllegalArgumentException("Invalid SLO settings: short=" + shortWindow
+                    + ", long=" + longWindow + ", burnRateThreshold=" + burnRateThreshold);
+            }
+        }
+    }
+}
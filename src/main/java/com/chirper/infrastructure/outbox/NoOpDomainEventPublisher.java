@@ -0,0 +1,35 @@
+package com.chirper.infrastructure.outbox;
+
+import com.chirper.domain.event.DomainEvent;
+import com.chirper.domain.event.IDomainEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * NoOpDomainEventPublisher
+ * アウトボックスが無効（chirper.outbox.enabled=false）の場合のIDomainEventPublisherの実装
+ *
+ * 配信先のDomainEventHandlerがない間はイベントを記録しても使われないため、
+ * outbox_eventsへの記録・コミット通知・ディスパッチャーのポーリングを行わずにイベントを破棄する。
+ * 発行側の契約をOutboxEventPublisherと揃えるため、トランザクション外での呼び出しは同様に拒否する
+ */
+@Component
+@ConditionalOnProperty(prefix = "chirper.outbox", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpDomainEventPublisher implements IDomainEventPublisher {
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        // 記録しない
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<? extends DomainEvent> events) {
+        // 記録しない
+    }
+}
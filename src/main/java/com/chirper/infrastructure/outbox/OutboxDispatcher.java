@@ -0,0 +1,266 @@
+package com.chirper.infrastructure.outbox;
+
+import com.chirper.domain.event.DomainEvent;
+import com.chirper.domain.event.DomainEventHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * OutboxDispatcher
+ * outbox_eventsに記録されたドメインイベントをDomainEventHandlerへ配信するディスパッチャー
+ *
+ * 設計:
+ * - 集約ごとに未配信の先頭イベントだけを1文で取り出し、リース（locked_until）を設定する。
+ *   先頭が配信済みになるまで同じ集約の後続イベントは取り出さないため、集約内の配信順序が保たれる
+ * - 取り出しは FOR UPDATE SKIP LOCKED で行うため、複数インスタンスで動かしても同じイベントを同時に配信しない
+ * - ハンドラーは取り出しのトランザクションの外で呼び出し、同じ種類のイベントをまとめて渡す
+ * - 失敗したイベントは指数バックオフで再配信する（その間、同じ集約の後続イベントも待たせる）。
+ *   最大試行回数を超えたイベントは配信済みとしてエラーとともに残し、後続イベントの配信を再開する
+ * - 配信済みの記録前に停止した場合はリース切れ後に再配信されるため、配信は少なくとも1回（at-least-once）
+ *
+ * 定期ポーリングに加え、OutboxNotificationListenerがコミット通知を受けて即時に起動する。
+ * アウトボックス（chirper.outbox.enabled）が無効な場合はイベントが記録されないため、ポーリングも行わない
+ */
+@Component
+@ConditionalOnProperty(name = {"chirper.outbox.enabled", "chirper.outbox.dispatcher.enabled"}, havingValue = "true")
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    /**
+     * 集約ごとの先頭イベントを取り出してリースを設定
+     */
+    private static final String CLAIM_SQL = """
+        UPDATE outbox_events
+        SET locked_until = ?,
+            attempts = attempts + 1
+        WHERE id IN (
+            SELECT e.id FROM outbox_events e
+            WHERE e.processed_at IS NULL
+              AND e.available_at <= ?
+              AND (e.locked_until IS NULL OR e.locked_until < ?)
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox_events p
+                  WHERE p.processed_at IS NULL
+                    AND p.aggregate_type = e.aggregate_type
+                    AND p.aggregate_id = e.aggregate_id
+                    AND p.id < e.id
+              )
+            ORDER BY e.id
+            LIMIT ?
+            FOR UPDATE OF e SKIP LOCKED
+        )
+        RETURNING id, event_type, payload::text AS payload, attempts
+        """;
+
+    private static final String MARK_PROCESSED_SQL = """
+        UPDATE outbox_events
+        SET processed_at = ?, locked_until = NULL, last_error = NULL
+        WHERE id = ANY(?)
+        """;
+
+    private static final String MARK_FAILED_SQL = """
+        UPDATE outbox_events
+        SET available_at = ?, locked_until = NULL, last_error = ?
+        WHERE id = ?
+        """;
+
+    private static final String MARK_GIVEN_UP_SQL = """
+        UPDATE outbox_events
+        SET processed_at = ?, locked_until = NULL, last_error = ?
+        WHERE id = ?
+        """;
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+        rs.getLong("id"),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getInt("attempts")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<DomainEventHandler<?>>> handlersByEventType;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final int maxAttempts;
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    public OutboxDispatcher(
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        ObjectProvider<DomainEventHandler<?>> handlers,
+        @Value("${chirper.outbox.dispatcher.batch-size:100}") int batchSize,
+        @Value("${chirper.outbox.dispatcher.lease:30s}") Duration lease,
+        @Value("${chirper.outbox.dispatcher.retry-backoff:1s}") Duration retryBackoff,
+        @Value("${chirper.outbox.dispatcher.max-retry-backoff:5m}") Duration maxRetryBackoff,
+        @Value("${chirper.outbox.dispatcher.max-attempts:10}") int maxAttempts
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.handlersByEventType = handlers.orderedStream()
+            .collect(Collectors.groupingBy(handler -> eventTypeOf(handler.eventType())));
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * outbox_events.event_typeに記録するイベント種別
+     * @param eventClass イベントのクラス
+     * @return イベント種別
+     */
+    static String eventTypeOf(Class<?> eventClass) {
+        return eventClass.getSimpleName();
+    }
+
+    /**
+     * 定期ポーリングのエントリーポイント（通知の取りこぼしもここで回収する）
+     */
+    @Scheduled(fixedDelayString = "${chirper.outbox.dispatcher.poll-interval-ms:1000}")
+    public void poll() {
+        dispatchPending();
+    }
+
+    /**
+     * 配信可能なイベントがなくなるまで配信
+     * 実行中に呼び出された場合は、実行中の処理が終わった後にもう一巡させる
+     */
+    public void dispatchPending() {
+        dispatchRequested.set(true);
+        if (!dispatchLock.tryLock()) {
+            return;
+        }
+        try {
+            while (dispatchRequested.getAndSet(false)) {
+                while (dispatchBatch() > 0) {
+                    // 先頭イベントが配信済みになった集約は、次の取り出しで後続イベントが対象になる
+                }
+            }
+        } catch (DataAccessException e) {
+            // リースが切れたイベントは次回のポーリングで再配信されるため、ここでは記録のみ
+            log.warn("Outbox dispatch aborted", e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * イベントを1バッチ分取り出して配信
+     * @return 取り出したイベント数（配信に失敗したものを含む）
+     */
+    public int dispatchBatch() {
+        Instant now = Instant.now();
+        List<OutboxEvent> claimed = new ArrayList<>(jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER,
+            utc(now.plus(lease)), utc(now), utc(now), batchSize));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        claimed.sort(Comparator.comparingLong(OutboxEvent::id));
+
+        // 同じ種類のイベントをまとめてハンドラーへ渡す（取り出したイベントは集約ごとに1件のため順序の制約はない）
+        Map<String, List<OutboxEvent>> byEventType = claimed.stream()
+            .collect(Collectors.groupingBy(OutboxEvent::eventType, LinkedHashMap::new, Collectors.toList()));
+        Map<Long, RuntimeException> failures = new HashMap<>();
+        byEventType.forEach((eventType, events) -> {
+            for (DomainEventHandler<?> handler : handlersByEventType.getOrDefault(eventType, List.of())) {
+                try {
+                    invoke(handler, events);
+                } catch (RuntimeException e) {
+                    log.warn("Outbox handler {} failed for {} {} event(s)",
+                        handler.getClass().getName(), events.size(), eventType, e);
+                    events.forEach(event -> failures.putIfAbsent(event.id(), e));
+                }
+            }
+        });
+
+        Instant completedAt = Instant.now();
+        List<Long> processedIds = claimed.stream()
+            .map(OutboxEvent::id)
+            .filter(id -> !failures.containsKey(id))
+            .collect(Collectors.toList());
+        if (!processedIds.isEmpty()) {
+            jdbcTemplate.update(connection -> {
+                var statement = connection.prepareStatement(MARK_PROCESSED_SQL);
+                statement.setObject(1, utc(completedAt));
+                statement.setArray(2, connection.createArrayOf("bigint", processedIds.toArray()));
+                return statement;
+            });
+        }
+        for (OutboxEvent event : claimed) {
+            RuntimeException failure = failures.get(event.id());
+            if (failure != null) {
+                markFailed(event, failure, completedAt);
+            }
+        }
+        return claimed.size();
+    }
+
+    private <E extends DomainEvent> void invoke(DomainEventHandler<E> handler, List<OutboxEvent> events) {
+        List<E> payloads = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                payloads.add(objectMapper.readValue(event.payload(), handler.eventType()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot deserialize outbox event " + event.id(), e);
+            }
+        }
+        handler.handle(payloads);
+    }
+
+    private void markFailed(OutboxEvent event, RuntimeException failure, Instant failedAt) {
+        String error = failure.getClass().getName() + ": " + failure.getMessage();
+        if (event.attempts() >= maxAttempts) {
+            // 後続イベントを止め続けないよう、配信を諦めてエラーとともに残す
+            log.error("Outbox event {} ({}) gave up after {} attempts: {}",
+                event.id(), event.eventType(), event.attempts(), error);
+            jdbcTemplate.update(MARK_GIVEN_UP_SQL, utc(failedAt), error, event.id());
+            return;
+        }
+        jdbcTemplate.update(MARK_FAILED_SQL, utc(failedAt.plus(backoffFor(event.attempts()))), error, event.id());
+    }
+
+    /**
+     * 試行回数に応じた再配信までの待ち時間（retryBackoffから倍々に延ばし、maxRetryBackoffで頭打ち）
+     */
+    private Duration backoffFor(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private record OutboxEvent(long id, String eventType, String payload, int attempts) {}
+}
@@ -0,0 +1,104 @@
+package com.chirper.infrastructure.outbox;
+
+import com.chirper.domain.event.DomainEvent;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * OutboxEventPublisher
+ * ドメインイベントをoutbox_eventsテーブルへ記録するIDomainEventPublisherの実装
+ *
+ * 呼び出し元のトランザクションに参加して記録するため、ドメインの変更とイベントは同時にコミット・ロールバックされる。
+ * 配信はOutboxDispatcherが行う
+ *
+ * idの採番順はコミット順と一致しないため、記録の前に集約ごとのアドバイザリロック（トランザクション終了まで保持）を取得し、
+ * 同じ集約のイベントを記録するトランザクションを直列化する。これにより同じ集約内ではidの順＝コミット順となり、
+ * 後から採番された後続イベントが先にコミットされて先頭イベントより先に配信されることはない
+ *
+ * chirper.outbox.enabled=true の場合のみ有効（無効時はNoOpDomainEventPublisherがイベントを破棄する）
+ */
+@Component
+@ConditionalOnProperty(prefix = "chirper.outbox", name = "enabled", havingValue = "true")
+public class OutboxEventPublisher implements IDomainEventPublisher {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, available_at)
+        VALUES (?, ?, ?, ?::jsonb, ?, ?)
+        """;
+
+    /**
+     * 集約ごとのアドバイザリロックをキーの昇順に取得（複数の集約をロックするトランザクション同士のデッドロックを避ける）
+     */
+    private static final String LOCK_AGGREGATES_SQL = """
+        SELECT pg_advisory_xact_lock(lock_key)
+        FROM (
+            SELECT DISTINCT hashtextextended(aggregate_key, 0) AS lock_key
+            FROM unnest(?::text[]) AS aggregate_key
+            ORDER BY lock_key
+        ) keys
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventPublisher(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        lockAggregates(events);
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        // 1文ずつ送らずバッチで記録する（idの採番順＝リストの順）
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+            statement.setString(1, event.aggregateType());
+            statement.setObject(2, event.aggregateId());
+            statement.setString(3, OutboxDispatcher.eventTypeOf(event.getClass()));
+            statement.setString(4, toJson(event));
+            statement.setObject(5, now);
+            statement.setObject(6, now);
+        });
+    }
+
+    private void lockAggregates(List<? extends DomainEvent> events) {
+        String[] aggregateKeys = events.stream()
+            .map(event -> event.aggregateType() + ":" + event.aggregateId())
+            .distinct()
+            .toArray(String[]::new);
+        jdbcTemplate.query(LOCK_AGGREGATES_SQL,
+            statement -> statement.setArray(1, statement.getConnection().createArrayOf("text", aggregateKeys)),
+            resultSet -> {
+                // ロックの取得のみ
+            });
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize domain event: " + event.getClass().getName(), e);
+        }
+    }
+}
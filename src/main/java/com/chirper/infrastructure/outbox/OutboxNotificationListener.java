@@ -0,0 +1,110 @@
+package com.chirper.infrastructure.outbox;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * OutboxNotificationListener
+ * outbox_eventsへの記録のコミット通知（LISTEN/NOTIFY）を受けてOutboxDispatcherを即時に起動するリスナー
+ *
+ * 通知を待ち続けるため、コネクションプールとは別の専用コネクションを使用する。
+ * 切断時は再接続し、その間に記録されたイベントは再接続直後の配信と定期ポーリングで回収する
+ */
+@Component
+@ConditionalOnProperty(
+    name = {"chirper.outbox.enabled", "chirper.outbox.dispatcher.enabled", "chirper.outbox.dispatcher.listen-enabled"},
+    havingValue = "true")
+public class OutboxNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+    static final String CHANNEL = "outbox_events";
+
+    /**
+     * 通知待ちの最大時間（停止要求の確認間隔）
+     */
+    private static final int NOTIFICATION_TIMEOUT_MS = 10_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OutboxDispatcher dispatcher;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public OutboxNotificationListener(
+        DataSourceProperties dataSourceProperties,
+        OutboxDispatcher dispatcher,
+        @Value("${chirper.outbox.dispatcher.reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.dispatcher = dispatcher;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofVirtual().name("outbox-listener").start(this::listenLoop);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // 接続していなかった間に記録されたイベントを配信
+                dispatcher.dispatchPending();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_MS);
+                    if (notifications != null && notifications.length > 0) {
+                        dispatcher.dispatchPending();
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Outbox notification listener disconnected; reconnecting in {}", reconnectDelay, e);
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -14,7 +14,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "follows")
-public class FollowJpaEntity {
+public class FollowJpaEntity extends InsertableJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
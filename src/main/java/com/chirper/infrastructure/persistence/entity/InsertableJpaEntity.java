@@ -0,0 +1,44 @@
+package com.chirper.infrastructure.persistence.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * InsertableJpaEntity
+ * アプリケーション側でUUIDを採番するJPAエンティティの基底クラス
+ *
+ * IDが事前に設定されているとSpring Dataは既存行とみなしてmerge()を呼び、INSERT前にSELECTが発行される。
+ * Persistableで新規かどうかを明示することで、新規作成時はpersist()によりSELECTなしでINSERTし、
+ * hibernate.jdbc.batch_sizeによるバッチINSERTの対象にする。
+ *
+ * 新規フラグはインスタンス生成時にtrue、DBからのロード後・永続化後にfalseとなる
+ */
+@MappedSuperclass
+public abstract class InsertableJpaEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * 既存行として扱う（保存時にmerge()される）
+     */
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @PostLoad
+    @PostPersist
+    void onLoadOrPersist() {
+        markNotNew();
+    }
+}
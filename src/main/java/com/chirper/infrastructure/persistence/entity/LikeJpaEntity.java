@@ -15,7 +15,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "likes")
-public class LikeJpaEntity {
+public class LikeJpaEntity extends InsertableJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
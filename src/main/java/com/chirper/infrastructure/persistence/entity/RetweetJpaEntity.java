@@ -15,7 +15,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "retweets")
-public class RetweetJpaEntity {
+public class RetweetJpaEntity extends InsertableJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -15,7 +15,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "tweets")
-public class TweetJpaEntity {
+public class TweetJpaEntity extends InsertableJpaEntity {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -53,11 +53,13 @@ public class TweetJpaEntity {
 
     /**
      * Domain EntityからJPA Entityへ変換
+     * 新規行（persist対象）か既存行（merge対象）かはリポジトリが保存・更新のどちらかに応じて指定する
      * @param tweet Domain Entity
+     * @param isNew 新規作成したツイートの場合true、リポジトリから取得・保存済みのツイートの場合false
      * @return JPA Entity
      */
-    public static TweetJpaEntity fromDomainEntity(Tweet tweet) {
-        return new TweetJpaEntity(
+    public static TweetJpaEntity fromDomainEntity(Tweet tweet, boolean isNew) {
+        TweetJpaEntity entity = new TweetJpaEntity(
             tweet.getId().value(),
             tweet.getUserId().value(),
             tweet.getContent().value(),
@@ -65,6 +67,10 @@ public class TweetJpaEntity {
             tweet.getCreatedAt(),
             tweet.getUpdatedAt()
         );
+        if (!isNew) {
+            entity.markNotNew();
+        }
+        return entity;
     }
 
     /**
@@ -0,0 +1,130 @@
+package com.chirper.infrastructure.persistence.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * FollowCountReconciliationJob
+ * usersテーブルの非正規化カウンター（followers_count / following_count）をfollowsテーブルの実件数と突き合わせて補正するジョブ
+ *
+ * 設計:
+ * - ユーザーを主キー順のキーセットでバッチに分割し、バッチごとに短いトランザクションで補正
+ * - バッチ内のユーザー行を先にロックしてから件数を数えることで、実行中のフォロー/フォロー解除による増減を上書きしない
+ *   （READ COMMITTEDでは文ごとにスナップショットを取り直すため、ロック取得後の集計には確定済みの変更がすべて含まれる）
+ * - ずれがある行のみ更新する
+ */
+@Component
+@ConditionalOnProperty(prefix = "chirper.follow-counts.reconciliation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FollowCountReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowCountReconciliationJob.class);
+
+    /**
+     * キーセットの開始位置（UUIDの最小値）
+     */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private static final String LOCK_BATCH_SQL = """
+        SELECT id FROM users
+        WHERE id > ?
+        ORDER BY id
+        LIMIT ?
+        FOR NO KEY UPDATE
+        """;
+
+    private static final String RECONCILE_BATCH_SQL = """
+        UPDATE users u
+        SET followers_count = c.followers_count,
+            following_count = c.following_count
+        FROM (
+            SELECT b.id,
+                   (SELECT COUNT(*) FROM follows f WHERE f.followed_user_id = b.id) AS followers_count,
+                   (SELECT COUNT(*) FROM follows f WHERE f.follower_user_id = b.id) AS following_count
+            FROM unnest(?::uuid[]) AS b(id)
+        ) c
+        WHERE u.id = c.id
+          AND (u.followers_count <> c.followers_count OR u.following_count <> c.following_count)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public FollowCountReconciliationJob(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${chirper.follow-counts.reconciliation.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 定期実行のエントリーポイント
+     */
+    @Scheduled(cron = "${chirper.follow-counts.reconciliation.cron:0 30 3 * * *}")
+    public void run() {
+        try {
+            reconcileAll();
+        } catch (DataAccessException e) {
+            // 次回実行で再度補正されるため、ここでは記録のみ
+            log.warn("Follow count reconciliation aborted", e);
+        }
+    }
+
+    /**
+     * 全ユーザーのカウンターを補正
+     * @return 補正したユーザー数
+     */
+    public long reconcileAll() {
+        long startNanos = System.nanoTime();
+        UUID lastId = MIN_ID;
+        long scanned = 0;
+        long corrected = 0;
+        while (true) {
+            BatchResult result = reconcileBatch(lastId);
+            if (result == null) {
+                break;
+            }
+            scanned += result.scanned();
+            corrected += result.corrected();
+            lastId = result.lastId();
+        }
+        log.info("Follow count reconciliation finished: scanned={}, corrected={}, elapsedMs={}",
+            scanned, corrected, (System.nanoTime() - startNanos) / 1_000_000);
+        return corrected;
+    }
+
+    /**
+     * lastIdより後ろのユーザー1バッチ分を補正
+     * @param lastId 前バッチの最後のユーザーID（最初のバッチはMIN_ID）
+     * @return バッチ結果（対象ユーザーがいない場合null）
+     */
+    private BatchResult reconcileBatch(UUID lastId) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> ids = jdbcTemplate.queryForList(LOCK_BATCH_SQL, UUID.class, lastId, batchSize);
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int corrected = jdbcTemplate.update(connection -> {
+                var statement = connection.prepareStatement(RECONCILE_BATCH_SQL);
+                statement.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+                return statement;
+            });
+            return new BatchResult(ids.get(ids.size() - 1), ids.size(), corrected);
+        });
+    }
+
+    private record BatchResult(UUID lastId, int scanned, int corrected) {}
+}
@@ -0,0 +1,82 @@
+package com.chirper.infrastructure.persistence.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * OutboxCleanupJob
+ * 配信済みのoutbox_eventsを保持期間経過後に削除するジョブ
+ *
+ * - 1文あたりの削除件数を制限し、長時間のロックと大きなWALの発生を避ける
+ * - 配信を諦めたイベント（last_errorあり）は調査用に残す
+ */
+@Component
+@ConditionalOnProperty(prefix = "chirper.outbox.cleanup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxCleanupJob.class);
+
+    private static final String DELETE_BATCH_SQL = """
+        DELETE FROM outbox_events
+        WHERE id IN (
+            SELECT id FROM outbox_events
+            WHERE processed_at < ?
+              AND last_error IS NULL
+            LIMIT ?
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public OutboxCleanupJob(
+        JdbcTemplate jdbcTemplate,
+        @Value("${chirper.outbox.cleanup.retention:7d}") Duration retention,
+        @Value("${chirper.outbox.cleanup.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 定期実行のエントリーポイント
+     */
+    @Scheduled(cron = "${chirper.outbox.cleanup.cron:0 15 4 * * *}")
+    public void run() {
+        try {
+            purgeProcessed();
+        } catch (DataAccessException e) {
+            // 次回実行で残りを削除するため、ここでは記録のみ
+            log.warn("Outbox cleanup aborted", e);
+        }
+    }
+
+    /**
+     * 保持期間を過ぎた配信済みイベントを削除
+     * @return 削除した件数
+     */
+    public long purgeProcessed() {
+        LocalDateTime threshold = LocalDateTime.ofInstant(Instant.now().minus(retention), ZoneOffset.UTC);
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(DELETE_BATCH_SQL, threshold, batchSize);
+            deleted += batch;
+        } while (batch == batchSize);
+        log.info("Outbox cleanup finished: deleted={}", deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,81 @@
+package com.chirper.infrastructure.persistence.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TweetPartitionMaintenanceJob
+ * tweetsテーブルの月次パーティションを先行して作成するジョブ
+ *
+ * 設計:
+ * - 当月から months-ahead か月先までのパーティションが存在することを保証する（作成済みの月は何もしない）
+ * - パーティションの作成はマイグレーションで定義したcreate_tweets_partition関数に委譲し、命名規則と範囲をDB側の1か所で管理する
+ * - 起動時と定期実行の両方で実行し、長期停止後の起動でも当月のパーティションを用意する
+ *
+ * 注: 該当月の行が既にデフォルトパーティション（tweets_default）にある場合、create_tweets_partitionは
+ *     デフォルトパーティションを一時的に切り離して作成した月のパーティションへ行を移す（V13）。
+ *     移動中はtweetsテーブル全体がロックされるため、先行作成によりデフォルトパーティションへの書き込み自体を避ける
+ */
+@Component
+@ConditionalOnProperty(prefix = "chirper.tweets.partitioning.maintenance", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TweetPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TweetPartitionMaintenanceJob.class);
+
+    private static final String CREATE_PARTITION_SQL = "SELECT create_tweets_partition(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public TweetPartitionMaintenanceJob(
+        JdbcTemplate jdbcTemplate,
+        @Value("${chirper.tweets.partitioning.maintenance.months-ahead:3}") int monthsAhead
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * 起動時・定期実行のエントリーポイント
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${chirper.tweets.partitioning.maintenance.cron:0 0 4 * * *}")
+    public void run() {
+        try {
+            ensurePartitions(LocalDate.now(ZoneOffset.UTC));
+        } catch (DataAccessException e) {
+            // 先行作成のため、次回実行までに対象月が始まらない限り影響はない
+            log.error("Tweet partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * 基準日の月から months-ahead か月先までのパーティションを作成
+     * @param today 基準日（UTC）
+     * @return 対象月のパーティション名（作成済みのものを含む）
+     */
+    public List<String> ensurePartitions(LocalDate today) {
+        LocalDate firstMonth = today.withDayOfMonth(1);
+        List<String> partitions = new ArrayList<>(monthsAhead + 1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitions.add(jdbcTemplate.queryForObject(
+                CREATE_PARTITION_SQL, String.class, Date.valueOf(firstMonth.plusMonths(i))));
+        }
+        log.info("Tweet partitions ensured: {}", partitions);
+        return partitions;
+    }
+}
@@ -0,0 +1,79 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import java.sql.Array;
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * CapturedStatement
+ * 記録対象の計測範囲（QueryScope#openCapturing）で実行されたSQL文とバインドパラメーター
+ *
+ * @param sql SQL文（プレースホルダーを含む）
+ * @param binds バインドパラメーター（1始まりのインデックス順。未設定はnull）
+ * @param elapsed 実行時間
+ */
+public record CapturedStatement(String sql, List<Object> binds, Duration elapsed) {
+
+    public CapturedStatement {
+        binds = Collections.unmodifiableList(binds);
+    }
+
+    /**
+     * バインドパラメーターの型の並び（値を含まないため、ログ・エンドポイントに出力してよい）
+     */
+    public List<String> bindShape() {
+        return binds.stream()
+            .map(bind -> switch (bind) {
+                case null -> "null";
+                case NullBind ignored -> "null";
+                case OpaqueBind opaque -> opaque.type();
+                case Array ignored -> "Array";
+                default -> bind.getClass().getSimpleName();
+            })
+            .toList();
+    }
+
+    /**
+     * すべてのバインドパラメーターを同じ値で再設定できるか（ストリームなどを含まないか）
+     */
+    public boolean replayable() {
+        return binds.stream().noneMatch(OpaqueBind.class::isInstance);
+    }
+
+    /**
+     * 記録時のバインドパラメーターの表現に変換
+     * @param value setXxxに渡された値
+     */
+    static Object bindOf(Object value) {
+        return switch (value) {
+            case null -> null;
+            case Number n -> n;
+            case CharSequence s -> s.toString();
+            case Boolean b -> b;
+            case Character c -> c;
+            case Date d -> d;
+            case Temporal t -> t;
+            case UUID u -> u;
+            case Array a -> a;
+            case byte[] bytes -> bytes;
+            case Enum<?> e -> e;
+            default -> new OpaqueBind(value.getClass().getSimpleName());
+        };
+    }
+
+    /**
+     * setNullで設定されたパラメーター
+     * @param sqlType java.sql.Typesの値
+     */
+    public record NullBind(int sqlType) {}
+
+    /**
+     * 再設定できないパラメーター（ストリーム・LOBなど）
+     * @param type 値の型名
+     */
+    public record OpaqueBind(String type) {}
+}
@@ -0,0 +1,31 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JdbcStatementEvent
+ * SQL文の実行を記録するJDK Flight Recorderのイベント（chirper.JdbcStatement）
+ *
+ * QueryCountingDataSourceが包んだStatement（計測範囲内・トレース中）の実行時に発行する。
+ * 記録の有無・しきい値はJFRの設定で変更でき、既定では20ms以上かかったものだけを記録する
+ */
+@Name(JdbcStatementEvent.NAME)
+@Label("JDBC Statement")
+@Category({"Chirper", "Database"})
+@Description("Execution of a SQL statement through the application DataSource")
+@Threshold("20 ms")
+public class JdbcStatementEvent extends Event {
+
+    public static final String NAME = "chirper.JdbcStatement";
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Operation")
+    String operation;
+}
@@ -0,0 +1,280 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * QueryCountingDataSource
+ * 実行したSQLを現在のQueryScopeに計上し、トレース中はコネクション取得・SQL実行をObservation（スパン）として記録するDataSource
+ *
+ * - Connection・Statement・ResultSetをJDKの動的プロキシで包み、execute系メソッドの実行時間とResultSet#nextで読み進めた行数を計上する
+ * - 計測範囲の外かつトレース中でない場合に作成されたStatementは包まずにそのまま返す（バックグラウンドジョブ・起動処理にはオーバーヘッドをかけない）
+ * - SQL文を記録する計測範囲（QueryScope#openCapturing）ではsetXxxで設定されたバインドパラメーターも記録する
+ * - 包んだStatementの実行はJFRのイベント（JdbcStatementEvent）としても発行する
+ * - Observationは親となるObservation（HTTPリクエストなど）がある場合のみ作成し、単独のスパンは作らない
+ * - unwrap・isWrapperForは元のオブジェクトに委譲するため、PGConnectionなどドライバー固有APIの利用には影響しない
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public static final String CONNECTION_OBSERVATION = "chirper.jdbc.connection";
+    public static final String QUERY_OBSERVATION = "chirper.jdbc.query";
+
+    private final Supplier<ObservationRegistry> observationRegistry;
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        this(targetDataSource, () -> ObservationRegistry.NOOP);
+    }
+
+    /**
+     * @param targetDataSource 包むDataSource
+     * @param observationRegistry ObservationRegistryの取得（初回のコネクション取得時に解決する）
+     */
+    public QueryCountingDataSource(DataSource targetDataSource, Supplier<ObservationRegistry> observationRegistry) {
+        super(targetDataSource);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(acquire(() -> obtainTargetDataSource().getConnection())));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class,
+            new ConnectionHandler(acquire(() -> obtainTargetDataSource().getConnection(username, password))));
+    }
+
+    /**
+     * コネクション取得（プールの待ち時間を含む）をObservationで記録
+     */
+    private Connection acquire(ConnectionSupplier supplier) throws SQLException {
+        ObservationRegistry registry = tracingRegistry();
+        if (registry == null) {
+            return supplier.get();
+        }
+        Observation observation = Observation.createNotStarted(CONNECTION_OBSERVATION, registry)
+            .contextualName("jdbc connection")
+            .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 親のObservationがある場合のみObservationRegistryを返す
+     */
+    private ObservationRegistry tracingRegistry() {
+        ObservationRegistry registry = observationRegistry.get();
+        return registry != null && !registry.isNoop() && registry.getCurrentObservation() != null ? registry : null;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> getClass().getSimpleName() + "[" + target + "]";
+                default -> intercept(method, args);
+            };
+        }
+
+        abstract Object intercept(Method method, Object[] args) throws Throwable;
+
+        final Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection connection) {
+            super(connection);
+        }
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (!(result instanceof Statement)) {
+                return result;
+            }
+            QueryScope scope = QueryScope.current();
+            ObservationRegistry registry = tracingRegistry();
+            if (scope == null && registry == null) {
+                return result;
+            }
+            // prepareStatement・prepareCallの第1引数がSQL（createStatementの場合は実行時に渡される）
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            return switch (result) {
+                case CallableStatement statement ->
+                    proxy(CallableStatement.class, new StatementHandler(statement, sql, scope, registry));
+                case PreparedStatement statement ->
+                    proxy(PreparedStatement.class, new StatementHandler(statement, sql, scope, registry));
+                default -> proxy(Statement.class, new StatementHandler((Statement) result, sql, scope, registry));
+            };
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final String preparedSql;
+        private final QueryScope scope;
+        private final ObservationRegistry registry;
+        // インデックス → 値（SQL文を記録する計測範囲の場合のみ）
+        private final TreeMap<Integer, Object> binds;
+
+        StatementHandler(Statement statement, String preparedSql, QueryScope scope, ObservationRegistry registry) {
+            super(statement);
+            this.preparedSql = preparedSql;
+            this.scope = scope;
+            this.registry = registry;
+            this.binds = scope != null && scope.capturesStatements() ? new TreeMap<>() : null;
+        }
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (binds != null) {
+                captureBind(name, args);
+            }
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.equals("getResultSet")) {
+                return wrapResultSet(delegate(method, args));
+            }
+            return delegate(method, args);
+        }
+
+        /**
+         * setXxx(インデックス, 値, ...) で設定されたバインドパラメーターを記録
+         */
+        private void captureBind(String name, Object[] args) {
+            if (name.equals("clearParameters")) {
+                binds.clear();
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds.put(index, name.equals("setNull")
+                    ? new CapturedStatement.NullBind((Integer) args[1])
+                    : CapturedStatement.bindOf(args[1]));
+            }
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String sql = preparedSql != null ? preparedSql
+                : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            Observation observation = null;
+            if (registry != null) {
+                observation = Observation.createNotStarted(QUERY_OBSERVATION, registry)
+                    .contextualName("jdbc query")
+                    .lowCardinalityKeyValues(KeyValues.of("db.operation", SqlStatements.operationOf(sql)))
+                    .highCardinalityKeyValue("db.statement", sql != null ? sql : "")
+                    .start();
+            }
+            JdbcStatementEvent event = new JdbcStatementEvent();
+            event.begin();
+            long start = System.nanoTime();
+            try {
+                return wrapResultSet(delegate(method, args));
+            } catch (Throwable e) {
+                if (observation != null) {
+                    observation.error(e);
+                }
+                throw e;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.sql = sql;
+                    event.operation = SqlStatements.operationOf(sql);
+                    event.commit();
+                }
+                if (binds != null) {
+                    scope.recordStatement(sql, bindList(), System.nanoTime() - start);
+                } else if (scope != null) {
+                    scope.recordStatement(System.nanoTime() - start);
+                }
+                if (observation != null) {
+                    observation.stop();
+                }
+            }
+        }
+
+        private List<Object> bindList() {
+            List<Object> values = new ArrayList<>();
+            if (!binds.isEmpty()) {
+                for (int index = 1; index <= binds.lastKey(); index++) {
+                    values.add(binds.get(index));
+                }
+            }
+            return values;
+        }
+
+        private Object wrapResultSet(Object result) {
+            return scope != null && result instanceof ResultSet resultSet
+                ? proxy(ResultSet.class, new ResultSetHandler(resultSet, scope))
+                : result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final QueryScope scope;
+
+        ResultSetHandler(ResultSet resultSet, QueryScope scope) {
+            super(resultSet);
+            this.scope = scope;
+        }
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                scope.recordRows(1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * QueryMetrics
+ * 計測範囲ごとのSQL集計をMicrometerに記録する
+ *
+ * メトリクス（タグ scope=http|usecase, operation=リクエストのパターン or ユースケースのクラス名）:
+ * - chirper.db.statements: 1回あたりのSQL実行数（N+1の検知）
+ * - chirper.db.rows: 1回あたりの取得行数
+ * - chirper.db.time: 1回あたりのSQL実行時間の合計
+ */
+public class QueryMetrics {
+
+    public static final String STATEMENTS = "chirper.db.statements";
+    public static final String ROWS = "chirper.db.rows";
+    public static final String DB_TIME = "chirper.db.time";
+
+    public static final String SCOPE_HTTP = "http";
+    public static final String SCOPE_USE_CASE = "usecase";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 計測範囲の集計を記録
+     * @param scope 計測範囲の種類（SCOPE_HTTP / SCOPE_USE_CASE）
+     * @param operation 操作名（"GET /api/v1/timeline"、"GetTimelineUseCase" など）
+     * @param stats 集計結果
+     */
+    public void record(String scope, String operation, QueryStats stats) {
+        DistributionSummary.builder(STATEMENTS)
+            .description("SQL statements executed per operation")
+            .baseUnit("statements")
+            .tag("scope", scope)
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(stats.statements());
+        DistributionSummary.builder(ROWS)
+            .description("Rows fetched per operation")
+            .baseUnit("rows")
+            .tag("scope", scope)
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(stats.rows());
+        Timer.builder(DB_TIME)
+            .description("Time spent executing SQL per operation")
+            .tag("scope", scope)
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(stats.dbTime());
+    }
+}
@@ -0,0 +1,47 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * QueryMetricsFilter
+ * HTTPリクエスト単位でSQLを集計し、QueryMetricsに記録するフィルター
+ *
+ * 操作名はメソッドとハンドラーのURIパターン（例: "GET /api/v1/users/{username}"）で、パスパラメーターごとにメトリクスが増えないようにする。
+ * ハンドラーに到達しなかったリクエスト（404・認証エラーなど）は "UNKNOWN" にまとめる。
+ * 非同期レスポンス（データエクスポートのストリーミング）の本体で実行したSQLは含まない（ユースケース単位では計上される）
+ */
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryMetrics queryMetrics;
+
+    public QueryMetricsFilter(QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        QueryScope scope = QueryScope.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            queryMetrics.record(QueryMetrics.SCOPE_HTTP, request.getMethod() + " " + uriPattern(request), scope.stats());
+        }
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
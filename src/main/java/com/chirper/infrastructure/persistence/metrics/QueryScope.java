@@ -0,0 +1,150 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueryScope
+ * SQLの実行回数・取得行数・実行時間を集計する計測範囲
+ *
+ * 設計:
+ * - 計測範囲は入れ子にでき（HTTPリクエスト > ユースケース）、SQLは開いているすべての範囲に計上する
+ * - 現在の範囲はInheritableThreadLocalで保持し、範囲内で生成された仮想スレッド（hydrationExecutor）の実行分も計上する
+ * - 終了後の範囲には計上しない（引き継いだスレッドが残っていても集計結果は変わらない）
+ * - openCapturingで開いた範囲は、集計に加えて実行したSQL文とバインドパラメーターを上限件数まで記録する
+ *
+ * 計測範囲の外（起動時のマイグレーション・バックグラウンドジョブなど）で実行したSQLは計上しない
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private static final InheritableThreadLocal<QueryScope> CURRENT = new InheritableThreadLocal<>();
+
+    private final QueryScope parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder dbNanos = new LongAdder();
+    private final List<CapturedStatement> captured;
+    private final int maxCaptured;
+    private final boolean capturing;
+    private volatile boolean active = true;
+
+    private QueryScope(QueryScope parent, int maxCaptured) {
+        this.parent = parent;
+        this.maxCaptured = maxCaptured;
+        this.captured = maxCaptured > 0 ? new ArrayList<>() : null;
+        this.capturing = captured != null || parent != null && parent.capturing;
+    }
+
+    /**
+     * 現在のスレッドで計測範囲を開始（既に開いている範囲があればその内側）
+     * @return 開始した計測範囲（try-with-resourcesで終了する）
+     */
+    public static QueryScope open() {
+        return open(0);
+    }
+
+    /**
+     * 実行したSQL文とバインドパラメーターも記録する計測範囲を開始
+     * @param maxStatements 記録する上限件数（超過分は集計のみ）
+     * @return 開始した計測範囲（try-with-resourcesで終了する）
+     */
+    public static QueryScope openCapturing(int maxStatements) {
+        if (maxStatements < 1) {
+            throw new IllegalArgumentException("maxStatements must be positive");
+        }
+        return open(maxStatements);
+    }
+
+    private static QueryScope open(int maxCaptured) {
+        QueryScope scope = new QueryScope(CURRENT.get(), maxCaptured);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 現在の計測範囲
+     * @return 開いている範囲がない場合null
+     */
+    static QueryScope current() {
+        QueryScope scope = CURRENT.get();
+        return scope != null && scope.active ? scope : null;
+    }
+
+    void recordStatement(long elapsedNanos) {
+        for (QueryScope scope = this; scope != null; scope = scope.parent) {
+            if (scope.active) {
+                scope.statements.increment();
+                scope.dbNanos.add(elapsedNanos);
+            }
+        }
+    }
+
+    /**
+     * この範囲または外側の範囲がSQL文を記録するか（バインドパラメーターの記録要否の判定に使う）
+     */
+    boolean capturesStatements() {
+        return capturing;
+    }
+
+    void recordStatement(String sql, List<Object> binds, long elapsedNanos) {
+        recordStatement(elapsedNanos);
+        CapturedStatement statement = null;
+        for (QueryScope scope = this; scope != null; scope = scope.parent) {
+            if (scope.active && scope.captured != null) {
+                if (statement == null) {
+                    statement = new CapturedStatement(sql, binds, Duration.ofNanos(elapsedNanos));
+                }
+                synchronized (scope.captured) {
+                    if (scope.captured.size() < scope.maxCaptured) {
+                        scope.captured.add(statement);
+                    }
+                }
+            }
+        }
+    }
+
+    void recordRows(long count) {
+        for (QueryScope scope = this; scope != null; scope = scope.parent) {
+            if (scope.active) {
+                scope.rows.add(count);
+            }
+        }
+    }
+
+    /**
+     * ここまでの集計結果
+     */
+    public QueryStats stats() {
+        return new QueryStats(statements.sum(), rows.sum(), Duration.ofNanos(dbNanos.sum()));
+    }
+
+    /**
+     * 記録したSQL文（実行順）
+     * @return openCapturingで開いていない場合は空
+     */
+    public List<CapturedStatement> capturedStatements() {
+        if (captured == null) {
+            return List.of();
+        }
+        synchronized (captured) {
+            return List.copyOf(captured);
+        }
+    }
+
+    /**
+     * 計測範囲を終了し、外側の範囲に戻す
+     */
+    @Override
+    public void close() {
+        active = false;
+        if (CURRENT.get() == this) {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import java.time.Duration;
+
+/**
+ * QueryStats
+ * 1つの計測範囲（HTTPリクエスト・ユースケース呼び出し）で実行されたSQLの集計
+ *
+ * @param statements 実行したSQL文の数（バッチは1回の送信を1文として数える）
+ * @param rows 取得した行数（ResultSetから読み進めた行の数）
+ * @param dbTime SQLの実行に要した時間の合計（並行実行した場合は各文の合計）
+ */
+public record QueryStats(long statements, long rows, Duration dbTime) {
+
+    public static final QueryStats EMPTY = new QueryStats(0, 0, Duration.ZERO);
+}
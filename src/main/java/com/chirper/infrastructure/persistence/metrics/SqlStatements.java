@@ -0,0 +1,64 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SqlStatements
+ * SQL文の種類の判定
+ *
+ * Hibernateのuse_sql_commentsで先頭に付くコメント（ブロックコメント・行コメント）は読み飛ばす
+ */
+public final class SqlStatements {
+
+    public static final String OTHER = "OTHER";
+
+    private static final Set<String> KNOWN_OPERATIONS = Set.of("SELECT", "INSERT", "UPDATE", "DELETE", "WITH");
+
+    private SqlStatements() {
+    }
+
+    /**
+     * SQL文の先頭のキーワード
+     * @return SELECT・INSERT・UPDATE・DELETE・WITHのいずれか（それ以外・判定できない場合はOTHER）
+     */
+    public static String operationOf(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        int start = skipComments(sql);
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        String keyword = sql.substring(start, end).toUpperCase(Locale.ROOT);
+        return KNOWN_OPERATIONS.contains(keyword) ? keyword : OTHER;
+    }
+
+    /**
+     * 読み取りのみの問い合わせか（SELECT・WITH）
+     * WITHはデータ変更を含む場合があるため、実行する場合は読み取り専用トランザクションで実行すること
+     */
+    public static boolean isQuery(String sql) {
+        String operation = operationOf(sql);
+        return operation.equals("SELECT") || operation.equals("WITH");
+    }
+
+    private static int skipComments(String sql) {
+        int i = 0;
+        while (i < sql.length()) {
+            if (Character.isWhitespace(sql.charAt(i))) {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i + 2);
+                i = end < 0 ? sql.length() : end + 1;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,49 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import com.chirper.application.usecase.GetTimelineUseCase;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * UseCaseQueryMetricsPostProcessor
+ * ユースケース（application.usecaseパッケージのBean）のexecute系メソッドをユースケース単位のSQL集計で包む
+ *
+ * - 既存のプロキシ（@Transactionalなど）がある場合はその外側にアドバイスを追加し、トランザクション全体を計測する
+ * - ユースケースの呼び出しが入れ子になった場合は、それぞれのユースケースに計上する
+ * - QueryMetricsはMeterRegistryの初期化を早めないよう、初回の呼び出し時に取得する
+ */
+public class UseCaseQueryMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final String USE_CASE_PACKAGE = GetTimelineUseCase.class.getPackageName();
+
+    public UseCaseQueryMetricsPostProcessor(ObjectProvider<QueryMetrics> queryMetrics) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getName().startsWith("execute");
+            }
+        };
+        pointcut.setClassFilter(type -> type.getPackageName().equals(USE_CASE_PACKAGE));
+
+        MethodInterceptor interceptor = invocation -> {
+            QueryScope scope = QueryScope.open();
+            try {
+                return invocation.proceed();
+            } finally {
+                scope.close();
+                queryMetrics.getObject().record(QueryMetrics.SCOPE_USE_CASE,
+                    invocation.getMethod().getDeclaringClass().getSimpleName(), scope.stats());
+            }
+        };
+
+        this.advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
@@ -0,0 +1,31 @@
+package com.chirper.infrastructure.persistence.plan;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * QueryPlanSample
+ * 遅いリクエストで実行されたSQL文の実行計画（EXPLAIN (ANALYZE, BUFFERS) の結果）
+ *
+ * バインドパラメーターの値は含めず型の並びのみを保持する（実行計画の条件式には値が現れる場合がある）
+ *
+ * @param sampledAt 実行計画を取得した日時
+ * @param request リクエスト（メソッドとハンドラーのURIパターン）
+ * @param requestMillis リクエスト全体の処理時間（ミリ秒）
+ * @param sql SQL文
+ * @param bindShape バインドパラメーターの型の並び
+ * @param statementMillis リクエスト内でのSQL文の実行時間（ミリ秒）
+ * @param plan 実行計画（1行ずつ。取得に失敗した場合は空）
+ * @param error 取得に失敗した理由（成功した場合null）
+ */
+public record QueryPlanSample(
+    Instant sampledAt,
+    String request,
+    long requestMillis,
+    String sql,
+    List<String> bindShape,
+    long statementMillis,
+    List<String> plan,
+    String error
+) {
+}
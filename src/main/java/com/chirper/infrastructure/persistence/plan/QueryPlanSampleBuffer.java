@@ -0,0 +1,45 @@
+package com.chirper.infrastructure.persistence.plan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * QueryPlanSampleBuffer
+ * 実行計画のサンプルを新しい順に上限件数まで保持するリングバッファ（上限を超えると最も古いものから破棄）
+ */
+public class QueryPlanSampleBuffer {
+
+    private final int capacity;
+    private final Deque<QueryPlanSample> samples;
+
+    public QueryPlanSampleBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.samples = new ArrayDeque<>(capacity);
+    }
+
+    public synchronized void add(QueryPlanSample sample) {
+        if (samples.size() == capacity) {
+            samples.removeLast();
+        }
+        samples.addFirst(sample);
+    }
+
+    /**
+     * @return 保持しているサンプル（新しい順）
+     */
+    public synchronized List<QueryPlanSample> snapshot() {
+        return List.copyOf(samples);
+    }
+
+    public synchronized void clear() {
+        samples.clear();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
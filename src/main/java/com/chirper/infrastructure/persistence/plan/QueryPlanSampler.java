@@ -0,0 +1,157 @@
+package com.chirper.infrastructure.persistence.plan;
+
+import com.chirper.infrastructure.persistence.metrics.CapturedStatement;
+import com.chirper.infrastructure.persistence.metrics.SqlStatements;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryPlanSampler
+ * 遅いリクエストで実行されたSQL文の実行計画を、リクエストとは別のスレッドで取得してQueryPlanSampleBufferに保存する
+ *
+ * 負荷の抑制:
+ * - EXPLAIN ANALYZEは実際にSQLを実行するため、対象は読み取りの問い合わせ（SELECT・WITH）のみとし、
+ *   読み取り専用トランザクション内で statement_timeout を設定して実行し、最後にロールバックする
+ * - 1リクエストにつき実行時間の長い順に上限件数まで、同じSQL文は一定時間に1回まで
+ * - 取得は1スレッドで順に行い、待ちが上限を超えた分は破棄する（リクエストの処理は待たせない）
+ */
+public class QueryPlanSampler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanSampler.class);
+
+    private static final int MAX_TRACKED_STATEMENTS = 1000;
+
+    private final DataSource dataSource;
+    private final QueryPlanSampleBuffer buffer;
+    private final Settings settings;
+    private final Map<String, Long> lastSampledNanos = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public QueryPlanSampler(DataSource dataSource, QueryPlanSampleBuffer buffer, Settings settings) {
+        this.dataSource = dataSource;
+        this.buffer = buffer;
+        this.settings = settings;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(settings.queueCapacity()),
+            Thread.ofPlatform().name("query-plan-sampler").daemon().factory(),
+            new ThreadPoolExecutor.DiscardPolicy());
+        // リクエストスレッドから生成されると計測範囲（InheritableThreadLocal）を引き継ぐため、先に起動しておく
+        executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * 遅いリクエストのSQL文の実行計画の取得を予約
+     *
+     * @param request リクエスト（メソッドとハンドラーのURIパターン）
+     * @param requestElapsed リクエスト全体の処理時間
+     * @param statements リクエストで実行されたSQL文
+     */
+    public void submit(String request, Duration requestElapsed, List<CapturedStatement> statements) {
+        Map<String, CapturedStatement> slowestBySql = new LinkedHashMap<>();
+        for (CapturedStatement statement : statements) {
+            if (SqlStatements.isQuery(statement.sql()) && statement.replayable()) {
+                slowestBySql.merge(statement.sql(), statement,
+                    (a, b) -> a.elapsed().compareTo(b.elapsed()) >= 0 ? a : b);
+            }
+        }
+        slowestBySql.values().stream()
+            .sorted(Comparator.comparing(CapturedStatement::elapsed).reversed())
+            .limit(settings.maxPlansPerRequest())
+            .filter(statement -> tryAcquire(statement.sql()))
+            .forEach(statement -> executor.execute(
+                () -> buffer.add(explain(request, requestElapsed.toMillis(), statement))));
+    }
+
+    /**
+     * 同じSQL文の実行計画を直近に取得していなければ取得権を得る
+     */
+    private boolean tryAcquire(String sql) {
+        long now = System.nanoTime();
+        long cooldownNanos = settings.cooldown().toNanos();
+        if (lastSampledNanos.size() > MAX_TRACKED_STATEMENTS) {
+            lastSampledNanos.values().removeIf(sampledAt -> now - sampledAt >= cooldownNanos);
+        }
+        Long previous = lastSampledNanos.get(sql);
+        if (previous == null) {
+            return lastSampledNanos.putIfAbsent(sql, now) == null;
+        }
+        return now - previous >= cooldownNanos && lastSampledNanos.replace(sql, previous, now);
+    }
+
+    private QueryPlanSample explain(String request, long requestMillis, CapturedStatement statement) {
+        List<String> plan = new ArrayList<>();
+        String error = null;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement setup = connection.createStatement()) {
+                    // データ変更を伴うSQL（データ変更を含むWITHなど）は実行せずに失敗させる
+                    setup.execute("SET TRANSACTION READ ONLY");
+                    setup.execute("SET LOCAL statement_timeout = " + settings.explainTimeout().toMillis());
+                }
+                try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + statement.sql())) {
+                    bind(explain, statement.binds());
+                    try (ResultSet resultSet = explain.executeQuery()) {
+                        while (resultSet.next()) {
+                            plan.add(resultSet.getString(1));
+                        }
+                    }
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            log.debug("Failed to capture query plan for {}: {}", request, e.getMessage());
+            plan.clear();
+            error = e.getMessage();
+        }
+        return new QueryPlanSample(Instant.now(), request, requestMillis, statement.sql(), statement.bindShape(),
+            statement.elapsed().toMillis(), List.copyOf(plan), error);
+    }
+
+    private static void bind(PreparedStatement statement, List<Object> binds) throws SQLException {
+        for (int i = 0; i < binds.size(); i++) {
+            if (binds.get(i) instanceof CapturedStatement.NullBind nullBind) {
+                statement.setNull(i + 1, nullBind.sqlType());
+            } else {
+                statement.setObject(i + 1, binds.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 実行計画の取得の設定
+     *
+     * @param maxPlansPerRequest 1リクエストあたりに取得する上限件数
+     * @param cooldown 同じSQL文の実行計画を再取得するまでの間隔
+     * @param explainTimeout EXPLAIN ANALYZEの statement_timeout
+     * @param queueCapacity 取得待ちの上限件数
+     */
+    public record Settings(int maxPlansPerRequest, Duration cooldown, Duration explainTimeout, int queueCapacity) {
+    }
+}
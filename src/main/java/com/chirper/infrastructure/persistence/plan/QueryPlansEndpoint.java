@@ -0,0 +1,41 @@
+package com.chirper.infrastructure.persistence.plan;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * QueryPlansEndpoint
+ * 遅いリクエストで取得した実行計画を公開するActuatorエンドポイント（/actuator/queryplans）
+ *
+ * - GET: 保持しているサンプル（新しい順）
+ * - DELETE: サンプルを破棄
+ */
+@Endpoint(id = "queryplans")
+public class QueryPlansEndpoint {
+
+    private final QueryPlanSampleBuffer buffer;
+
+    public QueryPlansEndpoint(QueryPlanSampleBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @ReadOperation
+    public QueryPlansReport samples() {
+        return new QueryPlansReport(buffer.capacity(), buffer.snapshot());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        buffer.clear();
+    }
+
+    /**
+     * @param capacity 保持する上限件数
+     * @param samples サンプル（新しい順）
+     */
+    public record QueryPlansReport(int capacity, List<QueryPlanSample> samples) {
+    }
+}
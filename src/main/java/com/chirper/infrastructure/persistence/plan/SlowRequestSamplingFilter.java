@@ -0,0 +1,68 @@
+package com.chirper.infrastructure.persistence.plan;
+
+import com.chirper.infrastructure.persistence.metrics.QueryScope;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SlowRequestSamplingFilter
+ * 対象パスのリクエストで実行したSQL文とバインドパラメーターを記録し、処理時間がしきい値を超えた場合にQueryPlanSamplerへ渡すフィルター
+ *
+ * SQL文の記録はQueryCountingDataSource（chirper.query-metrics.enabled）が有効な場合のみ行われる
+ */
+public class SlowRequestSamplingFilter extends OncePerRequestFilter {
+
+    private final QueryPlanSampler sampler;
+    private final List<String> pathPrefixes;
+    private final Duration threshold;
+    private final int maxStatements;
+
+    /**
+     * @param sampler 実行計画の取得
+     * @param pathPrefixes 対象とするパスの前方一致（例: /api/v1/timeline）
+     * @param threshold 遅いと判断する処理時間
+     * @param maxStatements 1リクエストで記録するSQL文の上限件数
+     */
+    public SlowRequestSamplingFilter(QueryPlanSampler sampler, List<String> pathPrefixes, Duration threshold, int maxStatements) {
+        this.sampler = sampler;
+        this.pathPrefixes = List.copyOf(pathPrefixes);
+        this.threshold = threshold;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPrefixes.stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        QueryScope scope = QueryScope.openCapturing(maxStatements);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            if (elapsed.compareTo(threshold) >= 0) {
+                sampler.submit(request.getMethod() + " " + uriPattern(request), elapsed, scope.capturedStatements());
+            }
+        }
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,190 @@
+package com.chirper.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdaptivePoolSizer
+ * コネクション取得の待ち時間とDBの応答時間に応じて、プライマリのプールの最大サイズを上下限の範囲内で調整するジョブ
+ *
+ * 調整規則（1回の実行で step ずつ変更）:
+ * - DB側のトランザクションあたりの平均実行時間が上限を超えている → 縮小（DB自体が遅い場合、接続を増やしてもDB側の競合が増えるだけのため）
+ * - コネクション待ちのスレッドがいる、または平均取得時間が目標を超えている → 拡大
+ * - 使用中のコネクションが最大サイズより十分少ない → 縮小
+ *
+ * 取得時間は前回実行からの hikaricp.connections.acquire の増分で判定する。
+ * DBが遅いかどうかはコネクションの使用時間（hikaricp.connections.usage）ではなく、pg_stat_databaseの
+ * active_time（バックエンドがSQLを実行していた時間）の増分をトランザクション数の増分で割った値で判定する。
+ * 使用時間はエクスポートのストリーミングのような長時間保持されるコネクション（行の送信待ちでDBは遊んでいる）で
+ * 平均が大きく歪むが、active_timeはDBが実際に処理していた時間のみを含む。
+ * レプリカのプールは読み取りをプライマリにフォールバックできるため対象外。
+ */
+public class AdaptivePoolSizer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    /**
+     * DB全体の累積実行時間（ミリ秒）と累積トランザクション数（PostgreSQL 14以降）
+     */
+    private static final String DB_ACTIVITY_SQL = """
+        SELECT active_time, xact_commit + xact_rollback AS transactions
+        FROM pg_stat_database
+        WHERE datname = current_database()
+        """;
+
+    private final HikariDataSource pool;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final Settings settings;
+    private final Map<String, TimerTotals> lastTotals = new HashMap<>();
+    private DbActivity lastDbActivity;
+
+    public AdaptivePoolSizer(HikariDataSource pool, MeterRegistry meterRegistry, Settings settings) {
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.jdbcTemplate = new JdbcTemplate(pool);
+        this.settings = settings;
+    }
+
+    /**
+     * 定期実行のエントリーポイント
+     */
+    @Scheduled(fixedDelayString = "${chirper.datasource.pool.adaptive-sizing.interval-ms:15000}")
+    public void adjust() {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null) {
+            return;
+        }
+        Sample sample = new Sample(
+            mxBean.getActiveConnections(),
+            mxBean.getThreadsAwaitingConnection(),
+            meanMillisSinceLastRun(ACQUIRE_TIMER),
+            dbTimeMillisSinceLastRun()
+        );
+
+        int current = pool.getMaximumPoolSize();
+        int next = nextMaximumPoolSize(current, sample, settings);
+        if (next != current) {
+            pool.getHikariConfigMXBean().setMaximumPoolSize(next);
+            log.info("Resized connection pool {} from {} to {} (active={}, pending={}, acquire={}ms, dbTime={}ms)",
+                pool.getPoolName(), current, next, sample.active(), sample.pending(),
+                Math.round(sample.acquireMillis()), Math.round(sample.dbTimeMillis()));
+        }
+    }
+
+    /**
+     * 次の最大プールサイズを決定
+     *
+     * @param current 現在の最大プールサイズ
+     * @param sample 前回実行以降の観測値
+     * @param settings 調整の設定
+     * @return 次の最大プールサイズ（settingsの上下限の範囲内）
+     */
+    static int nextMaximumPoolSize(int current, Sample sample, Settings settings) {
+        int size = Math.clamp(current, settings.minSize(), settings.maxSize());
+        if (sample.dbTimeMillis() > settings.maxDbTime().toMillis()) {
+            return Math.max(settings.minSize(), size - settings.step());
+        }
+        if (sample.pending() > 0 || sample.acquireMillis() > settings.targetAcquireTime().toMillis()) {
+            return Math.min(settings.maxSize(), size + settings.step());
+        }
+        if (sample.active() + settings.step() * 2 <= size) {
+            return Math.max(settings.minSize(), size - settings.step());
+        }
+        return size;
+    }
+
+    private double meanMillisSinceLastRun(String name) {
+        Timer timer = meterRegistry.find(name).tag("pool", pool.getPoolName()).timer();
+        if (timer == null) {
+            return 0;
+        }
+        TimerTotals totals = new TimerTotals(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS));
+        TimerTotals last = lastTotals.put(name, totals);
+        long count = totals.count() - (last != null ? last.count() : 0);
+        double millis = totals.millis() - (last != null ? last.millis() : 0);
+        return count > 0 ? millis / count : 0;
+    }
+
+    private record TimerTotals(long count, double millis) {}
+
+    /**
+     * 前回実行以降のDB側のトランザクションあたりの平均実行時間（ミリ秒）
+     * 統計を取得できない場合は0（DBが遅いとは判断しない）
+     */
+    private double dbTimeMillisSinceLastRun() {
+        DbActivity current;
+        try {
+            current = jdbcTemplate.queryForObject(DB_ACTIVITY_SQL,
+                (rs, rowNum) -> new DbActivity(rs.getDouble("active_time"), rs.getLong("transactions")));
+        } catch (DataAccessException e) {
+            log.debug("Cannot read pg_stat_database for pool sizing", e);
+            return 0;
+        }
+        DbActivity last = lastDbActivity;
+        lastDbActivity = current;
+        return last != null ? DbActivity.meanMillisPerTransaction(last, current) : 0;
+    }
+
+    /**
+     * pg_stat_databaseの累積値
+     *
+     * @param activeMillis バックエンドがSQLを実行していた累積時間（ミリ秒）
+     * @param transactions 累積トランザクション数（コミット・ロールバック）
+     */
+    record DbActivity(double activeMillis, long transactions) {
+
+        /**
+         * 2時点間のトランザクションあたりの平均実行時間
+         * 統計がリセットされた場合（累積値が減少）やトランザクションがない場合は0
+         */
+        static double meanMillisPerTransaction(DbActivity last, DbActivity current) {
+            long transactions = current.transactions() - last.transactions();
+            double millis = current.activeMillis() - last.activeMillis();
+            return transactions > 0 && millis >= 0 ? millis / transactions : 0;
+        }
+    }
+
+    /**
+     * 前回実行以降の観測値
+     *
+     * @param active 使用中のコネクション数
+     * @param pending コネクション待ちのスレッド数
+     * @param acquireMillis コネクション取得の平均待ち時間（ミリ秒）
+     * @param dbTimeMillis DB側のトランザクションあたりの平均実行時間（ミリ秒）
+     */
+    record Sample(int active, int pending, double acquireMillis, double dbTimeMillis) {}
+
+    /**
+     * 調整の設定
+     *
+     * @param minSize 最大プールサイズの下限
+     * @param maxSize 最大プールサイズの上限
+     * @param step 1回の調整での変更幅
+     * @param targetAcquireTime 許容するコネクション取得の平均待ち時間
+     * @param maxDbTime DBが遅いと判断するトランザクションあたりの平均実行時間
+     */
+    public record Settings(int minSize, int maxSize, int step, Duration targetAcquireTime, Duration maxDbTime) {
+
+        public Settings {
+            if (minSize < 1 || maxSize < minSize || step < 1) {
+                throw new IllegalArgumentException(
+                    "Invalid pool sizing bounds: min=" + minSize + ", max=" + maxSize + ", step=" + step);
+            }
+        }
+    }
+}
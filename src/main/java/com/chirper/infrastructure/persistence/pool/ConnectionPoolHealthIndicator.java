@@ -0,0 +1,64 @@
+package com.chirper.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ConnectionPoolHealthIndicator
+ * コネクションプールの飽和状態を報告するHealthIndicator
+ *
+ * - いずれかのプールでコネクション待ちのスレッド数がしきい値以上の場合 DEGRADED（タイムアウトによる500の前兆）
+ * - 詳細にはプールごとの active / idle / pending / total / max を含める
+ *
+ * DEGRADEDはDOWNと違い、HTTPステータス200のまま応答する（ロードバランサーから切り離さない）
+ */
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Threads are waiting for a database connection");
+
+    private final ConnectionPools pools;
+    private final int pendingThreshold;
+
+    /**
+     * @param pools 対象のプール
+     * @param pendingThreshold DEGRADEDとするコネクション待ちのスレッド数
+     */
+    public ConnectionPoolHealthIndicator(ConnectionPools pools, int pendingThreshold) {
+        this.pools = pools;
+        this.pendingThreshold = pendingThreshold;
+    }
+
+    @Override
+    public Health health() {
+        boolean degraded = false;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (HikariDataSource pool : pools.all()) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                // 最初のコネクション取得まではプールが起動していない
+                details.put(pool.getPoolName(), Map.of("started", false));
+                continue;
+            }
+            int pending = mxBean.getThreadsAwaitingConnection();
+            degraded |= pending >= pendingThreshold;
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("active", mxBean.getActiveConnections());
+            stats.put("idle", mxBean.getIdleConnections());
+            stats.put("pending", pending);
+            stats.put("total", mxBean.getTotalConnections());
+            stats.put("max", pool.getMaximumPoolSize());
+            details.put(pool.getPoolName(), stats);
+        }
+        return Health.status(degraded ? DEGRADED : Status.UP)
+            .withDetail("pendingThreshold", pendingThreshold)
+            .withDetails(details)
+            .build();
+    }
+}
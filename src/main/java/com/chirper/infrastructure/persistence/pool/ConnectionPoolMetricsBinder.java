@@ -0,0 +1,36 @@
+package com.chirper.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * ConnectionPoolMetricsBinder
+ * HikariCPのプールのメトリクス（hikaricp.connections.*）を登録するMeterBinder
+ *
+ * 登録されるメトリクス（タグ pool=プール名）:
+ * - hikaricp.connections.active / idle / pending / max / min（ゲージ）
+ * - hikaricp.connections.acquire（コネクション取得の待ち時間）
+ * - hikaricp.connections.usage（コネクションの使用時間）
+ * - hikaricp.connections.timeout（取得タイムアウト回数）
+ *
+ * Bean登録されたプールはSpring Bootが計測するため、計測されていないプール（リードレプリカ有効時のプールなど）のみ登録する
+ */
+public class ConnectionPoolMetricsBinder implements MeterBinder {
+
+    private final ConnectionPools pools;
+
+    public ConnectionPoolMetricsBinder(ConnectionPools pools) {
+        this.pools = pools;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HikariDataSource pool : pools.all()) {
+            if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+    }
+}
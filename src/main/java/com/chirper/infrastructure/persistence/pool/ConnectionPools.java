@@ -0,0 +1,56 @@
+package com.chirper.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ConnectionPools
+ * アプリケーションのDataSourceを辿って見つけたHikariCPのプール
+ *
+ * リードレプリカ有効時はプライマリ・レプリカのプールがBeanとして登録されないため、
+ * QueryCountingDataSource・LazyConnectionDataSourceProxy・ReplicaRoutingDataSourceを辿って収集する
+ *
+ * @param primary プライマリ（書き込み先）のプール（HikariCPでない場合null）
+ * @param all すべてのプール（プライマリが先頭）
+ */
+public record ConnectionPools(HikariDataSource primary, List<HikariDataSource> all) {
+
+    public ConnectionPools {
+        all = List.copyOf(all);
+    }
+
+    public static ConnectionPools of(DataSource dataSource) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        HikariDataSource primary = collect(dataSource, pools);
+        return new ConnectionPools(primary, pools);
+    }
+
+    /**
+     * @return 見つけたプールのうち既定（プライマリ）のもの
+     */
+    private static HikariDataSource collect(DataSource dataSource, List<HikariDataSource> pools) {
+        return switch (dataSource) {
+            case HikariDataSource hikari -> {
+                if (!pools.contains(hikari)) {
+                    pools.add(hikari);
+                }
+                yield hikari;
+            }
+            case DelegatingDataSource delegating when delegating.getTargetDataSource() != null ->
+                collect(delegating.getTargetDataSource(), pools);
+            case AbstractRoutingDataSource routing -> {
+                HikariDataSource primary = routing.getResolvedDefaultDataSource() != null
+                    ? collect(routing.getResolvedDefaultDataSource(), pools)
+                    : null;
+                routing.getResolvedDataSources().values().forEach(target -> collect(target, pools));
+                yield primary;
+            }
+            case null, default -> null;
+        };
+    }
+}
@@ -6,11 +6,17 @@ import com.chirper.domain.valueobject.UserId;
 import com.chirper.infrastructure.persistence.entity.FollowJpaEntity;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -18,14 +24,39 @@ import java.util.stream.Collectors;
  * FollowRepositoryImpl
  * IFollowRepositoryの実装クラス
  * Spring Data JPAを使用してデータアクセスを行う
+ * 重複をスキップする保存（INSERT ... ON CONFLICT）はJdbcTemplateで1文で実行する（一括保存は配列パラメータを使用）
  */
 @Component
 public class FollowRepositoryImpl implements IFollowRepository {
 
+    /**
+     * 配列をunnestして複数行を1文でINSERTする
+     * フォロー対象ユーザーが存在しない行は除外し、既存のフォロー関係はスキップして、保存された行のIDのみ返す
+     */
+    private static final String INSERT_IF_ABSENT_SQL =
+        "INSERT INTO follows (id, follower_user_id, followed_user_id, created_at) "
+        + "SELECT f.id, f.follower_user_id, f.followed_user_id, f.created_at "
+        + "FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::timestamp[]) "
+        + "AS f(id, follower_user_id, followed_user_id, created_at) "
+        + "WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = f.followed_user_id) "
+        + "ON CONFLICT (follower_user_id, followed_user_id) DO NOTHING "
+        + "RETURNING id";
+
+    /**
+     * 1件を1文でINSERTする
+     * 既存のフォロー関係はスキップし、保存された場合のみIDを返す
+     */
+    private static final String INSERT_ONE_IF_ABSENT_SQL =
+        "INSERT INTO follows (id, follower_user_id, followed_user_id, created_at) VALUES (?, ?, ?, ?) "
+        + "ON CONFLICT (follower_user_id, followed_user_id) DO NOTHING "
+        + "RETURNING id";
+
     private final SpringDataFollowRepository springDataFollowRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public FollowRepositoryImpl(SpringDataFollowRepository springDataFollowRepository) {
+    public FollowRepositoryImpl(SpringDataFollowRepository springDataFollowRepository, JdbcTemplate jdbcTemplate) {
         this.springDataFollowRepository = springDataFollowRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -42,6 +73,61 @@ public class FollowRepositoryImpl implements IFollowRepository {
         }
     }
 
+    @Override
+    @Transactional
+    public boolean saveIfAbsent(Follow follow) {
+        try {
+            List<UUID> insertedIds = jdbcTemplate.query(
+                INSERT_ONE_IF_ABSENT_SQL,
+                (resultSet, rowNum) -> resultSet.getObject(1, UUID.class),
+                follow.getId().value(),
+                follow.getFollowerUserId().value(),
+                follow.getFollowedUserId().value(),
+                Timestamp.valueOf(LocalDateTime.ofInstant(follow.getCreatedAt(), ZoneOffset.UTC))
+            );
+            return !insertedIds.isEmpty();
+        } catch (DataIntegrityViolationException e) {
+            // 一意制約の競合はON CONFLICTで吸収されるため、ここに来るのは外部キー違反（ユーザーが存在しない）のみ
+            throw new IllegalArgumentException("Followed user does not exist", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Follow> saveAllIfAbsent(List<Follow> follows) {
+        if (follows == null || follows.isEmpty()) {
+            return List.of();
+        }
+
+        UUID[] ids = new UUID[follows.size()];
+        UUID[] followerUserIds = new UUID[follows.size()];
+        UUID[] followedUserIds = new UUID[follows.size()];
+        Timestamp[] createdAts = new Timestamp[follows.size()];
+        for (int i = 0; i < follows.size(); i++) {
+            Follow follow = follows.get(i);
+            ids[i] = follow.getId().value();
+            followerUserIds[i] = follow.getFollowerUserId().value();
+            followedUserIds[i] = follow.getFollowedUserId().value();
+            createdAts[i] = Timestamp.valueOf(LocalDateTime.ofInstant(follow.getCreatedAt(), ZoneOffset.UTC));
+        }
+
+        List<UUID> insertedIds = jdbcTemplate.query(
+            INSERT_IF_ABSENT_SQL,
+            statement -> {
+                statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+                statement.setArray(2, statement.getConnection().createArrayOf("uuid", followerUserIds));
+                statement.setArray(3, statement.getConnection().createArrayOf("uuid", followedUserIds));
+                statement.setArray(4, statement.getConnection().createArrayOf("timestamp", createdAts));
+            },
+            (resultSet, rowNum) -> resultSet.getObject(1, UUID.class)
+        );
+
+        Set<UUID> inserted = new HashSet<>(insertedIds);
+        return follows.stream()
+            .filter(follow -> inserted.contains(follow.getId().value()))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public List<UserId> findFollowedUserIds(UserId followerUserId) {
         List<UUID> uuidList = springDataFollowRepository
@@ -61,19 +147,40 @@ public class FollowRepositoryImpl implements IFollowRepository {
 
     @Override
     @Transactional
-    public void delete(UserId followerUserId, UserId followedUserId) {
-        springDataFollowRepository
-            .deleteByFollowerUserIdAndFollowedUserId(followerUserId.value(), followedUserId.value());
+    public boolean delete(UserId followerUserId, UserId followedUserId) {
+        return springDataFollowRepository
+            .deleteByFollowerUserIdAndFollowedUserId(followerUserId.value(), followedUserId.value()) > 0;
     }
 
     @Override
     public long countFollowers(UserId userId) {
-        return springDataFollowRepository.countByFollowedUserId(userId.value());
+        Long count = springDataFollowRepository.findFollowersCount(userId.value());
+        return count == null ? 0L : count;
     }
 
     @Override
     public long countFollowing(UserId userId) {
-        return springDataFollowRepository.countByFollowerUserId(userId.value());
+        Long count = springDataFollowRepository.findFollowingCount(userId.value());
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    @Transactional
+    public void adjustFollowCounts(UserId followerUserId, UserId followedUserId, long delta) {
+        springDataFollowRepository.adjustFollowCounts(followerUserId.value(), followedUserId.value(), delta);
+    }
+
+    @Override
+    @Transactional
+    public void adjustFollowCountsForFollower(UserId followerUserId, List<UserId> followedUserIds, long delta) {
+        if (followedUserIds == null || followedUserIds.isEmpty()) {
+            return;
+        }
+        List<UUID> followedUuids = followedUserIds.stream()
+            .map(UserId::value)
+            .collect(Collectors.toList());
+        springDataFollowRepository.adjustFollowCountsForFollower(
+            followerUserId.value(), followedUuids, delta * followedUuids.size(), delta);
     }
 
     @Override
@@ -135,4 +242,39 @@ public class FollowRepositoryImpl implements IFollowRepository {
             .map(UserId::new)
             .collect(Collectors.toList());
     }
+
+    @Override
+    public List<UserId> findMutualFollowUserIds(UserId userId, int offset, int limit) {
+        // offsetがlimitで割り切れない場合は呼び出し元のロジックに問題がある
+        if (offset % limit != 0) {
+            throw new IllegalArgumentException("offset must be a multiple of limit");
+        }
+        PageRequest pageRequest = PageRequest.of(offset / limit, limit);
+        return springDataFollowRepository.findMutualFollowUserIds(userId.value(), pageRequest).stream()
+            .map(UserId::new)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countMutualFollows(UserId userId) {
+        return springDataFollowRepository.countMutualFollows(userId.value());
+    }
+
+    @Override
+    public List<UserId> findFollowersFollowedBy(UserId followedUserId, UserId viewerUserId, int offset, int limit) {
+        // offsetがlimitで割り切れない場合は呼び出し元のロジックに問題がある
+        if (offset % limit != 0) {
+            throw new IllegalArgumentException("offset must be a multiple of limit");
+        }
+        PageRequest pageRequest = PageRequest.of(offset / limit, limit);
+        return springDataFollowRepository
+            .findFollowersFollowedBy(followedUserId.value(), viewerUserId.value(), pageRequest).stream()
+            .map(UserId::new)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countFollowersFollowedBy(UserId followedUserId, UserId viewerUserId) {
+        return springDataFollowRepository.countFollowersFollowedBy(followedUserId.value(), viewerUserId.value());
+    }
 }
@@ -5,13 +5,19 @@ import com.chirper.domain.repository.ILikeRepository;
 import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.infrastructure.persistence.entity.LikeJpaEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -19,14 +25,39 @@ import java.util.stream.Collectors;
  * LikeRepositoryImpl
  * ILikeRepositoryの実装クラス
  * Spring Data JPAを使用してデータアクセスを行う
+ * 重複をスキップする保存（INSERT ... ON CONFLICT）はJdbcTemplateで1文で実行する（一括保存は配列パラメータを使用）
  */
 @Component
 public class LikeRepositoryImpl implements ILikeRepository {
 
+    /**
+     * 配列をunnestして複数行を1文でINSERTする
+     * 対象ツイートが存在しない・論理削除済みの行は除外し、既存のいいねはスキップして、保存された行のIDのみ返す
+     */
+    private static final String INSERT_IF_ABSENT_SQL =
+        "INSERT INTO likes (id, user_id, tweet_id, created_at) "
+        + "SELECT l.id, l.user_id, l.tweet_id, l.created_at "
+        + "FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::timestamp[]) "
+        + "AS l(id, user_id, tweet_id, created_at) "
+        + "WHERE EXISTS (SELECT 1 FROM tweets t WHERE t.id = l.tweet_id AND t.is_deleted = false) "
+        + "ON CONFLICT (user_id, tweet_id) DO NOTHING "
+        + "RETURNING id";
+
+    /**
+     * 1件を1文でINSERTする
+     * 既存のいいねはスキップし、保存された場合のみIDを返す
+     */
+    private static final String INSERT_ONE_IF_ABSENT_SQL =
+        "INSERT INTO likes (id, user_id, tweet_id, created_at) VALUES (?, ?, ?, ?) "
+        + "ON CONFLICT (user_id, tweet_id) DO NOTHING "
+        + "RETURNING id";
+
     private final SpringDataLikeRepository springDataLikeRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public LikeRepositoryImpl(SpringDataLikeRepository springDataLikeRepository) {
+    public LikeRepositoryImpl(SpringDataLikeRepository springDataLikeRepository, JdbcTemplate jdbcTemplate) {
         this.springDataLikeRepository = springDataLikeRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -36,6 +67,56 @@ public class LikeRepositoryImpl implements ILikeRepository {
         return savedEntity.toDomainEntity();
     }
 
+    @Override
+    @Transactional
+    public boolean saveIfAbsent(Like like) {
+        List<UUID> insertedIds = jdbcTemplate.query(
+            INSERT_ONE_IF_ABSENT_SQL,
+            (resultSet, rowNum) -> resultSet.getObject(1, UUID.class),
+            like.getId().value(),
+            like.getUserId().value(),
+            like.getTweetId().value(),
+            Timestamp.valueOf(LocalDateTime.ofInstant(like.getCreatedAt(), ZoneOffset.UTC))
+        );
+        return !insertedIds.isEmpty();
+    }
+
+    @Override
+    @Transactional
+    public List<Like> saveAllIfAbsent(List<Like> likes) {
+        if (likes == null || likes.isEmpty()) {
+            return List.of();
+        }
+
+        UUID[] ids = new UUID[likes.size()];
+        UUID[] userIds = new UUID[likes.size()];
+        UUID[] tweetIds = new UUID[likes.size()];
+        Timestamp[] createdAts = new Timestamp[likes.size()];
+        for (int i = 0; i < likes.size(); i++) {
+            Like like = likes.get(i);
+            ids[i] = like.getId().value();
+            userIds[i] = like.getUserId().value();
+            tweetIds[i] = like.getTweetId().value();
+            createdAts[i] = Timestamp.valueOf(LocalDateTime.ofInstant(like.getCreatedAt(), ZoneOffset.UTC));
+        }
+
+        List<UUID> insertedIds = jdbcTemplate.query(
+            INSERT_IF_ABSENT_SQL,
+            statement -> {
+                statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+                statement.setArray(2, statement.getConnection().createArrayOf("uuid", userIds));
+                statement.setArray(3, statement.getConnection().createArrayOf("uuid", tweetIds));
+                statement.setArray(4, statement.getConnection().createArrayOf("timestamp", createdAts));
+            },
+            (resultSet, rowNum) -> resultSet.getObject(1, UUID.class)
+        );
+
+        Set<UUID> inserted = new HashSet<>(insertedIds);
+        return likes.stream()
+            .filter(like -> inserted.contains(like.getId().value()))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public List<Like> findByTweetId(TweetId tweetId) {
         return springDataLikeRepository.findByTweetId(tweetId.value())
@@ -60,8 +141,8 @@ public class LikeRepositoryImpl implements ILikeRepository {
 
     @Override
     @Transactional
-    public void delete(UserId userId, TweetId tweetId) {
-        springDataLikeRepository.deleteByUserIdAndTweetId(userId.value(), tweetId.value());
+    public boolean delete(UserId userId, TweetId tweetId) {
+        return springDataLikeRepository.deleteByUserIdAndTweetId(userId.value(), tweetId.value()) > 0;
     }
 
     @Override
@@ -95,4 +176,20 @@ public class LikeRepositoryImpl implements ILikeRepository {
             .map(TweetId::new)
             .collect(Collectors.toList());
     }
+
+    @Override
+    public List<TweetId> findLikedTweetIdsIn(UserId userId, List<TweetId> tweetIds) {
+        if (tweetIds == null || tweetIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> uuidList = tweetIds.stream()
+            .map(TweetId::value)
+            .collect(Collectors.toList());
+
+        return springDataLikeRepository.findLikedTweetIdsIn(userId.value(), uuidList)
+            .stream()
+            .map(TweetId::new)
+            .collect(Collectors.toList());
+    }
 }
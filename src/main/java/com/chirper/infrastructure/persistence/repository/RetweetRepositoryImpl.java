@@ -5,9 +5,13 @@ import com.chirper.domain.repository.IRetweetRepository;
 import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.infrastructure.persistence.entity.RetweetJpaEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,14 +23,26 @@ import java.util.stream.Collectors;
  * RetweetRepositoryImpl
  * IRetweetRepositoryの実装クラス
  * Spring Data JPAを使用してデータアクセスを行う
+ * 重複をスキップする保存（INSERT ... ON CONFLICT）のみJdbcTemplateで1文で実行する
  */
 @Component
 public class RetweetRepositoryImpl implements IRetweetRepository {
 
+    /**
+     * 1件を1文でINSERTする
+     * 既存のリツイートはスキップし、保存された場合のみIDを返す
+     */
+    private static final String INSERT_ONE_IF_ABSENT_SQL =
+        "INSERT INTO retweets (id, user_id, tweet_id, created_at) VALUES (?, ?, ?, ?) "
+        + "ON CONFLICT (user_id, tweet_id) DO NOTHING "
+        + "RETURNING id";
+
     private final SpringDataRetweetRepository springDataRetweetRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public RetweetRepositoryImpl(SpringDataRetweetRepository springDataRetweetRepository) {
+    public RetweetRepositoryImpl(SpringDataRetweetRepository springDataRetweetRepository, JdbcTemplate jdbcTemplate) {
         this.springDataRetweetRepository = springDataRetweetRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -36,6 +52,20 @@ public class RetweetRepositoryImpl implements IRetweetRepository {
         return savedEntity.toDomainEntity();
     }
 
+    @Override
+    @Transactional
+    public boolean saveIfAbsent(Retweet retweet) {
+        List<UUID> insertedIds = jdbcTemplate.query(
+            INSERT_ONE_IF_ABSENT_SQL,
+            (resultSet, rowNum) -> resultSet.getObject(1, UUID.class),
+            retweet.getId().value(),
+            retweet.getUserId().value(),
+            retweet.getTweetId().value(),
+            Timestamp.valueOf(LocalDateTime.ofInstant(retweet.getCreatedAt(), ZoneOffset.UTC))
+        );
+        return !insertedIds.isEmpty();
+    }
+
     @Override
     public List<Retweet> findByTweetId(TweetId tweetId) {
         return springDataRetweetRepository.findByTweetId(tweetId.value())
@@ -60,8 +90,8 @@ public class RetweetRepositoryImpl implements IRetweetRepository {
 
     @Override
     @Transactional
-    public void delete(UserId userId, TweetId tweetId) {
-        springDataRetweetRepository.deleteByUserIdAndTweetId(userId.value(), tweetId.value());
+    public boolean delete(UserId userId, TweetId tweetId) {
+        return springDataRetweetRepository.deleteByUserIdAndTweetId(userId.value(), tweetId.value()) > 0;
     }
 
     @Override
@@ -95,4 +125,20 @@ public class RetweetRepositoryImpl implements IRetweetRepository {
             .map(TweetId::new)
             .collect(Collectors.toList());
     }
+
+    @Override
+    public List<TweetId> findRetweetedTweetIdsIn(UserId userId, List<TweetId> tweetIds) {
+        if (tweetIds == null || tweetIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> uuidList = tweetIds.stream()
+            .map(TweetId::value)
+            .collect(Collectors.toList());
+
+        return springDataRetweetRepository.findRetweetedTweetIdsIn(userId.value(), uuidList)
+            .stream()
+            .map(TweetId::new)
+            .collect(Collectors.toList());
+    }
 }
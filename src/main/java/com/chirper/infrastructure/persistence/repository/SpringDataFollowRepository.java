@@ -3,6 +3,7 @@ package com.chirper.infrastructure.persistence.repository;
 import com.chirper.infrastructure.persistence.entity.FollowJpaEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -38,22 +39,69 @@ public interface SpringDataFollowRepository extends JpaRepository<FollowJpaEntit
      * フォロー関係を削除
      * @param followerUserId フォローするユーザーのID
      * @param followedUserId フォローされるユーザーのID
+     * @return 削除件数
      */
-    void deleteByFollowerUserIdAndFollowedUserId(UUID followerUserId, UUID followedUserId);
+    @Modifying
+    @Query("DELETE FROM FollowJpaEntity f WHERE f.followerUserId = :followerUserId AND f.followedUserId = :followedUserId")
+    int deleteByFollowerUserIdAndFollowedUserId(
+        @Param("followerUserId") UUID followerUserId,
+        @Param("followedUserId") UUID followedUserId
+    );
 
     /**
-     * 指定ユーザーのフォロワー数を取得
-     * @param followedUserId フォローされているユーザーのID
-     * @return フォロワー数
+     * 指定ユーザーのフォロワー数を非正規化カウンターから取得
+     * @param userId フォローされているユーザーのID
+     * @return フォロワー数（ユーザーが存在しない場合null）
      */
-    long countByFollowedUserId(UUID followedUserId);
+    @Query(value = "SELECT followers_count FROM users WHERE id = :userId", nativeQuery = true)
+    Long findFollowersCount(@Param("userId") UUID userId);
 
     /**
-     * 指定ユーザーのフォロー数を取得
-     * @param followerUserId フォローしているユーザーのID
-     * @return フォロー数
+     * 指定ユーザーのフォロー数を非正規化カウンターから取得
+     * @param userId フォローしているユーザーのID
+     * @return フォロー数（ユーザーが存在しない場合null）
+     */
+    @Query(value = "SELECT following_count FROM users WHERE id = :userId", nativeQuery = true)
+    Long findFollowingCount(@Param("userId") UUID userId);
+
+    /**
+     * フォロー数・フォロワー数のカウンターを1文で増減
+     * 両ユーザーの行を主キー順にロックするため、相互フォローが同時に発生してもデッドロックしにくい
+     * @param followerUserId フォローするユーザーのID（following_countを増減）
+     * @param followedUserId フォローされるユーザーのID（followers_countを増減）
+     * @param delta 増減量
+     * @return 更新行数
      */
-    long countByFollowerUserId(UUID followerUserId);
+    @Modifying
+    @Query(value = "UPDATE users SET "
+        + "following_count = following_count + CASE WHEN id = :followerUserId THEN :delta ELSE 0 END, "
+        + "followers_count = followers_count + CASE WHEN id = :followedUserId THEN :delta ELSE 0 END "
+        + "WHERE id IN (:followerUserId, :followedUserId)", nativeQuery = true)
+    int adjustFollowCounts(
+        @Param("followerUserId") UUID followerUserId,
+        @Param("followedUserId") UUID followedUserId,
+        @Param("delta") long delta
+    );
+
+    /**
+     * 1人のユーザーによる複数のフォロー・フォロー解除についてカウンターを1文で増減
+     * @param followerUserId フォローするユーザーのID（following_countをfollowingDeltaだけ増減）
+     * @param followedUserIds フォローされるユーザーIDのリスト（各followers_countをdeltaだけ増減）
+     * @param followingDelta フォロー数の増減量（件数×delta）
+     * @param delta フォロワー数の増減量
+     * @return 更新行数
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET "
+        + "following_count = following_count + CASE WHEN id = :followerUserId THEN :followingDelta ELSE 0 END, "
+        + "followers_count = followers_count + CASE WHEN id IN (:followedUserIds) THEN :delta ELSE 0 END "
+        + "WHERE id = :followerUserId OR id IN (:followedUserIds)", nativeQuery = true)
+    int adjustFollowCountsForFollower(
+        @Param("followerUserId") UUID followerUserId,
+        @Param("followedUserIds") List<UUID> followedUserIds,
+        @Param("followingDelta") long followingDelta,
+        @Param("delta") long delta
+    );
 
     /**
      * フォロー関係が存在するかチェック
@@ -89,4 +137,50 @@ public interface SpringDataFollowRepository extends JpaRepository<FollowJpaEntit
      */
     @Query("SELECT f.followedUserId FROM FollowJpaEntity f WHERE f.followerUserId = :followerUserId AND f.followedUserId IN :targetUserIds")
     List<UUID> findFollowedUserIdsIn(@Param("followerUserId") UUID followerUserId, @Param("targetUserIds") List<UUID> targetUserIds);
+
+    /**
+     * 相互フォローのユーザーIDリストを取得（ページネーション対応）
+     * @param userId 対象ユーザーのID
+     * @param pageable ページネーション情報
+     * @return 相互フォローのユーザーIDリスト
+     */
+    @Query("SELECT f.followedUserId FROM FollowJpaEntity f WHERE f.followerUserId = :userId "
+        + "AND EXISTS (SELECT 1 FROM FollowJpaEntity r WHERE r.followerUserId = f.followedUserId AND r.followedUserId = :userId) "
+        + "ORDER BY f.createdAt DESC")
+    List<UUID> findMutualFollowUserIds(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * 相互フォロー数を取得
+     * @param userId 対象ユーザーのID
+     * @return 相互フォロー数
+     */
+    @Query("SELECT COUNT(f) FROM FollowJpaEntity f WHERE f.followerUserId = :userId "
+        + "AND EXISTS (SELECT 1 FROM FollowJpaEntity r WHERE r.followerUserId = f.followedUserId AND r.followedUserId = :userId)")
+    long countMutualFollows(@Param("userId") UUID userId);
+
+    /**
+     * 対象ユーザーのフォロワーのうち、閲覧ユーザーがフォローしているユーザーIDリストを取得（ページネーション対応）
+     * @param followedUserId 対象ユーザーのID
+     * @param viewerUserId 閲覧ユーザーのID
+     * @param pageable ページネーション情報
+     * @return 該当ユーザーIDリスト
+     */
+    @Query("SELECT f.followerUserId FROM FollowJpaEntity f WHERE f.followedUserId = :followedUserId "
+        + "AND EXISTS (SELECT 1 FROM FollowJpaEntity v WHERE v.followerUserId = :viewerUserId AND v.followedUserId = f.followerUserId) "
+        + "ORDER BY f.createdAt DESC")
+    List<UUID> findFollowersFollowedBy(
+        @Param("followedUserId") UUID followedUserId,
+        @Param("viewerUserId") UUID viewerUserId,
+        Pageable pageable
+    );
+
+    /**
+     * 対象ユーザーのフォロワーのうち、閲覧ユーザーがフォローしている人数を取得
+     * @param followedUserId 対象ユーザーのID
+     * @param viewerUserId 閲覧ユーザーのID
+     * @return 該当人数
+     */
+    @Query("SELECT COUNT(f) FROM FollowJpaEntity f WHERE f.followedUserId = :followedUserId "
+        + "AND EXISTS (SELECT 1 FROM FollowJpaEntity v WHERE v.followerUserId = :viewerUserId AND v.followedUserId = f.followerUserId)")
+    long countFollowersFollowedBy(@Param("followedUserId") UUID followedUserId, @Param("viewerUserId") UUID viewerUserId);
 }
@@ -2,6 +2,7 @@ package com.chirper.infrastructure.persistence.repository;
 
 import com.chirper.infrastructure.persistence.entity.LikeJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -43,10 +44,14 @@ public interface SpringDataLikeRepository extends JpaRepository<LikeJpaEntity, U
 
     /**
      * いいねを削除
+     * 1文のDELETEで削除し、事前のSELECTを発行しない
      * @param userId ユーザーID
      * @param tweetId ツイートID
+     * @return 削除件数
      */
-    void deleteByUserIdAndTweetId(UUID userId, UUID tweetId);
+    @Modifying
+    @Query("DELETE FROM LikeJpaEntity l WHERE l.userId = :userId AND l.tweetId = :tweetId")
+    int deleteByUserIdAndTweetId(@Param("userId") UUID userId, @Param("tweetId") UUID tweetId);
 
     /**
      * 指定ツイートのいいね数を取得
@@ -57,11 +62,11 @@ public interface SpringDataLikeRepository extends JpaRepository<LikeJpaEntity, U
 
     /**
      * 複数ツイートのいいね数をバッチ取得（N+1クエリ回避）
-     * GROUP BYを使用して一括取得
+     * GROUP BYを使用して一括取得（COUNT対象をuser_idにしてカバリングインデックスのみで集計する）
      * @param tweetIds ツイートIDのリスト
      * @return ツイートIDといいね数のリスト（Object[]形式）
      */
-    @Query("SELECT l.tweetId, COUNT(l) FROM LikeJpaEntity l WHERE l.tweetId IN :tweetIds GROUP BY l.tweetId")
+    @Query("SELECT l.tweetId, COUNT(l.userId) FROM LikeJpaEntity l WHERE l.tweetId IN :tweetIds GROUP BY l.tweetId")
     List<Object[]> countByTweetIds(@Param("tweetIds") List<UUID> tweetIds);
 
     /**
@@ -71,4 +76,13 @@ public interface SpringDataLikeRepository extends JpaRepository<LikeJpaEntity, U
      */
     @Query("SELECT l.tweetId FROM LikeJpaEntity l WHERE l.userId = :userId")
     List<UUID> findTweetIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 指定ツイートIDのうち、指定ユーザーがいいね済みのツイートIDを取得
+     * @param userId ユーザーID
+     * @param tweetIds 確認対象のツイートIDリスト
+     * @return いいね済みのツイートIDリスト
+     */
+    @Query("SELECT l.tweetId FROM LikeJpaEntity l WHERE l.userId = :userId AND l.tweetId IN :tweetIds")
+    List<UUID> findLikedTweetIdsIn(@Param("userId") UUID userId, @Param("tweetIds") List<UUID> tweetIds);
 }
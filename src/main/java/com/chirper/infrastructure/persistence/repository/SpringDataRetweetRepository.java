@@ -2,6 +2,7 @@ package com.chirper.infrastructure.persistence.repository;
 
 import com.chirper.infrastructure.persistence.entity.RetweetJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -41,10 +42,14 @@ public interface SpringDataRetweetRepository extends JpaRepository<RetweetJpaEnt
 
     /**
      * リツイートを削除
+     * 1文のDELETEで削除し、事前のSELECTを発行しない
      * @param userId ユーザーID
      * @param tweetId ツイートID
+     * @return 削除件数
      */
-    void deleteByUserIdAndTweetId(UUID userId, UUID tweetId);
+    @Modifying
+    @Query("DELETE FROM RetweetJpaEntity r WHERE r.userId = :userId AND r.tweetId = :tweetId")
+    int deleteByUserIdAndTweetId(@Param("userId") UUID userId, @Param("tweetId") UUID tweetId);
 
     /**
      * 指定ツイートのリツイート数を取得
@@ -55,11 +60,11 @@ public interface SpringDataRetweetRepository extends JpaRepository<RetweetJpaEnt
 
     /**
      * 複数ツイートのリツイート数をバッチ取得（N+1クエリ回避）
-     * GROUP BYを使用して一括取得
+     * GROUP BYを使用して一括取得（COUNT対象をuser_idにしてカバリングインデックスのみで集計する）
      * @param tweetIds ツイートIDのリスト
      * @return ツイートIDとリツイート数のリスト（Object[]形式）
      */
-    @Query("SELECT r.tweetId, COUNT(r) FROM RetweetJpaEntity r WHERE r.tweetId IN :tweetIds GROUP BY r.tweetId")
+    @Query("SELECT r.tweetId, COUNT(r.userId) FROM RetweetJpaEntity r WHERE r.tweetId IN :tweetIds GROUP BY r.tweetId")
     List<Object[]> countByTweetIds(@Param("tweetIds") List<UUID> tweetIds);
 
     /**
@@ -69,4 +74,13 @@ public interface SpringDataRetweetRepository extends JpaRepository<RetweetJpaEnt
      */
     @Query("SELECT r.tweetId FROM RetweetJpaEntity r WHERE r.userId = :userId")
     List<UUID> findTweetIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 指定ツイートIDのうち、指定ユーザーがリツイート済みのツイートIDを取得
+     * @param userId ユーザーID
+     * @param tweetIds 確認対象のツイートIDリスト
+     * @return リツイート済みのツイートIDリスト
+     */
+    @Query("SELECT r.tweetId FROM RetweetJpaEntity r WHERE r.userId = :userId AND r.tweetId IN :tweetIds")
+    List<UUID> findRetweetedTweetIdsIn(@Param("userId") UUID userId, @Param("tweetIds") List<UUID> tweetIds);
 }
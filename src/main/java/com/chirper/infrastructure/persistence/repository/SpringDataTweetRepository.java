@@ -1,18 +1,32 @@
 package com.chirper.infrastructure.persistence.repository;
 
 import com.chirper.infrastructure.persistence.entity.TweetJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * SpringDataTweetRepository
  * Spring Data JPAによるTweetJpaEntityのリポジトリインターフェース
+ *
+ * 一覧取得クエリの結果はドメインモデルへ変換するだけで更新しないため、
+ * 読み取り専用ヒントを付与してダーティチェック用スナップショットの保持を省略する
+ *
+ * tweetsテーブルはcreated_atで月次にレンジパーティション分割されている。
+ * 一覧取得クエリは直近期間の下限（since）を受け取り、直近期間と古い期間をそれぞれパーティションプルーニングした
+ * 2つのブランチをUNION ALLで連結し、直近期間で足りない場合も同じ1回のクエリで古い期間から補う。
+ * UNION ALLは結果の順序を保証しないため、外側でも (作成日時, ID) 降順に並べ直す。
+ * 各ブランチは要求件数でLIMITされるため、古い期間のブランチが読む行数・外側で並べ直す行数はページサイズで抑えられる
  */
 @Repository
 public interface SpringDataTweetRepository extends JpaRepository<TweetJpaEntity, UUID> {
@@ -25,21 +39,149 @@ public interface SpringDataTweetRepository extends JpaRepository<TweetJpaEntity,
     @Query("SELECT t FROM TweetJpaEntity t WHERE t.id = :id AND t.isDeleted = false")
     java.util.Optional<TweetJpaEntity> findByIdAndIsDeletedFalse(@Param("id") UUID id);
 
+    /**
+     * IDと作成日時の範囲でツイートを検索（論理削除除外）
+     * 作成日時の範囲に該当するパーティションのみを探索する
+     * @param id ツイートID
+     * @param from 作成日時の下限（この時刻を含む）
+     * @param to 作成日時の上限（この時刻を含まない）
+     * @return 見つかった場合はTweetJpaEntity、論理削除済み・範囲外または存在しない場合はOptional.empty()
+     */
+    @Query("SELECT t FROM TweetJpaEntity t WHERE t.id = :id AND t.isDeleted = false " +
+           "AND t.createdAt >= :from AND t.createdAt < :to")
+    java.util.Optional<TweetJpaEntity> findByIdAndIsDeletedFalseCreatedBetween(
+        @Param("id") UUID id,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+
+    /**
+     * IDと作成日時の範囲でツイートの作成日時を取得（論理削除済みを含む、カーソルの解決用）
+     * 作成日時の範囲に該当するパーティションのみを探索する
+     * @param id ツイートID
+     * @param from 作成日時の下限（この時刻を含む）
+     * @param to 作成日時の上限（この時刻を含まない）
+     * @return 見つかった場合は作成日時、範囲外または存在しない場合はOptional.empty()
+     */
+    @Query("SELECT t.createdAt FROM TweetJpaEntity t WHERE t.id = :id " +
+           "AND t.createdAt >= :from AND t.createdAt < :to")
+    java.util.Optional<Instant> findCreatedAtByIdCreatedBetween(
+        @Param("id") UUID id,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+
+    /**
+     * IDでツイートの作成日時を取得（論理削除済みを含む、カーソルの解決用）
+     * @param id ツイートID
+     * @return 見つかった場合は作成日時、存在しない場合はOptional.empty()
+     */
+    @Query("SELECT t.createdAt FROM TweetJpaEntity t WHERE t.id = :id")
+    java.util.Optional<Instant> findCreatedAtById(@Param("id") UUID id);
+
     /**
      * 複数のユーザーIDに基づいてツイートを取得（タイムライン用）
      * N+1クエリ問題を回避するため、効率的なクエリを使用
      * 論理削除されたツイート(isDeleted=true)は除外
+     * 直近期間（since以降）と古い期間をUNION ALLで連結し、外側で並べ直してLIMITで打ち切る。
+     * 各ブランチはパーティションプルーニングされ、それぞれ limit + offset 件までしか読まない
      * @param userIds ユーザーIDのリスト
-     * @param pageable ページネーション情報
-     * @return ツイートのリスト（作成日時降順）
+     * @param since 直近期間の下限（この時刻を含む、UTC）
+     * @param limit 取得件数
+     * @param offset 読み飛ばす件数
+     * @return ツイートのリスト（作成日時・ID降順）
      */
-    @Query("SELECT t FROM TweetJpaEntity t " +
-           "WHERE t.userId IN :userIds " +
-           "AND t.isDeleted = false " +
-           "ORDER BY t.createdAt DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM (" +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id IN (:userIds) AND t.is_deleted = false " +
+                   "AND t.created_at >= :since " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit + :offset) " +
+                   "UNION ALL " +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id IN (:userIds) AND t.is_deleted = false " +
+                   "AND t.created_at < :since " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit + :offset)" +
+                   ") recent_first " +
+                   "ORDER BY recent_first.created_at DESC, recent_first.id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
     List<TweetJpaEntity> findByUserIdInAndIsDeletedFalse(
         @Param("userIds") List<UUID> userIds,
-        Pageable pageable
+        @Param("since") LocalDateTime since,
+        @Param("limit") int limit,
+        @Param("offset") long offset
+    );
+
+    /**
+     * 複数のユーザーIDに基づいて最新のツイートを取得（タイムラインのカーソルページネーション1ページ目）
+     * 作成日時が同じツイートの順序を確定させるため、IDを第2ソートキーにする
+     * 直近期間と古い期間のUNION ALLを外側で並べ直してLIMITで打ち切る。各ブランチはそれぞれlimit件までしか読まない
+     * @param userIds ユーザーIDのリスト
+     * @param since 直近期間の下限（この時刻を含む、UTC）
+     * @param limit 取得件数
+     * @return ツイートのリスト（作成日時・ID降順）
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM (" +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id IN (:userIds) AND t.is_deleted = false " +
+                   "AND t.created_at >= :since " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit) " +
+                   "UNION ALL " +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id IN (:userIds) AND t.is_deleted = false " +
+                   "AND t.created_at < :since " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit)" +
+                   ") recent_first " +
+                   "ORDER BY recent_first.created_at DESC, recent_first.id DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<TweetJpaEntity> findTimelineLatest(
+        @Param("userIds") List<UUID> userIds,
+        @Param("since") LocalDateTime since,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 複数のユーザーIDに基づいて、カーソルのツイートより古いツイートを取得（タイムラインのカーソルページネーション2ページ目以降）
+     * (作成日時, ID) の行値比較によるキーセットページネーションのため、OFFSETと異なり読み飛ばす行がなく、
+     * 取得中に新しいツイートが投稿されても重複・欠落が起きない
+     * カーソルの作成日時をパラメータで受け取り、カーソルより新しいパーティションを探索対象から除外する
+     * （行値比較はパーティションプルーニングに使われないため、作成日時単独の条件を併記する）
+     * 直近期間と古い期間のUNION ALLを外側で並べ直してLIMITで打ち切る。各ブランチはそれぞれlimit件までしか読まない
+     * @param userIds ユーザーIDのリスト
+     * @param cursor 前ページ最後のツイートID
+     * @param cursorCreatedAt 前ページ最後のツイートの作成日時（UTC）
+     * @param since 直近期間の下限（この時刻を含む、UTC）
+     * @param limit 取得件数
+     * @return ツイートのリスト（作成日時・ID降順）
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM (" +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id IN (:userIds) AND t.is_deleted = false " +
+                   "AND t.created_at >= :since " +
+                   "AND t.created_at <= :cursorCreatedAt " +
+                   "AND (t.created_at, t.id) < (:cursorCreatedAt, :cursor) " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit) " +
+                   "UNION ALL " +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id IN (:userIds) AND t.is_deleted = false " +
+                   "AND t.created_at < :since " +
+                   "AND t.created_at <= :cursorCreatedAt " +
+                   "AND (t.created_at, t.id) < (:cursorCreatedAt, :cursor) " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit)" +
+                   ") recent_first " +
+                   "ORDER BY recent_first.created_at DESC, recent_first.id DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<TweetJpaEntity> findTimelineBefore(
+        @Param("userIds") List<UUID> userIds,
+        @Param("cursor") UUID cursor,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("since") LocalDateTime since,
+        @Param("limit") int limit
     );
 
     /**
@@ -48,6 +190,7 @@ public interface SpringDataTweetRepository extends JpaRepository<TweetJpaEntity,
      * @param pageable ページング情報
      * @return ツイートのリスト
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT t FROM TweetJpaEntity t WHERE " +
            "t.isDeleted = false AND " +
            "LOWER(t.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -67,13 +210,32 @@ public interface SpringDataTweetRepository extends JpaRepository<TweetJpaEntity,
     /**
      * 指定ユーザーのツイートを取得（ユーザープロフィール用）
      * 論理削除されたツイート(isDeleted=true)は除外
+     * 直近期間と古い期間のUNION ALLを外側で並べ直してLIMITで打ち切る。各ブランチはそれぞれ limit + offset 件までしか読まない
      * @param userId ユーザーID
-     * @param pageable ページング情報
-     * @return ツイートのリスト（作成日時降順）
+     * @param since 直近期間の下限（この時刻を含む、UTC）
+     * @param limit 取得件数
+     * @param offset 読み飛ばす件数
+     * @return ツイートのリスト（作成日時・ID降順）
      */
-    @Query("SELECT t FROM TweetJpaEntity t WHERE " +
-           "t.userId = :userId AND " +
-           "t.isDeleted = false " +
-           "ORDER BY t.createdAt DESC")
-    List<TweetJpaEntity> findByUserIdAndIsDeletedFalse(@Param("userId") UUID userId, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM (" +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id = :userId AND t.is_deleted = false " +
+                   "AND t.created_at >= :since " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit + :offset) " +
+                   "UNION ALL " +
+                   "(SELECT * FROM tweets t " +
+                   "WHERE t.user_id = :userId AND t.is_deleted = false " +
+                   "AND t.created_at < :since " +
+                   "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit + :offset)" +
+                   ") recent_first " +
+                   "ORDER BY recent_first.created_at DESC, recent_first.id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<TweetJpaEntity> findByUserIdAndIsDeletedFalse(
+        @Param("userId") UUID userId,
+        @Param("since") LocalDateTime since,
+        @Param("limit") int limit,
+        @Param("offset") long offset
+    );
 }
@@ -1,9 +1,12 @@
 package com.chirper.infrastructure.persistence.repository;
 
 import com.chirper.infrastructure.persistence.entity.UserJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -38,6 +41,7 @@ public interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, U
      * @param pageable ページング情報
      * @return ユーザーのリスト
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT u FROM UserJpaEntity u WHERE " +
            "LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(u.displayName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
@@ -56,8 +60,10 @@ public interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, U
     /**
      * 複数のユーザーIDでユーザーをバッチ取得（N+1クエリ回避）
      * Spring Data JPAの組み込みメソッドfindAllById()を使用
+     * 結果はドメインモデルへの変換のみに使うため読み取り専用で取得
      * @param userIds ユーザーIDのリスト
      * @return ユーザーのリスト
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<UserJpaEntity> findAllById(Iterable<UUID> userIds);
 }
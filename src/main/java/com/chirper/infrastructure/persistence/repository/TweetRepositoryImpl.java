@@ -1,15 +1,22 @@
 package com.chirper.infrastructure.persistence.repository;
 
 import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.exception.InvalidOperationException;
 import com.chirper.domain.repository.ITweetRepository;
 import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.UuidV7;
 import com.chirper.infrastructure.persistence.entity.TweetJpaEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,26 +27,59 @@ import java.util.stream.Collectors;
  * ITweetRepositoryの実装クラス
  * Spring Data JPAを使用してデータアクセスを行う
  * N+1クエリ問題を回避するための最適化を実装
+ *
+ * tweetsテーブルは作成日時で月次にパーティション分割されているため、
+ * タイムライン・プロフィールの一覧は直近期間（recent-window）と古い期間のUNION ALLを1回のクエリで実行し、
+ * 各期間から要求件数までしか読まない。
+ * ID検索・カーソルの解決はUUIDv7に埋め込まれた生成時刻の前後のパーティションだけを先に探索し、
+ * カーソル以降の取得はカーソルの作成日時より新しいパーティションを探索しない
  */
 @Component
 public class TweetRepositoryImpl implements ITweetRepository {
 
+    /**
+     * UUIDv7の生成時刻と作成日時のずれの許容範囲
+     */
+    private static final Duration ID_TIMESTAMP_TOLERANCE = Duration.ofDays(1);
+
     private final SpringDataTweetRepository springDataTweetRepository;
+    private final Duration recentWindow;
 
-    public TweetRepositoryImpl(SpringDataTweetRepository springDataTweetRepository) {
+    public TweetRepositoryImpl(
+        SpringDataTweetRepository springDataTweetRepository,
+        @Value("${chirper.tweets.partitioning.recent-window:31d}") Duration recentWindow
+    ) {
         this.springDataTweetRepository = springDataTweetRepository;
+        this.recentWindow = recentWindow;
     }
 
     @Override
     public Tweet save(Tweet tweet) {
-        TweetJpaEntity jpaEntity = TweetJpaEntity.fromDomainEntity(tweet);
+        TweetJpaEntity jpaEntity = TweetJpaEntity.fromDomainEntity(tweet, true);
+        TweetJpaEntity savedEntity = springDataTweetRepository.save(jpaEntity);
+        return savedEntity.toDomainEntity();
+    }
+
+    @Override
+    public Tweet update(Tweet tweet) {
+        TweetJpaEntity jpaEntity = TweetJpaEntity.fromDomainEntity(tweet, false);
         TweetJpaEntity savedEntity = springDataTweetRepository.save(jpaEntity);
         return savedEntity.toDomainEntity();
     }
 
     @Override
     public Optional<Tweet> findById(TweetId tweetId) {
-        return springDataTweetRepository.findByIdAndIsDeletedFalse(tweetId.value())
+        UUID id = tweetId.value();
+        if (id.version() == 7) {
+            Instant issuedAt = UuidV7.timestampOf(id);
+            Optional<TweetJpaEntity> found = springDataTweetRepository.findByIdAndIsDeletedFalseCreatedBetween(
+                id, issuedAt.minus(ID_TIMESTAMP_TOLERANCE), issuedAt.plus(ID_TIMESTAMP_TOLERANCE));
+            if (found.isPresent()) {
+                return found.map(TweetJpaEntity::toDomainEntity);
+            }
+        }
+        // UUIDv4で採番された既存ツイート、または見つからなかった場合は全パーティションを検索
+        return springDataTweetRepository.findByIdAndIsDeletedFalse(id)
             .map(TweetJpaEntity::toDomainEntity);
     }
 
@@ -53,14 +93,41 @@ public class TweetRepositoryImpl implements ITweetRepository {
             .map(UserId::value)
             .collect(Collectors.toList());
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, size);
 
-        return springDataTweetRepository.findByUserIdInAndIsDeletedFalse(uuidList, pageable)
+        return springDataTweetRepository.findByUserIdInAndIsDeletedFalse(
+                uuidList, recentWindowStart(), pageable.getPageSize(), pageable.getOffset())
             .stream()
             .map(TweetJpaEntity::toDomainEntity)
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Tweet> findByUserIdsBefore(List<UserId> userIds, TweetId cursor, int size) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> uuidList = userIds.stream()
+            .map(UserId::value)
+            .collect(Collectors.toList());
+
+        LocalDateTime since = recentWindowStart();
+        List<TweetJpaEntity> entities;
+        if (cursor == null) {
+            entities = springDataTweetRepository.findTimelineLatest(uuidList, since, size);
+        } else {
+            Instant cursorCreatedAt = findCreatedAt(cursor.value())
+                .orElseThrow(() -> new InvalidOperationException("カーソルのツイートが見つかりません: " + cursor.value()));
+            entities = springDataTweetRepository.findTimelineBefore(
+                uuidList, cursor.value(), toUtc(cursorCreatedAt), since, size);
+        }
+
+        return entities.stream()
+            .map(TweetJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(TweetId tweetId) {
         // This method cannot enforce domain rules (authorization, already-deleted checks)
@@ -68,10 +135,10 @@ public class TweetRepositoryImpl implements ITweetRepository {
         // Deletion must be performed at the Application layer using this pattern:
         // 1. Optional<Tweet> tweet = repository.findById(tweetId)
         // 2. tweet.delete(userId) - enforces domain rules
-        // 3. repository.save(tweet) - persists isDeleted flag
+        // 3. repository.update(tweet) - persists isDeleted flag
         throw new UnsupportedOperationException(
             "Physical delete is not supported. Use Application layer to perform logical delete: " +
-            "load tweet -> tweet.delete(userId) -> save(tweet)"
+            "load tweet -> tweet.delete(userId) -> update(tweet)"
         );
     }
 
@@ -91,10 +158,42 @@ public class TweetRepositoryImpl implements ITweetRepository {
 
     @Override
     public List<Tweet> findByUserId(UserId userId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return springDataTweetRepository.findByUserIdAndIsDeletedFalse(userId.value(), pageable)
+        Pageable pageable = PageRequest.of(page, size);
+        return springDataTweetRepository.findByUserIdAndIsDeletedFalse(
+                userId.value(), recentWindowStart(), pageable.getPageSize(), pageable.getOffset())
             .stream()
             .map(TweetJpaEntity::toDomainEntity)
             .collect(Collectors.toList());
     }
+
+    /**
+     * カーソルのツイートの作成日時を取得（論理削除済みを含む）
+     * findById()と同様に、UUIDv7の生成時刻の前後のパーティションだけを先に探索する
+     */
+    private Optional<Instant> findCreatedAt(UUID id) {
+        if (id.version() == 7) {
+            Instant issuedAt = UuidV7.timestampOf(id);
+            Optional<Instant> found = springDataTweetRepository.findCreatedAtByIdCreatedBetween(
+                id, issuedAt.minus(ID_TIMESTAMP_TOLERANCE), issuedAt.plus(ID_TIMESTAMP_TOLERANCE));
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return springDataTweetRepository.findCreatedAtById(id);
+    }
+
+    /**
+     * 直近期間の下限（UTC）
+     * 一覧クエリはこの時刻で直近期間と古い期間のブランチに分かれる
+     */
+    private LocalDateTime recentWindowStart() {
+        return toUtc(Instant.now().minus(recentWindow));
+    }
+
+    /**
+     * TIMESTAMP（タイムゾーンなし、UTCで保存）列と比較するためUTCのLocalDateTimeに変換
+     */
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
 }
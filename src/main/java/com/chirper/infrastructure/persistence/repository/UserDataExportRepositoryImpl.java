@@ -0,0 +1,123 @@
+package com.chirper.infrastructure.persistence.repository;
+
+import com.chirper.domain.repository.IUserDataExportRepository;
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * UserDataExportRepositoryImpl
+ * IUserDataExportRepositoryのJDBC実装
+ *
+ * 前方専用カーソルにフェッチサイズを指定して読み出し、1行ずつconsumerへ渡す。
+ * PostgreSQLドライバはautocommit無効（トランザクション内）の場合のみフェッチサイズ単位で取得するため、
+ * 呼び出し側でトランザクションを開始すること
+ */
+@Component
+public class UserDataExportRepositoryImpl implements IUserDataExportRepository {
+
+    // 部分インデックス idx_user_id_created_at_id_live を使用
+    private static final String TWEETS_SQL = """
+        SELECT id, content, created_at, updated_at FROM tweets
+        WHERE user_id = ? AND is_deleted = false
+        ORDER BY created_at DESC, id DESC
+        """;
+
+    private static final String LIKES_SQL = """
+        SELECT tweet_id, created_at FROM likes
+        WHERE user_id = ?
+        ORDER BY created_at DESC, id DESC
+        """;
+
+    // idx_follower_user_id_created_at / idx_followed_user_id_created_at の順に読み出し、ユーザー名を結合
+    private static final String FOLLOWING_SQL = """
+        SELECT u.id, u.username, f.created_at FROM follows f
+        JOIN users u ON u.id = f.followed_user_id
+        WHERE f.follower_user_id = ?
+        ORDER BY f.created_at DESC
+        """;
+
+    private static final String FOLLOWERS_SQL = """
+        SELECT u.id, u.username, f.created_at FROM follows f
+        JOIN users u ON u.id = f.follower_user_id
+        WHERE f.followed_user_id = ?
+        ORDER BY f.created_at DESC
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public UserDataExportRepositoryImpl(
+        JdbcTemplate jdbcTemplate,
+        @Value("${chirper.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void streamTweets(UserId userId, Consumer<ExportedTweet> consumer) {
+        stream(TWEETS_SQL, userId, resultSet -> consumer.accept(new ExportedTweet(
+            new TweetId(resultSet.getObject("id", UUID.class)),
+            resultSet.getString("content"),
+            toInstant(resultSet.getTimestamp("created_at")),
+            toInstant(resultSet.getTimestamp("updated_at"))
+        )));
+    }
+
+    @Override
+    public void streamLikes(UserId userId, Consumer<ExportedLike> consumer) {
+        stream(LIKES_SQL, userId, resultSet -> consumer.accept(new ExportedLike(
+            new TweetId(resultSet.getObject("tweet_id", UUID.class)),
+            toInstant(resultSet.getTimestamp("created_at"))
+        )));
+    }
+
+    @Override
+    public void streamFollowing(UserId userId, Consumer<ExportedFollow> consumer) {
+        stream(FOLLOWING_SQL, userId, resultSet -> consumer.accept(toFollow(ExportedFollow.Direction.FOLLOWING, resultSet)));
+    }
+
+    @Override
+    public void streamFollowers(UserId userId, Consumer<ExportedFollow> consumer) {
+        stream(FOLLOWERS_SQL, userId, resultSet -> consumer.accept(toFollow(ExportedFollow.Direction.FOLLOWER, resultSet)));
+    }
+
+    private void stream(String sql, UserId userId, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setObject(1, userId.value());
+                return statement;
+            },
+            handler
+        );
+    }
+
+    private static ExportedFollow toFollow(ExportedFollow.Direction direction, ResultSet resultSet) throws SQLException {
+        return new ExportedFollow(
+            direction,
+            new UserId(resultSet.getObject("id", UUID.class)),
+            resultSet.getString("username"),
+            toInstant(resultSet.getTimestamp("created_at"))
+        );
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp.toLocalDateTime().toInstant(ZoneOffset.UTC);
+    }
+}
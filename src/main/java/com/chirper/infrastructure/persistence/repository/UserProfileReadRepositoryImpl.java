@@ -0,0 +1,144 @@
+package com.chirper.infrastructure.persistence.repository;
+
+import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.repository.IUserProfileReadRepository;
+import com.chirper.domain.repository.IUserProfileReadRepository.ProfileUser;
+import com.chirper.domain.valueobject.TweetContent;
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * UserProfileReadRepositoryImpl
+ * IUserProfileReadRepositoryの実装クラス
+ *
+ * ユーザー情報・非正規化フォロー数・閲覧ユーザーのフォロー状態・ツイート一覧を
+ * LATERAL JOINで1つのSQLにまとめ、プロフィール表示を1ラウンドトリップで応答する
+ * ユーザー情報は公開プロフィールに表示する列のみを取得する（メールアドレス・パスワードハッシュは取得しない）
+ * 結果はツイート1件につき1行（ツイートがない場合はツイート列がNULLの1行）
+ *
+ * ツイートは直近期間（recent-window）と古い期間のUNION ALLを外側で並べ直してLIMITで打ち切る。
+ * 各期間から limit + offset 件までしか読まず、直近期間で1ページを満たせない場合も同じ1回のクエリで補う
+ */
+@Component
+public class UserProfileReadRepositoryImpl implements IUserProfileReadRepository {
+
+    private static final String PROFILE_SQL = """
+        SELECT u.id, u.username, u.display_name, u.bio, u.avatar_url, u.created_at,
+               u.followers_count, u.following_count,
+               EXISTS (
+                   SELECT 1 FROM follows f
+                   WHERE f.follower_user_id = CAST(:viewerUserId AS uuid) AND f.followed_user_id = u.id
+               ) AS followed_by_viewer,
+               t.id AS tweet_id, t.content AS tweet_content,
+               t.created_at AS tweet_created_at, t.updated_at AS tweet_updated_at
+        FROM users u
+        LEFT JOIN LATERAL (
+            SELECT * FROM (
+                (SELECT id, content, created_at, updated_at
+                 FROM tweets
+                 WHERE user_id = u.id AND is_deleted = false AND created_at >= :since
+                 ORDER BY created_at DESC, id DESC
+                 LIMIT :limit + :offset)
+                UNION ALL
+                (SELECT id, content, created_at, updated_at
+                 FROM tweets
+                 WHERE user_id = u.id AND is_deleted = false AND created_at < :since
+                 ORDER BY created_at DESC, id DESC
+                 LIMIT :limit + :offset)
+            ) recent_first
+            ORDER BY recent_first.created_at DESC, recent_first.id DESC
+            LIMIT :limit OFFSET :offset
+        ) t ON true
+        WHERE u.username = :username
+        ORDER BY t.created_at DESC, t.id DESC
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration recentWindow;
+
+    public UserProfileReadRepositoryImpl(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        @Value("${chirper.tweets.partitioning.recent-window:31d}") Duration recentWindow
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recentWindow = recentWindow;
+    }
+
+    @Override
+    public Optional<UserProfile> findByUsername(Username username, UserId viewerUserId, int page, int size) {
+        // ページ番号・サイズの検証は他のリポジトリと同様にPageRequestに委ねる
+        PageRequest pageRequest = PageRequest.of(page, size);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("username", username.value())
+            .addValue("viewerUserId", viewerUserId != null ? viewerUserId.value() : null, Types.OTHER)
+            .addValue("limit", pageRequest.getPageSize())
+            .addValue("offset", pageRequest.getOffset())
+            .addValue("since", LocalDateTime.ofInstant(Instant.now().minus(recentWindow), ZoneOffset.UTC));
+
+        return Optional.ofNullable(jdbcTemplate.query(PROFILE_SQL, params, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            ProfileUser user = mapUser(rs);
+            long followersCount = rs.getLong("followers_count");
+            long followingCount = rs.getLong("following_count");
+            // 未ログイン（viewerUserIdがNULL）の場合、EXISTSは常にfalseになる
+            boolean followedByViewer = rs.getBoolean("followed_by_viewer");
+
+            List<Tweet> tweets = new ArrayList<>();
+            do {
+                UUID tweetId = rs.getObject("tweet_id", UUID.class);
+                if (tweetId != null) {
+                    tweets.add(Tweet.reconstruct(
+                        new TweetId(tweetId),
+                        user.id(),
+                        new TweetContent(rs.getString("tweet_content")),
+                        false,
+                        toInstant(rs, "tweet_created_at"),
+                        toInstant(rs, "tweet_updated_at")
+                    ));
+                }
+            } while (rs.next());
+
+            return new UserProfile(user, followersCount, followingCount, followedByViewer, tweets);
+        }));
+    }
+
+    private ProfileUser mapUser(ResultSet rs) throws SQLException {
+        return new ProfileUser(
+            new UserId(rs.getObject("id", UUID.class)),
+            rs.getString("username"),
+            rs.getString("display_name"),
+            rs.getString("bio"),
+            rs.getString("avatar_url"),
+            toInstant(rs, "created_at")
+        );
+    }
+
+    /**
+     * TIMESTAMP（タイムゾーンなし、UTCで保存）列をInstantに変換
+     */
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+        return value != null ? value.toInstant(ZoneOffset.UTC) : null;
+    }
+}
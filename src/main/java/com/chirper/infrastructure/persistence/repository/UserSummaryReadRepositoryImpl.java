@@ -0,0 +1,55 @@
+package com.chirper.infrastructure.persistence.repository;
+
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.valueobject.UserId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * UserSummaryReadRepositoryImpl
+ * IUserSummaryReadRepositoryの実装クラス
+ *
+ * JPAエンティティ（永続化コンテキストへの登録・ダーティチェック用スナップショット）を経由せず、
+ * JdbcTemplateで表示に必要な列のみを取得して読み取りモデルへ直接マッピングする
+ */
+@Component
+public class UserSummaryReadRepositoryImpl implements IUserSummaryReadRepository {
+
+    private static final String FIND_SUMMARIES_SQL =
+        "SELECT id, username, display_name, avatar_url FROM users WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserSummaryReadRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<UserId, UserSummary> findSummariesByIds(List<UserId> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Object[] uuids = userIds.stream().map(UserId::value).distinct().toArray();
+        Map<UserId, UserSummary> summaries = new HashMap<>(uuids.length * 2);
+        jdbcTemplate.query(
+            FIND_SUMMARIES_SQL,
+            statement -> statement.setArray(1, statement.getConnection().createArrayOf("uuid", uuids)),
+            resultSet -> {
+                UserId id = new UserId(resultSet.getObject(1, UUID.class));
+                summaries.put(id, new UserSummary(
+                    id,
+                    resultSet.getString(2),
+                    resultSet.getString(3),
+                    resultSet.getString(4)
+                ));
+            }
+        );
+        return summaries;
+    }
+}
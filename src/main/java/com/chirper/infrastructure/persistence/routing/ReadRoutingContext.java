@@ -0,0 +1,68 @@
+package com.chirper.infrastructure.persistence.routing;
+
+/**
+ * ReadRoutingContext
+ * リクエスト単位の読み取りルーティング状態（read-your-writes）を保持する
+ *
+ * 設計:
+ * - リクエスト開始時にプライマリ固定を指定でき、リクエスト中に書き込みトランザクションを実行した場合も以降の読み取りをプライマリに固定する
+ * - 状態はInheritableThreadLocalで保持し、リクエストスレッドから生成された仮想スレッド（hydrationExecutor）にも引き継ぐ
+ * - リクエスト終了後は状態を無効化し、引き継いだスレッドが残っていても影響しない
+ *
+ * リクエスト外（バックグラウンドジョブなど）では状態を持たず、トランザクションの読み取り専用属性だけでルーティングする
+ */
+public final class ReadRoutingContext {
+
+    private static final InheritableThreadLocal<RequestState> CURRENT = new InheritableThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    /**
+     * リクエストの開始
+     * @param pinnedToPrimary trueの場合、リクエスト中のすべての読み取りをプライマリで実行
+     */
+    public static void beginRequest(boolean pinnedToPrimary) {
+        CURRENT.set(new RequestState(pinnedToPrimary));
+    }
+
+    /**
+     * リクエストの終了
+     */
+    public static void endRequest() {
+        RequestState state = CURRENT.get();
+        if (state != null) {
+            state.active = false;
+        }
+        CURRENT.remove();
+    }
+
+    /**
+     * 読み取りをプライマリで実行すべきか
+     * @return リクエスト中でプライマリに固定されている場合true
+     */
+    public static boolean isPinnedToPrimary() {
+        RequestState state = CURRENT.get();
+        return state != null && state.active && state.pinned;
+    }
+
+    /**
+     * 書き込みの実行を記録し、リクエストの残りの読み取りをプライマリに固定
+     * リクエスト外では何もしない
+     */
+    static void markWritten() {
+        RequestState state = CURRENT.get();
+        if (state != null && state.active) {
+            state.pinned = true;
+        }
+    }
+
+    private static final class RequestState {
+        private volatile boolean pinned;
+        private volatile boolean active = true;
+
+        private RequestState(boolean pinned) {
+            this.pinned = pinned;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.chirper.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ReadYourWritesFilter
+ * リクエスト単位でReadRoutingContextを開始・終了するフィルター
+ *
+ * リクエストヘッダー X-Read-Your-Writes: true が指定された場合、そのリクエストの読み取りをすべてプライマリで実行する。
+ * クライアントは書き込み直後の読み取り（投稿直後のタイムライン取得など）でこのヘッダーを指定し、レプリカの遅延による古い結果を避ける
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "chirper.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String READ_YOUR_WRITES_HEADER = "X-Read-Your-Writes";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        ReadRoutingContext.beginRequest(Boolean.parseBoolean(request.getHeader(READ_YOUR_WRITES_HEADER)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRoutingContext.endRequest();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.chirper.infrastructure.persistence.routing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ReplicaHealthMonitor
+ * リードレプリカの接続可否とレプリケーション遅延を定期的に確認するジョブ
+ *
+ * 異常なレプリカは振り分け対象から外し（読み取りはプライマリにフォールバック）、回復後に自動で戻す
+ */
+@Component
+@ConditionalOnProperty(prefix = "chirper.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaHealthMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+
+    public ReplicaHealthMonitor(
+        ReplicaRoutingDataSource routingDataSource,
+        @Value("${chirper.datasource.replicas.health-check.max-lag:10s}") Duration maxLag
+    ) {
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${chirper.datasource.replicas.health-check.interval-ms:5000}")
+    public void check() {
+        routingDataSource.refreshReplicaHealth(maxLag);
+    }
+}
@@ -0,0 +1,193 @@
+package com.chirper.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReplicaRoutingDataSource
+ * 読み取り専用トランザクションをリードレプリカへ、それ以外をプライマリへ振り分けるDataSource
+ *
+ * 振り分け規則:
+ * - @Transactional(readOnly = true) のトランザクション内 → 正常なレプリカをラウンドロビンで選択
+ * - 書き込みトランザクション・トランザクション外・ReadRoutingContextでプライマリ固定中 → プライマリ
+ * - 正常なレプリカがない、またはレプリカへの接続に失敗した場合 → プライマリにフォールバック
+ *
+ * トランザクションの読み取り専用属性はコネクション取得時点で確定している必要があるため、
+ * LazyConnectionDataSourceProxyで包み、最初のSQL実行までコネクション取得を遅延させて使用する
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY_KEY = "primary";
+
+    // レプリカでない（リカバリ中でない）場合や、受信済みWALをすべて適用済みの場合は遅延0とみなす
+    private static final String REPLICATION_LAG_SQL = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)
+        END
+        """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * @param primary プライマリのDataSource
+     * @param replicas レプリカ名とDataSource（挿入順にラウンドロビン）
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+            .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+            .toList();
+
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        targets.putAll(replicas);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Replica replica = selectReplica();
+        return replica != null ? replica.name : PRIMARY_KEY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLException e) {
+                replica.markUnhealthy("connection failed: " + e.getMessage());
+            }
+        } else if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadRoutingContext.markWritten();
+        }
+        return opener.open(primary);
+    }
+
+    /**
+     * 読み取りに使うレプリカを選択
+     * @return レプリカ（プライマリで実行すべき場合null）
+     */
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || ReadRoutingContext.isPinnedToPrimary()
+            || replicas.isEmpty()) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica candidate = replicas.get((start + i) % replicas.size());
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 全レプリカの接続可否とレプリケーション遅延を確認し、振り分け対象を更新
+     * @param maxLag 許容するレプリケーション遅延（超過したレプリカは振り分け対象から外す）
+     */
+    public void refreshReplicaHealth(Duration maxLag) {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(REPLICATION_LAG_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                double lagSeconds = resultSet.getDouble(1);
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    replica.markUnhealthy("replication lag " + lagSeconds + "s exceeds " + maxLag);
+                } else {
+                    replica.markHealthy();
+                }
+            } catch (SQLException e) {
+                replica.markUnhealthy("health check failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * レプリカごとの振り分け可否
+     * @return レプリカ名と正常かどうか（挿入順）
+     */
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new LinkedHashMap<>();
+        replicas.forEach(replica -> health.put(replica.name, replica.healthy));
+        return health;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markHealthy() {
+            if (!healthy) {
+                log.info("Read replica {} is back in rotation", name);
+            }
+            healthy = true;
+        }
+
+        private void markUnhealthy(String reason) {
+            if (healthy) {
+                log.warn("Read replica {} removed from rotation, falling back to primary: {}", name, reason);
+            }
+            healthy = false;
+        }
+    }
+}
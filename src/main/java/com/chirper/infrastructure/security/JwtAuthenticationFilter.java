@@ -1,5 +1,7 @@
 package com.chirper.infrastructure.security;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,10 +22,18 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    /**
+     * トークン検証のObservation名（タグ outcome=valid|invalid）
+     */
+    public static final String VERIFY_OBSERVATION = "chirper.jwt.verify";
+
     private final JwtUtil jwtUtil;
+    private final ObservationRegistry observationRegistry;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, ObservationRegistry observationRegistry) {
         this.jwtUtil = jwtUtil;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
@@ -41,7 +51,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             // 最適化: 1回のパースで検証とユーザーID抽出を行う
-            Optional<String> userIdOpt = jwtUtil.validateAndExtractUserId(jwt);
+            Optional<String> userIdOpt = verify(jwt);
 
             if (userIdOpt.isPresent()) {
                 String userId = userIdOpt.get();
@@ -63,4 +73,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * トークンの署名検証とユーザーID抽出（トレースではリクエストの子スパンになる）
+     */
+    private Optional<String> verify(String jwt) {
+        Observation observation = Observation.createNotStarted(VERIFY_OBSERVATION, observationRegistry)
+            .contextualName("jwt verify")
+            .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            Optional<String> userId = jwtUtil.validateAndExtractUserId(jwt);
+            observation.lowCardinalityKeyValue("outcome", userId.isPresent() ? "valid" : "invalid");
+            return userId;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("outcome", "invalid");
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
 }
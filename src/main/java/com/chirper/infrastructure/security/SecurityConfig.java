@@ -1,15 +1,27 @@
 package com.chirper.infrastructure.security;
 
+import com.chirper.infrastructure.observability.slo.SloAdmissionFilter;
+import com.chirper.infrastructure.persistence.routing.ReadYourWritesFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -21,16 +33,77 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * Actuatorの管理用エンドポイントへのアクセスに必要なロール（spring.security.user.rolesで付与）
+     */
+    public static final String ACTUATOR_ADMIN_ROLE = "ACTUATOR_ADMIN";
+
+    /**
+     * 管理ユーザーのみに公開するActuatorエンドポイントのID
+     */
+    private static final String[] ADMIN_ENDPOINTS = {"queryplans", "flightrecorder", "slo"};
+
+    private static final RequestMatcher EXPORT_ASYNC_DISPATCH = new AndRequestMatcher(
+        new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+        AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/export")
+    );
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final ObjectProvider<SloAdmissionFilter> sloAdmissionFilter;
 
     @Value("${cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
-                         CustomAuthenticationEntryPoint customAuthenticationEntryPoint) {
+                         CustomAuthenticationEntryPoint customAuthenticationEntryPoint,
+                         ObjectProvider<SloAdmissionFilter> sloAdmissionFilter,
+                         SecurityProperties securityProperties) {
+        requireAdminCredentials(securityProperties.getUser());
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
+        this.sloAdmissionFilter = sloAdmissionFilter;
+    }
+
+    /**
+     * 管理ユーザーの資格情報を検証
+     * spring.security.user.name / password はSECURITY_USER_NAME / SECURITY_USER_PASSWORDから設定する。
+     * 環境変数が未設定の場合、プレースホルダーが解決されずに「${SECURITY_USER_NAME}」などの文字列のまま
+     * 資格情報として登録され、公開リポジトリから分かる値でACTUATOR_ADMINとして認証できてしまうため、起動を中止する
+     * （spring.security.userを設定しない場合にSpring Bootが生成するランダムなパスワードは許可する）
+     * @param user 管理ユーザーの設定
+     * @throws IllegalStateException ユーザー名・パスワードが空、または未解決のプレースホルダーの場合
+     */
+    static void requireAdminCredentials(SecurityProperties.User user) {
+        if (isUnset(user.getName()) || isUnset(user.getPassword())) {
+            throw new IllegalStateException(
+                "Actuator admin credentials are not configured. " +
+                "Set the SECURITY_USER_NAME and SECURITY_USER_PASSWORD environment variables.");
+        }
+    }
+
+    private static boolean isUnset(String value) {
+        return value == null || value.isBlank() || value.contains("${");
+    }
+
+    /**
+     * 運用者向けのActuatorエンドポイント用フィルターチェーン
+     * SQL文・実行計画・JFRの記録・SLOの状態など内部情報を公開・操作するエンドポイントは、JWTのユーザーではなく
+     * spring.security.userの管理ユーザー（ACTUATOR_ADMINロール）のBasic認証でのみアクセスを許可する
+     * management.server.portで管理ポートを分けた場合も同じエンドポイントに適用される
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.to(ADMIN_ENDPOINTS))
+            // CSRF無効化: Basic認証で呼び出す運用ツール向けでありブラウザのセッションを使わない
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasRole(ACTUATOR_ADMIN_ROLE))
+            .httpBasic(Customizer.withDefaults());
+
+        return http.build();
     }
 
     @Bean
@@ -43,16 +116,22 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // エクスポート（StreamingResponseBody）完了時の再ディスパッチ。元のリクエストで認可済みのため再検証しない
+                // JwtAuthenticationFilterは非同期ディスパッチで再実行されないため、対象はエクスポートのパスに限定する
+                .requestMatchers(EXPORT_ASYNC_DISPATCH).permitAll()
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/users/*/followers").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/users/*/following").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/users/*/mutuals").permitAll()
                 .anyRequest().authenticated()
             )
             .exceptionHandling(exception -> exception
                 .authenticationEntryPoint(customAuthenticationEntryPoint)
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // SLOのエラーバジェットを急速に消費している間の流入制限（JWTの検証より前に拒否する）
+        sloAdmissionFilter.ifAvailable(filter -> http.addFilterBefore(filter, JwtAuthenticationFilter.class));
 
         return http.build();
     }
@@ -68,7 +147,8 @@ public class SecurityConfig {
             "Authorization",
             "Content-Type",
             "X-Requested-With",
-            "Accept"
+            "Accept",
+            ReadYourWritesFilter.READ_YOUR_WRITES_HEADER
         ));
         configuration.setAllowCredentials(true);
 
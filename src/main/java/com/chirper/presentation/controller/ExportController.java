@@ -0,0 +1,106 @@
+package com.chirper.presentation.controller;
+
+import com.chirper.application.usecase.ExportUserDataUseCase;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.presentation.dto.user.ExportLine;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * ExportController
+ * ユーザーデータエクスポートのREST APIエンドポイント
+ *
+ * 責務:
+ * - GET /api/v1/export (認証ユーザーのツイート・いいね・フォロー関係をNDJSONでストリーミング出力)
+ *
+ * 1件読み出すごとにレスポンスへ書き出すため、件数に関わらずメモリ使用量は一定。
+ * ステータスは出力開始時に確定するため、完了は最終行（type=end）で、時間予算超過による打ち切りは最終行（type=error）で通知する
+ */
+@RestController
+@RequestMapping("/api/v1/export")
+public class ExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportController.class);
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportUserDataUseCase exportUserDataUseCase;
+    private final ObjectWriter lineWriter;
+
+    public ExportController(ExportUserDataUseCase exportUserDataUseCase, ObjectMapper objectMapper) {
+        this.exportUserDataUseCase = exportUserDataUseCase;
+        // 行区切りは改行を自前で書き出す。1行ごとにフラッシュせず、ジェネレーターのバッファ単位でレスポンスへ書き出す
+        this.lineWriter = objectMapper.writer()
+            .withRootValueSeparator((String) null)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * データエクスポート
+     * GET /api/v1/export
+     *
+     * @return NDJSON（1行1件: tweet / like / following / follower、最終行: end または error）
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("認証情報が取得できません");
+        }
+        UserId userId = UserId.of(authentication.getName());
+
+        StreamingResponseBody body = outputStream -> writeExport(userId, outputStream);
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"chirper-export.ndjson\"")
+            .body(body);
+    }
+
+    private void writeExport(UserId userId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = lineWriter.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            ExportLine lastLine;
+            try {
+                ExportUserDataUseCase.ExportSummary summary = exportUserDataUseCase.execute(
+                    userId, exportRecord -> writeLine(generator, ExportLine.from(exportRecord)));
+                lastLine = ExportLine.end(summary);
+            } catch (QueryTimeoutException | TransactionTimedOutException e) {
+                log.warn("Export for user {} exceeded its time budget: {}", userId.value(), e.getMessage());
+                lastLine = ExportLine.error("EXPORT_TIME_BUDGET_EXCEEDED", "エクスポートが制限時間を超えたため途中で終了しました");
+            } catch (UncheckedIOException e) {
+                // クライアント切断など。トランザクションはロールバック済み
+                throw e.getCause();
+            }
+            writeLine(generator, lastLine);
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, ExportLine line) {
+        try {
+            lineWriter.writeValue(generator, line);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.chirper.presentation.controller;
 
+import com.chirper.application.usecase.BulkFollowUsersUseCase;
+import com.chirper.application.usecase.BulkLikeTweetsUseCase;
 import com.chirper.application.usecase.FollowUserUseCase;
 import com.chirper.application.usecase.LikeTweetUseCase;
 import com.chirper.application.usecase.RetweetUseCase;
@@ -7,14 +9,23 @@ import com.chirper.application.usecase.UnfollowUserUseCase;
 import com.chirper.application.usecase.UnlikeTweetUseCase;
 import com.chirper.application.usecase.UnretweetTweetUseCase;
 import com.chirper.domain.exception.DuplicateEntityException;
+import com.chirper.domain.exception.InvalidOperationException;
 import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
+import com.chirper.presentation.dto.tweet.BulkLikeRequest;
+import com.chirper.presentation.dto.tweet.BulkLikeResponse;
+import com.chirper.presentation.dto.user.BulkFollowRequest;
+import com.chirper.presentation.dto.user.BulkFollowResponse;
 import com.chirper.presentation.exception.BusinessException;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * SocialController
  * ソーシャル機能のREST APIエンドポイント
@@ -26,6 +37,8 @@ import org.springframework.web.bind.annotation.*;
  * - DELETE /api/v1/tweets/{tweetId}/like (いいね解除)
  * - POST /api/v1/tweets/{tweetId}/retweet (リツイート)
  * - DELETE /api/v1/tweets/{tweetId}/retweet (リツイート解除)
+ * - POST /api/v1/users/follow:batch (一括フォロー)
+ * - POST /api/v1/tweets/like:batch (一括いいね)
  */
 @RestController
 @RequestMapping("/api/v1")
@@ -37,6 +50,8 @@ public class SocialController {
     private final UnlikeTweetUseCase unlikeTweetUseCase;
     private final RetweetUseCase retweetUseCase;
     private final UnretweetTweetUseCase unretweetTweetUseCase;
+    private final BulkFollowUsersUseCase bulkFollowUsersUseCase;
+    private final BulkLikeTweetsUseCase bulkLikeTweetsUseCase;
 
     public SocialController(
         FollowUserUseCase followUserUseCase,
@@ -44,7 +59,9 @@ public class SocialController {
         LikeTweetUseCase likeTweetUseCase,
         UnlikeTweetUseCase unlikeTweetUseCase,
         RetweetUseCase retweetUseCase,
-        UnretweetTweetUseCase unretweetTweetUseCase
+        UnretweetTweetUseCase unretweetTweetUseCase,
+        BulkFollowUsersUseCase bulkFollowUsersUseCase,
+        BulkLikeTweetsUseCase bulkLikeTweetsUseCase
     ) {
         this.followUserUseCase = followUserUseCase;
         this.unfollowUserUseCase = unfollowUserUseCase;
@@ -52,6 +69,8 @@ public class SocialController {
         this.unlikeTweetUseCase = unlikeTweetUseCase;
         this.retweetUseCase = retweetUseCase;
         this.unretweetTweetUseCase = unretweetTweetUseCase;
+        this.bulkFollowUsersUseCase = bulkFollowUsersUseCase;
+        this.bulkLikeTweetsUseCase = bulkLikeTweetsUseCase;
     }
 
     /**
@@ -223,4 +242,74 @@ public class SocialController {
 
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 一括フォロー
+     * POST /api/v1/users/follow:batch
+     *
+     * 対象ユーザーごとの結果を返すため、一部がフォロー済み・存在しない場合も200 OKとなる
+     *
+     * @param request フォロー対象ユーザーIDのリスト（最大100件）
+     * @return 200 OK（対象ユーザーごとのフォロー結果）
+     */
+    @PostMapping("/users/follow:batch")
+    public ResponseEntity<BulkFollowResponse> bulkFollowUsers(
+        @Valid @RequestBody BulkFollowRequest request
+    ) {
+        // 1. 認証情報からユーザーIDを取得
+        Authentication authentication = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+        UserId followerUserId = UserId.of(authentication.getName());
+
+        // 2. 一括フォローUseCaseを実行
+        BulkFollowUsersUseCase.BulkFollowResult result;
+        try {
+            List<UserId> followedUserIds = request.userIds().stream()
+                .map(UserId::of)
+                .collect(Collectors.toList());
+            result = bulkFollowUsersUseCase.execute(followerUserId, followedUserIds);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOperationException(e.getMessage(), e);
+        }
+
+        // 3. レスポンスに変換
+        List<BulkFollowResponse.Result> results = result.results().stream()
+            .map(item -> new BulkFollowResponse.Result(item.userId().value(), item.status().name()))
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(new BulkFollowResponse(results));
+    }
+
+    /**
+     * 一括いいね
+     * POST /api/v1/tweets/like:batch
+     *
+     * 対象ツイートごとの結果を返すため、一部がいいね済み・存在しない場合も200 OKとなる
+     *
+     * @param request いいね対象ツイートIDのリスト（最大100件）
+     * @return 200 OK（対象ツイートごとのいいね結果）
+     */
+    @PostMapping("/tweets/like:batch")
+    public ResponseEntity<BulkLikeResponse> bulkLikeTweets(
+        @Valid @RequestBody BulkLikeRequest request
+    ) {
+        // 1. 認証情報からユーザーIDを取得
+        Authentication authentication = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+        UserId userId = UserId.of(authentication.getName());
+
+        // 2. 一括いいねUseCaseを実行
+        BulkLikeTweetsUseCase.BulkLikeResult result;
+        try {
+            List<TweetId> tweetIds = request.tweetIds().stream()
+                .map(tweetId -> new TweetId(java.util.UUID.fromString(tweetId)))
+                .collect(Collectors.toList());
+            result = bulkLikeTweetsUseCase.execute(userId, tweetIds);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOperationException(e.getMessage(), e);
+        }
+
+        // 3. レスポンスに変換
+        List<BulkLikeResponse.Result> results = result.results().stream()
+            .map(item -> new BulkLikeResponse.Result(item.tweetId().value(), item.status().name()))
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(new BulkLikeResponse(results));
+    }
 }
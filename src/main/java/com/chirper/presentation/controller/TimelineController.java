@@ -1,9 +1,10 @@
 package com.chirper.presentation.controller;
 
 import com.chirper.application.usecase.GetTimelineUseCase;
+import com.chirper.domain.exception.InvalidOperationException;
+import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.presentation.dto.tweet.TimelineResponse;
-import com.chirper.presentation.dto.tweet.TweetResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
@@ -11,9 +12,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * TimelineController
  * タイムライン表示のREST APIエンドポイント
@@ -36,15 +34,18 @@ public class TimelineController {
      * タイムライン取得
      * GET /api/v1/timeline
      *
+     * cursorを指定した場合はpageを無視し、cursorのツイートより古いツイートを返す（キーセットページネーション）
+     *
      * @param page ページ番号（0始まり、デフォルト: 0）
      * @param size ページサイズ（デフォルト: 20、最大: 100）
-     * @param authentication 認証情報（JWTから抽出されたユーザーID）
-     * @return TimelineResponse (tweets: TweetDto[], totalPages: int)
+     * @param cursor 前ページのレスポンスのnextCursor（省略時はpageによるページ指定）
+     * @return TimelineResponse (tweets: TweetDto[], totalPages: int, nextCursor: string)
      */
     @GetMapping
     public ResponseEntity<TimelineResponse> getTimeline(
         @RequestParam(defaultValue = "0") @Min(0) int page,
-        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+        @RequestParam(required = false) String cursor
     ) {
         // 1. 認証情報からユーザーIDを取得
         Authentication authentication = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
@@ -55,29 +56,21 @@ public class TimelineController {
         UserId userId = UserId.of(userIdString);
 
         // 2. タイムライン取得UseCaseを実行
-        GetTimelineUseCase.TimelineResult result = getTimelineUseCase.execute(userId, page, size);
+        GetTimelineUseCase.TimelineResult result;
+        if (cursor != null) {
+            TweetId cursorTweetId;
+            try {
+                cursorTweetId = TweetId.of(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidOperationException("カーソルの形式が正しくありません", e);
+            }
+            result = getTimelineUseCase.executeBefore(userId, cursorTweetId, size);
+        } else {
+            result = getTimelineUseCase.execute(userId, page, size);
+        }
 
         // 3. レスポンスを作成
-        List<TweetResponse> tweets = result.tweets().stream()
-            .map(tweetWithDetails -> new TweetResponse(
-                tweetWithDetails.tweet().getId().value(),
-                tweetWithDetails.tweet().getUserId().value(),
-                tweetWithDetails.author() != null ? tweetWithDetails.author().getUsername().value() : "",
-                tweetWithDetails.author() != null ? tweetWithDetails.author().getDisplayName() : "",
-                tweetWithDetails.author() != null ? tweetWithDetails.author().getAvatarUrl() : "",
-                tweetWithDetails.tweet().getContent().value(),
-                tweetWithDetails.tweet().getCreatedAt(),
-                (int) tweetWithDetails.likesCount(),
-                (int) tweetWithDetails.retweetsCount(),
-                tweetWithDetails.likedByCurrentUser(),
-                tweetWithDetails.retweetedByCurrentUser()
-            ))
-            .collect(Collectors.toList());
-
-        // 4. totalPagesの計算（簡略化: tweetsが空なら0、そうでなければ1）
-        int totalPages = tweets.isEmpty() ? 0 : 1;
-
-        TimelineResponse response = new TimelineResponse(tweets, totalPages);
+        TimelineResponse response = TimelineResponse.from(result, size);
         return ResponseEntity.ok(response);
     }
 }
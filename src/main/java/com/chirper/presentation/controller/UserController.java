@@ -1,12 +1,15 @@
 package com.chirper.presentation.controller;
 
 import com.chirper.application.usecase.GetFollowersUseCase;
+import com.chirper.application.usecase.GetFollowersYouKnowUseCase;
 import com.chirper.application.usecase.GetFollowingUseCase;
+import com.chirper.application.usecase.GetMutualFollowsUseCase;
 import com.chirper.application.usecase.GetUserProfileUseCase;
 import com.chirper.application.usecase.UpdateProfileUseCase;
 import com.chirper.domain.entity.Tweet;
-import com.chirper.domain.entity.User;
 import com.chirper.domain.exception.EntityNotFoundException;
+import com.chirper.domain.exception.InvalidOperationException;
+import com.chirper.domain.repository.IUserProfileReadRepository;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
 import com.chirper.presentation.dto.user.FollowListResponse;
@@ -32,17 +35,23 @@ public class UserController {
     private final UpdateProfileUseCase updateProfileUseCase;
     private final GetFollowersUseCase getFollowersUseCase;
     private final GetFollowingUseCase getFollowingUseCase;
+    private final GetMutualFollowsUseCase getMutualFollowsUseCase;
+    private final GetFollowersYouKnowUseCase getFollowersYouKnowUseCase;
 
     public UserController(
         GetUserProfileUseCase getUserProfileUseCase,
         UpdateProfileUseCase updateProfileUseCase,
         GetFollowersUseCase getFollowersUseCase,
-        GetFollowingUseCase getFollowingUseCase
+        GetFollowingUseCase getFollowingUseCase,
+        GetMutualFollowsUseCase getMutualFollowsUseCase,
+        GetFollowersYouKnowUseCase getFollowersYouKnowUseCase
     ) {
         this.getUserProfileUseCase = getUserProfileUseCase;
         this.updateProfileUseCase = updateProfileUseCase;
         this.getFollowersUseCase = getFollowersUseCase;
         this.getFollowingUseCase = getFollowingUseCase;
+        this.getMutualFollowsUseCase = getMutualFollowsUseCase;
+        this.getFollowersYouKnowUseCase = getFollowersYouKnowUseCase;
     }
 
     @GetMapping("/{username}")
@@ -64,14 +73,14 @@ public class UserController {
         }
 
         // 3. ツイート一覧をTweetResponseに変換
-        User user = result.user();
+        IUserProfileReadRepository.ProfileUser user = result.user();
         List<com.chirper.presentation.dto.tweet.TweetResponse> tweetResponses = result.userTweets().stream()
             .map(tweet -> new com.chirper.presentation.dto.tweet.TweetResponse(
                 tweet.getId().value(),
                 tweet.getUserId().value(),
-                user.getUsername().value(),
-                user.getDisplayName(),
-                user.getAvatarUrl(),
+                user.username(),
+                user.displayName(),
+                user.avatarUrl(),
                 tweet.getContent().value(),
                 tweet.getCreatedAt(),
                 0, // likesCount - ユーザープロフィール画面では省略
@@ -83,12 +92,12 @@ public class UserController {
 
         // 4. レスポンスを作成
         UserProfileResponse response = new UserProfileResponse(
-            user.getId().value(),
-            user.getUsername().value(),
-            user.getDisplayName(),
-            user.getBio(),
-            user.getAvatarUrl(),
-            user.getCreatedAt(),
+            user.id().value(),
+            user.username(),
+            user.displayName(),
+            user.bio(),
+            user.avatarUrl(),
+            user.createdAt(),
             (int) result.followersCount(),
             (int) result.followingCount(),
             result.followedByCurrentUser(),
@@ -152,10 +161,10 @@ public class UserController {
         // レスポンスに変換
         List<FollowUserResponse> userResponses = result.followers().stream()
             .map(followerInfo -> new FollowUserResponse(
-                followerInfo.user().getId().value(),
-                followerInfo.user().getUsername().value(),
-                followerInfo.user().getDisplayName(),
-                followerInfo.user().getAvatarUrl(),
+                followerInfo.user().id().value(),
+                followerInfo.user().username(),
+                followerInfo.user().displayName(),
+                followerInfo.user().avatarUrl(),
                 followerInfo.followedByCurrentUser()
             ))
             .collect(Collectors.toList());
@@ -190,10 +199,10 @@ public class UserController {
         // レスポンスに変換
         List<FollowUserResponse> userResponses = result.following().stream()
             .map(followingInfo -> new FollowUserResponse(
-                followingInfo.user().getId().value(),
-                followingInfo.user().getUsername().value(),
-                followingInfo.user().getDisplayName(),
-                followingInfo.user().getAvatarUrl(),
+                followingInfo.user().id().value(),
+                followingInfo.user().username(),
+                followingInfo.user().displayName(),
+                followingInfo.user().avatarUrl(),
                 followingInfo.followedByCurrentUser()
             ))
             .collect(Collectors.toList());
@@ -206,4 +215,81 @@ public class UserController {
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/{username}/mutuals")
+    public ResponseEntity<FollowListResponse> getMutualFollows(
+        @PathVariable String username,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        UserId currentUserId = getCurrentUserIdOrNull();
+
+        // GetMutualFollowsUseCaseを実行
+        GetMutualFollowsUseCase.MutualFollowsResult result;
+        try {
+            result = getMutualFollowsUseCase.execute(new Username(username), currentUserId, page, size);
+        } catch (IllegalArgumentException e) {
+            // ユーザーが存在しない場合のEntityNotFoundExceptionはそのまま404として返す
+            throw new InvalidOperationException("パラメータが不正です: " + e.getMessage(), e);
+        }
+
+        // レスポンスに変換
+        List<FollowUserResponse> userResponses = result.mutuals().stream()
+            .map(mutualInfo -> new FollowUserResponse(
+                mutualInfo.user().id().value(),
+                mutualInfo.user().username(),
+                mutualInfo.user().displayName(),
+                mutualInfo.user().avatarUrl(),
+                mutualInfo.followedByCurrentUser()
+            ))
+            .collect(Collectors.toList());
+
+        FollowListResponse response = new FollowListResponse(
+            userResponses,
+            result.currentPage(),
+            result.totalPages()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{username}/followers-you-know")
+    public ResponseEntity<FollowListResponse> getFollowersYouKnow(
+        @PathVariable String username,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        UserId currentUserId = getCurrentUserIdOrNull();
+        if (currentUserId == null) {
+            throw new IllegalStateException("認証情報が取得できません");
+        }
+
+        // GetFollowersYouKnowUseCaseを実行
+        GetFollowersYouKnowUseCase.FollowersYouKnowResult result;
+        try {
+            result = getFollowersYouKnowUseCase.execute(new Username(username), currentUserId, page, size);
+        } catch (IllegalArgumentException e) {
+            // ユーザーが存在しない場合のEntityNotFoundExceptionはそのまま404として返す
+            throw new InvalidOperationException("パラメータが不正です: " + e.getMessage(), e);
+        }
+
+        // レスポンスに変換（すべて現在のユーザーがフォロー済み）
+        List<FollowUserResponse> userResponses = result.followers().stream()
+            .map(user -> new FollowUserResponse(
+                user.id().value(),
+                user.username(),
+                user.displayName(),
+                user.avatarUrl(),
+                true
+            ))
+            .collect(Collectors.toList());
+
+        FollowListResponse response = new FollowListResponse(
+            userResponses,
+            result.currentPage(),
+            result.totalPages()
+        );
+
+        return ResponseEntity.ok(response);
+    }
 }
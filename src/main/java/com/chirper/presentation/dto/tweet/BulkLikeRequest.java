@@ -0,0 +1,16 @@
+package com.chirper.presentation.dto.tweet;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * BulkLikeRequest
+ * 一括いいねリクエスト
+ */
+public record BulkLikeRequest(
+    @NotEmpty(message = "いいね対象を1件以上指定してください")
+    @Size(max = 100, message = "一度にいいねできるのは100件までです")
+    List<String> tweetIds
+) {}
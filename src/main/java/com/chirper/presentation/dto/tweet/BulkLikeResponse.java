@@ -0,0 +1,24 @@
+package com.chirper.presentation.dto.tweet;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * BulkLikeResponse
+ * 一括いいねレスポンス（対象ツイートごとの結果）
+ */
+public record BulkLikeResponse(
+    List<Result> results
+) {
+
+    /**
+     * 対象ツイートごとのいいね結果
+     *
+     * @param tweetId 対象ツイートID
+     * @param status LIKED / ALREADY_LIKED / NOT_FOUND
+     */
+    public record Result(
+        UUID tweetId,
+        String status
+    ) {}
+}
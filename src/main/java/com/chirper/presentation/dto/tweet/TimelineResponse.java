@@ -1,8 +1,33 @@
 package com.chirper.presentation.dto.tweet;
 
+import com.chirper.application.usecase.GetTimelineUseCase.TimelineResult;
+
 import java.util.List;
+import java.util.stream.Collectors;
 
 public record TimelineResponse(
     List<TweetResponse> tweets,
-    int totalPages
-) {}
+    int totalPages,
+    String nextCursor
+) {
+
+    /**
+     * タイムライン取得結果からレスポンスを生成
+     * @param result タイムライン取得結果
+     * @param size 要求したページサイズ（ページが埋まった場合のみ次ページのカーソルを返す）
+     * @return TimelineResponse
+     */
+    public static TimelineResponse from(TimelineResult result, int size) {
+        List<TweetResponse> tweets = result.tweets().stream()
+            .map(TweetResponse::from)
+            .collect(Collectors.toList());
+
+        // totalPagesの計算（簡略化: tweetsが空なら0、そうでなければ1）
+        int totalPages = tweets.isEmpty() ? 0 : 1;
+
+        // 次ページのカーソル（ページが埋まらなかった場合は最終ページのためnull）
+        String nextCursor = tweets.size() == size ? tweets.get(tweets.size() - 1).tweetId().toString() : null;
+
+        return new TimelineResponse(tweets, totalPages, nextCursor);
+    }
+}
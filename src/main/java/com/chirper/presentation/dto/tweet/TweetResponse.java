@@ -1,5 +1,7 @@
 package com.chirper.presentation.dto.tweet;
 
+import com.chirper.application.usecase.GetTimelineUseCase.TweetWithDetails;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -15,4 +17,26 @@ public record TweetResponse(
     int retweetsCount,
     boolean likedByCurrentUser,
     boolean retweetedByCurrentUser
-) {}
+) {
+
+    /**
+     * タイムラインのツイートからレスポンスを生成
+     * @param tweetWithDetails ツイートと投稿者・集計値
+     * @return TweetResponse（投稿者を取得できなかった場合、投稿者の項目は空文字）
+     */
+    public static TweetResponse from(TweetWithDetails tweetWithDetails) {
+        return new TweetResponse(
+            tweetWithDetails.tweet().getId().value(),
+            tweetWithDetails.tweet().getUserId().value(),
+            tweetWithDetails.author() != null ? tweetWithDetails.author().username() : "",
+            tweetWithDetails.author() != null ? tweetWithDetails.author().displayName() : "",
+            tweetWithDetails.author() != null ? tweetWithDetails.author().avatarUrl() : "",
+            tweetWithDetails.tweet().getContent().value(),
+            tweetWithDetails.tweet().getCreatedAt(),
+            (int) tweetWithDetails.likesCount(),
+            (int) tweetWithDetails.retweetsCount(),
+            tweetWithDetails.likedByCurrentUser(),
+            tweetWithDetails.retweetedByCurrentUser()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.chirper.presentation.dto.user;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * BulkFollowRequest
+ * 一括フォローリクエスト
+ */
+public record BulkFollowRequest(
+    @NotEmpty(message = "フォロー対象を1件以上指定してください")
+    @Size(max = 100, message = "一度にフォローできるのは100件までです")
+    List<String> userIds
+) {}
@@ -0,0 +1,24 @@
+package com.chirper.presentation.dto.user;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * BulkFollowResponse
+ * 一括フォローレスポンス（対象ユーザーごとの結果）
+ */
+public record BulkFollowResponse(
+    List<Result> results
+) {
+
+    /**
+     * 対象ユーザーごとのフォロー結果
+     *
+     * @param userId フォロー対象ユーザーID
+     * @param status FOLLOWED / ALREADY_FOLLOWING / SELF / NOT_FOUND
+     */
+    public record Result(
+        UUID userId,
+        String status
+    ) {}
+}
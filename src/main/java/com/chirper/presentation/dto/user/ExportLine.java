@@ -0,0 +1,46 @@
+package com.chirper.presentation.dto.user;
+
+import com.chirper.application.usecase.ExportUserDataUseCase.ExportSummary;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportRecord;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedFollow;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedLike;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedTweet;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * データエクスポート（NDJSON）の1行
+ * typeで行の種類を判別する。最終行はend（正常終了）またはerror（途中で打ち切り）
+ */
+public sealed interface ExportLine {
+
+    static ExportLine from(ExportRecord exportRecord) {
+        return switch (exportRecord) {
+            case ExportedTweet tweet -> new TweetLine(
+                "tweet", tweet.id().value(), tweet.content(), tweet.createdAt(), tweet.updatedAt());
+            case ExportedLike like -> new LikeLine("like", like.tweetId().value(), like.createdAt());
+            case ExportedFollow follow -> new FollowLine(
+                follow.direction() == ExportedFollow.Direction.FOLLOWING ? "following" : "follower",
+                follow.userId().value(), follow.username(), follow.createdAt());
+        };
+    }
+
+    static ExportLine end(ExportSummary summary) {
+        return new EndLine("end", summary.tweets(), summary.likes(), summary.following(), summary.followers());
+    }
+
+    static ExportLine error(String code, String message) {
+        return new ErrorLine("error", code, message);
+    }
+
+    record TweetLine(String type, UUID id, String content, Instant createdAt, Instant updatedAt) implements ExportLine {}
+
+    record LikeLine(String type, UUID tweetId, Instant createdAt) implements ExportLine {}
+
+    record FollowLine(String type, UUID userId, String username, Instant createdAt) implements ExportLine {}
+
+    record EndLine(String type, long tweets, long likes, long following, long followers) implements ExportLine {}
+
+    record ErrorLine(String type, String code, String message) implements ExportLine {}
+}
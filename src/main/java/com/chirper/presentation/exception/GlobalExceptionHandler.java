@@ -105,6 +105,7 @@ public class GlobalExceptionHandler {
             case "BAD_REQUEST" -> HttpStatus.BAD_REQUEST;
             case "UNAUTHORIZED" -> HttpStatus.UNAUTHORIZED;
             case "FORBIDDEN" -> HttpStatus.FORBIDDEN;
+            case "SERVICE_UNAVAILABLE" -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
 
@@ -0,0 +1,55 @@
+-- V10__create_outbox_events_table.sql
+-- Transactional outbox: domain events are written in the same transaction as the domain change
+-- and delivered to in-process handlers by the outbox dispatcher (at-least-once, ordered per aggregate)
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    processed_at TIMESTAMP
+);
+
+-- Claim query: pending events in id order
+CREATE INDEX idx_outbox_events_pending
+    ON outbox_events(id)
+    INCLUDE (aggregate_type, aggregate_id, available_at, locked_until)
+    WHERE processed_at IS NULL;
+
+-- Head-of-aggregate check: is there an earlier pending event for the same aggregate?
+CREATE INDEX idx_outbox_events_pending_aggregate
+    ON outbox_events(aggregate_type, aggregate_id, id)
+    WHERE processed_at IS NULL;
+
+-- Retention cleanup of delivered events
+CREATE INDEX idx_outbox_events_processed_at
+    ON outbox_events(processed_at)
+    WHERE processed_at IS NOT NULL;
+
+-- Wake up listening dispatchers; notifications are delivered only when the inserting transaction commits
+CREATE FUNCTION notify_outbox_events() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('outbox_events', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_events_notify
+    AFTER INSERT ON outbox_events
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_outbox_events();
+
+-- Add comments for documentation
+COMMENT ON TABLE outbox_events IS 'Transactional outbox of domain events awaiting asynchronous delivery';
+COMMENT ON COLUMN outbox_events.aggregate_id IS 'Events with the same aggregate are delivered in id order';
+COMMENT ON COLUMN outbox_events.payload IS 'Event serialized as JSON';
+COMMENT ON COLUMN outbox_events.available_at IS 'Earliest time of the next delivery attempt (pushed back on failure)';
+COMMENT ON COLUMN outbox_events.locked_until IS 'Lease held by the dispatcher currently delivering the event';
+COMMENT ON COLUMN outbox_events.attempts IS 'Number of delivery attempts';
+COMMENT ON COLUMN outbox_events.processed_at IS 'Delivery completion time (NULL while pending)';
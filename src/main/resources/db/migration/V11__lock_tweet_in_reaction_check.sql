@@ -0,0 +1,17 @@
+-- V11__lock_tweet_in_reaction_check.sql
+-- Make the trigger that replaced the likes/retweets foreign keys behave like a real FK:
+-- lock the referenced tweet row (FOR KEY SHARE) so that a concurrent DELETE of the tweet
+-- waits for the reacting transaction instead of leaving orphaned likes/retweets behind
+
+CREATE OR REPLACE FUNCTION check_tweet_exists() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM 1 FROM tweets WHERE id = NEW.tweet_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'tweet % does not exist', NEW.tweet_id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION check_tweet_exists() IS 'Reject likes/retweets referencing a missing tweet; locks the tweet row FOR KEY SHARE like a foreign key check';
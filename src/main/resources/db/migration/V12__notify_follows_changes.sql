@@ -0,0 +1,61 @@
+-- V12__notify_follows_changes.sql
+-- Publish every committed change of follows on the follows_changed channel so that each application
+-- instance keeps its in-memory follow graph in sync, including writes from other instances,
+-- ON DELETE CASCADE from user deletion and bulk SQL.
+--
+-- Payload: '<+|->' || '<seq>|' || 'follower:followed,follower:followed,...' (at most 100 edges per notification)
+--          '*' when the change is too large or cannot be described edge by edge (reload the whole graph)
+-- The sequence value keeps payloads unique; PostgreSQL drops duplicate payloads within a transaction.
+
+CREATE SEQUENCE follows_change_seq;
+
+CREATE FUNCTION notify_follows_changed() RETURNS trigger AS $$
+DECLARE
+    edges TEXT;
+BEGIN
+    IF (SELECT COUNT(*) FROM changed_rows) > 1000 THEN
+        PERFORM pg_notify('follows_changed', '*');
+        RETURN NULL;
+    END IF;
+    FOR edges IN
+        SELECT string_agg(follower_user_id::text || ':' || followed_user_id::text, ',')
+        FROM (
+            SELECT follower_user_id, followed_user_id, (row_number() OVER () - 1) / 100 AS chunk
+            FROM changed_rows
+        ) numbered
+        GROUP BY chunk
+    LOOP
+        PERFORM pg_notify('follows_changed',
+            CASE WHEN TG_OP = 'INSERT' THEN '+' ELSE '-' END || nextval('follows_change_seq') || '|' || edges);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION notify_follows_reload() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('follows_changed', '*');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_follows_notify_insert
+    AFTER INSERT ON follows
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_follows_changed();
+
+CREATE TRIGGER trg_follows_notify_delete
+    AFTER DELETE ON follows
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_follows_changed();
+
+CREATE TRIGGER trg_follows_notify_update
+    AFTER UPDATE OF follower_user_id, followed_user_id ON follows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_follows_reload();
+
+CREATE TRIGGER trg_follows_notify_truncate
+    AFTER TRUNCATE ON follows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_follows_reload();
+
+COMMENT ON FUNCTION notify_follows_changed() IS 'Notify follows_changed with the inserted/deleted edges of the statement (delivered on commit)';
+COMMENT ON FUNCTION notify_follows_reload() IS 'Notify follows_changed that the follow graph must be reloaded';
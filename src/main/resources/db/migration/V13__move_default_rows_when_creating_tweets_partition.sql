@@ -0,0 +1,57 @@
+-- V13__move_default_rows_when_creating_tweets_partition.sql
+-- Let create_tweets_partition succeed when tweets_default already holds rows for the requested month.
+--
+-- PostgreSQL refuses to create a range partition while the default partition contains rows that belong to it,
+-- so a month that was written before its partition existed could never get one. When that happens the default
+-- partition is detached, the month is created, its rows are moved from the default partition into it, and the
+-- default partition is re-attached, all under an ACCESS EXCLUSIVE lock on tweets.
+-- Moving rows is not a delete: user triggers on the detached default partition are disabled while the moved rows
+-- are removed, so delete_tweet_reactions does not remove the likes/retweets of the moved tweets.
+
+CREATE OR REPLACE FUNCTION create_tweets_partition(month_start DATE) RETURNS TEXT AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month_start)::date;
+    end_date DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    partition_name TEXT := 'tweets_p' || to_char(start_date, 'YYYY_MM');
+    moved_rows BIGINT;
+BEGIN
+    IF to_regclass('public.' || partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    LOCK TABLE tweets IN ACCESS EXCLUSIVE MODE;
+
+    -- Another session may have created the partition while we waited for the lock
+    IF to_regclass('public.' || partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    IF to_regclass('public.tweets_default') IS NULL
+        OR NOT EXISTS (SELECT 1 FROM tweets_default WHERE created_at >= start_date AND created_at < end_date) THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF tweets FOR VALUES FROM (%L) TO (%L)',
+            partition_name, start_date, end_date);
+        RETURN partition_name;
+    END IF;
+
+    ALTER TABLE tweets DETACH PARTITION tweets_default;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF tweets FOR VALUES FROM (%L) TO (%L)',
+        partition_name, start_date, end_date);
+    EXECUTE format('INSERT INTO %I (id, user_id, content, created_at, updated_at, is_deleted) '
+        || 'SELECT id, user_id, content, created_at, updated_at, is_deleted FROM tweets_default '
+        || 'WHERE created_at >= %L AND created_at < %L',
+        partition_name, start_date, end_date);
+    GET DIAGNOSTICS moved_rows = ROW_COUNT;
+
+    ALTER TABLE tweets_default DISABLE TRIGGER USER;
+    DELETE FROM tweets_default WHERE created_at >= start_date AND created_at < end_date;
+    ALTER TABLE tweets_default ENABLE TRIGGER USER;
+
+    ALTER TABLE tweets ATTACH PARTITION tweets_default DEFAULT;
+
+    RAISE WARNING 'moved % rows from tweets_default into %', moved_rows, partition_name;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION create_tweets_partition(DATE) IS 'Create the monthly tweets partition containing the given date if it does not exist, moving its rows out of tweets_default';
@@ -0,0 +1,29 @@
+-- V6__add_follow_counts_to_users.sql
+-- Add denormalized follower/following counters to users table
+
+ALTER TABLE users
+    ADD COLUMN followers_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN following_count BIGINT NOT NULL DEFAULT 0;
+
+-- Backfill counters from existing follow relationships
+UPDATE users u
+SET followers_count = c.followers_count,
+    following_count = c.following_count
+FROM (
+    SELECT u2.id,
+           (SELECT COUNT(*) FROM follows f WHERE f.followed_user_id = u2.id) AS followers_count,
+           (SELECT COUNT(*) FROM follows f WHERE f.follower_user_id = u2.id) AS following_count
+    FROM users u2
+) c
+WHERE u.id = c.id
+  AND (c.followers_count <> 0 OR c.following_count <> 0);
+
+ALTER TABLE users
+    ADD CONSTRAINT chk_followers_count_non_negative CHECK (followers_count >= 0),
+    ADD CONSTRAINT chk_following_count_non_negative CHECK (following_count >= 0);
+
+-- Add comments for documentation
+COMMENT ON COLUMN users.followers_count IS 'Denormalized follower count (maintained by follow/unfollow, reconciled periodically)';
+COMMENT ON COLUMN users.following_count IS 'Denormalized following count (maintained by follow/unfollow, reconciled periodically)';
+COMMENT ON CONSTRAINT chk_followers_count_non_negative ON users IS 'Follower count cannot be negative';
+COMMENT ON CONSTRAINT chk_following_count_non_negative ON users IS 'Following count cannot be negative';
@@ -0,0 +1,7 @@
+-- V7__add_tweets_keyset_index.sql
+-- Replace the timeline index with one that also covers the id tiebreaker used by cursor pagination
+
+CREATE INDEX idx_user_id_created_at_id ON tweets(user_id, created_at DESC, id DESC);
+DROP INDEX idx_user_id_created_at;
+
+COMMENT ON INDEX idx_user_id_created_at_id IS 'Timeline keyset pagination: ORDER BY created_at DESC, id DESC per author';
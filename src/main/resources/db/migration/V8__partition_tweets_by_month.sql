@@ -0,0 +1,117 @@
+-- V8__partition_tweets_by_month.sql
+-- Convert tweets into a table range-partitioned by month on created_at
+--
+-- A partitioned table's unique constraints must include the partition key, so tweets.id can no longer be
+-- the target of a foreign key. The likes/retweets -> tweets foreign keys are replaced by triggers that keep
+-- the same guarantees (reject unknown tweet ids on insert, cascade physical tweet deletes).
+
+-- 1. Drop foreign keys that reference tweets(id)
+ALTER TABLE likes DROP CONSTRAINT IF EXISTS likes_tweet_id_fkey;
+ALTER TABLE retweets DROP CONSTRAINT IF EXISTS retweets_tweet_id_fkey;
+
+-- 2. Move the existing table aside (secondary indexes are rebuilt on the new table after the copy)
+ALTER TABLE tweets RENAME TO tweets_legacy;
+ALTER TABLE tweets_legacy RENAME CONSTRAINT tweets_pkey TO tweets_legacy_pkey;
+DROP INDEX IF EXISTS idx_user_id_created_at_id;
+DROP INDEX IF EXISTS idx_created_at;
+DROP INDEX IF EXISTS idx_is_deleted;
+
+-- 3. Create the partitioned table
+CREATE TABLE tweets (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT (NOW() AT TIME ZONE 'UTC'),
+    updated_at TIMESTAMP NOT NULL DEFAULT (NOW() AT TIME ZONE 'UTC'),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT chk_content_length CHECK (char_length(content) <= 280),
+    CONSTRAINT tweets_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 4. Partition management function (also called by TweetPartitionMaintenanceJob)
+CREATE OR REPLACE FUNCTION create_tweets_partition(month_start DATE) RETURNS TEXT AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month_start)::date;
+    end_date DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::date;
+    partition_name TEXT := 'tweets_p' || to_char(start_date, 'YYYY_MM');
+BEGIN
+    IF to_regclass('public.' || partition_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF tweets FOR VALUES FROM (%L) TO (%L)',
+            partition_name, start_date, end_date);
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 5. Create monthly partitions covering existing data up to 3 months ahead, plus a default partition
+DO $$
+DECLARE
+    first_month DATE;
+    last_month DATE := (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date;
+    partition_month DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at)), date_trunc('month', NOW() AT TIME ZONE 'UTC'))::date
+    INTO first_month
+    FROM tweets_legacy;
+
+    partition_month := first_month;
+    WHILE partition_month <= last_month LOOP
+        PERFORM create_tweets_partition(partition_month);
+        partition_month := (partition_month + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+CREATE TABLE tweets_default PARTITION OF tweets DEFAULT;
+
+-- 6. Copy rows, then build indexes (created on every partition)
+INSERT INTO tweets (id, user_id, content, created_at, updated_at, is_deleted)
+SELECT id, user_id, content, created_at, updated_at, is_deleted FROM tweets_legacy;
+
+DROP TABLE tweets_legacy;
+
+CREATE INDEX idx_user_id_created_at_id ON tweets(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_created_at ON tweets(created_at DESC);
+CREATE INDEX idx_is_deleted ON tweets(is_deleted) WHERE is_deleted = FALSE;
+
+-- 7. Replace the foreign keys from likes/retweets with triggers
+CREATE OR REPLACE FUNCTION check_tweet_exists() RETURNS TRIGGER AS $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM tweets WHERE id = NEW.tweet_id) THEN
+        RAISE EXCEPTION 'tweet % does not exist', NEW.tweet_id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_likes_check_tweet_exists
+    BEFORE INSERT OR UPDATE OF tweet_id ON likes
+    FOR EACH ROW EXECUTE FUNCTION check_tweet_exists();
+
+CREATE TRIGGER trg_retweets_check_tweet_exists
+    BEFORE INSERT OR UPDATE OF tweet_id ON retweets
+    FOR EACH ROW EXECUTE FUNCTION check_tweet_exists();
+
+CREATE OR REPLACE FUNCTION delete_tweet_reactions() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM likes WHERE tweet_id = OLD.id;
+    DELETE FROM retweets WHERE tweet_id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tweets_delete_reactions
+    AFTER DELETE ON tweets
+    FOR EACH ROW EXECUTE FUNCTION delete_tweet_reactions();
+
+-- Add comments for documentation
+COMMENT ON TABLE tweets IS 'User tweets/posts for Chirper application (range-partitioned by month on created_at)';
+COMMENT ON COLUMN tweets.id IS 'Unique tweet identifier (UUID)';
+COMMENT ON COLUMN tweets.user_id IS 'Foreign key to users table (tweet author)';
+COMMENT ON COLUMN tweets.content IS 'Tweet content (1-280 characters)';
+COMMENT ON COLUMN tweets.created_at IS 'Tweet creation timestamp (UTC), partition key';
+COMMENT ON COLUMN tweets.updated_at IS 'Last tweet update timestamp (UTC)';
+COMMENT ON COLUMN tweets.is_deleted IS 'Logical deletion flag (soft delete)';
+COMMENT ON TABLE tweets_default IS 'Catch-all partition for rows outside the pre-created monthly partitions';
+COMMENT ON FUNCTION create_tweets_partition(DATE) IS 'Create the monthly tweets partition containing the given date if it does not exist';
@@ -0,0 +1,51 @@
+-- V9__align_indexes_to_query_shapes.sql
+-- Replace single-column and boolean indexes with partial/covering indexes that match the repository queries
+--
+-- Every tweet read filters is_deleted = false, so tweet indexes are partial on live rows.
+-- Reaction and follow indexes carry the column the query returns, so lookups can run as index-only scans.
+-- Indexes whose columns are a leading prefix of a unique constraint are dropped because the constraint's
+-- index already serves the same lookups.
+
+-- tweets: timeline / profile (user_id IN (...) AND is_deleted = false ORDER BY created_at DESC, id DESC)
+-- id stays a key column (not INCLUDE) because keyset pagination orders by it
+CREATE INDEX idx_user_id_created_at_id_live ON tweets(user_id, created_at DESC, id DESC) WHERE is_deleted = FALSE;
+DROP INDEX idx_user_id_created_at_id;
+
+-- tweets: keyword search (is_deleted = false ORDER BY created_at DESC)
+CREATE INDEX idx_created_at_live ON tweets(created_at DESC) WHERE is_deleted = FALSE;
+DROP INDEX idx_created_at;
+
+-- tweets: live tweet existence check used by batch likes/retweets (id = ? AND is_deleted = false)
+CREATE INDEX idx_id_live ON tweets(id) WHERE is_deleted = FALSE;
+
+-- tweets: a boolean index is never selective enough to be used
+DROP INDEX idx_is_deleted;
+
+-- likes / retweets: user_id lookups are served by the (user_id, tweet_id) unique constraints
+DROP INDEX idx_user_id_like;
+DROP INDEX idx_user_id_retweet;
+
+-- likes / retweets: counts and reactor lookups per tweet (tweet_id IN (...))
+CREATE INDEX idx_tweet_id_user_id_like ON likes(tweet_id) INCLUDE (user_id);
+DROP INDEX idx_tweet_id_like;
+CREATE INDEX idx_tweet_id_user_id_retweet ON retweets(tweet_id) INCLUDE (user_id);
+DROP INDEX idx_tweet_id_retweet;
+
+-- follows: follower / following lists (ORDER BY created_at DESC); existence and mutual checks use uk_follower_followed
+CREATE INDEX idx_follower_user_id_created_at ON follows(follower_user_id, created_at DESC) INCLUDE (followed_user_id);
+DROP INDEX idx_follower_user_id;
+CREATE INDEX idx_followed_user_id_created_at ON follows(followed_user_id, created_at DESC) INCLUDE (follower_user_id);
+DROP INDEX idx_followed_user_id;
+
+-- users: username / email lookups are served by the UNIQUE constraints
+DROP INDEX idx_username;
+DROP INDEX idx_email;
+
+-- Add comments for documentation
+COMMENT ON INDEX idx_user_id_created_at_id_live IS 'Timeline keyset pagination over live tweets: ORDER BY created_at DESC, id DESC per author';
+COMMENT ON INDEX idx_created_at_live IS 'Newest-first scan over live tweets (keyword search)';
+COMMENT ON INDEX idx_id_live IS 'Index-only existence check for live tweets';
+COMMENT ON INDEX idx_tweet_id_user_id_like IS 'Index-only like counts and likers per tweet';
+COMMENT ON INDEX idx_tweet_id_user_id_retweet IS 'Index-only retweet counts and retweeters per tweet';
+COMMENT ON INDEX idx_follower_user_id_created_at IS 'Index-only following list, newest first';
+COMMENT ON INDEX idx_followed_user_id_created_at IS 'Index-only follower list, newest first';
@@ -0,0 +1,131 @@
+package com.chirper.application.usecase;
+
+import com.chirper.application.usecase.BulkFollowUsersUseCase.BulkFollowResult;
+import com.chirper.application.usecase.BulkFollowUsersUseCase.FollowItemResult;
+import com.chirper.application.usecase.BulkFollowUsersUseCase.FollowStatus;
+import com.chirper.domain.entity.Follow;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.UserFollowed;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkFollowUsersUseCase単体テスト")
+class BulkFollowUsersUseCaseTest {
+
+    @Mock
+    private IFollowRepository followRepository;
+
+    @Mock
+    private IDomainEventPublisher eventPublisher;
+
+    private BulkFollowUsersUseCase bulkFollowUsersUseCase;
+
+    private UserId followerUserId;
+
+    @BeforeEach
+    void setUp() {
+        bulkFollowUsersUseCase = new BulkFollowUsersUseCase(followRepository, eventPublisher);
+        followerUserId = UserId.generate();
+    }
+
+    @Test
+    @DisplayName("正常系: 対象ユーザーごとの結果を指定順に返し、問い合わせは件数によらず一定回数")
+    void shouldFollowUsersInBulk() {
+        // Arrange
+        UserId newUser = UserId.generate();
+        UserId alreadyFollowed = UserId.generate();
+        UserId missingUser = UserId.generate();
+
+        when(followRepository.findFollowedUserIdsIn(followerUserId, List.of(newUser, alreadyFollowed, missingUser)))
+            .thenReturn(List.of(alreadyFollowed));
+        // 存在しないユーザーはINSERT時にスキップされる
+        when(followRepository.saveAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<Follow> follows = invocation.getArgument(0);
+            return follows.stream()
+                .filter(follow -> !follow.getFollowedUserId().equals(missingUser))
+                .toList();
+        });
+
+        // Act
+        BulkFollowResult result = bulkFollowUsersUseCase.execute(
+            followerUserId, List.of(newUser, alreadyFollowed, followerUserId, missingUser, newUser));
+
+        // Assert
+        assertThat(result.results()).containsExactly(
+            new FollowItemResult(newUser, FollowStatus.FOLLOWED),
+            new FollowItemResult(alreadyFollowed, FollowStatus.ALREADY_FOLLOWING),
+            new FollowItemResult(followerUserId, FollowStatus.SELF),
+            new FollowItemResult(missingUser, FollowStatus.NOT_FOUND)
+        );
+        verify(followRepository, times(1)).findFollowedUserIdsIn(any(), anyList());
+        verify(followRepository, times(1)).saveAllIfAbsent(argThat(follows -> follows.size() == 2));
+        verify(followRepository, times(1)).adjustFollowCountsForFollower(followerUserId, List.of(newUser), 1);
+        verify(followRepository, never()).save(any());
+        // 新たにフォローしたユーザーのみイベントを発行
+        verify(eventPublisher, times(1)).publishAll(argThat(events -> events.size() == 1
+            && events.get(0) instanceof UserFollowed followed && followed.followedUserId().equals(newUser)));
+    }
+
+    @Test
+    @DisplayName("正常系: 新たにフォローしたユーザーがいない場合はカウンターを更新しない")
+    void shouldNotAdjustCountersWhenNothingFollowed() {
+        // Arrange
+        UserId alreadyFollowed = UserId.generate();
+        when(followRepository.findFollowedUserIdsIn(followerUserId, List.of(alreadyFollowed)))
+            .thenReturn(List.of(alreadyFollowed));
+        when(followRepository.saveAllIfAbsent(List.of())).thenReturn(List.of());
+
+        // Act
+        BulkFollowResult result = bulkFollowUsersUseCase.execute(followerUserId, List.of(alreadyFollowed));
+
+        // Assert
+        assertThat(result.results()).containsExactly(
+            new FollowItemResult(alreadyFollowed, FollowStatus.ALREADY_FOLLOWING));
+        verify(followRepository, never()).adjustFollowCountsForFollower(any(), anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("異常系: 対象が0件の場合はエラー")
+    void shouldThrowExceptionWhenEmpty() {
+        assertThatThrownBy(() -> bulkFollowUsersUseCase.execute(followerUserId, List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("異常系: 最大件数を超える場合はエラー")
+    void shouldThrowExceptionWhenTooMany() {
+        List<UserId> tooMany = new ArrayList<>(
+            Collections.nCopies(BulkFollowUsersUseCase.MAX_BATCH_SIZE + 1, UserId.generate()));
+
+        assertThatThrownBy(() -> bulkFollowUsersUseCase.execute(followerUserId, tooMany))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("異常系: followerUserIdがnullの場合はエラー")
+    void shouldThrowExceptionWhenFollowerIsNull() {
+        assertThatThrownBy(() -> bulkFollowUsersUseCase.execute(null, List.of(UserId.generate())))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("FollowerUserId cannot be null");
+    }
+}
@@ -0,0 +1,99 @@
+package com.chirper.application.usecase;
+
+import com.chirper.application.usecase.BulkLikeTweetsUseCase.BulkLikeResult;
+import com.chirper.application.usecase.BulkLikeTweetsUseCase.LikeItemResult;
+import com.chirper.application.usecase.BulkLikeTweetsUseCase.LikeStatus;
+import com.chirper.domain.entity.Like;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetLiked;
+import com.chirper.domain.repository.ILikeRepository;
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkLikeTweetsUseCase単体テスト")
+class BulkLikeTweetsUseCaseTest {
+
+    @Mock
+    private ILikeRepository likeRepository;
+
+    @Mock
+    private IDomainEventPublisher eventPublisher;
+
+    private BulkLikeTweetsUseCase bulkLikeTweetsUseCase;
+
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        bulkLikeTweetsUseCase = new BulkLikeTweetsUseCase(likeRepository, eventPublisher);
+        userId = UserId.generate();
+    }
+
+    @Test
+    @DisplayName("正常系: 対象ツイートごとの結果を指定順に返す")
+    void shouldLikeTweetsInBulk() {
+        // Arrange
+        TweetId newTweet = new TweetId(UUID.randomUUID());
+        TweetId alreadyLiked = new TweetId(UUID.randomUUID());
+        TweetId deletedTweet = new TweetId(UUID.randomUUID());
+
+        when(likeRepository.findLikedTweetIdsIn(userId, List.of(newTweet, alreadyLiked, deletedTweet)))
+            .thenReturn(List.of(alreadyLiked));
+        // 存在しない・削除済みのツイートはINSERT時にスキップされる
+        when(likeRepository.saveAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<Like> likes = invocation.getArgument(0);
+            return likes.stream()
+                .filter(like -> !like.getTweetId().equals(deletedTweet))
+                .toList();
+        });
+
+        // Act
+        BulkLikeResult result = bulkLikeTweetsUseCase.execute(
+            userId, List.of(newTweet, alreadyLiked, deletedTweet, newTweet));
+
+        // Assert
+        assertThat(result.results()).containsExactly(
+            new LikeItemResult(newTweet, LikeStatus.LIKED),
+            new LikeItemResult(alreadyLiked, LikeStatus.ALREADY_LIKED),
+            new LikeItemResult(deletedTweet, LikeStatus.NOT_FOUND)
+        );
+        verify(likeRepository, times(1)).saveAllIfAbsent(argThat(likes -> likes.size() == 2));
+        verify(likeRepository, never()).findByUserIdAndTweetId(any(), any());
+        verify(likeRepository, never()).save(any());
+        // 新たにいいねしたツイートのみイベントを発行
+        verify(eventPublisher, times(1)).publishAll(argThat(events -> events.size() == 1
+            && events.get(0) instanceof TweetLiked liked && liked.tweetId().equals(newTweet)));
+    }
+
+    @Test
+    @DisplayName("異常系: 対象が0件の場合はエラー")
+    void shouldThrowExceptionWhenEmpty() {
+        assertThatThrownBy(() -> bulkLikeTweetsUseCase.execute(userId, List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(likeRepository);
+    }
+
+    @Test
+    @DisplayName("異常系: userIdがnullの場合はエラー")
+    void shouldThrowExceptionWhenUserIdIsNull() {
+        assertThatThrownBy(() -> bulkLikeTweetsUseCase.execute(null, List.of(new TweetId(UUID.randomUUID()))))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("UserId cannot be null");
+    }
+}
@@ -1,6 +1,8 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetCreated;
 import com.chirper.domain.repository.ITweetRepository;
 import com.chirper.domain.valueobject.TweetContent;
 import com.chirper.domain.valueobject.UserId;
@@ -27,11 +29,14 @@ class CreateTweetUseCaseTest {
     @Mock
     private ITweetRepository tweetRepository;
 
+    @Mock
+    private IDomainEventPublisher eventPublisher;
+
     private CreateTweetUseCase createTweetUseCase;
 
     @BeforeEach
     void setUp() {
-        createTweetUseCase = new CreateTweetUseCase(tweetRepository);
+        createTweetUseCase = new CreateTweetUseCase(tweetRepository, eventPublisher);
     }
 
     @Test
@@ -56,6 +61,9 @@ class CreateTweetUseCaseTest {
 
         // リポジトリのメソッドが正しく呼ばれたことを確認
         verify(tweetRepository, times(1)).save(any(Tweet.class));
+        // 同一トランザクションでイベントが発行されることを確認
+        verify(eventPublisher, times(1)).publish(
+            new TweetCreated(result.getId(), userId, result.getCreatedAt()));
     }
 
     @Test
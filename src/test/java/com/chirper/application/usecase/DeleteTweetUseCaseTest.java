@@ -48,7 +48,7 @@ class DeleteTweetUseCaseTest {
 
         when(tweetRepository.findById(tweetId))
             .thenReturn(Optional.of(tweet));
-        when(tweetRepository.save(any(Tweet.class)))
+        when(tweetRepository.update(any(Tweet.class)))
             .thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -59,7 +59,7 @@ class DeleteTweetUseCaseTest {
 
         // リポジトリのメソッドが正しく呼ばれたことを確認
         verify(tweetRepository, times(1)).findById(tweetId);
-        verify(tweetRepository, times(1)).save(any(Tweet.class));
+        verify(tweetRepository, times(1)).update(any(Tweet.class));
     }
 
     @Test
@@ -79,7 +79,7 @@ class DeleteTweetUseCaseTest {
 
         // リポジトリのメソッドが正しく呼ばれたことを確認
         verify(tweetRepository, times(1)).findById(tweetId);
-        verify(tweetRepository, never()).save(any(Tweet.class));
+        verify(tweetRepository, never()).update(any(Tweet.class));
     }
 
     @Test
@@ -101,7 +101,7 @@ class DeleteTweetUseCaseTest {
 
         // リポジトリのメソッドが正しく呼ばれたことを確認
         verify(tweetRepository, times(1)).findById(tweetId);
-        verify(tweetRepository, never()).save(any(Tweet.class));
+        verify(tweetRepository, never()).update(any(Tweet.class));
     }
 
     @Test
@@ -123,7 +123,7 @@ class DeleteTweetUseCaseTest {
 
         // リポジトリのメソッドが正しく呼ばれたことを確認
         verify(tweetRepository, times(1)).findById(tweetId);
-        verify(tweetRepository, never()).save(any(Tweet.class));
+        verify(tweetRepository, never()).update(any(Tweet.class));
     }
 
     @Test
@@ -139,7 +139,7 @@ class DeleteTweetUseCaseTest {
 
         // リポジトリのメソッドが呼ばれないことを確認
         verify(tweetRepository, never()).findById(any(TweetId.class));
-        verify(tweetRepository, never()).save(any(Tweet.class));
+        verify(tweetRepository, never()).update(any(Tweet.class));
     }
 
     @Test
@@ -155,6 +155,6 @@ class DeleteTweetUseCaseTest {
 
         // リポジトリのメソッドが呼ばれないことを確認
         verify(tweetRepository, never()).findById(any(TweetId.class));
-        verify(tweetRepository, never()).save(any(Tweet.class));
+        verify(tweetRepository, never()).update(any(Tweet.class));
     }
 }
@@ -0,0 +1,100 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.repository.IUserDataExportRepository;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportRecord;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedFollow;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedLike;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedTweet;
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportUserDataUseCaseTest {
+
+    @Mock
+    private IUserDataExportRepository exportRepository;
+
+    private ExportUserDataUseCase exportUserDataUseCase;
+
+    private UserId userId;
+    private ExportedTweet tweet;
+    private ExportedLike like;
+    private ExportedFollow following;
+    private ExportedFollow follower;
+
+    @BeforeEach
+    void setUp() {
+        exportUserDataUseCase = new ExportUserDataUseCase(exportRepository, 120);
+
+        userId = UserId.generate();
+        Instant now = Instant.now();
+        tweet = new ExportedTweet(TweetId.generate(), "hello", now, now);
+        like = new ExportedLike(TweetId.generate(), now);
+        following = new ExportedFollow(ExportedFollow.Direction.FOLLOWING, UserId.generate(), "alice", now);
+        follower = new ExportedFollow(ExportedFollow.Direction.FOLLOWER, UserId.generate(), "bob", now);
+    }
+
+    @Test
+    @DisplayName("ツイート・いいね・フォロー中・フォロワーの順に1件ずつ渡し、件数を返すこと")
+    void execute_shouldStreamAllRecordsInOrder() {
+        // Given
+        doAnswer(invocation -> { invocation.<Consumer<ExportedTweet>>getArgument(1).accept(tweet); return null; })
+            .when(exportRepository).streamTweets(eq(userId), any());
+        doAnswer(invocation -> { invocation.<Consumer<ExportedLike>>getArgument(1).accept(like); return null; })
+            .when(exportRepository).streamLikes(eq(userId), any());
+        doAnswer(invocation -> { invocation.<Consumer<ExportedFollow>>getArgument(1).accept(following); return null; })
+            .when(exportRepository).streamFollowing(eq(userId), any());
+        doAnswer(invocation -> { invocation.<Consumer<ExportedFollow>>getArgument(1).accept(follower); return null; })
+            .when(exportRepository).streamFollowers(eq(userId), any());
+        List<ExportRecord> received = new ArrayList<>();
+
+        // When
+        ExportUserDataUseCase.ExportSummary summary = exportUserDataUseCase.execute(userId, received::add);
+
+        // Then
+        assertThat(received).containsExactly(tweet, like, following, follower);
+        assertThat(summary).isEqualTo(new ExportUserDataUseCase.ExportSummary(1, 1, 1, 1));
+    }
+
+    @Test
+    @DisplayName("時間予算を超過した場合はQueryTimeoutExceptionで打ち切ること")
+    void execute_shouldAbort_whenTimeBudgetExceeded() {
+        // Given: 時間予算0秒
+        exportUserDataUseCase = new ExportUserDataUseCase(exportRepository, 0);
+        doAnswer(invocation -> { invocation.<Consumer<ExportedTweet>>getArgument(1).accept(tweet); return null; })
+            .when(exportRepository).streamTweets(eq(userId), any());
+        List<ExportRecord> received = new ArrayList<>();
+
+        // When & Then
+        assertThatThrownBy(() -> exportUserDataUseCase.execute(userId, received::add))
+            .isInstanceOf(QueryTimeoutException.class);
+        assertThat(received).isEmpty();
+        verify(exportRepository, never()).streamLikes(any(), any());
+    }
+
+    @Test
+    @DisplayName("userIdがnullの場合はNullPointerExceptionをスローすること")
+    void execute_shouldThrow_whenUserIdIsNull() {
+        assertThatThrownBy(() -> exportUserDataUseCase.execute(null, exportRecord -> {}))
+            .isInstanceOf(NullPointerException.class);
+        verifyNoInteractions(exportRepository);
+    }
+}
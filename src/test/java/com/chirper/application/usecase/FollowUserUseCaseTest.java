@@ -1,8 +1,9 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Follow;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.UserFollowed;
 import com.chirper.domain.repository.IFollowRepository;
-import com.chirper.domain.service.FollowService;
 import com.chirper.domain.valueobject.UserId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,13 +26,13 @@ class FollowUserUseCaseTest {
     private IFollowRepository followRepository;
 
     @Mock
-    private FollowService followService;
+    private IDomainEventPublisher eventPublisher;
 
     private FollowUserUseCase followUserUseCase;
 
     @BeforeEach
     void setUp() {
-        followUserUseCase = new FollowUserUseCase(followRepository, followService);
+        followUserUseCase = new FollowUserUseCase(followRepository, eventPublisher);
     }
 
     @Test
@@ -39,16 +42,17 @@ class FollowUserUseCaseTest {
         UserId followerUserId = UserId.generate();
         UserId followedUserId = UserId.generate();
 
-        doNothing().when(followService).validateFollow(followerUserId, followedUserId);
-        when(followRepository.save(any(Follow.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(followRepository.saveIfAbsent(any(Follow.class))).thenReturn(true);
 
         // Act
         followUserUseCase.execute(followerUserId, followedUserId);
 
         // Assert
-        verify(followService, times(1)).validateFollow(followerUserId, followedUserId);
-        verify(followRepository, times(1)).save(any(Follow.class));
+        verify(followRepository, times(1)).saveIfAbsent(any(Follow.class));
+        verify(followRepository, never()).findByFollowerAndFollowed(any(), any());
+        verify(followRepository, times(1)).adjustFollowCounts(followerUserId, followedUserId, 1);
+        verify(eventPublisher, times(1)).publish(argThat(event -> event instanceof UserFollowed followed
+            && followed.followerUserId().equals(followerUserId) && followed.followedUserId().equals(followedUserId)));
     }
 
     @Test
@@ -57,16 +61,13 @@ class FollowUserUseCaseTest {
         // Arrange
         UserId userId = UserId.generate();
 
-        doThrow(new IllegalArgumentException("User cannot follow themselves"))
-            .when(followService).validateFollow(userId, userId);
-
         // Act & Assert
         assertThatThrownBy(() -> followUserUseCase.execute(userId, userId))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("User cannot follow themselves");
 
-        verify(followService, times(1)).validateFollow(userId, userId);
-        verify(followRepository, never()).save(any(Follow.class));
+        verify(followRepository, never()).saveIfAbsent(any(Follow.class));
+        verify(followRepository, never()).adjustFollowCounts(any(), any(), anyLong());
     }
 
     @Test
@@ -76,15 +77,15 @@ class FollowUserUseCaseTest {
         UserId followerUserId = UserId.generate();
         UserId followedUserId = UserId.generate();
 
-        doThrow(new IllegalStateException("Already following this user"))
-            .when(followService).validateFollow(followerUserId, followedUserId);
+        when(followRepository.saveIfAbsent(any(Follow.class))).thenReturn(false);
 
         // Act & Assert
         assertThatThrownBy(() -> followUserUseCase.execute(followerUserId, followedUserId))
             .isInstanceOf(IllegalStateException.class)
             .hasMessageContaining("Already following this user");
 
-        verify(followService, times(1)).validateFollow(followerUserId, followedUserId);
-        verify(followRepository, never()).save(any(Follow.class));
+        verify(followRepository, times(1)).saveIfAbsent(any(Follow.class));
+        verify(followRepository, never()).adjustFollowCounts(any(), any(), anyLong());
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -4,6 +4,8 @@ import com.chirper.domain.entity.User;
 import com.chirper.domain.exception.EntityNotFoundException;
 import com.chirper.domain.repository.IFollowRepository;
 import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
 import com.chirper.domain.valueobject.Email;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
@@ -31,6 +33,9 @@ class GetFollowersUseCaseTest {
     @Mock
     private IFollowRepository followRepository;
 
+    @Mock
+    private IUserSummaryReadRepository userSummaryReadRepository;
+
     private GetFollowersUseCase getFollowersUseCase;
 
     private Username testUsername;
@@ -43,7 +48,8 @@ class GetFollowersUseCaseTest {
     void setUp() {
         getFollowersUseCase = new GetFollowersUseCase(
             userRepository,
-            followRepository
+            followRepository,
+            userSummaryReadRepository
         );
 
         testUsername = new Username("targetuser");
@@ -77,16 +83,16 @@ class GetFollowersUseCaseTest {
         int offset = page * size;
 
         List<UserId> followerIds = List.of(followerUser1.getId(), followerUser2.getId());
-        Map<UserId, User> followerUsersMap = Map.of(
-            followerUser1.getId(), followerUser1,
-            followerUser2.getId(), followerUser2
+        Map<UserId, UserSummary> followerUsersMap = Map.of(
+            followerUser1.getId(), UserSummary.from(followerUser1),
+            followerUser2.getId(), UserSummary.from(followerUser2)
         );
         List<UserId> followedByCurrentUserIds = List.of(followerUser1.getId());
 
         when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
         when(followRepository.countFollowers(testUser.getId())).thenReturn(2L);
         when(followRepository.findFollowerUserIds(testUser.getId(), offset, size)).thenReturn(followerIds);
-        when(userRepository.findByIds(followerIds)).thenReturn(followerUsersMap);
+        when(userSummaryReadRepository.findSummariesByIds(followerIds)).thenReturn(followerUsersMap);
         when(followRepository.findFollowedUserIdsIn(currentUserId, followerIds)).thenReturn(followedByCurrentUserIds);
 
         // Act
@@ -99,18 +105,18 @@ class GetFollowersUseCaseTest {
         assertThat(result.totalPages()).isEqualTo(1);
 
         // 1人目のフォロワー（currentUserがフォロー中）
-        assertThat(result.followers().get(0).user().getUsername().value()).isEqualTo("follower1");
+        assertThat(result.followers().get(0).user().username()).isEqualTo("follower1");
         assertThat(result.followers().get(0).followedByCurrentUser()).isTrue();
 
         // 2人目のフォロワー（currentUserがフォローしていない）
-        assertThat(result.followers().get(1).user().getUsername().value()).isEqualTo("follower2");
+        assertThat(result.followers().get(1).user().username()).isEqualTo("follower2");
         assertThat(result.followers().get(1).followedByCurrentUser()).isFalse();
 
         // モックの検証
         verify(userRepository).findByUsername(testUsername);
         verify(followRepository).countFollowers(testUser.getId());
         verify(followRepository).findFollowerUserIds(testUser.getId(), offset, size);
-        verify(userRepository).findByIds(followerIds);
+        verify(userSummaryReadRepository).findSummariesByIds(followerIds);
         verify(followRepository).findFollowedUserIdsIn(currentUserId, followerIds);
     }
 
@@ -123,12 +129,12 @@ class GetFollowersUseCaseTest {
         int offset = page * size;
 
         List<UserId> followerIds = List.of(followerUser1.getId());
-        Map<UserId, User> followerUsersMap = Map.of(followerUser1.getId(), followerUser1);
+        Map<UserId, UserSummary> followerUsersMap = Map.of(followerUser1.getId(), UserSummary.from(followerUser1));
 
         when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
         when(followRepository.countFollowers(testUser.getId())).thenReturn(1L);
         when(followRepository.findFollowerUserIds(testUser.getId(), offset, size)).thenReturn(followerIds);
-        when(userRepository.findByIds(followerIds)).thenReturn(followerUsersMap);
+        when(userSummaryReadRepository.findSummariesByIds(followerIds)).thenReturn(followerUsersMap);
 
         // Act
         GetFollowersUseCase.FollowersResult result = getFollowersUseCase.execute(testUsername, null, page, size);
@@ -163,8 +169,8 @@ class GetFollowersUseCaseTest {
         assertThat(result.currentPage()).isEqualTo(0);
         assertThat(result.totalPages()).isEqualTo(0);
 
-        // フォロワーが0人の場合はfindByIdsが呼ばれないことを確認
-        verify(userRepository, never()).findByIds(any());
+        // フォロワーが0人の場合はfindSummariesByIdsが呼ばれないことを確認
+        verify(userSummaryReadRepository, never()).findSummariesByIds(any());
     }
 
     @Test
@@ -176,12 +182,12 @@ class GetFollowersUseCaseTest {
         int offset = page * size;
 
         List<UserId> followerIds = List.of(followerUser1.getId());
-        Map<UserId, User> followerUsersMap = Map.of(followerUser1.getId(), followerUser1);
+        Map<UserId, UserSummary> followerUsersMap = Map.of(followerUser1.getId(), UserSummary.from(followerUser1));
 
         when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
         when(followRepository.countFollowers(testUser.getId())).thenReturn(25L);
         when(followRepository.findFollowerUserIds(testUser.getId(), offset, size)).thenReturn(followerIds);
-        when(userRepository.findByIds(followerIds)).thenReturn(followerUsersMap);
+        when(userSummaryReadRepository.findSummariesByIds(followerIds)).thenReturn(followerUsersMap);
         when(followRepository.findFollowedUserIdsIn(currentUserId, followerIds)).thenReturn(List.of());
 
         // Act
@@ -0,0 +1,137 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.EntityNotFoundException;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
+import com.chirper.domain.valueobject.Email;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetFollowersYouKnowUseCaseTest {
+
+    @Mock
+    private IUserRepository userRepository;
+
+    @Mock
+    private IFollowRepository followRepository;
+
+    @Mock
+    private IUserSummaryReadRepository userSummaryReadRepository;
+
+    private GetFollowersYouKnowUseCase getFollowersYouKnowUseCase;
+
+    private Username testUsername;
+    private User testUser;
+    private UserId currentUserId;
+    private User knownFollower;
+
+    @BeforeEach
+    void setUp() {
+        getFollowersYouKnowUseCase = new GetFollowersYouKnowUseCase(
+            userRepository,
+            followRepository,
+            userSummaryReadRepository
+        );
+
+        testUsername = new Username("targetuser");
+        testUser = User.create(
+            testUsername,
+            new Email("target@example.com"),
+            "hashedPassword"
+        );
+
+        currentUserId = UserId.generate();
+
+        knownFollower = User.create(
+            new Username("known1"),
+            new Email("known1@example.com"),
+            "hashedPassword"
+        );
+    }
+
+    @Test
+    @DisplayName("知り合いのフォロワー一覧取得成功")
+    void getFollowersYouKnow_success() {
+        // Arrange
+        List<UserId> followerIds = List.of(knownFollower.getId());
+
+        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
+        when(followRepository.countFollowersFollowedBy(testUser.getId(), currentUserId)).thenReturn(1L);
+        when(followRepository.findFollowersFollowedBy(testUser.getId(), currentUserId, 0, 20)).thenReturn(followerIds);
+        when(userSummaryReadRepository.findSummariesByIds(followerIds)).thenReturn(Map.of(knownFollower.getId(), UserSummary.from(knownFollower)));
+
+        // Act
+        GetFollowersYouKnowUseCase.FollowersYouKnowResult result =
+            getFollowersYouKnowUseCase.execute(testUsername, currentUserId, 0, 20);
+
+        // Assert
+        assertThat(result.followers()).containsExactly(UserSummary.from(knownFollower));
+        assertThat(result.currentPage()).isEqualTo(0);
+        assertThat(result.totalPages()).isEqualTo(1);
+
+        // 結果は定義上フォロー済みのため、フォロー状態の追加問い合わせは行わない
+        verify(followRepository, never()).findFollowedUserIdsIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("該当するフォロワーがいない場合")
+    void getFollowersYouKnow_empty() {
+        // Arrange
+        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
+        when(followRepository.countFollowersFollowedBy(testUser.getId(), currentUserId)).thenReturn(0L);
+        when(followRepository.findFollowersFollowedBy(testUser.getId(), currentUserId, 0, 20)).thenReturn(List.of());
+
+        // Act
+        GetFollowersYouKnowUseCase.FollowersYouKnowResult result =
+            getFollowersYouKnowUseCase.execute(testUsername, currentUserId, 0, 20);
+
+        // Assert
+        assertThat(result.followers()).isEmpty();
+        assertThat(result.totalPages()).isEqualTo(0);
+        verify(userSummaryReadRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    @DisplayName("ユーザーが見つからない場合は例外をスロー")
+    void getFollowersYouKnow_userNotFound_throwsException() {
+        // Arrange
+        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> getFollowersYouKnowUseCase.execute(testUsername, currentUserId, 0, 20))
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessageContaining("ユーザーが見つかりません");
+
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("currentUserIdがnullの場合は例外をスロー")
+    void getFollowersYouKnow_nullCurrentUser_throwsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> getFollowersYouKnowUseCase.execute(testUsername, null, 0, 20))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("Current user ID cannot be null");
+
+        verifyNoInteractions(userRepository);
+        verifyNoInteractions(followRepository);
+    }
+}
@@ -4,6 +4,8 @@ import com.chirper.domain.entity.User;
 import com.chirper.domain.exception.EntityNotFoundException;
 import com.chirper.domain.repository.IFollowRepository;
 import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
 import com.chirper.domain.valueobject.Email;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
@@ -31,6 +33,9 @@ class GetFollowingUseCaseTest {
     @Mock
     private IFollowRepository followRepository;
 
+    @Mock
+    private IUserSummaryReadRepository userSummaryReadRepository;
+
     private GetFollowingUseCase getFollowingUseCase;
 
     private Username testUsername;
@@ -43,7 +48,8 @@ class GetFollowingUseCaseTest {
     void setUp() {
         getFollowingUseCase = new GetFollowingUseCase(
             userRepository,
-            followRepository
+            followRepository,
+            userSummaryReadRepository
         );
 
         testUsername = new Username("targetuser");
@@ -77,16 +83,16 @@ class GetFollowingUseCaseTest {
         int offset = page * size;
 
         List<UserId> followingIds = List.of(followingUser1.getId(), followingUser2.getId());
-        Map<UserId, User> followingUsersMap = Map.of(
-            followingUser1.getId(), followingUser1,
-            followingUser2.getId(), followingUser2
+        Map<UserId, UserSummary> followingUsersMap = Map.of(
+            followingUser1.getId(), UserSummary.from(followingUser1),
+            followingUser2.getId(), UserSummary.from(followingUser2)
         );
         List<UserId> followedByCurrentUserIds = List.of(followingUser1.getId());
 
         when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
         when(followRepository.countFollowing(testUser.getId())).thenReturn(2L);
         when(followRepository.findFollowingUserIds(testUser.getId(), offset, size)).thenReturn(followingIds);
-        when(userRepository.findByIds(followingIds)).thenReturn(followingUsersMap);
+        when(userSummaryReadRepository.findSummariesByIds(followingIds)).thenReturn(followingUsersMap);
         when(followRepository.findFollowedUserIdsIn(currentUserId, followingIds)).thenReturn(followedByCurrentUserIds);
 
         // Act
@@ -99,18 +105,18 @@ class GetFollowingUseCaseTest {
         assertThat(result.totalPages()).isEqualTo(1);
 
         // 1人目のフォロー中ユーザー（currentUserもフォロー中）
-        assertThat(result.following().get(0).user().getUsername().value()).isEqualTo("following1");
+        assertThat(result.following().get(0).user().username()).isEqualTo("following1");
         assertThat(result.following().get(0).followedByCurrentUser()).isTrue();
 
         // 2人目のフォロー中ユーザー（currentUserはフォローしていない）
-        assertThat(result.following().get(1).user().getUsername().value()).isEqualTo("following2");
+        assertThat(result.following().get(1).user().username()).isEqualTo("following2");
         assertThat(result.following().get(1).followedByCurrentUser()).isFalse();
 
         // モックの検証
         verify(userRepository).findByUsername(testUsername);
         verify(followRepository).countFollowing(testUser.getId());
         verify(followRepository).findFollowingUserIds(testUser.getId(), offset, size);
-        verify(userRepository).findByIds(followingIds);
+        verify(userSummaryReadRepository).findSummariesByIds(followingIds);
         verify(followRepository).findFollowedUserIdsIn(currentUserId, followingIds);
     }
 
@@ -123,12 +129,12 @@ class GetFollowingUseCaseTest {
         int offset = page * size;
 
         List<UserId> followingIds = List.of(followingUser1.getId());
-        Map<UserId, User> followingUsersMap = Map.of(followingUser1.getId(), followingUser1);
+        Map<UserId, UserSummary> followingUsersMap = Map.of(followingUser1.getId(), UserSummary.from(followingUser1));
 
         when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
         when(followRepository.countFollowing(testUser.getId())).thenReturn(1L);
         when(followRepository.findFollowingUserIds(testUser.getId(), offset, size)).thenReturn(followingIds);
-        when(userRepository.findByIds(followingIds)).thenReturn(followingUsersMap);
+        when(userSummaryReadRepository.findSummariesByIds(followingIds)).thenReturn(followingUsersMap);
 
         // Act
         GetFollowingUseCase.FollowingResult result = getFollowingUseCase.execute(testUsername, null, page, size);
@@ -163,8 +169,8 @@ class GetFollowingUseCaseTest {
         assertThat(result.currentPage()).isEqualTo(0);
         assertThat(result.totalPages()).isEqualTo(0);
 
-        // フォロー中が0人の場合はfindByIdsが呼ばれないことを確認
-        verify(userRepository, never()).findByIds(any());
+        // フォロー中が0人の場合はfindSummariesByIdsが呼ばれないことを確認
+        verify(userSummaryReadRepository, never()).findSummariesByIds(any());
     }
 
     @Test
@@ -176,12 +182,12 @@ class GetFollowingUseCaseTest {
         int offset = page * size;
 
         List<UserId> followingIds = List.of(followingUser1.getId());
-        Map<UserId, User> followingUsersMap = Map.of(followingUser1.getId(), followingUser1);
+        Map<UserId, UserSummary> followingUsersMap = Map.of(followingUser1.getId(), UserSummary.from(followingUser1));
 
         when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
         when(followRepository.countFollowing(testUser.getId())).thenReturn(25L);
         when(followRepository.findFollowingUserIds(testUser.getId(), offset, size)).thenReturn(followingIds);
-        when(userRepository.findByIds(followingIds)).thenReturn(followingUsersMap);
+        when(userSummaryReadRepository.findSummariesByIds(followingIds)).thenReturn(followingUsersMap);
         when(followRepository.findFollowedUserIdsIn(currentUserId, followingIds)).thenReturn(List.of());
 
         // Act
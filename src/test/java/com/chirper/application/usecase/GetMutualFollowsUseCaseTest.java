@@ -0,0 +1,169 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.EntityNotFoundException;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
+import com.chirper.domain.valueobject.Email;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetMutualFollowsUseCaseTest {
+
+    @Mock
+    private IUserRepository userRepository;
+
+    @Mock
+    private IFollowRepository followRepository;
+
+    @Mock
+    private IUserSummaryReadRepository userSummaryReadRepository;
+
+    private GetMutualFollowsUseCase getMutualFollowsUseCase;
+
+    private Username testUsername;
+    private User testUser;
+    private UserId currentUserId;
+    private User mutualUser1;
+    private User mutualUser2;
+
+    @BeforeEach
+    void setUp() {
+        getMutualFollowsUseCase = new GetMutualFollowsUseCase(
+            userRepository,
+            followRepository,
+            userSummaryReadRepository
+        );
+
+        testUsername = new Username("targetuser");
+        testUser = User.create(
+            testUsername,
+            new Email("target@example.com"),
+            "hashedPassword"
+        );
+
+        currentUserId = UserId.generate();
+
+        mutualUser1 = User.create(
+            new Username("mutual1"),
+            new Email("mutual1@example.com"),
+            "hashedPassword"
+        );
+
+        mutualUser2 = User.create(
+            new Username("mutual2"),
+            new Email("mutual2@example.com"),
+            "hashedPassword"
+        );
+    }
+
+    @Test
+    @DisplayName("相互フォロー一覧取得成功 - 認証あり")
+    void getMutualFollows_success_withAuthentication() {
+        // Arrange
+        List<UserId> mutualIds = List.of(mutualUser1.getId(), mutualUser2.getId());
+        Map<UserId, UserSummary> mutualUsersMap = Map.of(
+            mutualUser1.getId(), UserSummary.from(mutualUser1),
+            mutualUser2.getId(), UserSummary.from(mutualUser2)
+        );
+
+        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
+        when(followRepository.countMutualFollows(testUser.getId())).thenReturn(2L);
+        when(followRepository.findMutualFollowUserIds(testUser.getId(), 0, 20)).thenReturn(mutualIds);
+        when(userSummaryReadRepository.findSummariesByIds(mutualIds)).thenReturn(mutualUsersMap);
+        when(followRepository.findFollowedUserIdsIn(currentUserId, mutualIds)).thenReturn(List.of(mutualUser2.getId()));
+
+        // Act
+        GetMutualFollowsUseCase.MutualFollowsResult result = getMutualFollowsUseCase.execute(testUsername, currentUserId, 0, 20);
+
+        // Assert
+        assertThat(result.mutuals()).hasSize(2);
+        assertThat(result.totalPages()).isEqualTo(1);
+        assertThat(result.mutuals().get(0).user().username()).isEqualTo("mutual1");
+        assertThat(result.mutuals().get(0).followedByCurrentUser()).isFalse();
+        assertThat(result.mutuals().get(1).user().username()).isEqualTo("mutual2");
+        assertThat(result.mutuals().get(1).followedByCurrentUser()).isTrue();
+    }
+
+    @Test
+    @DisplayName("相互フォロー一覧取得成功 - 認証なし")
+    void getMutualFollows_success_withoutAuthentication() {
+        // Arrange
+        List<UserId> mutualIds = List.of(mutualUser1.getId());
+
+        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
+        when(followRepository.countMutualFollows(testUser.getId())).thenReturn(21L);
+        when(followRepository.findMutualFollowUserIds(testUser.getId(), 20, 20)).thenReturn(mutualIds);
+        when(userSummaryReadRepository.findSummariesByIds(mutualIds)).thenReturn(Map.of(mutualUser1.getId(), UserSummary.from(mutualUser1)));
+
+        // Act
+        GetMutualFollowsUseCase.MutualFollowsResult result = getMutualFollowsUseCase.execute(testUsername, null, 1, 20);
+
+        // Assert
+        assertThat(result.mutuals()).hasSize(1);
+        assertThat(result.mutuals().get(0).followedByCurrentUser()).isFalse();
+        assertThat(result.currentPage()).isEqualTo(1);
+        assertThat(result.totalPages()).isEqualTo(2);
+        verify(followRepository, never()).findFollowedUserIdsIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("相互フォローが0人の場合")
+    void getMutualFollows_empty() {
+        // Arrange
+        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
+        when(followRepository.countMutualFollows(testUser.getId())).thenReturn(0L);
+        when(followRepository.findMutualFollowUserIds(testUser.getId(), 0, 20)).thenReturn(List.of());
+
+        // Act
+        GetMutualFollowsUseCase.MutualFollowsResult result = getMutualFollowsUseCase.execute(testUsername, currentUserId, 0, 20);
+
+        // Assert
+        assertThat(result.mutuals()).isEmpty();
+        assertThat(result.totalPages()).isEqualTo(0);
+        verify(userSummaryReadRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    @DisplayName("ユーザーが見つからない場合は例外をスロー")
+    void getMutualFollows_userNotFound_throwsException() {
+        // Arrange
+        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> getMutualFollowsUseCase.execute(testUsername, currentUserId, 0, 20))
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessageContaining("ユーザーが見つかりません");
+
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("sizeが上限を超える場合は例外をスロー")
+    void getMutualFollows_sizeTooLarge_throwsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> getMutualFollowsUseCase.execute(testUsername, currentUserId, 0, 101))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Size must not exceed 100");
+
+        verifyNoInteractions(userRepository);
+        verifyNoInteractions(followRepository);
+    }
+}
@@ -2,26 +2,36 @@ package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Tweet;
 import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.ServiceUnavailableException;
 import com.chirper.domain.repository.IFollowRepository;
 import com.chirper.domain.repository.ILikeRepository;
 import com.chirper.domain.repository.IRetweetRepository;
-import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
 import com.chirper.domain.service.TimelineService;
 import com.chirper.domain.valueobject.Email;
 import com.chirper.domain.valueobject.TweetContent;
 import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,17 +55,29 @@ class GetTimelineUseCaseTest {
     private IRetweetRepository retweetRepository;
 
     @Mock
-    private IUserRepository userRepository;
+    private IUserSummaryReadRepository userSummaryReadRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService hydrationExecutor;
 
     private GetTimelineUseCase getTimelineUseCase;
 
     @BeforeEach
     void setUp() {
+        hydrationExecutor = Executors.newVirtualThreadPerTaskExecutor();
         getTimelineUseCase = new GetTimelineUseCase(
-            followRepository, timelineService, likeRepository, retweetRepository, userRepository
+            followRepository, timelineService, likeRepository, retweetRepository, userSummaryReadRepository,
+            hydrationExecutor, Duration.ofSeconds(2), 5, transactionManager
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        hydrationExecutor.shutdownNow();
+    }
+
     @Test
     @DisplayName("正常系: タイムラインを取得できる")
     void shouldGetTimelineSuccessfully() {
@@ -66,13 +88,14 @@ class GetTimelineUseCaseTest {
         int size = 20;
 
         Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
-        User author = User.create(new Username("testuser"), new Email("test@example.com"), "password");
+        UserSummary author = UserSummary.from(
+            User.create(new Username("testuser"), new Email("test@example.com"), "password"));
 
         when(followRepository.findFollowedUserIds(currentUserId))
             .thenReturn(List.of(followedUserId));
         when(timelineService.getTimeline(anyList(), eq(page), eq(size)))
             .thenReturn(List.of(tweet));
-        when(userRepository.findByIds(anyList()))
+        when(userSummaryReadRepository.findSummariesByIds(anyList()))
             .thenReturn(Map.of(followedUserId, author));
         when(likeRepository.countByTweetIds(anyList()))
             .thenReturn(Map.of(tweet.getId(), 5L));
@@ -98,11 +121,52 @@ class GetTimelineUseCaseTest {
 
         verify(followRepository, times(1)).findFollowedUserIds(currentUserId);
         verify(timelineService, times(1)).getTimeline(anyList(), eq(page), eq(size));
-        verify(userRepository, times(1)).findByIds(anyList());
+        verify(userSummaryReadRepository, times(1)).findSummariesByIds(anyList());
         verify(likeRepository, times(1)).countByTweetIds(anyList());
         verify(retweetRepository, times(1)).countByTweetIds(anyList());
     }
 
+    @Test
+    @DisplayName("正常系: カーソル位置からタイムラインを取得できる")
+    void shouldGetTimelineBeforeCursor() {
+        // Arrange
+        UserId currentUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        TweetId cursor = TweetId.generate();
+
+        Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
+        UserSummary author = UserSummary.from(
+            User.create(new Username("testuser"), new Email("test@example.com"), "password"));
+
+        when(followRepository.findFollowedUserIds(currentUserId))
+            .thenReturn(List.of(followedUserId));
+        when(timelineService.getTimelineBefore(anyList(), eq(cursor), eq(20)))
+            .thenReturn(List.of(tweet));
+        when(userSummaryReadRepository.findSummariesByIds(anyList()))
+            .thenReturn(Map.of(followedUserId, author));
+        when(likeRepository.countByTweetIds(anyList()))
+            .thenReturn(Map.of(tweet.getId(), 5L));
+        when(retweetRepository.countByTweetIds(anyList()))
+            .thenReturn(Map.of());
+        when(likeRepository.findLikedTweetIdsIn(eq(currentUserId), anyList()))
+            .thenReturn(List.of(tweet.getId()));
+        when(retweetRepository.findRetweetedTweetIdsIn(eq(currentUserId), anyList()))
+            .thenReturn(List.of());
+
+        // Act
+        GetTimelineUseCase.TimelineResult result = getTimelineUseCase.executeBefore(currentUserId, cursor, 20);
+
+        // Assert
+        assertThat(result.tweets()).hasSize(1);
+        assertThat(result.tweets().get(0).tweet()).isEqualTo(tweet);
+        assertThat(result.tweets().get(0).likesCount()).isEqualTo(5L);
+        assertThat(result.tweets().get(0).likedByCurrentUser()).isTrue();
+        verify(timelineService, never()).getTimeline(anyList(), anyInt(), anyInt());
+        // いいね・リツイート済み判定は表示するツイートに限定して問い合わせる
+        verify(likeRepository).findLikedTweetIdsIn(currentUserId, List.of(tweet.getId()));
+        verify(retweetRepository).findRetweetedTweetIdsIn(currentUserId, List.of(tweet.getId()));
+    }
+
     @Test
     @DisplayName("正常系: フォローユーザーが0件の場合は空のタイムラインを返す")
     void shouldReturnEmptyTimelineWhenNoFollowedUsers() {
@@ -139,4 +203,157 @@ class GetTimelineUseCaseTest {
 
         verify(followRepository, never()).findFollowedUserIds(any(UserId.class));
     }
+
+    @Test
+    @DisplayName("正常系: 付加情報のクエリを並行実行し、合計ではなく最も遅いクエリ程度の時間で完了する")
+    void shouldHydrateInParallel() {
+        // Arrange
+        UserId currentUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
+
+        when(followRepository.findFollowedUserIds(currentUserId)).thenReturn(List.of(followedUserId));
+        when(timelineService.getTimeline(anyList(), eq(0), eq(20))).thenReturn(List.of(tweet));
+        when(userSummaryReadRepository.findSummariesByIds(anyList())).thenAnswer(sleepThenReturn(Map.of()));
+        when(likeRepository.countByTweetIds(anyList())).thenAnswer(sleepThenReturn(Map.of()));
+        when(retweetRepository.countByTweetIds(anyList())).thenAnswer(sleepThenReturn(Map.of()));
+        when(likeRepository.findLikedTweetIdsIn(eq(currentUserId), anyList())).thenAnswer(sleepThenReturn(List.of(tweet.getId())));
+        when(retweetRepository.findRetweetedTweetIdsIn(eq(currentUserId), anyList())).thenAnswer(sleepThenReturn(List.of()));
+
+        // Act
+        long start = System.nanoTime();
+        GetTimelineUseCase.TimelineResult result = getTimelineUseCase.execute(currentUserId, 0, 20);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert: 逐次実行なら5 x 200ms = 1000ms以上かかる
+        assertThat(result.tweets()).hasSize(1);
+        assertThat(result.tweets().get(0).likedByCurrentUser()).isTrue();
+        assertThat(elapsedMillis).isLessThan(800L);
+    }
+
+    @Test
+    @DisplayName("異常系: 期限を超えた場合は残りのクエリをキャンセルしてエラー")
+    void shouldFailWhenHydrationExceedsDeadline() {
+        // Arrange
+        GetTimelineUseCase useCase = new GetTimelineUseCase(
+            followRepository, timelineService, likeRepository, retweetRepository, userSummaryReadRepository,
+            hydrationExecutor, Duration.ofMillis(100), 5, transactionManager
+        );
+        UserId currentUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
+
+        when(followRepository.findFollowedUserIds(currentUserId)).thenReturn(List.of(followedUserId));
+        when(timelineService.getTimeline(anyList(), eq(0), eq(20))).thenReturn(List.of(tweet));
+        when(userSummaryReadRepository.findSummariesByIds(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return Map.of();
+        });
+        lenient().when(likeRepository.countByTweetIds(anyList())).thenReturn(Map.of());
+        lenient().when(retweetRepository.countByTweetIds(anyList())).thenReturn(Map.of());
+        lenient().when(likeRepository.findLikedTweetIdsIn(eq(currentUserId), anyList())).thenReturn(List.of());
+        lenient().when(retweetRepository.findRetweetedTweetIdsIn(eq(currentUserId), anyList())).thenReturn(List.of());
+
+        // Act & Assert
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> useCase.execute(currentUserId, 0, 20))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .hasMessageContaining("タイムアウト");
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(2_000L);
+    }
+
+    @Test
+    @DisplayName("異常系: いずれかのクエリが失敗した場合はその例外をそのままスロー")
+    void shouldPropagateHydrationFailure() {
+        // Arrange
+        UserId currentUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
+
+        when(followRepository.findFollowedUserIds(currentUserId)).thenReturn(List.of(followedUserId));
+        when(timelineService.getTimeline(anyList(), eq(0), eq(20))).thenReturn(List.of(tweet));
+        when(userSummaryReadRepository.findSummariesByIds(anyList())).thenThrow(new IllegalArgumentException("boom"));
+        lenient().when(likeRepository.countByTweetIds(anyList())).thenReturn(Map.of());
+        lenient().when(retweetRepository.countByTweetIds(anyList())).thenReturn(Map.of());
+        lenient().when(likeRepository.findLikedTweetIdsIn(eq(currentUserId), anyList())).thenReturn(List.of());
+        lenient().when(retweetRepository.findRetweetedTweetIdsIn(eq(currentUserId), anyList())).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> getTimelineUseCase.execute(currentUserId, 0, 20))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("正常系: ツイートの取得と付加情報の各クエリを読み取り専用トランザクションで実行する")
+    void shouldRunQueriesInReadOnlyTransactions() {
+        // Arrange
+        UserId currentUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
+
+        when(followRepository.findFollowedUserIds(currentUserId)).thenReturn(List.of(followedUserId));
+        when(timelineService.getTimeline(anyList(), eq(0), eq(20))).thenReturn(List.of(tweet));
+        when(userSummaryReadRepository.findSummariesByIds(anyList())).thenReturn(Map.of());
+        when(likeRepository.countByTweetIds(anyList())).thenReturn(Map.of());
+        when(retweetRepository.countByTweetIds(anyList())).thenReturn(Map.of());
+        when(likeRepository.findLikedTweetIdsIn(eq(currentUserId), anyList())).thenReturn(List.of());
+        when(retweetRepository.findRetweetedTweetIdsIn(eq(currentUserId), anyList())).thenReturn(List.of());
+
+        // Act
+        getTimelineUseCase.execute(currentUserId, 0, 20);
+
+        // Assert: ツイートの取得1回 + 付加情報5回
+        verify(transactionManager, times(6)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager, never()).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    }
+
+    @Test
+    @DisplayName("正常系: 1リクエストで同時に実行するクエリ数を上限までに制限する")
+    void shouldBoundHydrationParallelism() {
+        // Arrange
+        GetTimelineUseCase useCase = new GetTimelineUseCase(
+            followRepository, timelineService, likeRepository, retweetRepository, userSummaryReadRepository,
+            hydrationExecutor, Duration.ofSeconds(2), 2, transactionManager
+        );
+        UserId currentUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(followRepository.findFollowedUserIds(currentUserId)).thenReturn(List.of(followedUserId));
+        when(timelineService.getTimeline(anyList(), eq(0), eq(20))).thenReturn(List.of(tweet));
+        when(userSummaryReadRepository.findSummariesByIds(anyList())).thenAnswer(trackConcurrency(inFlight, maxInFlight, Map.of()));
+        when(likeRepository.countByTweetIds(anyList())).thenAnswer(trackConcurrency(inFlight, maxInFlight, Map.of()));
+        when(retweetRepository.countByTweetIds(anyList())).thenAnswer(trackConcurrency(inFlight, maxInFlight, Map.of()));
+        when(likeRepository.findLikedTweetIdsIn(eq(currentUserId), anyList())).thenAnswer(trackConcurrency(inFlight, maxInFlight, List.of()));
+        when(retweetRepository.findRetweetedTweetIdsIn(eq(currentUserId), anyList())).thenAnswer(trackConcurrency(inFlight, maxInFlight, List.of()));
+
+        // Act
+        GetTimelineUseCase.TimelineResult result = useCase.execute(currentUserId, 0, 20);
+
+        // Assert
+        assertThat(result.tweets()).hasSize(1);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    private static <T> Answer<T> trackConcurrency(AtomicInteger inFlight, AtomicInteger maxInFlight, T value) {
+        return invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+                return value;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    private static <T> Answer<T> sleepThenReturn(T value) {
+        return invocation -> {
+            Thread.sleep(200);
+            return value;
+        };
+    }
 }
@@ -3,10 +3,9 @@ package com.chirper.application.usecase;
 import com.chirper.domain.entity.Tweet;
 import com.chirper.domain.entity.User;
 import com.chirper.domain.exception.EntityNotFoundException;
-import com.chirper.domain.repository.IFollowRepository;
-import com.chirper.domain.repository.ITweetRepository;
-import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserProfileReadRepository;
 import com.chirper.domain.valueobject.Email;
+import com.chirper.domain.valueobject.TweetContent;
 import com.chirper.domain.valueobject.UserId;
 import com.chirper.domain.valueobject.Username;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,13 +26,7 @@ import static org.mockito.Mockito.*;
 class GetUserProfileUseCaseTest {
 
     @Mock
-    private IUserRepository userRepository;
-
-    @Mock
-    private IFollowRepository followRepository;
-
-    @Mock
-    private ITweetRepository tweetRepository;
+    private IUserProfileReadRepository userProfileReadRepository;
 
     private GetUserProfileUseCase getUserProfileUseCase;
 
@@ -43,11 +36,7 @@ class GetUserProfileUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        getUserProfileUseCase = new GetUserProfileUseCase(
-            userRepository,
-            followRepository,
-            tweetRepository
-        );
+        getUserProfileUseCase = new GetUserProfileUseCase(userProfileReadRepository);
 
         testUsername = new Username("testuser");
         testUser = User.create(
@@ -64,26 +53,43 @@ class GetUserProfileUseCaseTest {
         // Arrange
         int page = 0;
         int size = 10;
-        when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
-        when(followRepository.countFollowers(testUser.getId())).thenReturn(10L);
-        when(followRepository.countFollowing(testUser.getId())).thenReturn(5L);
-        when(followRepository.existsByFollowerAndFollowed(currentUserId, testUser.getId())).thenReturn(false);
-        when(tweetRepository.findByUserId(testUser.getId(), page, size)).thenReturn(List.of());
+        Tweet tweet = Tweet.create(testUser.getId(), new TweetContent("hello"));
+        IUserProfileReadRepository.UserProfile profile =
+            new IUserProfileReadRepository.UserProfile(IUserProfileReadRepository.ProfileUser.from(testUser), 10L, 5L, true, List.of(tweet));
+        when(userProfileReadRepository.findByUsername(testUsername, currentUserId, page, size))
+            .thenReturn(Optional.of(profile));
 
         // Act
         GetUserProfileUseCase.UserProfileResult result = getUserProfileUseCase.execute(testUsername, currentUserId, page, size);
 
         // Assert
         assertThat(result).isNotNull();
-        assertThat(result.user().getUsername()).isEqualTo(testUsername);
-        assertThat(result.user().getEmail().value()).isEqualTo("test@example.com");
+        assertThat(result.user().id()).isEqualTo(testUser.getId());
+        assertThat(result.user().username()).isEqualTo("testuser");
         assertThat(result.followersCount()).isEqualTo(10L);
         assertThat(result.followingCount()).isEqualTo(5L);
-        assertThat(result.followedByCurrentUser()).isFalse();
+        assertThat(result.followedByCurrentUser()).isTrue();
+        assertThat(result.userTweets()).containsExactly(tweet);
+
+        // 1回の問い合わせで取得していること
+        verify(userProfileReadRepository, times(1)).findByUsername(testUsername, currentUserId, page, size);
+        verifyNoMoreInteractions(userProfileReadRepository);
+    }
 
-        verify(userRepository, times(1)).findByUsername(testUsername);
-        verify(followRepository, times(1)).countFollowers(testUser.getId());
-        verify(followRepository, times(1)).countFollowing(testUser.getId());
+    @Test
+    @DisplayName("本人のプロフィールではフォロー状態はfalse")
+    void getUserProfile_ownProfile_notFollowed() {
+        // Arrange
+        IUserProfileReadRepository.UserProfile profile =
+            new IUserProfileReadRepository.UserProfile(IUserProfileReadRepository.ProfileUser.from(testUser), 0L, 0L, true, List.of());
+        when(userProfileReadRepository.findByUsername(testUsername, testUser.getId(), 0, 10))
+            .thenReturn(Optional.of(profile));
+
+        // Act
+        GetUserProfileUseCase.UserProfileResult result = getUserProfileUseCase.execute(testUsername, testUser.getId(), 0, 10);
+
+        // Assert
+        assertThat(result.followedByCurrentUser()).isFalse();
     }
 
     @Test
@@ -93,14 +99,15 @@ class GetUserProfileUseCaseTest {
         Username nonExistentUsername = new Username("nonexistent");
         int page = 0;
         int size = 10;
-        when(userRepository.findByUsername(nonExistentUsername)).thenReturn(Optional.empty());
+        when(userProfileReadRepository.findByUsername(nonExistentUsername, currentUserId, page, size))
+            .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> getUserProfileUseCase.execute(nonExistentUsername, currentUserId, page, size))
             .isInstanceOf(EntityNotFoundException.class)
             .hasMessage("ユーザーが見つかりません: nonexistent");
 
-        verify(userRepository, times(1)).findByUsername(nonExistentUsername);
+        verify(userProfileReadRepository, times(1)).findByUsername(nonExistentUsername, currentUserId, page, size);
     }
 
     @Test
@@ -111,6 +118,6 @@ class GetUserProfileUseCaseTest {
             .isInstanceOf(NullPointerException.class)
             .hasMessage("Username cannot be null");
 
-        verify(userRepository, never()).findByUsername(any());
+        verifyNoInteractions(userProfileReadRepository);
     }
 }
@@ -1,6 +1,8 @@
 package com.chirper.application.usecase;
 
 import com.chirper.domain.entity.Like;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetLiked;
 import com.chirper.domain.exception.DuplicateEntityException;
 import com.chirper.domain.repository.ILikeRepository;
 import com.chirper.domain.valueobject.TweetId;
@@ -12,10 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +26,14 @@ class LikeTweetUseCaseTest {
     @Mock
     private ILikeRepository likeRepository;
 
+    @Mock
+    private IDomainEventPublisher eventPublisher;
+
     private LikeTweetUseCase likeTweetUseCase;
 
     @BeforeEach
     void setUp() {
-        likeTweetUseCase = new LikeTweetUseCase(likeRepository);
+        likeTweetUseCase = new LikeTweetUseCase(likeRepository, eventPublisher);
     }
 
     @Test
@@ -39,17 +43,16 @@ class LikeTweetUseCaseTest {
         UserId userId = UserId.generate();
         TweetId tweetId = TweetId.generate();
 
-        when(likeRepository.findByUserIdAndTweetId(userId, tweetId))
-            .thenReturn(Optional.empty());
-        when(likeRepository.save(any(Like.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(likeRepository.saveIfAbsent(any(Like.class))).thenReturn(true);
 
         // Act
         likeTweetUseCase.execute(userId, tweetId);
 
         // Assert
-        verify(likeRepository, times(1)).findByUserIdAndTweetId(userId, tweetId);
-        verify(likeRepository, times(1)).save(any(Like.class));
+        verify(likeRepository, times(1)).saveIfAbsent(any(Like.class));
+        verify(likeRepository, never()).findByUserIdAndTweetId(any(), any());
+        verify(eventPublisher, times(1)).publish(argThat(event -> event instanceof TweetLiked liked
+            && liked.userId().equals(userId) && liked.tweetId().equals(tweetId)));
     }
 
     @Test
@@ -58,17 +61,15 @@ class LikeTweetUseCaseTest {
         // Arrange
         UserId userId = UserId.generate();
         TweetId tweetId = TweetId.generate();
-        Like existingLike = Like.create(userId, tweetId);
 
-        when(likeRepository.findByUserIdAndTweetId(userId, tweetId))
-            .thenReturn(Optional.of(existingLike));
+        when(likeRepository.saveIfAbsent(any(Like.class))).thenReturn(false);
 
         // Act & Assert
         assertThatThrownBy(() -> likeTweetUseCase.execute(userId, tweetId))
             .isInstanceOf(DuplicateEntityException.class)
             .hasMessageContaining("既にこのツイートにいいねしています");
 
-        verify(likeRepository, times(1)).findByUserIdAndTweetId(userId, tweetId);
-        verify(likeRepository, never()).save(any(Like.class));
+        verify(likeRepository, times(1)).saveIfAbsent(any(Like.class));
+        verifyNoInteractions(eventPublisher);
     }
 }
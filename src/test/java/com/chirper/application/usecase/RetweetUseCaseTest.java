@@ -12,8 +12,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -39,17 +37,14 @@ class RetweetUseCaseTest {
         UserId userId = UserId.generate();
         TweetId tweetId = TweetId.generate();
 
-        when(retweetRepository.findByUserIdAndTweetId(userId, tweetId))
-            .thenReturn(Optional.empty());
-        when(retweetRepository.save(any(Retweet.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(retweetRepository.saveIfAbsent(any(Retweet.class))).thenReturn(true);
 
         // Act
         retweetUseCase.execute(userId, tweetId);
 
         // Assert
-        verify(retweetRepository, times(1)).findByUserIdAndTweetId(userId, tweetId);
-        verify(retweetRepository, times(1)).save(any(Retweet.class));
+        verify(retweetRepository, times(1)).saveIfAbsent(any(Retweet.class));
+        verify(retweetRepository, never()).findByUserIdAndTweetId(any(), any());
     }
 
     @Test
@@ -58,17 +53,14 @@ class RetweetUseCaseTest {
         // Arrange
         UserId userId = UserId.generate();
         TweetId tweetId = TweetId.generate();
-        Retweet existingRetweet = Retweet.create(userId, tweetId);
 
-        when(retweetRepository.findByUserIdAndTweetId(userId, tweetId))
-            .thenReturn(Optional.of(existingRetweet));
+        when(retweetRepository.saveIfAbsent(any(Retweet.class))).thenReturn(false);
 
         // Act & Assert
         assertThatThrownBy(() -> retweetUseCase.execute(userId, tweetId))
             .isInstanceOf(DuplicateEntityException.class)
             .hasMessageContaining("既にこのツイートをリツイートしています");
 
-        verify(retweetRepository, times(1)).findByUserIdAndTweetId(userId, tweetId);
-        verify(retweetRepository, never()).save(any(Retweet.class));
+        verify(retweetRepository, times(1)).saveIfAbsent(any(Retweet.class));
     }
 }
@@ -0,0 +1,81 @@
+package com.chirper.application.usecase;
+
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.UserUnfollowed;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnfollowUserUseCase単体テスト")
+class UnfollowUserUseCaseTest {
+
+    @Mock
+    private IFollowRepository followRepository;
+
+    @Mock
+    private IDomainEventPublisher eventPublisher;
+
+    private UnfollowUserUseCase unfollowUserUseCase;
+
+    @BeforeEach
+    void setUp() {
+        unfollowUserUseCase = new UnfollowUserUseCase(followRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("正常系: フォロー解除でカウンターが減算される")
+    void shouldDecrementCountsWhenUnfollowed() {
+        // Arrange
+        UserId followerUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        when(followRepository.delete(followerUserId, followedUserId)).thenReturn(true);
+
+        // Act
+        unfollowUserUseCase.execute(followerUserId, followedUserId);
+
+        // Assert
+        verify(followRepository, times(1)).delete(followerUserId, followedUserId);
+        verify(followRepository, times(1)).adjustFollowCounts(followerUserId, followedUserId, -1);
+        verify(eventPublisher, times(1)).publish(argThat(event -> event instanceof UserUnfollowed unfollowed
+            && unfollowed.followerUserId().equals(followerUserId) && unfollowed.followedUserId().equals(followedUserId)));
+    }
+
+    @Test
+    @DisplayName("正常系: フォローしていない場合はカウンターを変更しない")
+    void shouldNotTouchCountsWhenNotFollowing() {
+        // Arrange
+        UserId followerUserId = UserId.generate();
+        UserId followedUserId = UserId.generate();
+        when(followRepository.delete(followerUserId, followedUserId)).thenReturn(false);
+
+        // Act
+        unfollowUserUseCase.execute(followerUserId, followedUserId);
+
+        // Assert
+        verify(followRepository, never()).adjustFollowCounts(any(), any(), anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("異常系: followerUserIdがnullの場合はエラー")
+    void shouldThrowExceptionWhenFollowerIsNull() {
+        // Act & Assert
+        assertThatThrownBy(() -> unfollowUserUseCase.execute(null, UserId.generate()))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("FollowerUserId cannot be null");
+
+        verifyNoInteractions(followRepository);
+    }
+}
@@ -3,6 +3,7 @@ package com.chirper.domain.service;
 import com.chirper.domain.entity.Tweet;
 import com.chirper.domain.repository.ITweetRepository;
 import com.chirper.domain.valueobject.TweetContent;
+import com.chirper.domain.valueobject.TweetId;
 import com.chirper.domain.valueobject.UserId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -159,6 +160,53 @@ class TimelineServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("カーソル位置からのタイムライン取得テスト")
+    class GetTimelineBeforeTests {
+
+        @Test
+        @DisplayName("カーソルを指定してタイムラインを取得できる")
+        void shouldGetTimelineBeforeCursor() {
+            // Given
+            UserId userId1 = UserId.generate();
+            List<UserId> followedUserIds = List.of(userId1);
+            TweetId cursor = TweetId.generate();
+            List<Tweet> expectedTweets = List.of(Tweet.create(userId1, new TweetContent("Tweet 1")));
+
+            when(tweetRepository.findByUserIdsBefore(followedUserIds, cursor, 20))
+                .thenReturn(expectedTweets);
+
+            // When
+            List<Tweet> result = timelineService.getTimelineBefore(followedUserIds, cursor, 20);
+
+            // Then
+            assertEquals(expectedTweets, result);
+            verify(tweetRepository).findByUserIdsBefore(followedUserIds, cursor, 20);
+        }
+
+        @Test
+        @DisplayName("フォローユーザーがいない場合は空のリストを返す")
+        void shouldReturnEmptyListWhenNoFollowedUsers() {
+            // When
+            List<Tweet> result = timelineService.getTimelineBefore(Collections.emptyList(), null, 20);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(tweetRepository, never()).findByUserIdsBefore(anyList(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("ページサイズが100を超えると例外が発生する")
+        void shouldThrowExceptionWithSizeOverLimit() {
+            // Given
+            List<UserId> followedUserIds = List.of(UserId.generate());
+
+            // When/Then
+            assertThrows(IllegalArgumentException.class,
+                () -> timelineService.getTimelineBefore(followedUserIds, null, 101));
+        }
+    }
+
     @Nested
     @DisplayName("総ページ数計算テスト")
     class CalculateTotalPagesTests {
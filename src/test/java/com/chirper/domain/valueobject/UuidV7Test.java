@@ -0,0 +1,121 @@
+package com.chirper.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    @Nested
+    @DisplayName("生成テスト")
+    class GenerateTests {
+
+        @Test
+        @DisplayName("バージョン7・RFC 9562バリアントのUUIDを生成できる")
+        void shouldGenerateVersion7WithRfcVariant() {
+            // When
+            UUID uuid = UuidV7.generate();
+
+            // Then
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+
+        @Test
+        @DisplayName("同一ミリ秒内で連続生成しても単調増加する")
+        void shouldBeMonotonic() {
+            // Given
+            UUID previous = UuidV7.generate();
+
+            // When/Then
+            for (int i = 0; i < 100_000; i++) {
+                UUID current = UuidV7.generate();
+                assertTrue(current.compareTo(previous) > 0, "直前のUUIDより大きいこと");
+                previous = current;
+            }
+        }
+
+        @Test
+        @DisplayName("複数スレッドから並行して生成しても重複しない")
+        void shouldBeUniqueAcrossThreads() throws Exception {
+            // Given
+            int threads = 8;
+            int perThread = 10_000;
+            Set<UUID> generated = ConcurrentHashMap.newKeySet();
+
+            // When
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            generated.add(UuidV7.generate());
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            // Then
+            assertEquals(threads * perThread, generated.size());
+        }
+
+        @Test
+        @DisplayName("ID値オブジェクトはUUIDv7で採番される")
+        void valueObjectsShouldUseVersion7() {
+            // When
+            Set<Integer> versions = new HashSet<>(List.of(
+                UserId.generate().value().version(),
+                TweetId.generate().value().version(),
+                LikeId.generate().value().version(),
+                RetweetId.generate().value().version(),
+                FollowId.generate().value().version()
+            ));
+
+            // Then
+            assertEquals(Set.of(7), versions);
+        }
+    }
+
+    @Nested
+    @DisplayName("タイムスタンプ取得テスト")
+    class TimestampTests {
+
+        @Test
+        @DisplayName("埋め込まれた生成時刻を取得できる")
+        void shouldExtractTimestamp() {
+            // Given
+            Instant before = Instant.now().minusMillis(1);
+
+            // When
+            Instant timestamp = UuidV7.timestampOf(UuidV7.generate());
+
+            // Then
+            assertFalse(timestamp.isBefore(before.truncatedTo(java.time.temporal.ChronoUnit.MILLIS)));
+            assertFalse(timestamp.isAfter(Instant.now().plusSeconds(1)));
+        }
+
+        @Test
+        @DisplayName("UUIDv7以外の場合は例外が発生する")
+        void shouldRejectNonVersion7() {
+            // When/Then
+            assertThrows(IllegalArgumentException.class, () -> UuidV7.timestampOf(UUID.randomUUID()));
+        }
+    }
+}
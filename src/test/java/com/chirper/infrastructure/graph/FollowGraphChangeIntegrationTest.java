@@ -0,0 +1,122 @@
+package com.chirper.infrastructure.graph;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.valueobject.Email;
+import com.chirper.domain.valueobject.Username;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * フォローグラフの変更通知の統合テスト（TestContainers + JUnit 5）
+ *
+ * アプリケーションを経由しないfollowsテーブルの変更（他インスタンスの書き込み・一括投入のSQL・
+ * ユーザー削除によるON DELETE CASCADE）がLISTEN/NOTIFYでグラフに反映されることを検証する
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("フォローグラフ 変更通知 統合テスト")
+class FollowGraphChangeIntegrationTest {
+
+    @Autowired
+    private FollowGraphRepository followGraphRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("chirper.follow-graph.enabled", () -> "true");
+    }
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+        alice = userRepository.save(User.create(new Username("alice"), new Email("alice@example.com"), "password123"));
+        bob = userRepository.save(User.create(new Username("bob"), new Email("bob@example.com"), "password123"));
+        // TRUNCATEによる再ロードの完了を待つ
+        await(followGraphRepository::isLoaded, "グラフがロードされること");
+    }
+
+    @Test
+    @DisplayName("SQLで直接追加・削除したフォローがグラフに反映されること")
+    void directSql_shouldBeReflectedInGraph() {
+        // When
+        jdbcTemplate.update("INSERT INTO follows (follower_user_id, followed_user_id) VALUES (?, ?)",
+            alice.getId().value(), bob.getId().value());
+
+        // Then
+        await(() -> followGraphRepository.existsByFollowerAndFollowed(alice.getId(), bob.getId()),
+            "追加したフォローが反映されること");
+
+        // When
+        jdbcTemplate.update("DELETE FROM follows WHERE follower_user_id = ?", alice.getId().value());
+
+        // Then
+        await(() -> !followGraphRepository.existsByFollowerAndFollowed(alice.getId(), bob.getId()),
+            "削除したフォローが反映されること");
+    }
+
+    @Test
+    @DisplayName("ユーザー削除のON DELETE CASCADEで消えたフォローがグラフから除かれること")
+    void cascadeDelete_shouldBeReflectedInGraph() {
+        // Given
+        jdbcTemplate.update("INSERT INTO follows (follower_user_id, followed_user_id) VALUES (?, ?)",
+            alice.getId().value(), bob.getId().value());
+        await(() -> followGraphRepository.existsByFollowerAndFollowed(alice.getId(), bob.getId()),
+            "追加したフォローが反映されること");
+
+        // When
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", bob.getId().value());
+
+        // Then
+        await(() -> followGraphRepository.findFollowedUserIds(alice.getId()).isEmpty(),
+            "削除されたユーザーへのフォローがグラフから除かれること");
+    }
+
+    private static void await(BooleanSupplier condition, String message) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() >= deadline) {
+                assertTrue(condition.getAsBoolean(), message);
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("待機中に割り込まれました", e);
+            }
+        }
+    }
+}
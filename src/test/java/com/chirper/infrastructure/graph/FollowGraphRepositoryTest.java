@@ -0,0 +1,217 @@
+package com.chirper.infrastructure.graph;
+
+import com.chirper.domain.entity.Follow;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.infrastructure.persistence.repository.FollowRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FollowGraphRepository単体テスト")
+class FollowGraphRepositoryTest {
+
+    @Mock
+    private FollowRepositoryImpl delegate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private FollowGraphRepository repository;
+
+    private final UserId alice = UserId.generate();
+    private final UserId bob = UserId.generate();
+    private final UserId carol = UserId.generate();
+
+    @BeforeEach
+    void setUp() {
+        repository = new FollowGraphRepository(delegate, jdbcTemplate, 1000);
+    }
+
+    private void loadEdges(UserId[]... edges) throws Exception {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (UserId[] edge : edges) {
+                when(resultSet.getObject(1, UUID.class)).thenReturn(edge[0].value());
+                when(resultSet.getObject(2, UUID.class)).thenReturn(edge[1].value());
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        repository.reload();
+    }
+
+    @Test
+    @DisplayName("ロード前はDBリポジトリに委譲する")
+    void shouldDelegateBeforeLoad() {
+        // Given
+        when(delegate.existsByFollowerAndFollowed(alice, bob)).thenReturn(true);
+
+        // When
+        boolean exists = repository.existsByFollowerAndFollowed(alice, bob);
+
+        // Then
+        assertThat(exists).isTrue();
+        assertThat(repository.isLoaded()).isFalse();
+        verify(delegate).existsByFollowerAndFollowed(alice, bob);
+    }
+
+    @Test
+    @DisplayName("ロード後はグラフから応答しDBに問い合わせない")
+    void shouldAnswerFromGraphAfterLoad() throws Exception {
+        // Given
+        loadEdges(new UserId[]{alice, bob}, new UserId[]{alice, carol});
+
+        // When & Then
+        assertThat(repository.isLoaded()).isTrue();
+        assertThat(repository.existsByFollowerAndFollowed(alice, bob)).isTrue();
+        assertThat(repository.existsByFollowerAndFollowed(bob, alice)).isFalse();
+        assertThat(repository.findFollowedUserIds(alice)).containsExactlyInAnyOrder(bob, carol);
+        assertThat(repository.findFollowedUserIdsIn(alice, List.of(carol, bob))).containsExactly(carol, bob);
+
+        verify(delegate, never()).existsByFollowerAndFollowed(any(), any());
+        verify(delegate, never()).findFollowedUserIds(any());
+        verify(delegate, never()).findFollowedUserIdsIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("保存・削除はDBに委譲し、グラフへはコミット通知の受信後に反映される")
+    void shouldApplyWritesToGraphOnNotification() throws Exception {
+        // Given
+        loadEdges(new UserId[]{alice, bob});
+        Follow follow = Follow.create(alice, carol);
+        when(delegate.save(follow)).thenReturn(follow);
+
+        // When
+        repository.save(follow);
+        repository.delete(alice, bob);
+
+        // Then: 通知を受けるまではグラフは変わらない
+        verify(delegate).save(follow);
+        verify(delegate).delete(alice, bob);
+        assertThat(repository.existsByFollowerAndFollowed(alice, carol)).isFalse();
+        assertThat(repository.existsByFollowerAndFollowed(alice, bob)).isTrue();
+
+        // When: トリガーからの通知（他インスタンスの書き込み・CASCADE削除も同じ経路）
+        boolean reloadRequested = repository.applyChange("+1|" + alice.value() + ":" + carol.value());
+        repository.applyChange("-2|" + alice.value() + ":" + bob.value());
+
+        // Then
+        assertThat(reloadRequested).isFalse();
+        assertThat(repository.existsByFollowerAndFollowed(alice, carol)).isTrue();
+        assertThat(repository.existsByFollowerAndFollowed(alice, bob)).isFalse();
+    }
+
+    @Test
+    @DisplayName("1通知に複数のエッジを含む変更と、全体の再ロード要求を扱えること")
+    void shouldApplyBatchedChangesAndReportReload() throws Exception {
+        // Given
+        loadEdges();
+
+        // When
+        repository.applyChange("+3|" + alice.value() + ":" + bob.value() + "," + carol.value() + ":" + bob.value());
+
+        // Then
+        assertThat(repository.findFollowedUserIds(alice)).containsExactly(bob);
+        assertThat(repository.findFollowedUserIds(carol)).containsExactly(bob);
+        assertThat(repository.applyChange(FollowGraphRepository.RELOAD_PAYLOAD)).isTrue();
+    }
+
+    @Test
+    @DisplayName("フォロー操作の事前検証はロード後もDBに問い合わせる")
+    void shouldAlwaysAskDatabaseForFindByFollowerAndFollowed() throws Exception {
+        // Given: グラフ上はフォローしていないが、DBには反映待ちのフォローがある
+        loadEdges();
+        Follow follow = Follow.create(bob, alice);
+        when(delegate.findByFollowerAndFollowed(bob, alice)).thenReturn(Optional.of(follow));
+
+        // When & Then
+        assertThat(repository.findByFollowerAndFollowed(bob, alice)).contains(follow);
+        verify(delegate).findByFollowerAndFollowed(bob, alice);
+    }
+
+    @Test
+    @DisplayName("グラフを破棄すると再ロードまでDBに委譲する")
+    void shouldDelegateAfterInvalidate() throws Exception {
+        // Given
+        loadEdges(new UserId[]{alice, bob});
+        when(delegate.findFollowedUserIds(alice)).thenReturn(List.of(carol));
+
+        // When
+        repository.invalidate();
+
+        // Then
+        assertThat(repository.isLoaded()).isFalse();
+        assertThat(repository.findFollowedUserIds(alice)).containsExactly(carol);
+    }
+
+    @Test
+    @DisplayName("フォロー数・フォロワー数はロード後も非正規化カウンター（DB）から取得する")
+    void shouldDelegateCountsToDenormalizedCounters() throws Exception {
+        // Given
+        loadEdges(new UserId[]{alice, bob}, new UserId[]{alice, carol});
+        when(delegate.countFollowing(alice)).thenReturn(3L);
+        when(delegate.countFollowers(bob)).thenReturn(5L);
+
+        // When & Then
+        assertThat(repository.countFollowing(alice)).isEqualTo(3);
+        assertThat(repository.countFollowers(bob)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("作成日時順のページネーションはDBに委譲する")
+    void shouldDelegatePagedQueries() throws Exception {
+        // Given
+        loadEdges(new UserId[]{alice, bob});
+        when(delegate.findFollowerUserIds(bob, 0, 20)).thenReturn(List.of(alice));
+
+        // When
+        List<UserId> followers = repository.findFollowerUserIds(bob, 0, 20);
+
+        // Then
+        assertThat(followers).containsExactly(alice);
+        verify(delegate).findFollowerUserIds(bob, 0, 20);
+    }
+
+    @Test
+    @DisplayName("ロード後は相互フォロー・知り合いのフォロワーをグラフから算出する")
+    void shouldAnswerSetQueriesFromGraph() throws Exception {
+        // Given: aliceとbobは相互フォロー、carolはbobをフォロー
+        loadEdges(
+            new UserId[]{alice, bob},
+            new UserId[]{bob, alice},
+            new UserId[]{carol, bob}
+        );
+
+        // When & Then
+        assertThat(repository.findMutualFollowUserIds(alice, 0, 20)).containsExactly(bob);
+        assertThat(repository.countMutualFollows(alice)).isEqualTo(1);
+        // bobのフォロワー(alice, carol)のうち、carolがフォローしているユーザーはいない
+        assertThat(repository.countFollowersFollowedBy(bob, carol)).isZero();
+        // aliceのフォロワー(bob)のうち、carolがフォローしているのはbob
+        assertThat(repository.findFollowersFollowedBy(alice, carol, 0, 20)).containsExactly(bob);
+
+        verify(delegate, never()).findMutualFollowUserIds(any(), anyInt(), anyInt());
+        verify(delegate, never()).countMutualFollows(any());
+        verify(delegate, never()).findFollowersFollowedBy(any(), any(), anyInt(), anyInt());
+        verify(delegate, never()).countFollowersFollowedBy(any(), any());
+    }
+}
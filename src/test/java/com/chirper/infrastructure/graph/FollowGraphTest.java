@@ -0,0 +1,248 @@
+package com.chirper.infrastructure.graph;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FollowGraph単体テスト")
+class FollowGraphTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    @Nested
+    @DisplayName("エッジの追加・削除")
+    class EdgeMutationTests {
+
+        @Test
+        @DisplayName("追加したフォロー関係を検索できる")
+        void shouldContainAddedEdge() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+
+            // When
+            boolean added = graph.addEdge(alice, bob);
+
+            // Then
+            assertThat(added).isTrue();
+            assertThat(graph.containsEdge(alice, bob)).isTrue();
+            assertThat(graph.containsEdge(bob, alice)).isFalse();
+            assertThat(graph.edgeCount()).isEqualTo(1);
+            assertThat(graph.userCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("同じフォロー関係を二重に追加しても件数は増えない")
+        void shouldIgnoreDuplicateEdge() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+            graph.addEdge(alice, bob);
+
+            // When
+            boolean added = graph.addEdge(alice, bob);
+
+            // Then
+            assertThat(added).isFalse();
+            assertThat(graph.edgeCount()).isEqualTo(1);
+            assertThat(graph.followerCount(bob)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("削除したフォロー関係は順方向・逆方向ともに消える")
+        void shouldRemoveEdgeInBothDirections() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+            graph.addEdge(alice, bob);
+
+            // When
+            boolean removed = graph.removeEdge(alice, bob);
+
+            // Then
+            assertThat(removed).isTrue();
+            assertThat(graph.containsEdge(alice, bob)).isFalse();
+            assertThat(graph.followingCount(alice)).isZero();
+            assertThat(graph.followerCount(bob)).isZero();
+            assertThat(graph.edgeCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("存在しないフォロー関係の削除はfalseを返す")
+        void shouldReturnFalseWhenRemovingUnknownEdge() {
+            FollowGraph graph = new FollowGraph();
+
+            assertThat(graph.removeEdge(alice, bob)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("検索")
+    class QueryTests {
+
+        @Test
+        @DisplayName("フォロー中ユーザー一覧とフォロワー数を取得できる")
+        void shouldReturnFollowingAndCounts() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+            graph.addEdge(alice, bob);
+            graph.addEdge(alice, carol);
+            graph.addEdge(bob, carol);
+
+            // Then
+            assertThat(graph.following(alice)).containsExactlyInAnyOrder(bob, carol);
+            assertThat(graph.followingCount(alice)).isEqualTo(2);
+            assertThat(graph.followerCount(carol)).isEqualTo(2);
+            assertThat(graph.following(UUID.randomUUID())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("候補の中でフォローしているユーザーのみを候補の順序で返す")
+        void shouldReturnFollowedCandidatesInCandidateOrder() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+            graph.addEdge(alice, bob);
+            graph.addEdge(alice, carol);
+            UUID unknown = UUID.randomUUID();
+
+            // When
+            List<UUID> result = graph.followingAmong(alice, List.of(carol, unknown, bob));
+
+            // Then
+            assertThat(result).containsExactly(carol, bob);
+        }
+    }
+
+    @Nested
+    @DisplayName("集合演算")
+    class SetOperationTests {
+
+        private final UUID dave = UUID.randomUUID();
+
+        @Test
+        @DisplayName("相互フォローのユーザーのみを返す")
+        void shouldReturnMutualFollows() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+            graph.addEdge(alice, bob);
+            graph.addEdge(bob, alice);
+            graph.addEdge(alice, carol);
+            graph.addEdge(dave, alice);
+
+            // Then
+            assertThat(graph.mutualFollows(alice, 0, 10)).containsExactly(bob);
+            assertThat(graph.mutualFollowCount(alice)).isEqualTo(1);
+            assertThat(graph.mutualFollowCount(carol)).isZero();
+            assertThat(graph.mutualFollows(UUID.randomUUID(), 0, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("対象ユーザーのフォロワーのうち閲覧ユーザーがフォローしているユーザーを返す")
+        void shouldReturnFollowersFollowedByViewer() {
+            // Given: bob, carol, daveがaliceをフォロー、閲覧者はbobとdaveをフォロー
+            FollowGraph graph = new FollowGraph();
+            UUID viewer = UUID.randomUUID();
+            graph.addEdge(bob, alice);
+            graph.addEdge(carol, alice);
+            graph.addEdge(dave, alice);
+            graph.addEdge(viewer, bob);
+            graph.addEdge(viewer, dave);
+
+            // Then
+            assertThat(graph.followersFollowedBy(alice, viewer, 0, 10)).containsExactlyInAnyOrder(bob, dave);
+            assertThat(graph.followersFollowedByCount(alice, viewer)).isEqualTo(2);
+            assertThat(graph.followersFollowedByCount(alice, UUID.randomUUID())).isZero();
+        }
+
+        @Test
+        @DisplayName("offsetとlimitで結果を分割取得できる")
+        void shouldPaginateIntersection() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+            List<UUID> friends = List.of(bob, carol, dave);
+            for (UUID friend : friends) {
+                graph.addEdge(alice, friend);
+                graph.addEdge(friend, alice);
+            }
+
+            // When
+            List<UUID> firstPage = graph.mutualFollows(alice, 0, 2);
+            List<UUID> secondPage = graph.mutualFollows(alice, 2, 2);
+
+            // Then
+            assertThat(firstPage).hasSize(2);
+            assertThat(secondPage).hasSize(1);
+            assertThat(firstPage).doesNotContainAnyElementsOf(secondPage);
+            assertThat(graph.mutualFollows(alice, 3, 2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("フォロー解除後は相互フォローから外れる")
+        void shouldExcludeUnfollowedUser() {
+            // Given
+            FollowGraph graph = new FollowGraph();
+            graph.addEdge(alice, bob);
+            graph.addEdge(bob, alice);
+
+            // When
+            graph.removeEdge(bob, alice);
+
+            // Then
+            assertThat(graph.mutualFollows(alice, 0, 10)).isEmpty();
+            assertThat(graph.mutualFollowCount(alice)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("一括ロード")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("未ソート・重複ありのエッジから正しいグラフを構築できる")
+        void shouldBuildGraphFromUnsortedEdges() {
+            // When
+            FollowGraph graph = FollowGraph.builder()
+                .addEdge(carol, alice)
+                .addEdge(alice, carol)
+                .addEdge(bob, alice)
+                .addEdge(carol, alice)
+                .build();
+
+            // Then
+            assertThat(graph.edgeCount()).isEqualTo(3);
+            assertThat(graph.followerCount(alice)).isEqualTo(2);
+            assertThat(graph.containsEdge(bob, alice)).isTrue();
+            assertThat(graph.containsEdge(alice, bob)).isFalse();
+        }
+
+        @Test
+        @DisplayName("構築後のグラフに逐次追加できる")
+        void shouldAcceptMutationsAfterBuild() {
+            // Given
+            FollowGraph graph = FollowGraph.builder()
+                .addEdge(alice, carol)
+                .build();
+
+            // When
+            graph.addEdge(alice, bob);
+
+            // Then
+            assertThat(graph.following(alice)).containsExactlyInAnyOrder(bob, carol);
+        }
+
+        @Test
+        @DisplayName("ビルダーは二度使用できない")
+        void shouldRejectReuseOfBuilder() {
+            FollowGraph.Builder builder = FollowGraph.builder().addEdge(alice, bob);
+            builder.build();
+
+            assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> builder.addEdge(bob, alice)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
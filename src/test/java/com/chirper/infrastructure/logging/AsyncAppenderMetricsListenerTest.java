@@ -0,0 +1,124 @@
+package com.chirper.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.util.Duration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AsyncAppenderMetricsListener・AsyncAppenderMetricsBinderのテスト（実際のLoggingEventAsyncDisruptorAppenderを使用）
+ */
+@DisplayName("AsyncAppenderMetricsListener テスト")
+class AsyncAppenderMetricsListenerTest {
+
+    private static final int EVENTS = 100;
+
+    @Test
+    @DisplayName("リングバッファに受け付けたログイベントが専用スレッドから書き込み先のアペンダーに渡されること")
+    void shouldDeliverEventsToDelegateAppender() throws Exception {
+        // Given: 受け取ったイベントを数える書き込み先の非同期アペンダー
+        LoggerContext context = new LoggerContext();
+        CountDownLatch delivered = new CountDownLatch(EVENTS);
+        AppenderBase<ILoggingEvent> recording = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                delivered.countDown();
+            }
+        };
+        recording.setContext(context);
+        recording.start();
+        LoggingEventAsyncDisruptorAppender appender = new LoggingEventAsyncDisruptorAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_TEST_" + System.nanoTime());
+        appender.setRingBufferSize(256);
+        appender.addListener(new AsyncAppenderMetricsListener());
+        appender.addAppender(recording);
+        appender.start();
+        Logger logger = context.getLogger("com.chirper.test");
+
+        try {
+            // When
+            for (int i = 0; i < EVENTS; i++) {
+                appender.doAppend(new LoggingEvent(Logger.FQCN, logger, Level.INFO, "event " + i, null, null));
+            }
+
+            // Then
+            assertThat(appender.isStarted()).isTrue();
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+            AsyncAppenderMetricsListener.Counts counts = AsyncAppenderMetricsListener.counts().get(appender.getName());
+            assertThat(counts.appended()).isEqualTo(EVENTS);
+            assertThat(counts.dropped()).isZero();
+        } finally {
+            appender.stop();
+            recording.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("リングバッファが満杯の場合は待たずに破棄し、受け付けた・破棄した件数をメトリクスとして公開すること")
+    void shouldCountDroppedEventsWithoutBlocking() throws Exception {
+        // Given: 書き込み先が止まっている小さなリングバッファの非同期アペンダー
+        LoggerContext context = new LoggerContext();
+        CountDownLatch release = new CountDownLatch(1);
+        AppenderBase<ILoggingEvent> stalled = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        stalled.setContext(context);
+        stalled.start();
+        LoggingEventAsyncDisruptorAppender appender = new LoggingEventAsyncDisruptorAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_TEST_" + System.nanoTime());
+        appender.setRingBufferSize(8);
+        appender.setAppendTimeout(Duration.buildByMilliseconds(0));
+        appender.addListener(new AsyncAppenderMetricsListener());
+        appender.addAppender(stalled);
+        appender.start();
+        Logger logger = context.getLogger("com.chirper.test");
+
+        try {
+            // When
+            long started = System.nanoTime();
+            for (int i = 0; i < EVENTS; i++) {
+                appender.doAppend(new LoggingEvent(Logger.FQCN, logger, Level.INFO, "event " + i, null, null));
+            }
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            // Then
+            AsyncAppenderMetricsListener.Counts counts = AsyncAppenderMetricsListener.counts().get(appender.getName());
+            assertThat(elapsedMillis).isLessThan(5_000);
+            assertThat(counts.dropped()).isPositive();
+            assertThat(counts.appended()).isPositive();
+            assertThat(counts.appended() + counts.dropped()).isEqualTo(EVENTS);
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            new AsyncAppenderMetricsBinder().bindTo(registry);
+            assertThat(registry.get("chirper.logging.events")
+                .tags("appender", appender.getName(), "result", "dropped")
+                .functionCounter().count())
+                .isEqualTo(counts.dropped());
+        } finally {
+            release.countDown();
+            appender.stop();
+            stalled.stop();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.chirper.infrastructure.observability;
+
+import com.chirper.infrastructure.observability.FlightRecorderService.RecordingInfo;
+import com.chirper.infrastructure.persistence.metrics.JdbcStatementEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * FlightRecorderEndpointのテスト（実際のJDK Flight Recorderを使用）
+ */
+@DisplayName("FlightRecorderEndpoint テスト")
+class FlightRecorderEndpointTest {
+
+    private FlightRecorderService service;
+    private FlightRecorderEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        service = new FlightRecorderService(new FlightRecorderService.Settings(
+            true, Duration.ofMinutes(1), 10 * 1024 * 1024, Duration.ofMinutes(1), 1, 2));
+        service.start();
+        endpoint = new FlightRecorderEndpoint(service);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("起動時に常時記録を開始し、一覧に含めること")
+    void shouldStartContinuousRecording() {
+        assertThat(endpoint.recordings().recordings())
+            .extracting(RecordingInfo::id, RecordingInfo::state)
+            .containsExactly(tuple(FlightRecorderService.CONTINUOUS, "RUNNING"));
+    }
+
+    @Test
+    @DisplayName("常時記録を .jfr として取得でき、読み終えた一時ファイルは削除されること")
+    void shouldDumpContinuousRecording() throws Exception {
+        WebEndpointResponse<Resource> response = endpoint.dump(FlightRecorderService.CONTINUOUS);
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        Path copy = Files.createTempFile("continuous-", ".jfr");
+        try {
+            Path dumped = response.getBody().getFile().toPath();
+            try (InputStream in = response.getBody().getInputStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            assertThat(dumped).doesNotExist();
+            assertThat(RecordingFile.readAllEvents(copy)).isNotEmpty();
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    @Test
+    @DisplayName("詳細な記録は同時実行数の上限を超えると429を返すこと")
+    void shouldLimitConcurrentRecordings() {
+        WebEndpointResponse<RecordingInfo> first = endpoint.start(Duration.ofSeconds(30));
+        WebEndpointResponse<RecordingInfo> second = endpoint.start(Duration.ofSeconds(30));
+
+        assertThat(first.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(first.getBody().state()).isEqualTo("RUNNING");
+        assertThat(first.getBody().duration()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(second.getStatus()).isEqualTo(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("記録時間は上限に切り詰めること")
+    void shouldCapRecordingDuration() {
+        WebEndpointResponse<RecordingInfo> response = endpoint.start(Duration.ofHours(1));
+
+        assertThat(response.getBody().duration()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("詳細な記録は破棄でき、常時記録・存在しない記録は404を返すこと")
+    void shouldDiscardRecording() {
+        String id = endpoint.start(null).getBody().id();
+
+        assertThat(endpoint.discard(id).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NO_CONTENT);
+        assertThat(endpoint.discard(id).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.discard(FlightRecorderService.CONTINUOUS).getStatus())
+            .isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.dump(id).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("詳細な記録の設定はロック競合・ソケットI/O・SQL・仮想スレッドのピン留めを有効にすること")
+    void profileSettings_shouldEnableTunedEvents() {
+        assertThat(FlightRecorderService.profileSettings())
+            .containsEntry("jdk.ObjectAllocationSample#enabled", "true")
+            .containsEntry("jdk.JavaMonitorEnter#enabled", "true")
+            .containsEntry("jdk.SocketRead#enabled", "true")
+            .containsEntry(JdbcStatementEvent.NAME + "#enabled", "true")
+            .containsEntry("jdk.VirtualThreadPinned#enabled", "true");
+    }
+
+    @Test
+    @DisplayName("常時記録・詳細な記録とも環境変数・システムプロパティ・セキュリティプロパティのイベントを無効にすること")
+    void settings_shouldDisableSensitiveEvents() {
+        for (Map<String, String> settings : List.of(
+                FlightRecorderService.continuousSettings(), FlightRecorderService.profileSettings())) {
+            assertThat(settings)
+                .containsEntry("jdk.InitialEnvironmentVariable#enabled", "false")
+                .containsEntry("jdk.InitialSystemProperty#enabled", "false")
+                .containsEntry("jdk.InitialSecurityProperty#enabled", "false");
+        }
+    }
+}
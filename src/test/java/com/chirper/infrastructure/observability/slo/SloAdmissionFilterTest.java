@@ -0,0 +1,83 @@
+package com.chirper.infrastructure.observability.slo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SloAdmissionFilterのテスト
+ */
+@DisplayName("SloAdmissionFilter テスト")
+class SloAdmissionFilterTest {
+
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private SloTracker tracker;
+    private SimpleMeterRegistry registry;
+    private SloAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SloTracker(
+            List.of(new LatencyObjective("timeline", "GET", "/api/v1/timeline", Duration.ofMillis(200), 0.99)),
+            new SloTracker.Settings(Duration.ofMinutes(5), Duration.ofHours(1), 14.4, 10));
+        tracker.evaluate(0);
+        registry = new SimpleMeterRegistry();
+        filter = new SloAdmissionFilter(tracker, List.of("/api/v1/search"), Duration.ofSeconds(30), registry);
+    }
+
+    @Test
+    @DisplayName("予算を急速に消費していない間は対象パスも通すこと")
+    void shouldPassWhenNotBurning() throws Exception {
+        MockHttpServletResponse response = doFilter("/api/v1/search");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("予算を急速に消費している間は対象パスを503で拒否し、Retry-Afterを返すこと")
+    void shouldRejectTargetPathsWhileBurning() throws Exception {
+        burn();
+
+        MockHttpServletResponse response = doFilter("/api/v1/search");
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(response.getContentAsString()).contains("SERVICE_UNAVAILABLE");
+        assertThat(registry.get("chirper.slo.admission.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("予算を急速に消費している間も対象外のパスは通すこと")
+    void shouldPassOtherPathsWhileBurning() throws Exception {
+        burn();
+
+        MockHttpServletResponse response = doFilter("/api/v1/timeline");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private void burn() {
+        for (int i = 0; i < 20; i++) {
+            tracker.record("GET", "/api/v1/timeline", SLOW, false);
+        }
+        tracker.evaluate(Duration.ofMinutes(1).toNanos());
+        assertThat(tracker.isBurning()).isTrue();
+    }
+
+    private MockHttpServletResponse doFilter(String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,152 @@
+package com.chirper.infrastructure.observability.slo;
+
+import com.chirper.infrastructure.observability.slo.SloTracker.ObjectiveStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * SloTrackerのテスト
+ */
+@DisplayName("SloTracker テスト")
+class SloTrackerTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toNanos();
+    private static final long FAST = Duration.ofMillis(50).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    private SloTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SloTracker(
+            List.of(new LatencyObjective("timeline", "GET", "/api/v1/timeline", Duration.ofMillis(200), 0.99)),
+            new SloTracker.Settings(Duration.ofMinutes(5), Duration.ofHours(1), 14.4, 100));
+        tracker.evaluate(0);
+    }
+
+    @Test
+    @DisplayName("しきい値以内の応答を good、しきい値超過・5xxを bad として数え、対象外のリクエストは数えないこと")
+    void record_shouldClassifyRequests() {
+        tracker.record("GET", "/api/v1/timeline", FAST, false);
+        tracker.record("get", "/api/v1/timeline", SLOW, false);
+        tracker.record("GET", "/api/v1/timeline", FAST, true);
+        tracker.record("POST", "/api/v1/timeline", SLOW, false);
+        tracker.record("GET", "/api/v1/search", SLOW, false);
+
+        tracker.evaluate(MINUTE);
+
+        ObjectiveStatus status = tracker.statuses().getFirst();
+        assertThat(status.goodRequests()).isEqualTo(1);
+        assertThat(status.badRequests()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("バーンレートは期間内の bad の割合をエラーバジェットで割った値になること")
+    void evaluate_shouldComputeBurnRate() {
+        // 1分間に98件 good・2件 bad（bad 2% = 予算1%の2倍のペース）
+        recordRequests(98, 2);
+
+        tracker.evaluate(MINUTE);
+
+        ObjectiveStatus status = tracker.statuses().getFirst();
+        assertThat(status.shortBurnRate()).isCloseTo(2.0, within(1e-9));
+        assertThat(status.longBurnRate()).isCloseTo(2.0, within(1e-9));
+        assertThat(status.errorBudgetRemaining()).isCloseTo(-1.0, within(1e-9));
+        assertThat(status.burning()).isFalse();
+        assertThat(tracker.isBurning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("短い期間・長い期間の両方でしきい値を超えた場合に予算を急速に消費していると判断すること")
+    void evaluate_shouldDetectFastBurn() {
+        // bad 20% = 予算の20倍のペース
+        recordRequests(80, 20);
+
+        tracker.evaluate(MINUTE);
+
+        assertThat(tracker.statuses().getFirst().burning()).isTrue();
+        assertThat(tracker.isBurning()).isTrue();
+    }
+
+    @Test
+    @DisplayName("短い期間が回復すると、長い期間のバーンレートが高くても判断を解除すること")
+    void evaluate_shouldRecoverWhenShortWindowIsHealthy() {
+        recordRequests(80, 20);
+        tracker.evaluate(MINUTE);
+
+        // 短い期間（5分）より後は good のみ
+        recordRequests(200, 0);
+        tracker.evaluate(10 * MINUTE);
+
+        ObjectiveStatus status = tracker.statuses().getFirst();
+        assertThat(status.shortBurnRate()).isZero();
+        assertThat(status.longBurnRate()).isCloseTo(20.0 / 300 / 0.01, within(1e-9));
+        assertThat(status.burning()).isFalse();
+        assertThat(tracker.isBurning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("長い期間のリクエスト数が下限未満の場合は判断しないこと")
+    void evaluate_shouldIgnoreLowTraffic() {
+        recordRequests(0, 10);
+
+        tracker.evaluate(MINUTE);
+
+        assertThat(tracker.statuses().getFirst().shortBurnRate()).isCloseTo(100.0, within(1e-9));
+        assertThat(tracker.isBurning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("長い期間より古い件数はバーンレートに含めないこと")
+    void evaluate_shouldDropSamplesOlderThanLongWindow() {
+        recordRequests(0, 100);
+        tracker.evaluate(MINUTE);
+        for (int minute = 2; minute <= 62; minute++) {
+            recordRequests(10, 0);
+            tracker.evaluate(minute * MINUTE);
+        }
+
+        assertThat(tracker.statuses().getFirst().longBurnRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("件数とバーンレートをメトリクスとして登録すること")
+    void bindTo_shouldRegisterMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tracker.bindTo(registry);
+        recordRequests(80, 20);
+        tracker.evaluate(MINUTE);
+
+        assertThat(registry.get("chirper.slo.requests").tags("slo", "timeline", "result", "bad")
+            .functionCounter().count()).isEqualTo(20);
+        assertThat(registry.get("chirper.slo.burn.rate").tags("slo", "timeline", "window", "short")
+            .gauge().value()).isCloseTo(20.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("不正なSLOの設定は拒否すること")
+    void latencyObjective_shouldRejectInvalidTarget() {
+        assertThatThrownBy(() -> new LatencyObjective("timeline", "GET", "/api/v1/timeline", Duration.ofMillis(200), 1.0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LatencyObjective("timeline", "GET", "/api/v1/timeline", Duration.ZERO, 0.99))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void recordRequests(int good, int bad) {
+        for (int i = 0; i < good; i++) {
+            tracker.record("GET", "/api/v1/timeline", FAST, false);
+        }
+        for (int i = 0; i < bad; i++) {
+            tracker.record("GET", "/api/v1/timeline", SLOW, false);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.chirper.infrastructure.outbox;
+
+import com.chirper.application.usecase.LikeTweetUseCase;
+import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.entity.User;
+import com.chirper.domain.event.DomainEvent;
+import com.chirper.domain.event.DomainEventHandler;
+import com.chirper.domain.event.IDomainEventPublisher;
+import com.chirper.domain.event.TweetLiked;
+import com.chirper.domain.event.TweetUnliked;
+import com.chirper.domain.exception.DuplicateEntityException;
+import com.chirper.domain.repository.ITweetRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * トランザクショナルアウトボックス統合テスト（TestContainers + JUnit 5）
+ *
+ * 検証内容:
+ * - ユースケースのトランザクションと同時にイベントが記録され、ロールバック時は記録されないこと
+ * - 同じ集約のイベントが発行順に1件ずつ配信されること
+ * - 同じ集約のイベントを記録するトランザクションが直列化され、コミット順に配信されること
+ * - 配信に失敗したイベントはバックオフ後に再配信され、その間も他の集約の配信は止まらないこと
+ */
+@SpringBootTest
+@Testcontainers
+@Import(OutboxDispatcherIntegrationTest.RecordingHandlersConfig.class)
+@DisplayName("Outbox 統合テスト")
+class OutboxDispatcherIntegrationTest {
+
+    /**
+     * 配信されたイベント（ハンドラーをまたいで配信順に記録）
+     */
+    static final List<DomainEvent> DELIVERED = new CopyOnWriteArrayList<>();
+
+    /**
+     * 配信を失敗させるユーザー（集約）
+     */
+    static final Set<UserId> FAILING_USERS = Collections.synchronizedSet(new HashSet<>());
+
+    @TestConfiguration
+    static class RecordingHandlersConfig {
+
+        @Bean
+        DomainEventHandler<TweetLiked> tweetLikedRecorder() {
+            return new RecordingHandler<>(TweetLiked.class, TweetLiked::userId);
+        }
+
+        @Bean
+        DomainEventHandler<TweetUnliked> tweetUnlikedRecorder() {
+            return new RecordingHandler<>(TweetUnliked.class, TweetUnliked::userId);
+        }
+    }
+
+    record RecordingHandler<E extends DomainEvent>(Class<E> eventType, Function<E, UserId> userOf)
+        implements DomainEventHandler<E> {
+
+        @Override
+        public void handle(List<E> events) {
+            if (events.stream().map(userOf).anyMatch(FAILING_USERS::contains)) {
+                throw new IllegalStateException("handler failure for test");
+            }
+            DELIVERED.addAll(events);
+        }
+    }
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private IDomainEventPublisher eventPublisher;
+
+    @Autowired
+    private LikeTweetUseCase likeTweetUseCase;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private ITweetRepository tweetRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("chirper.outbox.enabled", () -> "true");
+        registry.add("chirper.outbox.dispatcher.enabled", () -> "true");
+        // テストから明示的に配信する（自動配信は起動直後の1回のみ）
+        registry.add("chirper.outbox.dispatcher.listen-enabled", () -> "false");
+        registry.add("chirper.outbox.dispatcher.poll-interval-ms", () -> "3600000");
+    }
+
+    private UserId alice;
+    private UserId bob;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE outbox_events RESTART IDENTITY");
+        DELIVERED.clear();
+        FAILING_USERS.clear();
+        alice = userRepository.save(User.create(new Username("alice"), new Email("alice@example.com"), "password123")).getId();
+        bob = userRepository.save(User.create(new Username("bob"), new Email("bob@example.com"), "password123")).getId();
+    }
+
+    @Test
+    @DisplayName("ユースケースのコミットと同時に記録されたイベントが配信されること")
+    void useCase_shouldRecordEventInSameTransaction() {
+        // Given
+        Tweet tweet = tweetRepository.save(Tweet.create(bob, new TweetContent("hello")));
+
+        // When
+        likeTweetUseCase.execute(alice, tweet.getId());
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Then
+        assertEquals(1, dispatched);
+        assertEquals(1, DELIVERED.size());
+        TweetLiked liked = assertInstanceOf(TweetLiked.class, DELIVERED.get(0));
+        assertEquals(alice, liked.userId());
+        assertEquals(tweet.getId(), liked.tweetId());
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT aggregate_type, aggregate_id, event_type, processed_at FROM outbox_events");
+        assertEquals(DomainEvent.USER_AGGREGATE, row.get("aggregate_type"));
+        assertEquals(alice.value(), row.get("aggregate_id"));
+        assertEquals("TweetLiked", row.get("event_type"));
+        assertNotNull(row.get("processed_at"), "配信後は配信済みになること");
+    }
+
+    @Test
+    @DisplayName("トランザクションがロールバックされた場合はイベントが記録されないこと")
+    void publish_shouldNotRecordEvent_whenRolledBack() {
+        // Given
+        Tweet tweet = tweetRepository.save(Tweet.create(bob, new TweetContent("hello")));
+        likeTweetUseCase.execute(alice, tweet.getId());
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publish(new TweetUnliked(alice, tweet.getId(), Instant.now()));
+            status.setRollbackOnly();
+        });
+        assertThrows(DuplicateEntityException.class, () -> likeTweetUseCase.execute(alice, tweet.getId()));
+
+        // Then
+        assertEquals(1, countEvents(), "ロールバックされた発行と重複いいねのイベントは記録されないこと");
+    }
+
+    @Test
+    @DisplayName("トランザクション外での発行は拒否されること")
+    void publish_shouldRequireTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+            () -> eventPublisher.publish(new TweetLiked(alice, TweetId.generate(), Instant.now())));
+        assertEquals(0, countEvents());
+    }
+
+    @Test
+    @DisplayName("同じ集約のイベントは発行順に1件ずつ、異なる集約のイベントはまとめて配信されること")
+    void dispatch_shouldPreserveOrderPerAggregate() {
+        // Given
+        TweetId tweetId = TweetId.generate();
+        TweetLiked aliceLiked = new TweetLiked(alice, tweetId, Instant.now());
+        TweetUnliked aliceUnliked = new TweetUnliked(alice, tweetId, Instant.now());
+        TweetLiked aliceLikedAgain = new TweetLiked(alice, tweetId, Instant.now());
+        TweetLiked bobLiked = new TweetLiked(bob, tweetId, Instant.now());
+        transactionTemplate.executeWithoutResult(status ->
+            eventPublisher.publishAll(List.of(aliceLiked, aliceUnliked, aliceLikedAgain, bobLiked)));
+
+        // When & Then
+        assertEquals(2, dispatcher.dispatchBatch(), "各集約の先頭イベントのみ取り出すこと");
+        assertEquals(List.of(aliceLiked, bobLiked), DELIVERED);
+        assertEquals(1, dispatcher.dispatchBatch());
+        assertEquals(1, dispatcher.dispatchBatch());
+        assertEquals(0, dispatcher.dispatchBatch());
+        assertEquals(List.of(aliceLiked, bobLiked, aliceUnliked, aliceLikedAgain), DELIVERED);
+    }
+
+    @Test
+    @DisplayName("配信に失敗した集約の後続イベントは待たされ、他の集約は配信が続くこと")
+    void dispatch_shouldRetryFailedEventAndHoldBackItsAggregate() {
+        // Given
+        TweetId tweetId = TweetId.generate();
+        TweetLiked aliceLiked = new TweetLiked(alice, tweetId, Instant.now());
+        TweetUnliked aliceUnliked = new TweetUnliked(alice, tweetId, Instant.now());
+        TweetUnliked bobUnliked = new TweetUnliked(bob, tweetId, Instant.now());
+        transactionTemplate.executeWithoutResult(status ->
+            eventPublisher.publishAll(List.of(aliceLiked, aliceUnliked, bobUnliked)));
+        FAILING_USERS.add(alice);
+
+        // When: aliceの先頭イベントは失敗、bobのイベントは配信される
+        assertEquals(2, dispatcher.dispatchBatch());
+        assertEquals(0, dispatcher.dispatchBatch(), "バックオフ中は同じ集約の後続イベントも取り出さないこと");
+
+        // Then
+        assertEquals(List.of(bobUnliked), DELIVERED);
+        Map<String, Object> failed = jdbcTemplate.queryForMap(
+            "SELECT attempts, last_error, processed_at, available_at > NOW() AT TIME ZONE 'UTC' AS backing_off "
+                + "FROM outbox_events WHERE event_type = 'TweetLiked'");
+        assertEquals(1, failed.get("attempts"));
+        assertTrue(((String) failed.get("last_error")).contains("handler failure for test"));
+        assertNull(failed.get("processed_at"));
+        assertEquals(Boolean.TRUE, failed.get("backing_off"));
+
+        // When: 障害が解消しバックオフが経過した後
+        FAILING_USERS.clear();
+        jdbcTemplate.update("UPDATE outbox_events SET available_at = available_at - INTERVAL '1 hour'");
+        dispatcher.dispatchPending();
+
+        // Then: aliceのイベントが発行順に配信される
+        assertEquals(List.of(bobUnliked, aliceLiked, aliceUnliked), DELIVERED);
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM outbox_events WHERE processed_at IS NULL", Integer.class));
+    }
+
+    @Test
+    @DisplayName("同じ集約のイベントを記録するトランザクションはコミットまで直列化され、コミット順に配信されること")
+    void publish_shouldSerializeSameAggregateUntilCommit() throws Exception {
+        // Given: aliceのイベントを記録したトランザクションをコミット前で止める
+        TweetId tweetId = TweetId.generate();
+        TweetLiked aliceLiked = new TweetLiked(alice, tweetId, Instant.now());
+        TweetUnliked aliceUnliked = new TweetUnliked(alice, tweetId, Instant.now());
+        TweetLiked bobLiked = new TweetLiked(bob, tweetId, Instant.now());
+        CountDownLatch published = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> {
+                eventPublisher.publish(aliceLiked);
+                published.countDown();
+                awaitLatch(commit);
+            }));
+        assertTrue(published.await(10, TimeUnit.SECONDS));
+
+        // When: 同じ集約・別の集約のイベントを並行して記録する
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publish(aliceUnliked)));
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publish(bobLiked)));
+
+        // Then: 別の集約は待たされず、同じ集約は先行トランザクションのコミットまで待つ
+        other.get(10, TimeUnit.SECONDS);
+        assertThrows(TimeoutException.class, () -> second.get(500, TimeUnit.MILLISECONDS));
+        commit.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        dispatcher.dispatchPending();
+        List<DomainEvent> aliceEvents = DELIVERED.stream()
+            .filter(event -> !event.equals(bobLiked))
+            .toList();
+        assertEquals(List.of(aliceLiked, aliceUnliked), aliceEvents);
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("待機がタイムアウトしました");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("待機中に割り込まれました", e);
+        }
+    }
+
+    private int countEvents() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+}
@@ -0,0 +1,166 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QueryCountingDataSourceのテスト（H2インメモリDB）
+ */
+@DisplayName("QueryCountingDataSource テスト")
+class QueryCountingDataSourceTest {
+
+    private QueryCountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new QueryCountingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:query_counting;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS items");
+        jdbcTemplate.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(20))");
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name) VALUES (?, ?)",
+            List.of(new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}));
+    }
+
+    @Test
+    @DisplayName("計測範囲内のSQL実行数と取得行数を計上すること")
+    void shouldCountStatementsAndRowsInScope() {
+        QueryStats stats;
+        try (QueryScope scope = QueryScope.open()) {
+            jdbcTemplate.queryForList("SELECT name FROM items", String.class);
+            jdbcTemplate.queryForObject("SELECT name FROM items WHERE id = ?", String.class, 2);
+            jdbcTemplate.update("UPDATE items SET name = ? WHERE id = ?", "z", 3);
+            stats = scope.stats();
+        }
+
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(stats.rows()).isEqualTo(4);
+        assertThat(stats.dbTime()).isPositive();
+    }
+
+    @Test
+    @DisplayName("入れ子の計測範囲では内側と外側の両方に計上すること")
+    void shouldRecordIntoEnclosingScopes() {
+        QueryStats inner;
+        QueryStats outer;
+        try (QueryScope request = QueryScope.open()) {
+            jdbcTemplate.queryForList("SELECT id FROM items", Integer.class);
+            try (QueryScope useCase = QueryScope.open()) {
+                jdbcTemplate.queryForList("SELECT id FROM items WHERE id > 1", Integer.class);
+                inner = useCase.stats();
+            }
+            jdbcTemplate.queryForList("SELECT id FROM items WHERE id = 1", Integer.class);
+            outer = request.stats();
+        }
+
+        assertThat(inner).extracting(QueryStats::statements, QueryStats::rows).containsExactly(1L, 2L);
+        assertThat(outer).extracting(QueryStats::statements, QueryStats::rows).containsExactly(3L, 6L);
+    }
+
+    @Test
+    @DisplayName("計測範囲内で生成した仮想スレッドの実行分も計上すること")
+    void shouldRecordQueriesFromChildThreads() throws Exception {
+        QueryStats stats;
+        try (QueryScope scope = QueryScope.open()) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                executor.submit(() -> jdbcTemplate.queryForList("SELECT id FROM items", Integer.class)).get();
+                executor.submit(() -> jdbcTemplate.queryForList("SELECT id FROM items", Integer.class)).get();
+            }
+            stats = scope.stats();
+        }
+
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(stats.rows()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("SQL文を記録する計測範囲ではSQL文とバインドパラメーターを記録すること")
+    void shouldCaptureStatementsAndBinds() {
+        List<CapturedStatement> captured;
+        QueryStats stats;
+        try (QueryScope request = QueryScope.openCapturing(2)) {
+            try (QueryScope ignored = QueryScope.open()) {
+                jdbcTemplate.queryForObject("SELECT name FROM items WHERE id = ? AND name <> ?", String.class, 2, "x");
+            }
+            jdbcTemplate.update("UPDATE items SET name = ? WHERE id = ?", null, 3);
+            jdbcTemplate.queryForList("SELECT id FROM items", Integer.class);
+            captured = request.capturedStatements();
+            stats = request.stats();
+        }
+
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(captured).hasSize(2);
+        assertThat(captured.get(0).sql()).isEqualTo("SELECT name FROM items WHERE id = ? AND name <> ?");
+        assertThat(captured.get(0).binds()).containsExactly(2, "x");
+        assertThat(captured.get(0).bindShape()).containsExactly("Integer", "String");
+        assertThat(captured.get(1).bindShape()).containsExactly("null", "Integer");
+        assertThat(captured.get(1).replayable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("計測範囲内のSQL実行をJFRのイベントとして発行すること")
+    void shouldEmitFlightRecorderEvents() throws Exception {
+        Path file = Files.createTempFile("jdbc-statement-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(JdbcStatementEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            try (QueryScope ignored = QueryScope.open()) {
+                jdbcTemplate.queryForObject("SELECT name FROM items WHERE id = ?", String.class, 1);
+            }
+            recording.stop();
+            recording.dump(file);
+
+            assertThat(RecordingFile.readAllEvents(file))
+                .filteredOn(event -> event.getEventType().getName().equals(JdbcStatementEvent.NAME))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("sql")).isEqualTo("SELECT name FROM items WHERE id = ?");
+                    assertThat(event.getString("operation")).isEqualTo("SELECT");
+                });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("計測範囲の外で作成したStatementは包まずに返すこと")
+    void shouldNotWrapStatementsOutsideScope() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThat(Proxy.isProxyClass(statement.getClass())).isFalse();
+        }
+
+        QueryScope scope = QueryScope.open();
+        scope.close();
+        jdbcTemplate.queryForList("SELECT id FROM items", Integer.class);
+        assertThat(scope.stats()).isEqualTo(QueryStats.EMPTY);
+    }
+
+    @Test
+    @DisplayName("ドライバー固有APIへのunwrapは元のコネクションに委譲すること")
+    void shouldDelegateUnwrapToTarget() throws Exception {
+        try (QueryScope ignored = QueryScope.open();
+             Connection connection = dataSource.getConnection()) {
+            assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+            assertThat(Proxy.isProxyClass(connection.unwrap(Connection.class).getClass())).isFalse();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.chirper.infrastructure.persistence.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatements単体テスト")
+class SqlStatementsTest {
+
+    @Test
+    @DisplayName("先頭のキーワードからSQL文の種類を判定すること")
+    void shouldDetectOperation() {
+        assertThat(SqlStatements.operationOf("  select * from users")).isEqualTo("SELECT");
+        assertThat(SqlStatements.operationOf("INSERT INTO users VALUES (?)")).isEqualTo("INSERT");
+        assertThat(SqlStatements.operationOf("VACUUM users")).isEqualTo(SqlStatements.OTHER);
+        assertThat(SqlStatements.operationOf(null)).isEqualTo(SqlStatements.OTHER);
+    }
+
+    @Test
+    @DisplayName("先頭のコメントを読み飛ばすこと")
+    void shouldSkipLeadingComments() {
+        assertThat(SqlStatements.operationOf("/* <criteria> */ select t1_0.id from tweets t1_0")).isEqualTo("SELECT");
+        assertThat(SqlStatements.operationOf("-- timeline\nWITH recent AS (SELECT 1) SELECT * FROM recent")).isEqualTo("WITH");
+        assertThat(SqlStatements.operationOf("/* unterminated")).isEqualTo(SqlStatements.OTHER);
+    }
+
+    @Test
+    @DisplayName("SELECT・WITHのみを読み取りの問い合わせと判定すること")
+    void shouldDetectQueries() {
+        assertThat(SqlStatements.isQuery("/* find */ select 1")).isTrue();
+        assertThat(SqlStatements.isQuery("with x as (select 1) select * from x")).isTrue();
+        assertThat(SqlStatements.isQuery("update users set username = ?")).isFalse();
+    }
+}
@@ -0,0 +1,82 @@
+package com.chirper.infrastructure.persistence.pool;
+
+import com.chirper.infrastructure.persistence.pool.AdaptivePoolSizer.DbActivity;
+import com.chirper.infrastructure.persistence.pool.AdaptivePoolSizer.Sample;
+import com.chirper.infrastructure.persistence.pool.AdaptivePoolSizer.Settings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.chirper.infrastructure.persistence.pool.AdaptivePoolSizer.nextMaximumPoolSize;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptivePoolSizer単体テスト")
+class AdaptivePoolSizerTest {
+
+    private static final Settings SETTINGS = new Settings(10, 40, 5, Duration.ofMillis(50), Duration.ofMillis(100));
+
+    @Test
+    @DisplayName("コネクション待ちがある場合は拡大すること")
+    void shouldGrowWhenThreadsAreWaiting() {
+        assertThat(nextMaximumPoolSize(20, new Sample(20, 3, 10, 20), SETTINGS)).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("平均取得時間が目標を超えた場合は拡大すること")
+    void shouldGrowWhenAcquireTimeExceedsTarget() {
+        assertThat(nextMaximumPoolSize(20, new Sample(18, 0, 80, 20), SETTINGS)).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("上限を超えて拡大しないこと")
+    void shouldNotGrowBeyondMaxSize() {
+        assertThat(nextMaximumPoolSize(38, new Sample(38, 10, 500, 20), SETTINGS)).isEqualTo(40);
+        assertThat(nextMaximumPoolSize(40, new Sample(40, 10, 500, 20), SETTINGS)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("DBが遅い場合は待ちがあっても縮小すること")
+    void shouldShrinkWhenDatabaseIsSlow() {
+        assertThat(nextMaximumPoolSize(30, new Sample(30, 10, 500, 350), SETTINGS)).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("使用中のコネクションが十分少ない場合は下限まで縮小すること")
+    void shouldShrinkWhenUnderused() {
+        assertThat(nextMaximumPoolSize(30, new Sample(4, 0, 1, 20), SETTINGS)).isEqualTo(25);
+        assertThat(nextMaximumPoolSize(12, new Sample(0, 0, 0, 0), SETTINGS)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("適正な負荷では変更しないこと")
+    void shouldKeepSizeUnderSteadyLoad() {
+        assertThat(nextMaximumPoolSize(20, new Sample(15, 0, 5, 30), SETTINGS)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("範囲外の現在値は上下限に収めること")
+    void shouldClampCurrentSizeIntoBounds() {
+        assertThat(nextMaximumPoolSize(50, new Sample(45, 0, 5, 30), SETTINGS)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("DB側の実行時間はトランザクションあたりの増分で算出すること")
+    void shouldComputeDbTimePerTransaction() {
+        DbActivity last = new DbActivity(10_000, 1_000);
+
+        assertThat(DbActivity.meanMillisPerTransaction(last, new DbActivity(13_000, 1_600))).isEqualTo(5.0);
+        assertThat(DbActivity.meanMillisPerTransaction(last, new DbActivity(10_000, 1_000)))
+            .as("トランザクションがない場合").isZero();
+        assertThat(DbActivity.meanMillisPerTransaction(last, new DbActivity(100, 10)))
+            .as("統計がリセットされた場合").isZero();
+    }
+
+    @Test
+    @DisplayName("不正な上下限は拒否すること")
+    void shouldRejectInvalidBounds() {
+        assertThatThrownBy(() -> new Settings(20, 10, 5, Duration.ofMillis(50), Duration.ofMillis(200)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
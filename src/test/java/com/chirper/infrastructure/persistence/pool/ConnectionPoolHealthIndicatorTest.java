@@ -0,0 +1,88 @@
+package com.chirper.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConnectionPoolHealthIndicatorのテスト（H2インメモリDB + HikariCP）
+ */
+@DisplayName("ConnectionPoolHealthIndicator テスト")
+class ConnectionPoolHealthIndicatorTest {
+
+    private HikariDataSource pool;
+    private ConnectionPoolHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:connection_pool;DB_CLOSE_DELAY=-1");
+        pool.setPoolName("TestPool");
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(5000);
+        // DataSourceを辿ってプールを見つけられること
+        ConnectionPools pools = ConnectionPools.of(new LazyConnectionDataSourceProxy(pool));
+        healthIndicator = new ConnectionPoolHealthIndicator(pools, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("コネクション待ちがない場合はUPとプールの状態を返すこと")
+    void shouldReportUpWithPoolStats() throws Exception {
+        try (Connection ignored = pool.getConnection()) {
+            Health health = healthIndicator.health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails()).containsEntry("pendingThreshold", 1);
+            assertThat(health.getDetails().get("TestPool")).isInstanceOfSatisfying(Map.class, stats -> {
+                assertThat(stats).containsEntry("active", 1).containsEntry("pending", 0).containsEntry("max", 1);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("コネクション待ちがしきい値に達した場合はDEGRADEDを返すこと")
+    void shouldReportDegradedWhenThreadsAreWaiting() throws Exception {
+        try (Connection ignored = pool.getConnection();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> waiting = executor.submit(() -> {
+                try (Connection connection = pool.getConnection()) {
+                    return connection.isValid(1);
+                }
+            });
+            long deadline = System.nanoTime() + 2_000_000_000L;
+            while (pool.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(healthIndicator.health().getStatus()).isEqualTo(ConnectionPoolHealthIndicator.DEGRADED);
+            waiting.cancel(true);
+        }
+    }
+
+    @Test
+    @DisplayName("起動前のプールはstarted=falseとして報告すること")
+    void shouldReportNotStartedPool() {
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("TestPool", Map.of("started", false));
+    }
+}
@@ -0,0 +1,235 @@
+package com.chirper.infrastructure.persistence.repository;
+
+import com.chirper.domain.entity.Follow;
+import com.chirper.domain.entity.User;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.valueobject.Email;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import com.chirper.infrastructure.persistence.maintenance.FollowCountReconciliationJob;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FollowRepository統合テスト（TestContainers + JUnit 5）
+ *
+ * 非正規化フォロー数カウンターの更新と定期補正ジョブ、一括保存を実際のデータベースで検証
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("FollowRepository 統合テスト")
+class FollowRepositoryIntegrationTest {
+
+    @Autowired
+    private IFollowRepository followRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private FollowCountReconciliationJob reconciliationJob;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        // バッチ境界をまたぐ補正を検証するため小さくする
+        registry.add("chirper.follow-counts.reconciliation.batch-size", () -> "2");
+        // 一括保存時の発行ステートメント数を検証するため統計を有効化
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+        alice = userRepository.save(User.create(new Username("alice"), new Email("alice@example.com"), "password123"));
+        bob = userRepository.save(User.create(new Username("bob"), new Email("bob@example.com"), "password123"));
+        carol = userRepository.save(User.create(new Username("carol"), new Email("carol@example.com"), "password123"));
+    }
+
+    private void follow(User follower, User followed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            followRepository.save(Follow.create(follower.getId(), followed.getId()));
+            followRepository.adjustFollowCounts(follower.getId(), followed.getId(), 1);
+        });
+    }
+
+    @Test
+    @DisplayName("save() - 同一トランザクション内の保存が事前SELECTなしの1回のバッチINSERTで送信されること")
+    void save_shouldInsertInSingleBatchWithoutSelect() {
+        // Given
+        List<Follow> follows = List.of(
+            Follow.create(alice.getId(), bob.getId()),
+            Follow.create(alice.getId(), carol.getId())
+        );
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> follows.forEach(followRepository::save));
+        long insertCount = statistics.getEntityInsertCount();
+        long loadCount = statistics.getEntityLoadCount();
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // Then
+        assertAll("一括保存の検証",
+            () -> assertEquals(2, followRepository.findFollowedUserIds(alice.getId()).size()),
+            () -> assertEquals(2L, insertCount, "2件INSERTされること"),
+            () -> assertEquals(0L, loadCount, "merge用のSELECTが発行されないこと"),
+            () -> assertEquals(1L, statementCount, "1つのバッチで送信されること")
+        );
+    }
+
+    @Test
+    @DisplayName("saveAllIfAbsent() - 既存のフォロー関係と存在しないユーザーをスキップして1文で保存すること")
+    void saveAllIfAbsent_shouldSkipExistingAndMissingUsers() {
+        // Given
+        follow(alice, bob);
+        Follow duplicate = Follow.create(alice.getId(), bob.getId());
+        Follow toCarol = Follow.create(alice.getId(), carol.getId());
+        Follow toMissing = Follow.create(alice.getId(), UserId.generate());
+
+        // When
+        List<Follow> saved = transactionTemplate.execute(status -> {
+            List<Follow> inserted = followRepository.saveAllIfAbsent(List.of(duplicate, toCarol, toMissing));
+            followRepository.adjustFollowCountsForFollower(
+                alice.getId(), inserted.stream().map(Follow::getFollowedUserId).toList(), 1);
+            return inserted;
+        });
+
+        // Then
+        assertAll("一括保存の検証",
+            () -> assertEquals(List.of(toCarol), saved),
+            () -> assertTrue(followRepository.existsByFollowerAndFollowed(alice.getId(), carol.getId())),
+            () -> assertEquals(2L, followRepository.countFollowing(alice.getId())),
+            () -> assertEquals(1L, followRepository.countFollowers(bob.getId())),
+            () -> assertEquals(1L, followRepository.countFollowers(carol.getId())),
+            () -> assertEquals(0L, reconciliationJob.reconcileAll(), "カウンターが実数と一致していること")
+        );
+    }
+
+    @Test
+    @DisplayName("adjustFollowCounts() - フォロー・フォロー解除でカウンターが増減すること")
+    void adjustFollowCounts_shouldMaintainCounters() {
+        // Given
+        follow(alice, bob);
+        follow(carol, bob);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            if (followRepository.delete(carol.getId(), bob.getId())) {
+                followRepository.adjustFollowCounts(carol.getId(), bob.getId(), -1);
+            }
+        });
+
+        // Then
+        assertAll("カウンターの検証",
+            () -> assertEquals(1L, followRepository.countFollowers(bob.getId())),
+            () -> assertEquals(1L, followRepository.countFollowing(alice.getId())),
+            () -> assertEquals(0L, followRepository.countFollowing(carol.getId())),
+            () -> assertEquals(0L, followRepository.countFollowers(new UserId(java.util.UUID.randomUUID())))
+        );
+    }
+
+    @Test
+    @DisplayName("delete() - 存在しないフォロー関係の削除はfalseを返すこと")
+    void delete_shouldReturnFalse_whenNotFollowing() {
+        // When
+        Boolean deleted = transactionTemplate.execute(status -> followRepository.delete(alice.getId(), bob.getId()));
+
+        // Then
+        assertFalse(deleted);
+    }
+
+    @Test
+    @DisplayName("saveIfAbsent() - 初回は保存してtrue、既存のフォロー関係はfalseを返すこと")
+    void saveIfAbsent_shouldReturnWhetherInserted() {
+        // When
+        Boolean first = transactionTemplate.execute(
+            status -> followRepository.saveIfAbsent(Follow.create(alice.getId(), bob.getId())));
+        Boolean second = transactionTemplate.execute(
+            status -> followRepository.saveIfAbsent(Follow.create(alice.getId(), bob.getId())));
+
+        // Then
+        assertAll("重複をスキップする保存の検証",
+            () -> assertTrue(first),
+            () -> assertFalse(second),
+            () -> assertEquals(List.of(bob.getId()), followRepository.findFollowedUserIds(alice.getId()))
+        );
+    }
+
+    @Test
+    @DisplayName("saveIfAbsent() - 存在しないユーザーのフォローはIllegalArgumentExceptionになること")
+    void saveIfAbsent_shouldThrow_whenFollowedUserNotFound() {
+        // Given
+        Follow follow = Follow.create(alice.getId(), UserId.generate());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionTemplate.executeWithoutResult(status -> followRepository.saveIfAbsent(follow)));
+    }
+
+    @Test
+    @DisplayName("reconcileAll() - ずれたカウンターをfollowsテーブルの実件数に補正すること")
+    void reconcileAll_shouldCorrectDrift() {
+        // Given: カウンターを経由せずにフォロー関係を作成し、さらに不正な値を設定
+        jdbcTemplate.update("INSERT INTO follows (follower_user_id, followed_user_id) VALUES (?, ?)",
+            alice.getId().value(), bob.getId().value());
+        jdbcTemplate.update("INSERT INTO follows (follower_user_id, followed_user_id) VALUES (?, ?)",
+            carol.getId().value(), bob.getId().value());
+        jdbcTemplate.update("UPDATE users SET followers_count = 42 WHERE id = ?", carol.getId().value());
+
+        // When
+        long corrected = reconciliationJob.reconcileAll();
+
+        // Then
+        assertEquals(3L, corrected);
+        assertAll("補正後のカウンターの検証",
+            () -> assertEquals(2L, followRepository.countFollowers(bob.getId())),
+            () -> assertEquals(1L, followRepository.countFollowing(alice.getId())),
+            () -> assertEquals(1L, followRepository.countFollowing(carol.getId())),
+            () -> assertEquals(0L, followRepository.countFollowers(carol.getId()))
+        );
+        assertEquals(0L, reconciliationJob.reconcileAll(), "2回目の補正では変更がないこと");
+    }
+}
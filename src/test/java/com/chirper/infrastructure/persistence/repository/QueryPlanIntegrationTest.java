@@ -0,0 +1,230 @@
+package com.chirper.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * クエリプラン回帰テスト（TestContainers + JUnit 5）
+ *
+ * リポジトリが発行するクエリの形に対して、部分インデックス・カバリングインデックスが使われることを検証する
+ * - いいね・リツイート・フォローの参照はヒープを読まないIndex Only Scanであること
+ * - ツイートの参照は論理削除除外の部分インデックスを使い、ソートを伴わないこと
+ *
+ * テストデータが小さいため、シーケンシャルスキャン・ビットマップスキャンを無効にしてインデックスの選択だけを検証する
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("クエリプラン 統合テスト")
+class QueryPlanIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    private UUID userId;
+    private UUID tweetId;
+    private UUID otherTweetId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+
+        jdbcTemplate.execute("""
+            INSERT INTO users (id, username, email, password_hash)
+            SELECT gen_random_uuid(), 'user' || g, 'user' || g || '@example.com', 'hash'
+            FROM generate_series(1, 200) g
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO tweets (id, user_id, content, created_at, updated_at, is_deleted)
+            SELECT gen_random_uuid(), u.id, 'tweet ' || g,
+                   (NOW() AT TIME ZONE 'UTC') - g * INTERVAL '1 minute',
+                   (NOW() AT TIME ZONE 'UTC') - g * INTERVAL '1 minute',
+                   g % 10 = 0
+            FROM users u CROSS JOIN generate_series(1, 20) g
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO likes (id, user_id, tweet_id)
+            SELECT gen_random_uuid(), u.id, t.id
+            FROM (SELECT id FROM users ORDER BY username LIMIT 50) u
+            CROSS JOIN (SELECT id FROM tweets WHERE NOT is_deleted ORDER BY id LIMIT 20) t
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO retweets (id, user_id, tweet_id)
+            SELECT gen_random_uuid(), u.id, t.id
+            FROM (SELECT id FROM users ORDER BY username LIMIT 50) u
+            CROSS JOIN (SELECT id FROM tweets WHERE NOT is_deleted ORDER BY id LIMIT 20) t
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO follows (id, follower_user_id, followed_user_id)
+            SELECT gen_random_uuid(), a.id, b.id
+            FROM users a CROSS JOIN users b
+            WHERE a.id <> b.id AND abs(hashtext(a.username || ':' || b.username)) % 10 = 0
+            """);
+
+        // Index Only Scanはvisibility mapが必要なため、VACUUMで全ページをall-visibleにする
+        for (String table : List.of("users", "tweets", "likes", "retweets", "follows")) {
+            jdbcTemplate.execute("VACUUM ANALYZE " + table);
+        }
+
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users ORDER BY username LIMIT 1", UUID.class);
+        List<UUID> likedTweetIds = jdbcTemplate.queryForList(
+            "SELECT DISTINCT tweet_id FROM likes ORDER BY tweet_id LIMIT 2", UUID.class);
+        tweetId = likedTweetIds.get(0);
+        otherTweetId = likedTweetIds.get(1);
+    }
+
+    @Test
+    @DisplayName("いいね数の集計がカバリングインデックスのIndex Only Scanであること")
+    void countLikesByTweetIds_shouldUseIndexOnlyScan() {
+        String plan = explain(
+            "SELECT l.tweet_id, COUNT(l.user_id) FROM likes l WHERE l.tweet_id IN (?, ?) GROUP BY l.tweet_id",
+            tweetId, otherTweetId);
+
+        assertThat(plan).contains("Index Only Scan using idx_tweet_id_user_id_like");
+    }
+
+    @Test
+    @DisplayName("いいね済みツイートの判定が一意制約インデックスのIndex Only Scanであること")
+    void findLikedTweetIdsIn_shouldUseIndexOnlyScan() {
+        String plan = explain(
+            "SELECT l.tweet_id FROM likes l WHERE l.user_id = ? AND l.tweet_id IN (?, ?)",
+            userId, tweetId, otherTweetId);
+
+        assertThat(plan).contains("Index Only Scan using uk_user_tweet_like");
+    }
+
+    @Test
+    @DisplayName("リツイート数の集計がカバリングインデックスのIndex Only Scanであること")
+    void countRetweetsByTweetIds_shouldUseIndexOnlyScan() {
+        String plan = explain(
+            "SELECT r.tweet_id, COUNT(r.user_id) FROM retweets r WHERE r.tweet_id IN (?, ?) GROUP BY r.tweet_id",
+            tweetId, otherTweetId);
+
+        assertThat(plan).contains("Index Only Scan using idx_tweet_id_user_id_retweet");
+    }
+
+    @Test
+    @DisplayName("フォロワー一覧がソートなしのIndex Only Scanであること")
+    void findFollowerUserIds_shouldUseIndexOnlyScanWithoutSort() {
+        String plan = explain(
+            "SELECT f.follower_user_id FROM follows f WHERE f.followed_user_id = ? ORDER BY f.created_at DESC LIMIT 20",
+            userId);
+
+        assertThat(plan).contains("Index Only Scan using idx_followed_user_id_created_at");
+        assertThat(hasSortNode(plan)).as(plan).isFalse();
+    }
+
+    @Test
+    @DisplayName("フォロー中一覧がソートなしのIndex Only Scanであること")
+    void findFollowingUserIds_shouldUseIndexOnlyScanWithoutSort() {
+        String plan = explain(
+            "SELECT f.followed_user_id FROM follows f WHERE f.follower_user_id = ? ORDER BY f.created_at DESC LIMIT 20",
+            userId);
+
+        assertThat(plan).contains("Index Only Scan using idx_follower_user_id_created_at");
+        assertThat(hasSortNode(plan)).as(plan).isFalse();
+    }
+
+    @Test
+    @DisplayName("フォロー数の再集計がIndex Only Scanであること")
+    void countFollowers_shouldUseIndexOnlyScan() {
+        String plan = explain("SELECT COUNT(*) FROM follows f WHERE f.followed_user_id = ?", userId);
+
+        assertThat(plan).contains("Index Only Scan using idx_followed_user_id_created_at");
+    }
+
+    @Test
+    @DisplayName("有効なツイートの存在確認が部分インデックスのIndex Only Scanであること")
+    void liveTweetExists_shouldUseIndexOnlyScan() {
+        String plan = explain("SELECT 1 FROM tweets t WHERE t.id = ? AND t.is_deleted = false", tweetId);
+
+        assertThat(plan).contains("Index Only Scan");
+        assertThat(plan).doesNotContain("Seq Scan").doesNotContain("Index Scan using");
+    }
+
+    @Test
+    @DisplayName("タイムラインが部分インデックスを使い、ソートを伴わないこと")
+    void timeline_shouldUseLiveIndexWithoutSort() {
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).minusDays(31));
+
+        String plan = explain(
+            "SELECT * FROM tweets t WHERE t.user_id IN (?) AND t.is_deleted = false AND t.created_at >= ? "
+                + "ORDER BY t.created_at DESC, t.id DESC LIMIT 20",
+            userId, since);
+
+        assertThat(plan).contains("user_id_created_at_id_idx").doesNotContain("Seq Scan");
+        assertThat(hasSortNode(plan)).as(plan).isFalse();
+    }
+
+    /**
+     * 同一コネクションでプランナー設定を変更してEXPLAINを実行し、プランをテキストで返す
+     */
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET enable_bitmapscan = off");
+            }
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("RESET enable_seqscan");
+                    statement.execute("RESET enable_bitmapscan");
+                }
+            }
+        });
+    }
+
+    private static boolean hasSortNode(String plan) {
+        return plan.lines()
+            .map(String::strip)
+            .anyMatch(line -> line.startsWith("Sort ") || line.startsWith("->  Sort ")
+                || line.startsWith("Incremental Sort") || line.startsWith("->  Incremental Sort"));
+    }
+}
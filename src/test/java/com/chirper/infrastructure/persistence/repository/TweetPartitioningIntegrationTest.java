@@ -0,0 +1,383 @@
+package com.chirper.infrastructure.persistence.repository;
+
+import com.chirper.domain.entity.Like;
+import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.InvalidOperationException;
+import com.chirper.domain.repository.ILikeRepository;
+import com.chirper.domain.repository.ITweetRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.valueobject.*;
+import com.chirper.infrastructure.persistence.maintenance.TweetPartitionMaintenanceJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tweetsテーブル月次パーティション統合テスト（TestContainers + JUnit 5）
+ *
+ * 検証内容:
+ * - TweetPartitionMaintenanceJobが将来月のパーティションを冪等に作成すること
+ * - デフォルトパーティションに該当月の行がある場合も、行を移してパーティションを作成すること
+ * - 直近期間の条件付きクエリで古いパーティションが走査対象から除外されること
+ * - 直近期間で件数が足りない場合に同じクエリで古い期間から補うこと（各期間から読む行数はページサイズで抑えられること）
+ * - カーソル以降の取得でカーソルより新しいパーティションが走査対象から除外され、存在しないカーソルは拒否されること
+ * - likes/retweetsの外部キーを置き換えたトリガーが存在しないツイートへの参照を拒否すること
+ * - 同トリガーが参照先ツイートをロックし、並行削除でいいねが孤立しないこと
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("tweets パーティション 統合テスト")
+class TweetPartitioningIntegrationTest {
+
+    private static final Pattern LIMIT_ROWS = Pattern.compile("Limit \\(actual rows=(\\d+)");
+
+    @Autowired
+    private ITweetRepository tweetRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private ILikeRepository likeRepository;
+
+    @Autowired
+    private TweetPartitionMaintenanceJob partitionMaintenanceJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+        author = userRepository.save(User.create(new Username("author"), new Email("author@example.com"), "password123"));
+        // 2年前の月のパーティションを用意（古いツイートの格納先）
+        jdbcTemplate.queryForObject("SELECT create_tweets_partition(?)", String.class,
+            java.sql.Date.valueOf(twoYearsAgo()));
+    }
+
+    @Test
+    @DisplayName("ensurePartitions() - 基準月から指定か月先までのパーティションを冪等に作成すること")
+    void ensurePartitions_shouldCreateFuturePartitionsIdempotently() {
+        // Given
+        LocalDate today = LocalDate.of(2031, 1, 15);
+
+        // When
+        List<String> first = partitionMaintenanceJob.ensurePartitions(today);
+        List<String> second = partitionMaintenanceJob.ensurePartitions(today);
+
+        // Then
+        assertEquals(List.of("tweets_p2031_01", "tweets_p2031_02", "tweets_p2031_03", "tweets_p2031_04"), first);
+        assertEquals(first, second, "2回目の実行でも同じパーティション名を返すこと");
+        for (String partition : first) {
+            Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'tweets'::regclass AND inhrelid = ?::regclass",
+                Integer.class, partition);
+            assertEquals(1, count, partition + " がtweetsのパーティションであること");
+        }
+    }
+
+    @Test
+    @DisplayName("ensurePartitions() - デフォルトパーティションに該当月の行がある場合も作成し、行といいねを移すこと")
+    void ensurePartitions_shouldMoveRowsOutOfDefaultPartition() {
+        // Given: パーティション未作成の月のツイート（デフォルトパーティションに入る）といいね
+        LocalDate month = LocalDate.of(2035, 6, 1);
+        UUID tweetId = insertTweet(author.getId(), "early", month.atStartOfDay().plusDays(3).toInstant(ZoneOffset.UTC));
+        assertTrue(likeRepository.saveIfAbsent(Like.create(author.getId(), new TweetId(tweetId))));
+        assertEquals("tweets_default", partitionOf(tweetId));
+
+        // When
+        List<String> partitions = partitionMaintenanceJob.ensurePartitions(month.withDayOfMonth(15));
+
+        // Then
+        assertEquals(partitionName(month), partitions.get(0));
+        assertEquals(partitionName(month), partitionOf(tweetId), "ツイートが作成した月のパーティションに移ること");
+        Integer likes = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM likes WHERE tweet_id = ?", Integer.class, tweetId);
+        assertEquals(1, likes, "移動したツイートのいいねが削除されないこと");
+        Integer defaultAttached = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'tweets'::regclass AND inhrelid = 'tweets_default'::regclass",
+            Integer.class);
+        assertEquals(1, defaultAttached, "デフォルトパーティションが再びtweetsに接続されていること");
+    }
+
+    @Test
+    @DisplayName("作成日時の下限を指定したタイムラインクエリで古いパーティションが除外されること")
+    void recentWindowQuery_shouldPruneOldPartitions() {
+        // Given
+        Timestamp since = Timestamp.valueOf(
+            Instant.now().minus(31, ChronoUnit.DAYS).atZone(ZoneOffset.UTC).toLocalDateTime());
+
+        // When
+        List<String> plan = jdbcTemplate.queryForList(
+            "EXPLAIN SELECT * FROM tweets WHERE user_id = ? AND is_deleted = FALSE AND created_at >= ? "
+                + "ORDER BY created_at DESC, id DESC LIMIT 20",
+            String.class, author.getId().value(), since);
+
+        // Then
+        String planText = String.join("\n", plan);
+        assertFalse(planText.contains(partitionName(twoYearsAgo())),
+            "2年前のパーティションが走査対象に含まれないこと:\n" + planText);
+        assertTrue(planText.contains(partitionName(LocalDate.now(ZoneOffset.UTC))),
+            "当月のパーティションは走査対象に含まれること:\n" + planText);
+    }
+
+    @Test
+    @DisplayName("findByUserId() - 直近期間で件数が足りない場合は古いツイートも取得できること")
+    void findByUserId_shouldFallBackToFullRange_whenRecentTweetsAreInsufficient() {
+        // Given
+        Tweet recent = tweetRepository.save(Tweet.create(author.getId(), new TweetContent("recent")));
+        UUID oldTweetId = insertTweet(author.getId(), "old", twoYearsAgo().atStartOfDay().toInstant(ZoneOffset.UTC));
+
+        // When
+        List<Tweet> tweets = tweetRepository.findByUserId(author.getId(), 0, 10);
+
+        // Then
+        assertEquals(List.of(recent.getId().value(), oldTweetId),
+            tweets.stream().map(tweet -> tweet.getId().value()).toList());
+    }
+
+    @Test
+    @DisplayName("findByUserId() - オフセットが直近期間を超えるページは古いツイートから取得すること")
+    void findByUserId_shouldContinueIntoOlderRange_whenOffsetPassesRecentWindow() {
+        // Given
+        tweetRepository.save(Tweet.create(author.getId(), new TweetContent("recent")));
+        UUID oldTweetId = insertTweet(author.getId(), "old", twoYearsAgo().atStartOfDay().toInstant(ZoneOffset.UTC));
+
+        // When
+        List<Tweet> secondPage = tweetRepository.findByUserId(author.getId(), 1, 1);
+
+        // Then
+        assertEquals(List.of(oldTweetId), secondPage.stream().map(tweet -> tweet.getId().value()).toList());
+    }
+
+    @Test
+    @DisplayName("findByUserIdsBefore() - カーソル以降が直近期間で足りない場合は古いツイートも1回で取得すること")
+    void findByUserIdsBefore_shouldContinueIntoOlderRange_whenRecentTweetsAreInsufficient() {
+        // Given
+        Tweet newest = tweetRepository.save(Tweet.create(author.getId(), new TweetContent("newest")));
+        Instant recentCreatedAt = Instant.now().minus(1, ChronoUnit.HOURS);
+        UUID recentTweetId = insertTweet(author.getId(), "recent", recentCreatedAt);
+        UUID oldTweetId = insertTweet(author.getId(), "old", twoYearsAgo().atStartOfDay().toInstant(ZoneOffset.UTC));
+
+        // When
+        List<Tweet> tweets = tweetRepository.findByUserIdsBefore(List.of(author.getId()), newest.getId(), 10);
+
+        // Then
+        assertEquals(List.of(recentTweetId, oldTweetId), tweets.stream().map(tweet -> tweet.getId().value()).toList());
+    }
+
+    @Test
+    @DisplayName("直近期間・古い期間のブランチと外側の並べ直しがそれぞれページサイズまでしか行を返さないこと")
+    void recentFirstUnion_shouldBoundEachBranchByPageSize() {
+        // Given
+        tweetRepository.save(Tweet.create(author.getId(), new TweetContent("recent 1")));
+        tweetRepository.save(Tweet.create(author.getId(), new TweetContent("recent 2")));
+        for (int i = 0; i < 5; i++) {
+            insertTweet(author.getId(), "old " + i, twoYearsAgo().atStartOfDay().plusHours(i).toInstant(ZoneOffset.UTC));
+        }
+        Timestamp since = Timestamp.valueOf(
+            Instant.now().minus(31, ChronoUnit.DAYS).atZone(ZoneOffset.UTC).toLocalDateTime());
+
+        // When
+        List<String> plan = jdbcTemplate.queryForList(
+            "EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) SELECT * FROM ("
+                + "(SELECT * FROM tweets t WHERE t.user_id = ? AND t.is_deleted = false AND t.created_at >= ? "
+                + "ORDER BY t.created_at DESC, t.id DESC LIMIT 2) "
+                + "UNION ALL "
+                + "(SELECT * FROM tweets t WHERE t.user_id = ? AND t.is_deleted = false AND t.created_at < ? "
+                + "ORDER BY t.created_at DESC, t.id DESC LIMIT 2)"
+                + ") recent_first ORDER BY recent_first.created_at DESC, recent_first.id DESC LIMIT 2",
+            String.class, author.getId().value(), since, author.getId().value(), since);
+
+        // Then
+        String planText = String.join("\n", plan);
+        List<Integer> limitRows = plan.stream()
+            .map(LIMIT_ROWS::matcher)
+            .filter(Matcher::find)
+            .map(matcher -> Integer.parseInt(matcher.group(1)))
+            .toList();
+        assertEquals(3, limitRows.size(), "外側と2つのブランチにLIMITがあること:\n" + planText);
+        assertTrue(limitRows.stream().allMatch(rows -> rows <= 2),
+            "各LIMITがページサイズまでしか行を返さないこと:\n" + planText);
+    }
+
+    @Test
+    @DisplayName("カーソル以降の取得でカーソルより新しいパーティションが走査対象から除外されること")
+    void cursorQuery_shouldPrunePartitionsNewerThanCursor() {
+        // Given: カーソルは2年前の月のツイート
+        jdbcTemplate.queryForObject("SELECT create_tweets_partition(?)", String.class,
+            java.sql.Date.valueOf(LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1)));
+        Timestamp cursorCreatedAt = Timestamp.valueOf(twoYearsAgo().atStartOfDay().plusDays(1));
+
+        // When
+        List<String> plan = jdbcTemplate.queryForList(
+            "EXPLAIN SELECT * FROM tweets t WHERE t.user_id = ? AND t.is_deleted = false "
+                + "AND t.created_at <= ? AND (t.created_at, t.id) < (?, ?) "
+                + "ORDER BY t.created_at DESC, t.id DESC LIMIT 20",
+            String.class, author.getId().value(), cursorCreatedAt, cursorCreatedAt, UUID.randomUUID());
+
+        // Then
+        String planText = String.join("\n", plan);
+        assertTrue(planText.contains(partitionName(twoYearsAgo())),
+            "カーソルの月のパーティションは走査対象に含まれること:\n" + planText);
+        assertFalse(planText.contains(partitionName(LocalDate.now(ZoneOffset.UTC))),
+            "カーソルより新しい当月のパーティションが走査対象に含まれないこと:\n" + planText);
+    }
+
+    @Test
+    @DisplayName("findByUserIdsBefore() - 存在しないツイートをカーソルに指定した場合は拒否されること")
+    void findByUserIdsBefore_shouldRejectUnknownCursor() {
+        // Given
+        tweetRepository.save(Tweet.create(author.getId(), new TweetContent("recent")));
+
+        // When & Then
+        assertThrows(InvalidOperationException.class,
+            () -> tweetRepository.findByUserIdsBefore(List.of(author.getId()), TweetId.generate(), 10));
+    }
+
+    @Test
+    @DisplayName("findById() - IDの生成時刻と作成日時が大きく離れていても取得できること")
+    void findById_shouldFindTweet_whenCreatedAtDiffersFromIdTimestamp() {
+        // Given: UUIDv7（現在時刻）のIDで2年前に作成されたツイート、およびUUIDv4のIDのツイート
+        UUID v7Id = UuidV7.generate();
+        insertTweet(v7Id, author.getId(), "migrated", twoYearsAgo().atStartOfDay().toInstant(ZoneOffset.UTC));
+        UUID v4Id = insertTweet(author.getId(), "legacy", Instant.now());
+
+        // When
+        Optional<Tweet> migrated = tweetRepository.findById(new TweetId(v7Id));
+        Optional<Tweet> legacy = tweetRepository.findById(new TweetId(v4Id));
+
+        // Then
+        assertTrue(migrated.isPresent(), "UUIDv7のツイートが取得できること");
+        assertTrue(legacy.isPresent(), "UUIDv4のツイートが取得できること");
+    }
+
+    @Test
+    @DisplayName("存在しないツイートへのいいねはトリガーにより拒否されること")
+    void likeTrigger_shouldRejectUnknownTweet() {
+        // Given
+        Like like = Like.create(author.getId(), TweetId.generate());
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () -> likeRepository.saveIfAbsent(like));
+    }
+
+    @Test
+    @DisplayName("ツイートを物理削除するといいねも削除されること")
+    void deleteTrigger_shouldRemoveLikesOfDeletedTweet() {
+        // Given
+        Tweet tweet = tweetRepository.save(Tweet.create(author.getId(), new TweetContent("to be purged")));
+        assertTrue(likeRepository.saveIfAbsent(Like.create(author.getId(), tweet.getId())));
+
+        // When
+        jdbcTemplate.update("DELETE FROM tweets WHERE id = ?", tweet.getId().value());
+
+        // Then
+        Integer likes = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM likes WHERE tweet_id = ?", Integer.class, tweet.getId().value());
+        assertEquals(0, likes);
+    }
+
+    @Test
+    @DisplayName("いいね挿入中のツイートの削除はいいねのトランザクション完了まで待機し、いいねを残さないこと")
+    void likeTrigger_shouldLockTweetAgainstConcurrentDelete() throws Exception {
+        // Given: 別コネクションでいいねを挿入し、コミット前の状態で保持する
+        Tweet tweet = tweetRepository.save(Tweet.create(author.getId(), new TweetContent("contended")));
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO likes (user_id, tweet_id) VALUES (?, ?)")) {
+                insert.setObject(1, author.getId().value());
+                insert.setObject(2, tweet.getId().value());
+                insert.executeUpdate();
+            }
+
+            // When: 並行してツイートを削除する
+            CompletableFuture<Integer> delete = CompletableFuture.supplyAsync(() ->
+                jdbcTemplate.update("DELETE FROM tweets WHERE id = ?", tweet.getId().value()));
+
+            // Then: トリガーが取得したFOR KEY SHAREロックにより削除は待機する
+            assertThrows(TimeoutException.class, () -> delete.get(500, TimeUnit.MILLISECONDS));
+
+            connection.commit();
+            assertEquals(1, delete.get(10, TimeUnit.SECONDS));
+        }
+
+        Integer likes = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM likes WHERE tweet_id = ?", Integer.class, tweet.getId().value());
+        assertEquals(0, likes, "削除トリガーがコミット済みのいいねも削除すること");
+    }
+
+    private static LocalDate twoYearsAgo() {
+        return LocalDate.now(ZoneOffset.UTC).minusYears(2).withDayOfMonth(1);
+    }
+
+    private static String partitionName(LocalDate date) {
+        return String.format("tweets_p%04d_%02d", date.getYear(), date.getMonthValue());
+    }
+
+    private String partitionOf(UUID tweetId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM tweets WHERE id = ?", String.class, tweetId);
+    }
+
+    private UUID insertTweet(UserId userId, String content, Instant createdAt) {
+        return insertTweet(UUID.randomUUID(), userId, content, createdAt);
+    }
+
+    private UUID insertTweet(UUID id, UserId userId, String content, Instant createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt.atZone(ZoneOffset.UTC).toLocalDateTime());
+        jdbcTemplate.update(
+            "INSERT INTO tweets (id, user_id, content, is_deleted, created_at, updated_at) VALUES (?, ?, ?, FALSE, ?, ?)",
+            id, userId.value(), content, timestamp, timestamp);
+        return id;
+    }
+}
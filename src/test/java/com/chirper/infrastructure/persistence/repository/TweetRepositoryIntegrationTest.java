@@ -145,7 +145,7 @@ class TweetRepositoryIntegrationTest {
         // Given
         Tweet tweet = createAndSaveTweet(testUser.getId(), "Deleted tweet");
         tweet.delete(testUser.getId());
-        tweetRepository.save(tweet);
+        tweetRepository.update(tweet);
 
         // When
         Optional<Tweet> foundTweet = tweetRepository.findById(tweet.getId());
@@ -249,7 +249,7 @@ class TweetRepositoryIntegrationTest {
         createAndSaveTweet(testUser.getId(), "Active tweet");
         Tweet deletedTweet = createAndSaveTweet(testUser.getId(), "Deleted tweet");
         deletedTweet.delete(testUser.getId());
-        tweetRepository.save(deletedTweet);
+        tweetRepository.update(deletedTweet);
 
         List<UserId> userIds = List.of(testUser.getId());
 
@@ -305,6 +305,39 @@ class TweetRepositoryIntegrationTest {
         assertEquals(5, page3.size());
     }
 
+    @Test
+    @DisplayName("findByUserIdsBefore() - カーソルで全件を重複・欠落なく新しい順に辿れること（作成日時が同じツイートを含む）")
+    void findByUserIdsBefore_shouldWalkAllTweetsWithoutGapsOrDuplicates() {
+        // Given: 5件ずつ同じ作成日時を持つツイート
+        Instant baseTime = Instant.now().truncatedTo(java.time.temporal.ChronoUnit.SECONDS);
+        for (int i = 1; i <= LARGE_DATASET_SIZE; i++) {
+            createAndSaveTweetWithTimestamp(testUser.getId(), "Tweet " + i, baseTime.minusSeconds((LARGE_DATASET_SIZE - i) / 5));
+        }
+
+        List<UserId> userIds = List.of(testUser.getId());
+
+        // When
+        List<Tweet> page1 = tweetRepository.findByUserIdsBefore(userIds, null, DEFAULT_PAGE_SIZE);
+        List<Tweet> page2 = tweetRepository.findByUserIdsBefore(userIds, page1.get(page1.size() - 1).getId(), DEFAULT_PAGE_SIZE);
+        List<Tweet> page3 = tweetRepository.findByUserIdsBefore(userIds, page2.get(page2.size() - 1).getId(), DEFAULT_PAGE_SIZE);
+
+        // Then
+        List<Tweet> all = new java.util.ArrayList<>(page1);
+        all.addAll(page2);
+        all.addAll(page3);
+        assertAll("キーセットページネーションの検証",
+            () -> assertEquals(10, page1.size()),
+            () -> assertEquals(10, page2.size()),
+            () -> assertEquals(5, page3.size()),
+            () -> assertEquals(LARGE_DATASET_SIZE, all.stream().map(Tweet::getId).distinct().count(), "重複がないこと"),
+            () -> {
+                for (int i = 1; i < all.size(); i++) {
+                    assertFalse(all.get(i).getCreatedAt().isAfter(all.get(i - 1).getCreatedAt()), "新しい順であること");
+                }
+            }
+        );
+    }
+
     @Test
     @DisplayName("findByUserIdsWithDetails() - 空リストの場合は空を返すこと")
     void findByUserIdsWithDetails_shouldReturnEmpty_whenEmptyList() {
@@ -351,7 +384,7 @@ class TweetRepositoryIntegrationTest {
         createAndSaveTweet(testUser.getId(), "Spring Boot active tweet");
         Tweet deletedTweet = createAndSaveTweet(testUser.getId(), "Spring Boot deleted tweet");
         deletedTweet.delete(testUser.getId());
-        tweetRepository.save(deletedTweet);
+        tweetRepository.update(deletedTweet);
 
         // When
         List<Tweet> results = tweetRepository.searchByKeyword("Spring", DEFAULT_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
@@ -403,7 +436,7 @@ class TweetRepositoryIntegrationTest {
         createAndSaveTweet(testUser.getId(), "Spring Boot active");
         Tweet deletedTweet = createAndSaveTweet(testUser.getId(), "Spring Boot deleted");
         deletedTweet.delete(testUser.getId());
-        tweetRepository.save(deletedTweet);
+        tweetRepository.update(deletedTweet);
 
         // When
         long count = tweetRepository.countByKeyword("Spring");
@@ -436,7 +469,7 @@ class TweetRepositoryIntegrationTest {
         createAndSaveTweet(testUser.getId(), "Active tweet");
         Tweet deletedTweet = createAndSaveTweet(testUser.getId(), "Deleted tweet");
         deletedTweet.delete(testUser.getId());
-        tweetRepository.save(deletedTweet);
+        tweetRepository.update(deletedTweet);
 
         // When
         List<Tweet> tweets = tweetRepository.findByUserId(testUser.getId(), DEFAULT_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
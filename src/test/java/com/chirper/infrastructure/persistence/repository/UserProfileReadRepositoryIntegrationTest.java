@@ -0,0 +1,179 @@
+package com.chirper.infrastructure.persistence.repository;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.repository.IUserProfileReadRepository;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.valueobject.Email;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.domain.valueobject.Username;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserProfileReadRepository統合テスト（TestContainers + JUnit 5）
+ *
+ * プロフィール表示用の複合クエリが、個別リポジトリと同じ結果を1回の問い合わせで返すことを検証
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("UserProfileReadRepository 統合テスト")
+class UserProfileReadRepositoryIntegrationTest {
+
+    @Autowired
+    private IUserProfileReadRepository userProfileReadRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    private User owner;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+        owner = userRepository.save(User.create(new Username("owner"), new Email("owner@example.com"), "password123"));
+        viewer = userRepository.save(User.create(new Username("viewer"), new Email("viewer@example.com"), "password123"));
+    }
+
+    private void insertTweet(UserId userId, String content, Instant createdAt, boolean deleted) {
+        jdbcTemplate.update(
+            "INSERT INTO tweets (id, user_id, content, is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+            UUID.randomUUID(), userId.value(), content, deleted,
+            Timestamp.valueOf(createdAt.atZone(ZoneOffset.UTC).toLocalDateTime()),
+            Timestamp.valueOf(createdAt.atZone(ZoneOffset.UTC).toLocalDateTime())
+        );
+    }
+
+    @Test
+    @DisplayName("findByUsername() - ユーザー・フォロー数・フォロー状態・ツイートをまとめて取得できること")
+    void findByUsername_shouldReturnCompleteProfile() {
+        // Given
+        Instant base = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        insertTweet(owner.getId(), "oldest", base.minusSeconds(30), false);
+        insertTweet(owner.getId(), "deleted", base.minusSeconds(20), true);
+        insertTweet(owner.getId(), "middle", base.minusSeconds(10), false);
+        insertTweet(owner.getId(), "newest", base, false);
+        jdbcTemplate.update("INSERT INTO follows (follower_user_id, followed_user_id) VALUES (?, ?)",
+            viewer.getId().value(), owner.getId().value());
+        jdbcTemplate.update("UPDATE users SET followers_count = 1 WHERE id = ?", owner.getId().value());
+
+        // When
+        Optional<IUserProfileReadRepository.UserProfile> profile =
+            userProfileReadRepository.findByUsername(new Username("owner"), viewer.getId(), 0, 2);
+
+        // Then
+        assertTrue(profile.isPresent());
+        assertAll("プロフィールの検証",
+            () -> assertEquals(owner.getId(), profile.get().user().id()),
+            () -> assertEquals("owner", profile.get().user().username()),
+            () -> assertEquals(1L, profile.get().followersCount()),
+            () -> assertEquals(0L, profile.get().followingCount()),
+            () -> assertTrue(profile.get().followedByViewer()),
+            () -> assertEquals(2, profile.get().tweets().size()),
+            () -> assertEquals("newest", profile.get().tweets().get(0).getContent().value()),
+            () -> assertEquals("middle", profile.get().tweets().get(1).getContent().value()),
+            () -> assertEquals(base, profile.get().tweets().get(0).getCreatedAt())
+        );
+    }
+
+    @Test
+    @DisplayName("findByUsername() - ツイートがなく未ログインの場合も取得できること")
+    void findByUsername_shouldReturnProfile_withoutTweetsAndViewer() {
+        // When
+        Optional<IUserProfileReadRepository.UserProfile> profile =
+            userProfileReadRepository.findByUsername(new Username("owner"), null, 0, 20);
+
+        // Then
+        assertTrue(profile.isPresent());
+        assertFalse(profile.get().followedByViewer());
+        assertTrue(profile.get().tweets().isEmpty());
+    }
+
+    @Test
+    @DisplayName("findByUsername() - ツイートの2ページ目を取得できること")
+    void findByUsername_shouldPaginateTweets() {
+        // Given
+        Instant base = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            insertTweet(owner.getId(), "tweet" + i, base.plusSeconds(i), false);
+        }
+
+        // When
+        Optional<IUserProfileReadRepository.UserProfile> profile =
+            userProfileReadRepository.findByUsername(new Username("owner"), viewer.getId(), 1, 2);
+
+        // Then
+        assertTrue(profile.isPresent());
+        assertFalse(profile.get().followedByViewer());
+        assertEquals(1, profile.get().tweets().size());
+        assertEquals("tweet0", profile.get().tweets().get(0).getContent().value());
+    }
+
+    @Test
+    @DisplayName("findByUsername() - 直近期間と古い期間にまたがるページを1回で取得できること")
+    void findByUsername_shouldPaginateAcrossRecentWindow() {
+        // Given: 直近期間に2件、直近期間より古いツイートを2件
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        insertTweet(owner.getId(), "recent1", now.minusSeconds(1), false);
+        insertTweet(owner.getId(), "recent0", now.minusSeconds(2), false);
+        insertTweet(owner.getId(), "old1", now.minus(60, ChronoUnit.DAYS), false);
+        insertTweet(owner.getId(), "old0", now.minus(90, ChronoUnit.DAYS), false);
+
+        // When
+        Optional<IUserProfileReadRepository.UserProfile> profile =
+            userProfileReadRepository.findByUsername(new Username("owner"), null, 1, 2);
+
+        // Then
+        assertTrue(profile.isPresent());
+        assertEquals(List.of("old1", "old0"),
+            profile.get().tweets().stream().map(tweet -> tweet.getContent().value()).toList());
+    }
+
+    @Test
+    @DisplayName("findByUsername() - 存在しないユーザー名の場合は空を返すこと")
+    void findByUsername_shouldReturnEmpty_whenUserDoesNotExist() {
+        // When
+        Optional<IUserProfileReadRepository.UserProfile> profile =
+            userProfileReadRepository.findByUsername(new Username("nobody"), viewer.getId(), 0, 20);
+
+        // Then
+        assertFalse(profile.isPresent());
+    }
+}
@@ -0,0 +1,239 @@
+package com.chirper.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource単体テスト")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica0Connection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadRoutingContext.endRequest();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    @Nested
+    @DisplayName("振り分け")
+    class Routing {
+
+        @Test
+        @DisplayName("読み取り専用トランザクションはレプリカをラウンドロビンで使用すること")
+        void readOnlyTransaction_shouldRoundRobinReplicas() throws SQLException {
+            // Given
+            when(replica0.getConnection()).thenReturn(replica0Connection);
+            when(replica1.getConnection()).thenReturn(replica1Connection);
+            beginTransaction(true);
+
+            // When & Then
+            assertThat(routingDataSource.getConnection()).isSameAs(replica0Connection);
+            assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+            assertThat(routingDataSource.getConnection()).isSameAs(replica0Connection);
+            verifyNoInteractions(primary);
+        }
+
+        @Test
+        @DisplayName("書き込みトランザクションはプライマリを使用すること")
+        void writeTransaction_shouldUsePrimary() throws SQLException {
+            // Given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            beginTransaction(false);
+
+            // When & Then
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+            verifyNoInteractions(replica0, replica1);
+        }
+
+        @Test
+        @DisplayName("トランザクション外はプライマリを使用すること")
+        void noTransaction_shouldUsePrimary() throws SQLException {
+            // Given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+
+            // When & Then
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+            verifyNoInteractions(replica0, replica1);
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("プライマリ固定のリクエストでは読み取り専用トランザクションもプライマリを使用すること")
+        void pinnedRequest_shouldReadFromPrimary() throws SQLException {
+            // Given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            ReadRoutingContext.beginRequest(true);
+            beginTransaction(true);
+
+            // When & Then
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+            verifyNoInteractions(replica0, replica1);
+        }
+
+        @Test
+        @DisplayName("リクエスト中に書き込んだ後の読み取りはプライマリを使用すること")
+        void readAfterWriteInSameRequest_shouldReadFromPrimary() throws SQLException {
+            // Given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            ReadRoutingContext.beginRequest(false);
+            beginTransaction(false);
+            routingDataSource.getConnection();
+
+            // When
+            beginTransaction(true);
+            Connection connection = routingDataSource.getConnection();
+
+            // Then
+            assertThat(connection).isSameAs(primaryConnection);
+            verifyNoInteractions(replica0, replica1);
+        }
+
+        @Test
+        @DisplayName("リクエスト終了後は書き込みの記録が残らないこと")
+        void endRequest_shouldClearStickiness() throws SQLException {
+            // Given
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            when(replica0.getConnection()).thenReturn(replica0Connection);
+            ReadRoutingContext.beginRequest(false);
+            beginTransaction(false);
+            routingDataSource.getConnection();
+            ReadRoutingContext.endRequest();
+
+            // When
+            beginTransaction(true);
+            Connection connection = routingDataSource.getConnection();
+
+            // Then
+            assertThat(connection).isSameAs(replica0Connection);
+        }
+    }
+
+    @Nested
+    @DisplayName("フェイルオーバー")
+    class Failover {
+
+        @Test
+        @DisplayName("レプリカへの接続に失敗した場合はプライマリにフォールバックし、以降そのレプリカを使用しないこと")
+        void connectionFailure_shouldFallBackToPrimaryAndSkipReplica() throws SQLException {
+            // Given
+            when(replica0.getConnection()).thenThrow(new SQLException("connection refused"));
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            when(replica1.getConnection()).thenReturn(replica1Connection);
+            beginTransaction(true);
+
+            // When & Then
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+            assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+            assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+            assertThat(routingDataSource.replicaHealth()).containsEntry("replica-0", false).containsEntry("replica-1", true);
+        }
+
+        @Test
+        @DisplayName("全レプリカが異常な場合はプライマリを使用すること")
+        void allReplicasUnhealthy_shouldUsePrimary() throws SQLException {
+            // Given
+            when(replica0.getConnection()).thenThrow(new SQLException("down"));
+            when(replica1.getConnection()).thenThrow(new SQLException("down"));
+            routingDataSource.refreshReplicaHealth(Duration.ofSeconds(10));
+            when(primary.getConnection()).thenReturn(primaryConnection);
+            beginTransaction(true);
+
+            // When & Then
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        }
+
+        @Test
+        @DisplayName("レプリケーション遅延が許容値を超えたレプリカを外し、回復後に戻すこと")
+        void refreshReplicaHealth_shouldTrackReplicationLag() throws SQLException {
+            // Given
+            ResultSet lagging = lagResult(30.0);
+            ResultSet caughtUp = lagResult(0.5);
+            stubLag(replica0, replica0Connection, lagging, caughtUp);
+            stubLag(replica1, replica1Connection, caughtUp, caughtUp);
+
+            // When
+            routingDataSource.refreshReplicaHealth(Duration.ofSeconds(10));
+
+            // Then
+            assertThat(routingDataSource.replicaHealth()).containsEntry("replica-0", false).containsEntry("replica-1", true);
+
+            // When: 遅延が解消
+            routingDataSource.refreshReplicaHealth(Duration.ofSeconds(10));
+
+            // Then
+            assertThat(routingDataSource.replicaHealth()).containsEntry("replica-0", true).containsEntry("replica-1", true);
+        }
+
+        private ResultSet lagResult(double lagSeconds) throws SQLException {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.next()).thenReturn(true);
+            when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+            return resultSet;
+        }
+
+        private void stubLag(DataSource dataSource, Connection connection, ResultSet first, ResultSet second)
+            throws SQLException {
+            PreparedStatement statement = mock(PreparedStatement.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            when(connection.prepareStatement(anyString())).thenReturn(statement);
+            when(statement.executeQuery()).thenReturn(first, second);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.chirper.infrastructure.persistence.routing;
+
+import com.chirper.application.usecase.GetTimelineUseCase;
+import com.chirper.domain.entity.Tweet;
+import com.chirper.domain.repository.IFollowRepository;
+import com.chirper.domain.repository.ILikeRepository;
+import com.chirper.domain.repository.IRetweetRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.service.TimelineService;
+import com.chirper.domain.valueobject.TweetContent;
+import com.chirper.domain.valueobject.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * GetTimelineUseCaseのクエリがリードレプリカへ振り分けられることのテスト
+ *
+ * ReplicaRoutingDataSourceをLazyConnectionDataSourceProxyで包み（ReadReplicaDataSourceConfigと同じ構成）、
+ * 各リポジトリの呼び出し時点のルックアップキーを記録する。コネクションは実際には取得しない
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("タイムライン取得のリードレプリカ振り分けテスト")
+class TimelineReplicaRoutingTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private IFollowRepository followRepository;
+
+    @Mock
+    private TimelineService timelineService;
+
+    @Mock
+    private ILikeRepository likeRepository;
+
+    @Mock
+    private IRetweetRepository retweetRepository;
+
+    @Mock
+    private IUserSummaryReadRepository userSummaryReadRepository;
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private ExecutorService hydrationExecutor;
+    private GetTimelineUseCase getTimelineUseCase;
+    private final Map<String, Object> lookupKeys = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(routingDataSource);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+
+        hydrationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        getTimelineUseCase = new GetTimelineUseCase(
+            followRepository, timelineService, likeRepository, retweetRepository, userSummaryReadRepository,
+            hydrationExecutor, Duration.ofSeconds(2), 3, new DataSourceTransactionManager(dataSource)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        hydrationExecutor.shutdownNow();
+        ReadRoutingContext.endRequest();
+    }
+
+    @Test
+    @DisplayName("ツイートの取得と並行実行する付加情報のクエリがレプリカへ振り分けられること")
+    void timeline_shouldReadFromReplica() {
+        // Given
+        stubRepositories();
+
+        // When
+        ReadRoutingContext.beginRequest(false);
+        getTimelineUseCase.execute(UserId.generate(), 0, 20);
+
+        // Then
+        assertThat(lookupKeys).hasSize(7).allSatisfy((query, key) -> assertThat(key).isEqualTo("replica-0"));
+    }
+
+    @Test
+    @DisplayName("プライマリ固定のリクエストでは、並行実行する付加情報のクエリもプライマリで実行されること")
+    void pinnedRequest_shouldReadFromPrimaryOnHydrationThreads() {
+        // Given
+        stubRepositories();
+
+        // When
+        ReadRoutingContext.beginRequest(true);
+        getTimelineUseCase.execute(UserId.generate(), 0, 20);
+
+        // Then
+        assertThat(lookupKeys).hasSize(7)
+            .allSatisfy((query, key) -> assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY_KEY));
+    }
+
+    private void stubRepositories() {
+        UserId followedUserId = UserId.generate();
+        Tweet tweet = Tweet.create(followedUserId, new TweetContent("Test tweet"));
+        when(followRepository.findFollowedUserIds(any()))
+            .thenAnswer(recordLookupKey("follows", List.of(followedUserId)));
+        when(timelineService.getTimeline(anyList(), eq(0), eq(20)))
+            .thenAnswer(recordLookupKey("tweets", List.of(tweet)));
+        when(userSummaryReadRepository.findSummariesByIds(anyList()))
+            .thenAnswer(recordLookupKey("authors", Map.of()));
+        when(likeRepository.countByTweetIds(anyList())).thenAnswer(recordLookupKey("likeCounts", Map.of()));
+        when(retweetRepository.countByTweetIds(anyList())).thenAnswer(recordLookupKey("retweetCounts", Map.of()));
+        when(likeRepository.findLikedTweetIdsIn(any(), anyList()))
+            .thenAnswer(recordLookupKey("liked", List.of()));
+        when(retweetRepository.findRetweetedTweetIdsIn(any(), anyList()))
+            .thenAnswer(recordLookupKey("retweeted", List.of()));
+    }
+
+    private <T> Answer<T> recordLookupKey(String query, T value) {
+        return invocation -> {
+            lookupKeys.put(query, routingDataSource.determineCurrentLookupKey());
+            return value;
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.chirper.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+
+import static com.chirper.infrastructure.security.SecurityConfig.requireAdminCredentials;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SecurityConfig単体テスト")
+class SecurityConfigTest {
+
+    @Test
+    @DisplayName("環境変数で設定された管理ユーザーの資格情報は受け付けること")
+    void shouldAcceptConfiguredCredentials() {
+        assertThatCode(() -> requireAdminCredentials(user("ops-admin", "s3cr3t-from-vault")))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("spring.security.userを設定しない場合に生成されるパスワードは受け付けること")
+    void shouldAcceptGeneratedPassword() {
+        assertThatCode(() -> requireAdminCredentials(new SecurityProperties.User()))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("環境変数が未設定でプレースホルダーが残っている場合は起動を中止すること")
+    void shouldRejectUnresolvedPlaceholders() {
+        assertThatThrownBy(() -> requireAdminCredentials(user("${SECURITY_USER_NAME}", "${SECURITY_USER_PASSWORD}")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("SECURITY_USER_NAME")
+            .hasMessageContaining("SECURITY_USER_PASSWORD");
+    }
+
+    @Test
+    @DisplayName("ユーザー名・パスワードが空の場合は起動を中止すること")
+    void shouldRejectBlankCredentials() {
+        assertThatThrownBy(() -> requireAdminCredentials(user("ops-admin", " ")))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> requireAdminCredentials(user("", "s3cr3t-from-vault")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static SecurityProperties.User user(String name, String password) {
+        SecurityProperties.User user = new SecurityProperties.User();
+        user.setName(name);
+        user.setPassword(password);
+        return user;
+    }
+}
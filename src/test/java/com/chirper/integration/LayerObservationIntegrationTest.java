@@ -0,0 +1,158 @@
+package com.chirper.integration;
+
+import com.chirper.infrastructure.observability.LayerObservationPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+/**
+ * ユースケース・リポジトリ単位のObservation統合テスト
+ *
+ * 検証内容:
+ * - ユースケース・リポジトリの呼び出しがタグ付きのタイマーとして記録されること
+ * - SLOバケットがPrometheusのヒストグラムとして /actuator/prometheus に公開されること
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+@Testcontainers
+@DisplayName("Layer Observation 統合テスト")
+class LayerObservationIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("jwt.secret", () -> "test-secret-key-with-at-least-32-bytes-for-hs256-algorithm");
+        registry.add("jwt.expiration-seconds", () -> "3600");
+        registry.add("management.endpoints.web.exposure.include", () -> "health,prometheus");
+        registry.add("management.prometheus.metrics.export.enabled", () -> "true");
+        registry.add("management.metrics.distribution.slo.chirper.usecase", () -> "50ms,1s");
+    }
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "";
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    @DisplayName("ユースケースとリポジトリの呼び出しがタグ付きのタイマーとして記録されること")
+    void register_shouldRecordUseCaseAndRepositoryTimers() {
+        // When
+        register("observed");
+
+        // Then
+        Timer useCase = meterRegistry.find(LayerObservationPostProcessor.USE_CASE_OBSERVATION)
+            .tag("usecase", "RegisterUserUseCase")
+            .tag("method", "execute")
+            .tag("error", "none")
+            .timer();
+        assertThat(useCase).isNotNull();
+        assertThat(useCase.count()).isPositive();
+
+        Timer repository = meterRegistry.find(LayerObservationPostProcessor.REPOSITORY_OBSERVATION)
+            .tag("repository", "IUserRepository")
+            .tag("method", "save")
+            .tag("implementation", "UserRepositoryImpl")
+            .timer();
+        assertThat(repository).isNotNull();
+        assertThat(repository.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("失敗したユースケースはerrorタグに例外クラス名が記録されること")
+    void duplicateRegister_shouldTagError() {
+        // Given
+        register("duplicate");
+
+        // When
+        given()
+            .contentType(ContentType.JSON)
+            .body(registerBody("duplicate"))
+        .when()
+            .post("/api/v1/auth/register");
+
+        // Then
+        Timer failed = meterRegistry.find(LayerObservationPostProcessor.USE_CASE_OBSERVATION)
+            .tag("usecase", "RegisterUserUseCase")
+            .tag("error", "DuplicateEntityException")
+            .timer();
+        assertThat(failed).isNotNull();
+        assertThat(failed.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("/actuator/prometheus - ユースケースのSLOバケットが公開されること")
+    void prometheus_shouldExposeSloBuckets() {
+        // Given
+        register("scraped");
+
+        // When & Then
+        given()
+        .when()
+            .get("/actuator/prometheus")
+        .then()
+            .statusCode(200)
+            .body(containsString("chirper_usecase_seconds_bucket{"))
+            .body(containsString("le=\"0.05\""))
+            .body(containsString("usecase=\"RegisterUserUseCase\""))
+            .body(containsString("chirper_repository_seconds_count{"));
+    }
+
+    private void register(String username) {
+        given()
+            .contentType(ContentType.JSON)
+            .body(registerBody(username))
+        .when()
+            .post("/api/v1/auth/register")
+        .then()
+            .statusCode(201);
+    }
+
+    private static String registerBody(String username) {
+        return """
+            {
+                "username": "%s",
+                "email": "%s@example.com",
+                "password": "password123"
+            }
+            """.formatted(username, username);
+    }
+}
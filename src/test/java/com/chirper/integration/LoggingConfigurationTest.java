@@ -95,7 +95,7 @@ class LoggingConfigurationTest {
         logger.info(messageWithPassword);
 
         // Then: ログが記録されている
-        // 注: 実際のマスキングはLogstashEncoderのmessageMaskPatternで処理される
+        // 注: 実際のマスキングはLogstashEncoderのCredentialValueMaskerで処理される
         assertThat(listAppender.list)
             .isNotEmpty()
             .anyMatch(event -> event.getMessage().contains("password"));
@@ -111,7 +111,7 @@ class LoggingConfigurationTest {
         logger.info(messageWithToken);
 
         // Then: ログが記録されている
-        // 注: 実際のマスキングはLogstashEncoderのmessageMaskPatternで処理される
+        // 注: 実際のマスキングはLogstashEncoderのCredentialValueMaskerで処理される
         assertThat(listAppender.list)
             .isNotEmpty()
             .anyMatch(event -> event.getMessage().contains("Bearer"));
@@ -175,13 +175,44 @@ class LoggingConfigurationTest {
 
         // Then: マスキング設定が含まれている
         assertThat(content)
-            .contains("fieldNamesToMask")
-            .contains("password")
-            .contains("token")
-            .contains("messageMaskPattern")
+            .contains("MaskingJsonGeneratorDecorator")
+            .contains("<path>password</path>")
+            .contains("<path>token</path>")
+            .contains("CredentialValueMasker")
             .as("logback-spring.xmlにパスワードとトークンのマスキング設定が含まれること");
     }
 
+    @Test
+    @DisplayName("logback-spring.xmlのファイル出力はリングバッファの非同期アペンダーを経由し、満杯時は待たずに破棄する")
+    void logbackConfigFile_shouldContainNonBlockingAsyncConfiguration() throws Exception {
+        // Given: logback-spring.xmlの内容
+        Path logbackConfig = Paths.get("src/main/resources/logback-spring.xml");
+        String content = Files.readString(logbackConfig);
+
+        // Then: 非同期アペンダーの設定が含まれ、AsyncAppender（満杯時にブロック）は使われていない
+        assertThat(content)
+            .contains("LoggingEventAsyncDisruptorAppender")
+            .contains("<appendTimeout>0</appendTimeout>")
+            .contains("AsyncAppenderMetricsListener")
+            .contains("<appender-ref ref=\"ASYNC_TEXT\"/>")
+            .doesNotContain("ch.qos.logback.classic.AsyncAppender")
+            .as("logback-spring.xmlのファイル出力がノンブロッキングの非同期アペンダーを経由すること");
+    }
+
+    @Test
+    @DisplayName("logback-spring.xmlにトレースIDの出力設定が含まれる")
+    void logbackConfigFile_shouldContainTraceIdConfiguration() throws Exception {
+        // Given: logback-spring.xmlの内容
+        Path logbackConfig = Paths.get("src/main/resources/logback-spring.xml");
+        String content = Files.readString(logbackConfig);
+
+        // Then: トレースID・スパンIDの出力設定が含まれている
+        assertThat(content)
+            .contains("%X{traceId:-}")
+            .contains("<includeMdcKeyName>traceId</includeMdcKeyName>")
+            .as("logback-spring.xmlにトレースIDとスパンIDの出力設定が含まれること");
+    }
+
     @Test
     @DisplayName("logback-spring.xmlにローテーション設定が含まれる")
     void logbackConfigFile_shouldContainRotationConfiguration() throws Exception {
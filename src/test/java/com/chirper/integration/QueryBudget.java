@@ -0,0 +1,129 @@
+package com.chirper.integration;
+
+import com.chirper.infrastructure.persistence.metrics.QueryMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 統合テスト用のSQL実行数の予算（クエリバジェット）
+ *
+ * 本番と同じメトリクス（chirper.db.statements / chirper.db.rows）の開始時点からの増分で判定するため、
+ * 並行実行されたクエリ（タイムラインのハイドレーションなど）やRestAssured経由のサーバー側の実行も計上される。
+ *
+ * 使用例:
+ * <pre>
+ * QueryBudget budget = QueryBudget.start(meterRegistry);
+ * // リクエストを実行
+ * budget.useCase(GetTimelineUseCase.class).assertInvocations(1).assertStatementsAtMost(8);
+ * budget.request("GET", "/api/v1/timeline").assertStatementsAtMost(8);
+ * </pre>
+ */
+public final class QueryBudget {
+
+    /**
+     * HTTPリクエスト単位の記録はレスポンス送信後に行われるため、記録を待つ上限
+     */
+    private static final Duration RECORD_TIMEOUT = Duration.ofSeconds(2);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Baseline> baselines = new HashMap<>();
+
+    private QueryBudget(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (String name : new String[]{QueryMetrics.STATEMENTS, QueryMetrics.ROWS}) {
+            for (DistributionSummary summary : meterRegistry.find(name).summaries()) {
+                baselines.put(key(name, summary.getId().getTag("scope"), summary.getId().getTag("operation")),
+                    new Baseline(summary.count(), summary.totalAmount()));
+            }
+        }
+    }
+
+    /**
+     * 計測を開始（これ以降に実行された分だけを判定対象にする）
+     */
+    public static QueryBudget start(MeterRegistry meterRegistry) {
+        return new QueryBudget(meterRegistry);
+    }
+
+    /**
+     * ユースケース単位の実行結果
+     */
+    public Usage useCase(Class<?> useCaseClass) {
+        return usage(QueryMetrics.SCOPE_USE_CASE, useCaseClass.getSimpleName());
+    }
+
+    /**
+     * HTTPリクエスト単位の実行結果
+     * @param method HTTPメソッド
+     * @param uriPattern ハンドラーのURIパターン（例: /api/v1/users/{username}）
+     */
+    public Usage request(String method, String uriPattern) {
+        return usage(QueryMetrics.SCOPE_HTTP, method + " " + uriPattern);
+    }
+
+    private Usage usage(String scope, String operation) {
+        long deadline = System.nanoTime() + RECORD_TIMEOUT.toNanos();
+        Delta statements = delta(QueryMetrics.STATEMENTS, scope, operation);
+        while (statements.count() == 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            statements = delta(QueryMetrics.STATEMENTS, scope, operation);
+        }
+        return new Usage(scope + " " + operation, statements.count(), statements.total(),
+            delta(QueryMetrics.ROWS, scope, operation).total());
+    }
+
+    private Delta delta(String name, String scope, String operation) {
+        DistributionSummary summary = meterRegistry.find(name).tag("scope", scope).tag("operation", operation).summary();
+        if (summary == null) {
+            return new Delta(0, 0);
+        }
+        Baseline baseline = baselines.getOrDefault(key(name, scope, operation), new Baseline(0, 0));
+        return new Delta(summary.count() - baseline.count(), (long) (summary.totalAmount() - baseline.total()));
+    }
+
+    private static String key(String name, String scope, String operation) {
+        return name + "|" + scope + "|" + operation;
+    }
+
+    private record Baseline(long count, double total) {}
+
+    private record Delta(long count, long total) {}
+
+    /**
+     * 計測開始以降の実行結果
+     *
+     * @param operation 対象（scope + 操作名）
+     * @param invocations 呼び出し回数
+     * @param statements SQL実行数の合計
+     * @param rows 取得行数の合計
+     */
+    public record Usage(String operation, long invocations, long statements, long rows) {
+
+        public Usage assertInvocations(long expected) {
+            assertThat(invocations).as("%s の呼び出し回数", operation).isEqualTo(expected);
+            return this;
+        }
+
+        public Usage assertStatementsAtMost(long max) {
+            assertThat(invocations).as("%s が呼び出されていること", operation).isPositive();
+            assertThat(statements).as("%s のSQL実行数（N+1クエリの可能性）", operation).isLessThanOrEqualTo(max);
+            return this;
+        }
+
+        public Usage assertRowsAtMost(long max) {
+            assertThat(rows).as("%s の取得行数", operation).isLessThanOrEqualTo(max);
+            return this;
+        }
+    }
+}
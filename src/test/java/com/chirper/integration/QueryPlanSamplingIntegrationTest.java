@@ -0,0 +1,218 @@
+package com.chirper.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 遅いリクエストの実行計画の自動取得の統合テスト
+ *
+ * しきい値を0msにして対象パスのすべてのリクエストを遅いリクエストとして扱い、
+ * /actuator/queryplans に EXPLAIN (ANALYZE, BUFFERS) の結果が公開されることを検証する
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@DisplayName("実行計画の自動取得 統合テスト")
+class QueryPlanSamplingIntegrationTest {
+
+    private static final String ADMIN_USERNAME = "actuator-admin";
+    private static final String ADMIN_PASSWORD = "actuator-admin-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("jwt.secret", () -> "test-secret-key-with-at-least-32-bytes-for-hs256-algorithm");
+        registry.add("jwt.expiration-seconds", () -> "3600");
+        registry.add("management.endpoints.web.exposure.include", () -> "health,queryplans");
+        registry.add("spring.security.user.name", () -> ADMIN_USERNAME);
+        registry.add("spring.security.user.password", () -> ADMIN_PASSWORD);
+        registry.add("spring.security.user.roles", () -> "ACTUATOR_ADMIN");
+        registry.add("chirper.query-plan-sampling.threshold", () -> "0ms");
+        registry.add("chirper.query-plan-sampling.max-plans-per-request", () -> "10");
+    }
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "";
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+        asAdmin().when().delete("/actuator/queryplans").then().statusCode(204);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/timeline - 実行したSELECTの実行計画が /actuator/queryplans に公開されること")
+    void timeline_shouldCaptureQueryPlans() {
+        // Given
+        String viewerToken = registerAndLogin("viewer");
+        String authorToken = registerAndLogin("author");
+        given()
+            .contentType(ContentType.JSON)
+            .header("Authorization", "Bearer " + authorToken)
+            .body("{\"content\": \"sampled tweet\"}")
+        .when()
+            .post("/api/v1/tweets")
+        .then()
+            .statusCode(201);
+        String authorId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'author'", String.class);
+        given()
+            .header("Authorization", "Bearer " + viewerToken)
+        .when()
+            .post("/api/v1/users/" + authorId + "/follow")
+        .then()
+            .statusCode(201);
+
+        // When
+        given()
+            .header("Authorization", "Bearer " + viewerToken)
+        .when()
+            .get("/api/v1/timeline")
+        .then()
+            .statusCode(200);
+
+        // Then
+        Map<String, Object> sample = awaitSample("tweets");
+        assertThat(sample.get("request")).isEqualTo("GET /api/v1/timeline");
+        assertThat(sample.get("error")).isNull();
+        assertThat(sample.get("plan")).asString().contains("Execution Time");
+        assertThat(sample.get("bindShape")).asList().isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("対象外のパスのリクエストは実行計画を取得しないこと")
+    void otherPaths_shouldNotBeSampled() {
+        // When
+        registerAndLogin("unsampled");
+
+        // Then
+        assertThat(queryPlans().getList("samples")).isEmpty();
+    }
+
+    /**
+     * 指定したテーブルを参照するSQL文のサンプルが保存されるまで待機（実行計画の取得は非同期）
+     */
+    private Map<String, Object> awaitSample(String table) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (true) {
+            List<Map<String, Object>> samples = queryPlans().getList("samples");
+            Optional<Map<String, Object>> sample = samples.stream()
+                .filter(candidate -> candidate.get("sql").toString().contains(table))
+                .findFirst();
+            if (sample.isPresent()) {
+                return sample.get();
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new AssertionError("実行計画が取得されていません: " + table + " " + samples);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("待機中に割り込まれました", e);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("/actuator/queryplans - 管理ユーザー以外は参照・削除できないこと")
+    void queryPlans_shouldRequireActuatorAdmin() {
+        // Given
+        String userToken = registerAndLogin("not-admin");
+
+        // When & Then
+        given().when().get("/actuator/queryplans").then().statusCode(401);
+        given().when().delete("/actuator/queryplans").then().statusCode(401);
+        given()
+            .header("Authorization", "Bearer " + userToken)
+        .when()
+            .get("/actuator/queryplans")
+        .then()
+            .statusCode(401);
+        given()
+            .auth().preemptive().basic(ADMIN_USERNAME, "wrong-password")
+        .when()
+            .get("/actuator/queryplans")
+        .then()
+            .statusCode(401);
+    }
+
+    private RequestSpecification asAdmin() {
+        return given().auth().preemptive().basic(ADMIN_USERNAME, ADMIN_PASSWORD);
+    }
+
+    private JsonPath queryPlans() {
+        return asAdmin()
+        .when()
+            .get("/actuator/queryplans")
+        .then()
+            .statusCode(200)
+            .extract()
+            .jsonPath();
+    }
+
+    private String registerAndLogin(String username) {
+        given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "username": "%s",
+                    "email": "%s@example.com",
+                    "password": "password123"
+                }
+                """.formatted(username, username))
+        .when()
+            .post("/api/v1/auth/register")
+        .then()
+            .statusCode(201);
+
+        return given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "username": "%s",
+                    "password": "password123"
+                }
+                """.formatted(username))
+        .when()
+            .post("/api/v1/auth/login")
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("token");
+    }
+}
@@ -1,5 +1,7 @@
 package com.chirper.integration;
 
+import com.chirper.application.usecase.GetTimelineUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.hibernate.SessionFactory;
@@ -45,6 +47,9 @@ class TimelineControllerIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -349,6 +354,7 @@ class TimelineControllerIntegrationTest {
 
         // 統計をリセット
         resetStatistics();
+        QueryBudget budget = QueryBudget.start(meterRegistry);
 
         // タイムライン取得
         given()
@@ -369,6 +375,14 @@ class TimelineControllerIntegrationTest {
         // 余裕を持って10クエリ以下であればOKとする
         assertTrue(queryCount <= 10,
             "N+1クエリ問題が発生している可能性があります。クエリ数: " + queryCount);
+
+        // JdbcTemplate・並行実行分を含むSQL実行数（フォロー一覧1 + タイムライン最大2 + ハイドレーション5）
+        budget.useCase(GetTimelineUseCase.class)
+            .assertInvocations(1)
+            .assertStatementsAtMost(8);
+        budget.request("GET", "/api/v1/timeline")
+            .assertInvocations(1)
+            .assertStatementsAtMost(8);
     }
 
     @Test
@@ -0,0 +1,199 @@
+package com.chirper.integration;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 分散トレースの統合テスト（インメモリのSpanExporterで出力されたスパンを検証）
+ *
+ * 検証内容:
+ * - 1回のリクエストでJWT検証・ユースケース・リポジトリ・JDBCのスパンが同じトレースに記録されること
+ * - ハイドレーション用Executorで並行実行したリポジトリ呼び出しがユースケースのスパンの子になること
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+@Testcontainers
+@DisplayName("分散トレース 統合テスト")
+class TracingIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("jwt.secret", () -> "test-secret-key-with-at-least-32-bytes-for-hs256-algorithm");
+        registry.add("jwt.expiration-seconds", () -> "3600");
+        registry.add("management.tracing.sampling.probability", () -> "1.0");
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api/v1";
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    @DisplayName("GET /timeline - JWT検証・ユースケース・リポジトリ・JDBCのスパンが同じトレースに記録されること")
+    void getTimeline_shouldRecordSpansInSingleTrace() {
+        // Given
+        String viewerToken = registerAndLogin("viewer");
+        String authorToken = registerAndLogin("author");
+        given()
+            .contentType(ContentType.JSON)
+            .header("Authorization", "Bearer " + authorToken)
+            .body("{\"content\": \"traced tweet\"}")
+        .when()
+            .post("/tweets")
+        .then()
+            .statusCode(201);
+        String authorId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'author'", String.class);
+        given()
+            .header("Authorization", "Bearer " + viewerToken)
+        .when()
+            .post("/users/" + authorId + "/follow")
+        .then()
+            .statusCode(201);
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        spanExporter.reset();
+
+        // When
+        given()
+            .header("Authorization", "Bearer " + viewerToken)
+        .when()
+            .get("/timeline")
+        .then()
+            .statusCode(200);
+
+        // Then
+        SpanData server = awaitServerSpan("/api/v1/timeline");
+        List<SpanData> trace = spanExporter.getFinishedSpanItems().stream()
+            .filter(span -> span.getTraceId().equals(server.getTraceId()))
+            .toList();
+        assertThat(trace).extracting(SpanData::getName)
+            .contains("jwt verify", "GetTimelineUseCase#execute", "ILikeRepository#countByTweetIds",
+                "jdbc connection", "jdbc query");
+
+        SpanData useCase = find(trace, "GetTimelineUseCase#execute");
+        assertThat(find(trace, "ILikeRepository#countByTweetIds").getParentSpanId())
+            .as("ハイドレーション用Executorにトレースのコンテキストが伝播すること")
+            .isEqualTo(useCase.getSpanId());
+        assertThat(trace)
+            .filteredOn(span -> span.getName().equals("jdbc query"))
+            .allSatisfy(span -> assertThat(span.getAttributes().get(AttributeKey.stringKey("db.statement"))).isNotBlank());
+    }
+
+    private SpanData awaitServerSpan(String uri) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            tracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+            Optional<SpanData> server = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getKind() == SpanKind.SERVER && span.getName().contains(uri))
+                .findFirst();
+            if (server.isPresent()) {
+                return server.get();
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("サーバースパンが記録されていません: " + uri);
+    }
+
+    private static SpanData find(List<SpanData> spans, String name) {
+        return spans.stream()
+            .filter(span -> span.getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("スパンが記録されていません: " + name));
+    }
+
+    private String registerAndLogin(String username) {
+        given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "username": "%s",
+                    "email": "%s@example.com",
+                    "password": "password123"
+                }
+                """.formatted(username, username))
+        .when()
+            .post("/auth/register")
+        .then()
+            .statusCode(201);
+
+        return given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "username": "%s",
+                    "password": "password123"
+                }
+                """.formatted(username))
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("token");
+    }
+}
@@ -0,0 +1,134 @@
+package com.chirper.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * エンドポイントごとのレイテンシー記録（HdrHistogram）
+ *
+ * - マイクロ秒単位・有効数字3桁で記録する（1µs〜1分）
+ * - 平均ではなくパーセンタイル（p50/p99/p99.9/最大）で報告する
+ * - 各エンドポイントの分布を .hgrm 形式でも出力し、HdrHistogram Plotterで比較できるようにする
+ */
+public final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    /**
+     * 計測対象のエンドポイント
+     */
+    public enum Endpoint {
+        TIMELINE,
+        PROFILE,
+        SEARCH,
+        LIKE,
+        FOLLOW
+    }
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    public LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * 1リクエストを記録
+     * @param endpoint エンドポイント
+     * @param elapsedNanos 所要時間（ナノ秒）
+     * @param success 成功したか
+     */
+    public void record(Endpoint endpoint, long elapsedNanos, boolean success) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        histograms.get(endpoint).recordValue(micros);
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    /**
+     * ウォームアップ分の記録を破棄
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    public long count(Endpoint endpoint) {
+        return histograms.get(endpoint).getTotalCount();
+    }
+
+    public long errorCount(Endpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+
+    public double errorRate(Endpoint endpoint) {
+        long count = count(endpoint);
+        return count == 0 ? 0.0 : (double) errorCount(endpoint) / count;
+    }
+
+    /**
+     * パーセンタイル値（ミリ秒）
+     */
+    public double percentileMillis(Endpoint endpoint, double percentile) {
+        return histograms.get(endpoint).getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    /**
+     * エンドポイントごとの要約表
+     * @param elapsedSeconds 計測期間（秒、スループット算出用）
+     */
+    public String summary(double elapsedSeconds) {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+            "%-9s %9s %9s %8s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "req/s", "errors", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            summary.append(String.format(Locale.ROOT,
+                "%-9s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.name().toLowerCase(Locale.ROOT),
+                histogram.getTotalCount(),
+                elapsedSeconds > 0 ? histogram.getTotalCount() / elapsedSeconds : 0.0,
+                errorCount(endpoint),
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * 要約（summary.txt）とエンドポイントごとの分布（{endpoint}.hgrm、ミリ秒単位）を出力
+     * @param directory 出力先ディレクトリ
+     * @param header 要約の先頭に付ける実行条件
+     * @param elapsedSeconds 計測期間（秒）
+     */
+    public void writeReport(Path directory, String header, double elapsedSeconds) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.txt"), header + System.lineSeparator() + summary(elapsedSeconds),
+            StandardCharsets.UTF_8);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Path file = directory.resolve(endpoint.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                histograms.get(endpoint).outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.chirper.loadtest;
+
+import com.chirper.loadtest.LatencyRecorder.Endpoint;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * タイムライン・プロフィール・検索・いいね・フォローを混在させたトラフィックを再生するシナリオ
+ *
+ * - 各ワーカーは仮想スレッドで、前のレスポンスを受け取ってから次のリクエストを送る（クローズドモデル）
+ * - ワーカーごとの乱数はシードから導出するため、同じ条件なら同じ順序でリクエストが生成される
+ * - 操作するユーザーは一様に、閲覧・フォロー・いいねの対象は人気度に比例して選ぶ
+ * - いいね・フォローの重複（409）は正常な応答として扱う
+ */
+public final class MixedTrafficScenario {
+
+    /**
+     * エンドポイントの構成比（合計100）
+     */
+    private static final Map<Endpoint, Integer> DEFAULT_WEIGHTS = Map.of(
+        Endpoint.TIMELINE, 60,
+        Endpoint.PROFILE, 15,
+        Endpoint.SEARCH, 10,
+        Endpoint.LIKE, 10,
+        Endpoint.FOLLOW, 5
+    );
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final SyntheticSocialGraph graph;
+    private final String baseUrl;
+    private final Function<UUID, String> tokenIssuer;
+    private final Map<UUID, String> tokens = new ConcurrentHashMap<>();
+    private final Endpoint[] weightedEndpoints;
+    private final HttpClient httpClient;
+
+    /**
+     * @param graph 投入済みの合成グラフ
+     * @param baseUrl APIのベースURL（例: http://localhost:8080/api/v1）
+     * @param tokenIssuer ユーザーIDからアクセストークンを発行する関数
+     */
+    public MixedTrafficScenario(SyntheticSocialGraph graph, String baseUrl, Function<UUID, String> tokenIssuer) {
+        this.graph = graph;
+        this.baseUrl = baseUrl;
+        this.tokenIssuer = tokenIssuer;
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            for (int i = 0; i < DEFAULT_WEIGHTS.getOrDefault(endpoint, 0); i++) {
+                endpoints.add(endpoint);
+            }
+        }
+        this.weightedEndpoints = endpoints.toArray(Endpoint[]::new);
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    /**
+     * ウォームアップ後、指定時間トラフィックを流して記録する
+     * @param concurrency 同時実行ワーカー数
+     * @param warmup ウォームアップ時間（記録は破棄する）
+     * @param duration 計測時間
+     * @param seed 乱数シード
+     * @param recorder 記録先
+     * @return 実際の計測時間
+     */
+    public Duration run(int concurrency, Duration warmup, Duration duration, long seed, LatencyRecorder recorder)
+        throws InterruptedException {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int worker = 0; worker < concurrency; worker++) {
+                SplittableRandom random = new SplittableRandom(seed + worker);
+                futures.add(workers.submit(() -> loop(random, end, recorder)));
+            }
+            Thread.sleep(warmup);
+            recorder.reset();
+            long measuredFrom = System.nanoTime();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("load test worker failed", e.getCause());
+                }
+            }
+            return Duration.ofNanos(System.nanoTime() - measuredFrom);
+        }
+    }
+
+    private void loop(SplittableRandom random, long end, LatencyRecorder recorder) {
+        while (System.nanoTime() < end) {
+            Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+            int actor = random.nextInt(graph.userCount());
+            HttpRequest request = requestFor(endpoint, actor, random);
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = (status >= 200 && status < 300) || status == 409;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorder.record(endpoint, System.nanoTime() - start, success);
+        }
+    }
+
+    private HttpRequest requestFor(Endpoint endpoint, int actor, SplittableRandom random) {
+        return switch (endpoint) {
+            case TIMELINE -> get(actor, "/timeline?size=20");
+            case PROFILE -> get(actor, "/users/" + SyntheticSocialGraph.usernameOf(graph.samplePopularUser(random)));
+            case SEARCH -> get(actor, "/search?query="
+                + URLEncoder.encode(SyntheticSocialGraph.sampleSearchWord(random), StandardCharsets.UTF_8));
+            case LIKE -> post(actor, "/tweets/" + graph.sampleTweetId(random) + "/like");
+            case FOLLOW -> {
+                int target = graph.samplePopularUser(random);
+                while (target == actor) {
+                    target = random.nextInt(graph.userCount());
+                }
+                yield post(actor, "/users/" + graph.userId(target) + "/follow");
+            }
+        };
+    }
+
+    private HttpRequest get(int actor, String path) {
+        return authorized(actor, path).GET().build();
+    }
+
+    private HttpRequest post(int actor, String path) {
+        return authorized(actor, path).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder authorized(int actor, String path) {
+        String token = tokens.computeIfAbsent(graph.userId(actor), tokenIssuer);
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,195 @@
+package com.chirper.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+
+/**
+ * 合成ソーシャルグラフをCOPYでPostgreSQLへ一括投入するローダー
+ *
+ * - 行を溜めずに生成しながら送信するため、数百万行でもメモリ使用量は一定
+ * - 投入前にツイートの期間分の月次パーティションを作成する（tweets_defaultに溜めない）
+ * - 投入後にANALYZEし、本番相当の統計情報で実行計画が選ばれるようにする
+ */
+public final class PostgresBulkLoader {
+
+    private static final int FLUSH_BYTES = 1 << 16;
+
+    private final DataSource dataSource;
+
+    public PostgresBulkLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * グラフを投入
+     * @param graph 投入する合成グラフ
+     * @param passwordHash 全ユーザー共通のパスワードハッシュ（bcryptを行ごとに計算しない）
+     * @return 投入件数と所要時間
+     */
+    public LoadSummary load(SyntheticSocialGraph graph, String passwordHash) throws SQLException {
+        Instant start = Instant.now();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            createTweetPartitions(connection, graph);
+
+            long userRows = copy(connection,
+                "COPY users (id, username, email, password_hash, display_name, created_at, updated_at, "
+                    + "followers_count, following_count) FROM STDIN WITH (FORMAT csv)",
+                graph::forEachUser,
+                (row, user) -> row.value(user.id()).value(user.username()).value(user.email()).value(passwordHash)
+                    .value("Load " + user.username()).value(user.createdAt()).value(user.createdAt())
+                    .value(user.followersCount()).value(user.followingCount()));
+            long followRows = copy(connection,
+                "COPY follows (follower_user_id, followed_user_id, created_at) FROM STDIN WITH (FORMAT csv)",
+                graph::forEachFollow,
+                (row, follow) -> row.value(follow.followerId()).value(follow.followedId()).value(follow.createdAt()));
+            long tweetRows = copy(connection,
+                "COPY tweets (id, user_id, content, created_at, updated_at, is_deleted) FROM STDIN WITH (FORMAT csv)",
+                graph::forEachTweet,
+                (row, tweet) -> row.value(tweet.id()).value(tweet.userId()).value(tweet.content())
+                    .value(tweet.createdAt()).value(tweet.createdAt()).value(false));
+            long likeRows = copy(connection,
+                "COPY likes (id, user_id, tweet_id, created_at) FROM STDIN WITH (FORMAT csv)",
+                graph::forEachLike,
+                (row, like) -> row.value(like.id()).value(like.userId()).value(like.tweetId()).value(like.createdAt()));
+            long retweetRows = copy(connection,
+                "COPY retweets (id, user_id, tweet_id, created_at) FROM STDIN WITH (FORMAT csv)",
+                graph::forEachRetweet,
+                (row, retweet) -> row.value(retweet.id()).value(retweet.userId()).value(retweet.tweetId())
+                    .value(retweet.createdAt()));
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+            return new LoadSummary(userRows, followRows, tweetRows, likeRows, retweetRows,
+                Duration.between(start, Instant.now()));
+        }
+    }
+
+    private static void createTweetPartitions(Connection connection, SyntheticSocialGraph graph) throws SQLException {
+        LocalDate month = LocalDate.ofInstant(graph.firstTweetAt(), ZoneOffset.UTC).withDayOfMonth(1);
+        LocalDate last = LocalDate.ofInstant(graph.spec().anchor(), ZoneOffset.UTC).withDayOfMonth(1);
+        try (PreparedStatement statement = connection.prepareStatement("SELECT create_tweets_partition(?)")) {
+            while (!month.isAfter(last)) {
+                statement.setObject(1, month);
+                statement.execute();
+                month = month.plusMonths(1);
+            }
+        }
+    }
+
+    private static <T> long copy(
+        Connection connection,
+        String sql,
+        Consumer<Consumer<T>> generator,
+        RowWriter<T> rowWriter
+    ) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        CsvRow row = new CsvRow();
+        long[] rows = new long[1];
+        try {
+            generator.accept(item -> {
+                rowWriter.write(row, item);
+                row.endRow();
+                rows[0]++;
+                if (row.length() >= FLUSH_BYTES) {
+                    row.flushTo(copyIn);
+                }
+            });
+            row.flushTo(copyIn);
+            copyIn.endCopy();
+        } catch (UncheckedSqlException e) {
+            throw e.getCause();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        return rows[0];
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(CsvRow row, T item);
+    }
+
+    /**
+     * COPY (FORMAT csv) の行バッファ
+     */
+    private static final class CsvRow {
+
+        private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES * 2);
+        private boolean firstColumn = true;
+
+        CsvRow value(Object value) {
+            if (!firstColumn) {
+                buffer.append(',');
+            }
+            firstColumn = false;
+            if (value instanceof Instant instant) {
+                buffer.append(LocalDateTime.ofInstant(instant, ZoneOffset.UTC));
+            } else if (value instanceof String text) {
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                buffer.append(value);
+            }
+            return this;
+        }
+
+        void endRow() {
+            buffer.append('\n');
+            firstColumn = true;
+        }
+
+        int length() {
+            return buffer.length();
+        }
+
+        void flushTo(CopyIn copyIn) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new UncheckedSqlException(e);
+            }
+            buffer.setLength(0);
+        }
+    }
+
+    private static final class UncheckedSqlException extends RuntimeException {
+        UncheckedSqlException(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+
+    /**
+     * 投入結果
+     */
+    public record LoadSummary(long users, long follows, long tweets, long likes, long retweets, Duration elapsed) {
+
+        public long totalRows() {
+            return users + follows + tweets + likes + retweets;
+        }
+    }
+}
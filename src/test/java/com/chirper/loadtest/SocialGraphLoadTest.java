@@ -0,0 +1,113 @@
+package com.chirper.loadtest;
+
+import com.chirper.domain.valueobject.Password;
+import com.chirper.infrastructure.security.JwtUtil;
+import com.chirper.loadtest.LatencyRecorder.Endpoint;
+import com.chirper.loadtest.PostgresBulkLoader.LoadSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 合成ソーシャルグラフに対する負荷試験
+ *
+ * 通常のテストタスクからは除外している。実行方法:
+ * ./gradlew loadTest [-Dloadtest.users=1000000 -Dloadtest.duration-seconds=300 -Dloadtest.concurrency=64]
+ *
+ * - 生成パラメータは SocialGraphSpec.fromSystemProperties() を参照
+ * - 結果は build/reports/loadtest/ に出力（summary.txt とエンドポイントごとの .hgrm）
+ * - レイテンシーの閾値は環境依存のため判定せず、エラー率のみ検証する
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@DisplayName("合成ソーシャルグラフ 負荷試験")
+class SocialGraphLoadTest {
+
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user")
+            .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "max_connections=200");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("jwt.secret", () -> "test-secret-key-with-at-least-32-bytes-for-hs256-algorithm");
+        registry.add("jwt.expiration-seconds", () -> "3600");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "50");
+        registry.add("spring.datasource.hikari.minimum-idle", () -> "10");
+    }
+
+    @Test
+    @DisplayName("混在トラフィックでエンドポイントごとのエラー率が1%未満であること")
+    void mixedTraffic_shouldKeepErrorRateLow() throws Exception {
+        // Given: 合成グラフを投入
+        SocialGraphSpec spec = SocialGraphSpec.fromSystemProperties();
+        SyntheticSocialGraph graph = new SyntheticSocialGraph(spec);
+        String passwordHash = Password.fromPlainText("password123").hashedValue();
+        LoadSummary loaded = new PostgresBulkLoader(dataSource).load(graph, passwordHash);
+        System.out.printf(Locale.ROOT, "loaded %,d rows in %.1fs: %s%n",
+            loaded.totalRows(), loaded.elapsed().toMillis() / 1000.0, loaded);
+
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60));
+        MixedTrafficScenario scenario = new MixedTrafficScenario(graph, "http://localhost:" + port + "/api/v1",
+            userId -> jwtUtil.generateToken(userId));
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        // When
+        Duration measured = scenario.run(concurrency, warmup, duration, spec.seed(), recorder);
+
+        // Then
+        double seconds = measured.toMillis() / 1000.0;
+        String header = String.format(Locale.ROOT,
+            "seed=%d users=%d follows=%d tweets=%d likes=%d retweets=%d concurrency=%d duration=%.1fs",
+            spec.seed(), loaded.users(), loaded.follows(), loaded.tweets(), loaded.likes(), loaded.retweets(),
+            concurrency, seconds);
+        recorder.writeReport(Path.of("build", "reports", "loadtest"), header, seconds);
+        System.out.println(header);
+        System.out.print(recorder.summary(seconds));
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            assertThat(recorder.count(endpoint))
+                .as("%s のリクエストが実行されること", endpoint)
+                .isPositive();
+            assertThat(recorder.errorRate(endpoint))
+                .as("%s のエラー率", endpoint)
+                .isLessThan(MAX_ERROR_RATE);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.chirper.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 合成ソーシャルグラフの生成パラメータ
+ *
+ * 同じパラメータからは常に同じデータが生成される（anchorを固定すれば日時も含めて再現できる）
+ *
+ * @param seed 乱数シード
+ * @param users ユーザー数
+ * @param followAlpha フォロー先の人気度のZipf指数（大きいほど一部のユーザーにフォロワーが集中する）
+ * @param meanFollowing 1ユーザーあたりの平均フォロー数（パレート分布）
+ * @param maxFollowing 1ユーザーあたりの最大フォロー数
+ * @param meanTweetsPerUser 1ユーザーあたりの平均ツイート数（対数正規分布）
+ * @param likesPerFollower 投稿者のフォロワー1人あたりの1ツイートへの期待いいね数
+ * @param retweetsPerLike いいね1件あたりの期待リツイート数
+ * @param span ツイートを分布させる期間（anchorから遡る）
+ * @param anchor 生成データの基準日時（最新のツイートはこれより前）
+ */
+public record SocialGraphSpec(
+    long seed,
+    int users,
+    double followAlpha,
+    int meanFollowing,
+    int maxFollowing,
+    double meanTweetsPerUser,
+    double likesPerFollower,
+    double retweetsPerLike,
+    Duration span,
+    Instant anchor
+) {
+
+    public SocialGraphSpec {
+        if (users < 2) {
+            throw new IllegalArgumentException("users must be at least 2");
+        }
+        if (meanFollowing < 1 || maxFollowing < meanFollowing) {
+            throw new IllegalArgumentException("require 1 <= meanFollowing <= maxFollowing");
+        }
+    }
+
+    /**
+     * 指定したユーザー数の標準的なパラメータ
+     * @param users ユーザー数
+     * @return 生成パラメータ（基準日時は当日0時UTC）
+     */
+    public static SocialGraphSpec defaults(int users) {
+        return new SocialGraphSpec(
+            42L,
+            users,
+            1.1,
+            Math.min(100, users / 2),
+            Math.min(5_000, users - 1),
+            30.0,
+            0.02,
+            0.1,
+            Duration.ofDays(90),
+            Instant.now().truncatedTo(ChronoUnit.DAYS)
+        );
+    }
+
+    /**
+     * システムプロパティ（loadtest.*）で標準値を上書きしたパラメータ
+     * @return 生成パラメータ
+     */
+    public static SocialGraphSpec fromSystemProperties() {
+        SocialGraphSpec defaults = defaults(Integer.getInteger("loadtest.users", 10_000));
+        return new SocialGraphSpec(
+            Long.getLong("loadtest.seed", defaults.seed()),
+            defaults.users(),
+            doubleProperty("loadtest.follow-alpha", defaults.followAlpha()),
+            Integer.getInteger("loadtest.mean-following", defaults.meanFollowing()),
+            Integer.getInteger("loadtest.max-following", defaults.maxFollowing()),
+            doubleProperty("loadtest.mean-tweets", defaults.meanTweetsPerUser()),
+            doubleProperty("loadtest.likes-per-follower", defaults.likesPerFollower()),
+            doubleProperty("loadtest.retweets-per-like", defaults.retweetsPerLike()),
+            Duration.ofDays(Integer.getInteger("loadtest.span-days", (int) defaults.span().toDays())),
+            defaults.anchor()
+        );
+    }
+
+    static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,323 @@
+package com.chirper.loadtest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * 決定的な合成ソーシャルグラフ生成器
+ *
+ * 生成モデル:
+ * - フォロー先はユーザーの人気度順位に対するZipf分布から選ぶため、フォロワー数はべき分布になる
+ * - フォロー数はパレート分布（大半は少数をフォローし、ごく一部が大量にフォローする）
+ * - ツイート数は対数正規分布、投稿日時は期間内に一様
+ * - いいね数は投稿者のフォロワー数に比例し、リツイートはいいねした人の一部が行う
+ *
+ * 乱数は（種類, ユーザー番号/ツイート番号）ごとにシードから導出するため、行を保持せずに何度でも同じ順序で再生成できる。
+ * 数百万行を生成してもメモリ使用量はユーザー数に比例する分のみ
+ */
+public final class SyntheticSocialGraph {
+
+    private static final long STREAM_USER = 1;
+    private static final long STREAM_FOLLOW = 2;
+    private static final long STREAM_TWEET = 3;
+    private static final long STREAM_ENGAGEMENT = 4;
+
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final long ONE_YEAR_MILLIS = TimeUnit.DAYS.toMillis(365);
+    private static final long MEAN_ENGAGEMENT_DELAY_MILLIS = TimeUnit.HOURS.toMillis(6);
+    private static final double TWEET_COUNT_SIGMA = 1.0;
+    private static final double FOLLOWING_PARETO_SHAPE = 2.0;
+    private static final int MAX_LIKES_PER_TWEET = 10_000;
+
+    /**
+     * ツイート本文と検索キーワードの語彙（検索APIの最小文字数2文字以上）
+     */
+    private static final String[] VOCABULARY = {
+        "coffee", "morning", "release", "deploy", "weekend", "music", "travel", "kotlin", "java", "spring",
+        "postgres", "index", "latency", "cache", "design", "review", "lunch", "running", "camera", "garden",
+        "カレー", "ラーメン", "天気", "週末", "旅行", "音楽", "映画", "仕事", "散歩", "読書"
+    };
+
+    private final SocialGraphSpec spec;
+    private final long anchorMillis;
+    private final long spanMillis;
+    private final UUID[] userIds;
+    private final long[] userCreatedAtMillis;
+    private final int[] targetFollowing;
+    private final int[] followingCounts;
+    private final int[] followersCounts;
+    private final int[] tweetCounts;
+    private final double[] popularityCdf;
+    private final long followCount;
+    private final long tweetCount;
+
+    public SyntheticSocialGraph(SocialGraphSpec spec) {
+        this.spec = spec;
+        this.anchorMillis = spec.anchor().toEpochMilli();
+        this.spanMillis = spec.span().toMillis();
+        int users = spec.users();
+
+        userIds = new UUID[users];
+        userCreatedAtMillis = new long[users];
+        targetFollowing = new int[users];
+        tweetCounts = new int[users];
+        long firstTweetMillis = anchorMillis - spanMillis;
+        double followingScale = spec.meanFollowing() * (FOLLOWING_PARETO_SHAPE - 1) / FOLLOWING_PARETO_SHAPE;
+        long totalTweets = 0;
+        for (int i = 0; i < users; i++) {
+            SplittableRandom random = randomFor(STREAM_USER, i);
+            userCreatedAtMillis[i] = firstTweetMillis - 1 - random.nextLong(ONE_YEAR_MILLIS);
+            userIds[i] = uuidV7(userCreatedAtMillis[i], random);
+            double pareto = followingScale / Math.pow(1.0 - random.nextDouble(), 1.0 / FOLLOWING_PARETO_SHAPE);
+            targetFollowing[i] = (int) Math.max(1, Math.min(spec.maxFollowing(), Math.round(pareto)));
+            tweetCounts[i] = (int) Math.round(spec.meanTweetsPerUser()
+                * Math.exp(TWEET_COUNT_SIGMA * random.nextGaussian() - TWEET_COUNT_SIGMA * TWEET_COUNT_SIGMA / 2));
+            totalTweets += tweetCounts[i];
+        }
+        tweetCount = totalTweets;
+
+        // 人気度順位 i のユーザーの重み 1 / (i + 1)^alpha の累積分布
+        popularityCdf = new double[users];
+        double cumulative = 0;
+        for (int i = 0; i < users; i++) {
+            cumulative += 1.0 / Math.pow(i + 1, spec.followAlpha());
+            popularityCdf[i] = cumulative;
+        }
+
+        // 重複・自己フォローの除外後の実際の件数（usersテーブルの非正規化カウンター用）
+        followingCounts = new int[users];
+        followersCounts = new int[users];
+        long[] follows = new long[1];
+        forEachFollow(follow -> {
+            followingCounts[follow.followerIndex()]++;
+            followersCounts[follow.followedIndex()]++;
+            follows[0]++;
+        });
+        followCount = follows[0];
+    }
+
+    public SocialGraphSpec spec() {
+        return spec;
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    public long followCount() {
+        return followCount;
+    }
+
+    public long tweetCount() {
+        return tweetCount;
+    }
+
+    public UUID userId(int index) {
+        return userIds[index];
+    }
+
+    public int followersCount(int index) {
+        return followersCounts[index];
+    }
+
+    public int followingCount(int index) {
+        return followingCounts[index];
+    }
+
+    public static String usernameOf(int index) {
+        return "user" + index;
+    }
+
+    /**
+     * 生成期間の最初のツイート日時
+     */
+    public Instant firstTweetAt() {
+        return Instant.ofEpochMilli(anchorMillis - spanMillis);
+    }
+
+    /**
+     * ユーザーを番号順に生成
+     */
+    public void forEachUser(Consumer<GeneratedUser> consumer) {
+        for (int i = 0; i < userIds.length; i++) {
+            consumer.accept(new GeneratedUser(i, userIds[i], usernameOf(i), usernameOf(i) + "@loadtest.example.com",
+                Instant.ofEpochMilli(userCreatedAtMillis[i]), followersCounts[i], followingCounts[i]));
+        }
+    }
+
+    /**
+     * フォロー関係をフォローするユーザーの番号順に生成（重複・自己フォローなし）
+     */
+    public void forEachFollow(Consumer<GeneratedFollow> consumer) {
+        for (int follower = 0; follower < userIds.length; follower++) {
+            SplittableRandom random = randomFor(STREAM_FOLLOW, follower);
+            int wanted = targetFollowing[follower];
+            Set<Integer> followed = new HashSet<>(wanted * 2);
+            // 人気ユーザーに偏るため重複が多い。試行回数を制限し、届かなかった分は諦める
+            for (int attempt = 0; attempt < wanted * 20 && followed.size() < wanted; attempt++) {
+                int target = samplePopularUser(random);
+                if (target == follower || !followed.add(target)) {
+                    continue;
+                }
+                long since = Math.max(userCreatedAtMillis[follower], userCreatedAtMillis[target]);
+                long createdAt = since + random.nextLong(Math.max(1, anchorMillis - since));
+                consumer.accept(new GeneratedFollow(follower, target, userIds[follower], userIds[target],
+                    Instant.ofEpochMilli(createdAt)));
+            }
+        }
+    }
+
+    /**
+     * ツイートを投稿者の番号順に生成
+     */
+    public void forEachTweet(Consumer<GeneratedTweet> consumer) {
+        for (int author = 0; author < userIds.length; author++) {
+            tweetsOf(author, consumer);
+        }
+    }
+
+    /**
+     * いいねをツイートの生成順に生成（同じツイートへの重複なし）
+     */
+    public void forEachLike(Consumer<GeneratedEngagement> consumer) {
+        forEachEngagement(consumer, null);
+    }
+
+    /**
+     * リツイートをツイートの生成順に生成（同じツイートへの重複なし）
+     */
+    public void forEachRetweet(Consumer<GeneratedEngagement> consumer) {
+        forEachEngagement(null, consumer);
+    }
+
+    /**
+     * 人気度に比例してユーザーを選ぶ（プロフィール閲覧・フォロー先など）
+     * @return ユーザー番号
+     */
+    public int samplePopularUser(RandomGenerator random) {
+        double point = random.nextDouble() * popularityCdf[popularityCdf.length - 1];
+        int index = Arrays.binarySearch(popularityCdf, point);
+        return Math.min(index >= 0 ? index : -index - 1, popularityCdf.length - 1);
+    }
+
+    /**
+     * 人気ユーザーほど選ばれやすいツイートを1件選ぶ（いいね対象など）
+     * @return ツイートID（ツイートが1件もない場合null）
+     */
+    public UUID sampleTweetId(RandomGenerator random) {
+        if (tweetCount == 0) {
+            return null;
+        }
+        int author = samplePopularUser(random);
+        while (tweetCounts[author] == 0) {
+            author = random.nextInt(userIds.length);
+        }
+        int ordinal = random.nextInt(tweetCounts[author]);
+        List<UUID> ids = new ArrayList<>(tweetCounts[author]);
+        tweetsOf(author, tweet -> ids.add(tweet.id()));
+        return ids.get(ordinal);
+    }
+
+    /**
+     * 検索キーワードを1つ選ぶ
+     */
+    public static String sampleSearchWord(RandomGenerator random) {
+        return VOCABULARY[random.nextInt(VOCABULARY.length)];
+    }
+
+    private void tweetsOf(int author, Consumer<GeneratedTweet> consumer) {
+        SplittableRandom random = randomFor(STREAM_TWEET, author);
+        for (int ordinal = 0; ordinal < tweetCounts[author]; ordinal++) {
+            long createdAt = anchorMillis - 1 - random.nextLong(spanMillis);
+            UUID id = uuidV7(createdAt, random);
+            StringBuilder content = new StringBuilder();
+            int words = 3 + random.nextInt(12);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    content.append(' ');
+                }
+                content.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+            }
+            consumer.accept(new GeneratedTweet(author, ordinal, id, userIds[author], content.toString(),
+                Instant.ofEpochMilli(createdAt)));
+        }
+    }
+
+    private void forEachEngagement(Consumer<GeneratedEngagement> likes, Consumer<GeneratedEngagement> retweets) {
+        forEachTweet(tweet -> {
+            SplittableRandom random = randomFor(STREAM_ENGAGEMENT, ((long) tweet.authorIndex() << 32) | tweet.ordinal());
+            double expectedLikes = spec.likesPerFollower() * followersCounts[tweet.authorIndex()];
+            int likeCount = stochasticRound(expectedLikes * Math.exp(0.5 * random.nextGaussian() - 0.125), random);
+            likeCount = Math.min(likeCount, Math.min(MAX_LIKES_PER_TWEET, userIds.length / 2));
+            int retweetCount = stochasticRound(likeCount * spec.retweetsPerLike(), random);
+
+            long tweetMillis = tweet.createdAt().toEpochMilli();
+            Set<Integer> engaged = new HashSet<>(likeCount * 2);
+            int emitted = 0;
+            while (emitted < likeCount) {
+                int user = random.nextInt(userIds.length);
+                if (user == tweet.authorIndex() || !engaged.add(user)) {
+                    continue;
+                }
+                long delay = (long) (-Math.log(1.0 - random.nextDouble()) * MEAN_ENGAGEMENT_DELAY_MILLIS);
+                long createdAt = Math.min(tweetMillis + delay, anchorMillis - 1);
+                UUID likeId = uuidV7(createdAt, random);
+                UUID retweetId = uuidV7(createdAt, random);
+                if (likes != null) {
+                    likes.accept(new GeneratedEngagement(likeId, userIds[user], tweet.id(), Instant.ofEpochMilli(createdAt)));
+                }
+                // リツイートはいいねした人の先頭から（いいねと同時刻に行ったものとする）
+                if (retweets != null && emitted < retweetCount) {
+                    retweets.accept(new GeneratedEngagement(retweetId, userIds[user], tweet.id(), Instant.ofEpochMilli(createdAt)));
+                }
+                emitted++;
+            }
+        });
+    }
+
+    private static int stochasticRound(double value, RandomGenerator random) {
+        int floor = (int) Math.floor(value);
+        return floor + (random.nextDouble() < value - floor ? 1 : 0);
+    }
+
+    private SplittableRandom randomFor(long stream, long index) {
+        return new SplittableRandom(mix64(spec.seed() ^ mix64(stream * 0x9E3779B97F4A7C15L + index)));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * 指定時刻を埋め込んだUUIDv7（本番と同じくツイートIDから作成日時のパーティションを特定できるようにする）
+     */
+    private static UUID uuidV7(long unixMillis, RandomGenerator random) {
+        long mostSigBits = (unixMillis << 16) | VERSION_BITS | random.nextInt(4096);
+        long leastSigBits = (random.nextLong() & RAND_B_MASK) | VARIANT_BITS;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public record GeneratedUser(int index, UUID id, String username, String email, Instant createdAt,
+                                int followersCount, int followingCount) {}
+
+    public record GeneratedFollow(int followerIndex, int followedIndex, UUID followerId, UUID followedId,
+                                  Instant createdAt) {}
+
+    public record GeneratedTweet(int authorIndex, int ordinal, UUID id, UUID userId, String content, Instant createdAt) {}
+
+    public record GeneratedEngagement(UUID id, UUID userId, UUID tweetId, Instant createdAt) {}
+}
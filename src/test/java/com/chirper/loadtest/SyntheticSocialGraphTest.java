@@ -0,0 +1,138 @@
+package com.chirper.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SyntheticSocialGraphのテスト
+ * 再現性と、生成されるグラフの形（べき分布・整合性）を検証する
+ */
+@DisplayName("SyntheticSocialGraph テスト")
+class SyntheticSocialGraphTest {
+
+    private static final Instant ANCHOR = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static SocialGraphSpec spec(long seed) {
+        return new SocialGraphSpec(seed, 2_000, 1.1, 20, 500, 5.0, 0.02, 0.1, Duration.ofDays(60), ANCHOR);
+    }
+
+    @Test
+    @DisplayName("同じシードからは同じデータが生成されること")
+    void sameSeed_shouldGenerateIdenticalRows() {
+        SyntheticSocialGraph first = new SyntheticSocialGraph(spec(7));
+        SyntheticSocialGraph second = new SyntheticSocialGraph(spec(7));
+
+        assertThat(snapshot(second)).isEqualTo(snapshot(first));
+    }
+
+    @Test
+    @DisplayName("異なるシードからは異なるデータが生成されること")
+    void differentSeed_shouldGenerateDifferentRows() {
+        assertThat(snapshot(new SyntheticSocialGraph(spec(8))))
+            .isNotEqualTo(snapshot(new SyntheticSocialGraph(spec(7))));
+    }
+
+    @Test
+    @DisplayName("フォロワー数が一部のユーザーに集中すること")
+    void followers_shouldFollowPowerLaw() {
+        SyntheticSocialGraph graph = new SyntheticSocialGraph(spec(42));
+        int[] followers = new int[graph.userCount()];
+        for (int i = 0; i < followers.length; i++) {
+            followers[i] = graph.followersCount(i);
+        }
+        Arrays.sort(followers);
+
+        long top1Percent = 0;
+        for (int i = followers.length - followers.length / 100; i < followers.length; i++) {
+            top1Percent += followers[i];
+        }
+        assertThat((double) top1Percent / graph.followCount())
+            .as("上位1%%のユーザーが全フォローの20%%以上を集めること")
+            .isGreaterThan(0.2);
+        assertThat(followers[followers.length / 2])
+            .as("中央値は最大値よりはるかに小さいこと")
+            .isLessThan(followers[followers.length - 1] / 10);
+    }
+
+    @Test
+    @DisplayName("フォロー関係に自己フォロー・重複がなく、非正規化カウンターと一致すること")
+    void follows_shouldBeConsistentWithCounters() {
+        SyntheticSocialGraph graph = new SyntheticSocialGraph(spec(42));
+        Set<Long> pairs = new HashSet<>();
+        int[] following = new int[graph.userCount()];
+        int[] followers = new int[graph.userCount()];
+
+        graph.forEachFollow(follow -> {
+            assertThat(follow.followerIndex()).isNotEqualTo(follow.followedIndex());
+            assertThat(pairs.add(((long) follow.followerIndex() << 32) | follow.followedIndex())).isTrue();
+            assertThat(follow.createdAt()).isBefore(ANCHOR);
+            following[follow.followerIndex()]++;
+            followers[follow.followedIndex()]++;
+        });
+
+        assertThat((long) pairs.size()).isEqualTo(graph.followCount());
+        for (int i = 0; i < graph.userCount(); i++) {
+            assertThat(graph.followingCount(i)).isEqualTo(following[i]);
+            assertThat(graph.followersCount(i)).isEqualTo(followers[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("ツイートIDは作成日時を埋め込んだUUIDv7で、期間内に収まること")
+    void tweets_shouldUseTimeOrderedIdsWithinSpan() {
+        SyntheticSocialGraph graph = new SyntheticSocialGraph(spec(42));
+        long[] count = new long[1];
+
+        graph.forEachTweet(tweet -> {
+            assertThat(tweet.id().version()).isEqualTo(7);
+            assertThat(tweet.id().getMostSignificantBits() >>> 16).isEqualTo(tweet.createdAt().toEpochMilli());
+            assertThat(tweet.createdAt()).isBetween(graph.firstTweetAt(), ANCHOR);
+            assertThat(tweet.content()).isNotBlank().hasSizeLessThanOrEqualTo(280);
+            count[0]++;
+        });
+
+        assertThat(count[0]).isEqualTo(graph.tweetCount());
+    }
+
+    @Test
+    @DisplayName("いいね・リツイートは同じツイートに同じユーザーが重複せず、リツイートはいいねより少ないこと")
+    void engagements_shouldBeUniquePerTweet() {
+        SyntheticSocialGraph graph = new SyntheticSocialGraph(spec(42));
+        Set<String> likes = new HashSet<>();
+        Set<String> retweets = new HashSet<>();
+
+        graph.forEachLike(like -> assertThat(likes.add(like.userId() + ":" + like.tweetId())).isTrue());
+        graph.forEachRetweet(retweet -> assertThat(retweets.add(retweet.userId() + ":" + retweet.tweetId())).isTrue());
+
+        assertThat(likes).isNotEmpty().containsAll(retweets);
+        assertThat(retweets.size()).isLessThan(likes.size());
+    }
+
+    private static List<Object> snapshot(SyntheticSocialGraph graph) {
+        List<Object> rows = new ArrayList<>();
+        graph.forEachUser(rows::add);
+        graph.forEachFollow(rows::add);
+        graph.forEachTweet(rows::add);
+        graph.forEachLike(rows::add);
+        graph.forEachRetweet(rows::add);
+        List<UUID> sampled = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 10; i++) {
+            sampled.add(graph.sampleTweetId(random));
+        }
+        rows.add(sampled);
+        return rows;
+    }
+}
@@ -0,0 +1,158 @@
+package com.chirper.performance;
+
+import com.chirper.infrastructure.graph.FollowGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * インメモリフォローグラフのメモリ・検索性能ベンチマーク
+ *
+ * 検証内容:
+ * - 1エッジあたりのメモリ使用量（順方向+逆方向のRoaringBitmap + ユーザーごとの固定費）
+ * - フォロー判定の平均レイテンシ
+ * - 相互フォロー・知り合いのフォロワー算出（ビットマップAND）の平均レイテンシ
+ *
+ * フォロワー分布は少数のユーザーにフォローが集中するべき乗則に近い分布で生成する
+ */
+@DisplayName("FollowGraph メモリ・性能ベンチマーク")
+class FollowGraphMemoryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowGraphMemoryBenchmarkTest.class);
+
+    private static final int USER_COUNT = 50_000;
+    private static final int FOLLOWS_PER_USER = 40;
+    private static final long RANDOM_SEED = 42L;
+
+    @Test
+    @DisplayName("1エッジあたりのメモリ使用量が24バイト以下であること")
+    void memoryPerEdge_shouldStayCompact() {
+        // Given
+        List<UUID> users = generateUsers();
+        Random random = new Random(RANDOM_SEED);
+
+        // When
+        FollowGraph graph = buildGraph(users, random);
+        long bytes = graph.estimatedMemoryBytes();
+        double bytesPerEdge = (double) bytes / graph.edgeCount();
+
+        // Then
+        log.info("FollowGraph: users={}, edges={}, estimatedBytes={}, bytesPerEdge={}",
+            graph.userCount(), graph.edgeCount(), bytes, String.format("%.2f", bytesPerEdge));
+        assertThat(graph.edgeCount()).isGreaterThan(USER_COUNT * (long) FOLLOWS_PER_USER / 2);
+        assertThat(bytesPerEdge).isLessThanOrEqualTo(24.0);
+    }
+
+    @Test
+    @DisplayName("フォロー判定の平均レイテンシが10マイクロ秒以下であること")
+    void containsEdge_shouldBeFast() {
+        // Given
+        List<UUID> users = generateUsers();
+        Random random = new Random(RANDOM_SEED);
+        FollowGraph graph = buildGraph(users, random);
+
+        // ウォームアップ
+        int lookups = 1_000_000;
+        int hits = runLookups(graph, users, random, lookups);
+
+        // When
+        long start = System.nanoTime();
+        hits += runLookups(graph, users, random, lookups);
+        long elapsedNanos = System.nanoTime() - start;
+        double nanosPerLookup = (double) elapsedNanos / lookups;
+
+        // Then
+        log.info("FollowGraph containsEdge: lookups={}, hits={}, nanosPerLookup={}",
+            lookups, hits, String.format("%.1f", nanosPerLookup));
+        assertThat(nanosPerLookup).isLessThan(10_000.0);
+    }
+
+    @Test
+    @DisplayName("集合演算の平均レイテンシが1ミリ秒以下であること")
+    void intersections_shouldBeSubMillisecond() {
+        // Given
+        List<UUID> users = generateUsers();
+        Random random = new Random(RANDOM_SEED);
+        FollowGraph graph = buildGraph(users, random);
+
+        // ウォームアップ
+        int operations = 10_000;
+        long matches = runIntersections(graph, users, random, operations);
+
+        // When
+        long start = System.nanoTime();
+        matches += runIntersections(graph, users, random, operations);
+        long elapsedNanos = System.nanoTime() - start;
+        double nanosPerOperation = (double) elapsedNanos / operations;
+
+        // Then
+        log.info("FollowGraph intersections: operations={}, matches={}, nanosPerOperation={}",
+            operations, matches, String.format("%.1f", nanosPerOperation));
+        assertThat(nanosPerOperation).isLessThan(1_000_000.0);
+    }
+
+    /**
+     * 人気ユーザー（フォロワーが多い）を対象に、相互フォロー数・知り合いのフォロワー数・1ページ分の取得を行う
+     */
+    private long runIntersections(FollowGraph graph, List<UUID> users, Random random, int operations) {
+        long matches = 0;
+        for (int i = 0; i < operations; i++) {
+            UUID target = users.get(powerLawIndex(random));
+            UUID viewer = users.get(random.nextInt(users.size()));
+            matches += graph.mutualFollowCount(target);
+            matches += graph.followersFollowedByCount(target, viewer);
+            matches += graph.followersFollowedBy(target, viewer, 0, 20).size();
+        }
+        return matches;
+    }
+
+    private FollowGraph buildGraph(List<UUID> users, Random random) {
+        FollowGraph.Builder builder = FollowGraph.builder();
+        for (UUID follower : users) {
+            for (int i = 0; i < FOLLOWS_PER_USER; i++) {
+                UUID followed = users.get(powerLawIndex(random));
+                if (!followed.equals(follower)) {
+                    builder.addEdge(follower, followed);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private int runLookups(FollowGraph graph, List<UUID> users, Random random, int lookups) {
+        int hits = 0;
+        for (int i = 0; i < lookups; i++) {
+            UUID follower = users.get(random.nextInt(users.size()));
+            UUID followed = users.get(powerLawIndex(random));
+            if (graph.containsEdge(follower, followed)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private List<UUID> generateUsers() {
+        Random random = new Random(RANDOM_SEED);
+        List<UUID> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return users;
+    }
+
+    /**
+     * べき乗則に近い偏りでユーザーのインデックスを選択（小さいインデックスほど選ばれやすい）
+     */
+    private int powerLawIndex(Random random) {
+        double u = random.nextDouble();
+        return (int) (USER_COUNT * u * u * u);
+    }
+}
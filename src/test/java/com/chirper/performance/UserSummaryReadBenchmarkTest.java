@@ -0,0 +1,154 @@
+package com.chirper.performance;
+
+import com.chirper.domain.entity.User;
+import com.chirper.domain.repository.IUserRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
+import com.chirper.domain.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ユーザー概要取得のJPA/JDBC比較ベンチマーク
+ *
+ * 検証内容:
+ * - JdbcTemplateによる読み取りモデル取得が、JPAエンティティ経由の取得と同じ表示項目を返すこと
+ * - 1回の取得あたりの割り当てバイト数がJPA経由より小さいこと（平均レイテンシは参考値としてログ出力）
+ *
+ * 割り当てバイト数はcom.sun.management.ThreadMXBeanのスレッド単位の累積割り当て量で計測する
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("UserSummaryReadRepository JPA/JDBC比較ベンチマーク")
+class UserSummaryReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSummaryReadBenchmarkTest.class);
+
+    private static final int USER_COUNT = 500;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 500;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private IUserSummaryReadRepository userSummaryReadRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<UserId> page;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE");
+
+        List<Object[]> rows = new ArrayList<>(USER_COUNT);
+        List<UserId> userIds = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            UUID id = UUID.randomUUID();
+            userIds.add(new UserId(id));
+            rows.add(new Object[] {
+                id, "bench" + i, "bench" + i + "@example.com", "hashedPassword",
+                "Bench User " + i, "bio " + i, "https://example.com/avatar/" + i + ".png"
+            });
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (id, username, email, password_hash, display_name, bio, avatar_url) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            rows
+        );
+
+        // フォロー一覧1ページ分のID
+        page = userIds.subList(0, PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("JDBC読み取りモデルがJPAエンティティ経由と同じ表示項目を返すこと")
+    void findSummariesByIds_shouldMatchEntityBasedLookup() {
+        // When
+        Map<UserId, User> users = userRepository.findByIds(page);
+        Map<UserId, UserSummary> summaries = userSummaryReadRepository.findSummariesByIds(page);
+
+        // Then
+        assertThat(summaries).hasSize(PAGE_SIZE);
+        users.forEach((id, user) -> assertThat(summaries.get(id)).isEqualTo(UserSummary.from(user)));
+    }
+
+    @Test
+    @DisplayName("JDBC読み取りモデルの割り当てバイト数がJPAエンティティ経由より小さいこと")
+    void findSummariesByIds_shouldAllocateLessThanEntityBasedLookup() {
+        // Given
+        warmUp(() -> userRepository.findByIds(page));
+        warmUp(() -> userSummaryReadRepository.findSummariesByIds(page));
+
+        // When
+        Measurement jpa = measure(() -> userRepository.findByIds(page));
+        Measurement jdbc = measure(() -> userSummaryReadRepository.findSummariesByIds(page));
+
+        // Then
+        log.info("findByIds (JPA): bytesPerCall={}, avgMicros={}", jpa.bytesPerCall(), jpa.avgMicros());
+        log.info("findSummariesByIds (JDBC): bytesPerCall={}, avgMicros={}", jdbc.bytesPerCall(), jdbc.avgMicros());
+        assertThat(jdbc.bytesPerCall()).isLessThan(jpa.bytesPerCall());
+    }
+
+    private static void warmUp(Supplier<Map<UserId, ?>> lookup) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(lookup.get()).hasSize(PAGE_SIZE);
+        }
+    }
+
+    private static Measurement measure(Supplier<Map<UserId, ?>> lookup) {
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            lookup.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        return new Measurement(allocatedBytes / MEASURE_ITERATIONS, elapsedNanos / MEASURE_ITERATIONS / 1_000);
+    }
+
+    private record Measurement(long bytesPerCall, long avgMicros) {}
+}
@@ -0,0 +1,115 @@
+package com.chirper.performance;
+
+import com.chirper.domain.valueobject.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UUIDv4/UUIDv7 主キーのINSERTベンチマーク
+ *
+ * 検証内容:
+ * - 同じ件数をINSERTしたとき、UUIDv7主キーのインデックスがUUIDv4より小さいこと
+ *   （v4はB-tree全体にランダムに挿入されてページ分割が多発し、リーフページの充填率が下がる）
+ * - INSERTスループット（行/秒）は参考値としてログ出力
+ *
+ * tweetsテーブルと同じ形の検証用テーブルを主キーの種類ごとに作成して比較する
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("UUIDv4/UUIDv7 INSERTベンチマーク")
+class UuidInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidInsertBenchmarkTest.class);
+
+    private static final int ROW_COUNT = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("chirper_test")
+            .withUsername("test_user");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("bench_uuid_v4", "bench_uuid_v7")) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+            jdbcTemplate.execute("CREATE TABLE " + table + " ("
+                + "id UUID PRIMARY KEY, "
+                + "user_id UUID NOT NULL, "
+                + "content TEXT NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL DEFAULT (NOW() AT TIME ZONE 'UTC'))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_uuid_v4");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_uuid_v7");
+    }
+
+    @Test
+    @DisplayName("UUIDv7主キーのインデックスがUUIDv4より小さいこと")
+    void insert_v7ShouldProduceSmallerPrimaryKeyIndexThanV4() {
+        // When
+        Measurement v4 = insert("bench_uuid_v4", UUID::randomUUID);
+        Measurement v7 = insert("bench_uuid_v7", UuidV7::generate);
+
+        // Then
+        log.info("UUIDv4: rowsPerSecond={}, pkeyBytes={}", v4.rowsPerSecond(), v4.indexBytes());
+        log.info("UUIDv7: rowsPerSecond={}, pkeyBytes={}", v7.rowsPerSecond(), v7.indexBytes());
+        assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+    }
+
+    private Measurement insert(String table, Supplier<UUID> idGenerator) {
+        UUID userId = UuidV7.generate();
+        String sql = "INSERT INTO " + table + " (id, user_id, content) VALUES (?, ?, ?)";
+
+        long startNanos = System.nanoTime();
+        for (int offset = 0; offset < ROW_COUNT; offset += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                rows.add(new Object[] {idGenerator.get(), userId, "benchmark tweet " + (offset + i)});
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        Long indexBytes = jdbcTemplate.queryForObject(
+            "SELECT pg_relation_size(?::regclass)", Long.class, table + "_pkey");
+        return new Measurement(ROW_COUNT * 1_000_000_000L / elapsedNanos, indexBytes);
+    }
+
+    private record Measurement(long rowsPerSecond, long indexBytes) {}
+}
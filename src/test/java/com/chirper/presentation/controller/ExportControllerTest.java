@@ -0,0 +1,121 @@
+package com.chirper.presentation.controller;
+
+import com.chirper.application.usecase.ExportUserDataUseCase;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportRecord;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedFollow;
+import com.chirper.domain.repository.IUserDataExportRepository.ExportedTweet;
+import com.chirper.domain.valueobject.TweetId;
+import com.chirper.domain.valueobject.UserId;
+import com.chirper.infrastructure.security.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ExportControllerTest
+ * ExportControllerのテストクラス
+ *
+ * テスト対象:
+ * - GET /api/v1/export (NDJSONストリーミング)
+ */
+@WebMvcTest(controllers = ExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ExportControllerTest {
+
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportUserDataUseCase exportUserDataUseCase;
+
+    @MockBean
+    private com.chirper.infrastructure.security.JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @Test
+    @WithMockUser(username = USER_ID)
+    @DisplayName("GET /api/v1/export - 1行1件のNDJSONと完了行を出力すること")
+    void export_shouldStreamNdjsonWithEndLine() throws Exception {
+        // Given
+        ExportedTweet tweet = new ExportedTweet(TweetId.generate(), "hello", Instant.parse("2026-01-01T00:00:00Z"),
+            Instant.parse("2026-01-01T00:00:00Z"));
+        ExportedFollow following = new ExportedFollow(ExportedFollow.Direction.FOLLOWING, UserId.generate(), "alice",
+            Instant.parse("2026-01-02T00:00:00Z"));
+        when(exportUserDataUseCase.execute(eq(UserId.of(USER_ID)), any())).thenAnswer(invocation -> {
+            Consumer<ExportRecord> consumer = invocation.getArgument(1);
+            consumer.accept(tweet);
+            consumer.accept(following);
+            return new ExportUserDataUseCase.ExportSummary(1, 0, 1, 0);
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"chirper-export.ndjson\""))
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.split("\n")).containsExactly(
+            "{\"type\":\"tweet\",\"id\":\"" + tweet.id().value() + "\",\"content\":\"hello\","
+                + "\"createdAt\":\"2026-01-01T00:00:00Z\",\"updatedAt\":\"2026-01-01T00:00:00Z\"}",
+            "{\"type\":\"following\",\"userId\":\"" + following.userId().value() + "\",\"username\":\"alice\","
+                + "\"createdAt\":\"2026-01-02T00:00:00Z\"}",
+            "{\"type\":\"end\",\"tweets\":1,\"likes\":0,\"following\":1,\"followers\":0}"
+        );
+        assertThat(body).endsWith("\n");
+    }
+
+    @Test
+    @WithMockUser(username = USER_ID)
+    @DisplayName("GET /api/v1/export - 時間予算を超過した場合は出力済みの行に続けてerror行を出力すること")
+    void export_shouldEndWithErrorLine_whenTimeBudgetExceeded() throws Exception {
+        // Given
+        ExportedTweet tweet = new ExportedTweet(TweetId.generate(), "hello", Instant.now(), Instant.now());
+        when(exportUserDataUseCase.execute(eq(UserId.of(USER_ID)), any())).thenAnswer(invocation -> {
+            Consumer<ExportRecord> consumer = invocation.getArgument(1);
+            consumer.accept(tweet);
+            throw new QueryTimeoutException("Export exceeded its time budget of 120s");
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"type\":\"tweet\"").contains(tweet.id().value().toString());
+        assertThat(lines[1]).contains("\"type\":\"error\"").contains("\"code\":\"EXPORT_TIME_BUDGET_EXCEEDED\"");
+    }
+}
@@ -1,5 +1,7 @@
 package com.chirper.presentation.controller;
 
+import com.chirper.application.usecase.BulkFollowUsersUseCase;
+import com.chirper.application.usecase.BulkLikeTweetsUseCase;
 import com.chirper.application.usecase.FollowUserUseCase;
 import com.chirper.application.usecase.LikeTweetUseCase;
 import com.chirper.application.usecase.RetweetUseCase;
@@ -18,9 +20,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +45,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - DELETE /api/v1/tweets/{tweetId}/like (いいね解除)
  * - POST /api/v1/tweets/{tweetId}/retweet (リツイート)
  * - DELETE /api/v1/tweets/{tweetId}/retweet (リツイート解除)
+ * - POST /api/v1/users/follow:batch (一括フォロー)
+ * - POST /api/v1/tweets/like:batch (一括いいね)
  */
 @WebMvcTest(controllers = SocialController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -68,6 +74,12 @@ class SocialControllerTest {
     @MockBean
     private UnretweetTweetUseCase unretweetTweetUseCase;
 
+    @MockBean
+    private BulkFollowUsersUseCase bulkFollowUsersUseCase;
+
+    @MockBean
+    private BulkLikeTweetsUseCase bulkLikeTweetsUseCase;
+
     @MockBean
     private com.chirper.infrastructure.security.JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -275,4 +287,78 @@ class SocialControllerTest {
 
         verify(retweetUseCase, never()).execute(any(), any());
     }
+
+    // 一括フォロー・一括いいねのテスト
+    @Test
+    @DisplayName("POST /api/v1/users/follow:batch - 対象ユーザーごとの結果を返す（200 OK）")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void bulkFollowUsers_success() throws Exception {
+        // Arrange
+        UserId otherUserId = UserId.generate();
+        when(bulkFollowUsersUseCase.execute(any(UserId.class), eq(List.of(targetUserId, otherUserId))))
+            .thenReturn(new BulkFollowUsersUseCase.BulkFollowResult(List.of(
+                new BulkFollowUsersUseCase.FollowItemResult(targetUserId, BulkFollowUsersUseCase.FollowStatus.FOLLOWED),
+                new BulkFollowUsersUseCase.FollowItemResult(otherUserId, BulkFollowUsersUseCase.FollowStatus.ALREADY_FOLLOWING)
+            )));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/follow:batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[\"" + targetUserId.value() + "\",\"" + otherUserId.value() + "\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].userId").value(targetUserId.value().toString()))
+            .andExpect(jsonPath("$.results[0].status").value("FOLLOWED"))
+            .andExpect(jsonPath("$.results[1].status").value("ALREADY_FOLLOWING"));
+
+        verify(bulkFollowUsersUseCase, times(1)).execute(any(UserId.class), anyList());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/follow:batch - 対象が空（400 Bad Request）")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void bulkFollowUsers_emptyRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/users/follow:batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[]}"))
+            .andExpect(status().isBadRequest());
+
+        verify(bulkFollowUsersUseCase, never()).execute(any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/users/follow:batch - 不正なユーザーID（400 Bad Request）")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void bulkFollowUsers_invalidUserId() throws Exception {
+        mockMvc.perform(post("/api/v1/users/follow:batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[\"not-a-uuid\"]}"))
+            .andExpect(status().isBadRequest());
+
+        verify(bulkFollowUsersUseCase, never()).execute(any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tweets/like:batch - 対象ツイートごとの結果を返す（200 OK）")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void bulkLikeTweets_success() throws Exception {
+        // Arrange
+        when(bulkLikeTweetsUseCase.execute(any(UserId.class), eq(List.of(testTweetId))))
+            .thenReturn(new BulkLikeTweetsUseCase.BulkLikeResult(List.of(
+                new BulkLikeTweetsUseCase.LikeItemResult(testTweetId, BulkLikeTweetsUseCase.LikeStatus.LIKED)
+            )));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tweets/like:batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"tweetIds\":[\"" + testTweetId.value() + "\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].tweetId").value(testTweetId.value().toString()))
+            .andExpect(jsonPath("$.results[0].status").value("LIKED"));
+
+        verify(bulkLikeTweetsUseCase, times(1)).execute(any(UserId.class), anyList());
+    }
 }
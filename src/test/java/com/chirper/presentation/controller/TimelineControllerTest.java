@@ -3,6 +3,8 @@ package com.chirper.presentation.controller;
 import com.chirper.application.usecase.GetTimelineUseCase;
 import com.chirper.domain.entity.Tweet;
 import com.chirper.domain.entity.User;
+import com.chirper.domain.exception.InvalidOperationException;
+import com.chirper.domain.repository.IUserSummaryReadRepository.UserSummary;
 import com.chirper.domain.valueobject.Email;
 import com.chirper.domain.valueobject.TweetContent;
 import com.chirper.domain.valueobject.TweetId;
@@ -94,8 +96,8 @@ class TimelineControllerTest {
     @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
     void getTimeline_success() throws Exception {
         // Arrange
-        var tweetWithDetails1 = new GetTimelineUseCase.TweetWithDetails(testTweet1, testUser, 10L, 5L, false, false);
-        var tweetWithDetails2 = new GetTimelineUseCase.TweetWithDetails(testTweet2, testUser, 20L, 3L, true, false);
+        var tweetWithDetails1 = new GetTimelineUseCase.TweetWithDetails(testTweet1, UserSummary.from(testUser), 10L, 5L, false, false);
+        var tweetWithDetails2 = new GetTimelineUseCase.TweetWithDetails(testTweet2, UserSummary.from(testUser), 20L, 3L, true, false);
         var timelineResult = new GetTimelineUseCase.TimelineResult(List.of(tweetWithDetails1, tweetWithDetails2));
 
         when(getTimelineUseCase.execute(any(UserId.class), eq(0), eq(20)))
@@ -145,7 +147,7 @@ class TimelineControllerTest {
     @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
     void getTimeline_customPagination() throws Exception {
         // Arrange
-        var tweetWithDetails = new GetTimelineUseCase.TweetWithDetails(testTweet1, testUser, 10L, 5L, false, false);
+        var tweetWithDetails = new GetTimelineUseCase.TweetWithDetails(testTweet1, UserSummary.from(testUser), 10L, 5L, false, false);
         var timelineResult = new GetTimelineUseCase.TimelineResult(List.of(tweetWithDetails));
         when(getTimelineUseCase.execute(any(UserId.class), eq(1), eq(10)))
             .thenReturn(timelineResult);
@@ -180,6 +182,73 @@ class TimelineControllerTest {
         verify(getTimelineUseCase, times(1)).execute(any(UserId.class), eq(0), eq(20));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/timeline - cursor指定時はカーソル位置から取得し、ページが埋まった場合は次のカーソルを返す")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void getTimeline_withCursor() throws Exception {
+        // Arrange
+        TweetId cursor = TweetId.generate();
+        var tweetWithDetails = new GetTimelineUseCase.TweetWithDetails(testTweet1, UserSummary.from(testUser), 10L, 5L, false, false);
+        var timelineResult = new GetTimelineUseCase.TimelineResult(List.of(tweetWithDetails));
+        when(getTimelineUseCase.executeBefore(any(UserId.class), eq(cursor), eq(1)))
+            .thenReturn(timelineResult);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/timeline")
+                .param("cursor", cursor.toString())
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tweets.length()").value(1))
+            .andExpect(jsonPath("$.nextCursor").value(testTweet1.getId().value().toString()));
+
+        verify(getTimelineUseCase, times(1)).executeBefore(any(UserId.class), eq(cursor), eq(1));
+        verify(getTimelineUseCase, never()).execute(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/timeline - ページが埋まらなかった場合は次のカーソルがnull")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void getTimeline_lastPage_shouldNotReturnNextCursor() throws Exception {
+        // Arrange
+        TweetId cursor = TweetId.generate();
+        when(getTimelineUseCase.executeBefore(any(UserId.class), eq(cursor), eq(20)))
+            .thenReturn(new GetTimelineUseCase.TimelineResult(List.of()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/timeline")
+                .param("cursor", cursor.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tweets.length()").value(0))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/timeline - cursorの形式が不正な場合（400 Bad Request）")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void getTimeline_invalidCursor() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/timeline")
+                .param("cursor", "not-a-uuid"))
+            .andExpect(status().isBadRequest());
+
+        verify(getTimelineUseCase, never()).executeBefore(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/timeline - cursorのツイートが存在しない場合（400 Bad Request）")
+    @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")
+    void getTimeline_unknownCursor() throws Exception {
+        // Arrange
+        TweetId cursor = TweetId.generate();
+        when(getTimelineUseCase.executeBefore(any(UserId.class), eq(cursor), eq(20)))
+            .thenThrow(new InvalidOperationException("カーソルのツイートが見つかりません: " + cursor.value()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/timeline")
+                .param("cursor", cursor.toString()))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/v1/timeline - sizeが100を超える場合（バリデーションエラー）")
     @WithMockUser(username = "550e8400-e29b-41d4-a716-446655440000")